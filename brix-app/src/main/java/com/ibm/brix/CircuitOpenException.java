@@ -0,0 +1,47 @@
+//=============================================================================
+//* Name:         CircuitOpenException.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Circuit Open Exception
+//*
+//* Description:  Thrown when a call to an endpoint is refused because the
+//*               endpoint's circuit breaker is open. The exchange can be
+//*               parked until the circuit closes.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix;
+
+public class CircuitOpenException extends BrixException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String endpoint;
+
+  public CircuitOpenException(String endpoint, String state) {
+      super("Circuit for " + endpoint + " is " + state + "; the call was not made.");
+      this.endpoint = endpoint;
+  }
+
+  /** The scheme, host and port of the endpoint whose circuit is open. */
+  public String getEndpoint() {
+      return endpoint;
+  }
+}
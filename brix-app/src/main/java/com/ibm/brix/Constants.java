@@ -55,6 +55,52 @@ public class Constants {
 	public static final String REST_INCOMING = "/incoming";
 	public static final String REST_SHUTDOWN = "/shutdown";
 	public static final String REST_CATCH = "/catch";
+	public static final String REST_BROUTES_RELOAD = "/broutes/reload";
+	public static final String REST_DEADLETTERS = "/deadletters";
+	public static final String REST_DEADLETTERS_REPLAY = "/deadletters/replay";
+
+	// BRoute configuration reload
+	public static final String BROUTE_RELOAD_ROUTE = "broute-reload";
+	public static final String BROUTE_RELOAD_WATCH_ROUTE = "broute-reload-watch";
+	public static final String BROUTE_RELOAD_REST_ROUTE = "broute-reload-rest";
+	public static final String BROUTE_RELOAD_DB_WATCH_ROUTE = "broute-reload-db-watch";
+	public static final String BROUTE_RELOAD_SOURCE = "BRIXBrouteReloadSource";
+	public static final String BROUTE_RELOAD_SOURCE_FILE = "file";
+	public static final String BROUTE_RELOAD_SOURCE_DB = "db";
+
+	// BRoute fan out
+	public static final String BROUTE_FANOUT_ROUTE = "fan-out-broutes";
+
+	// Event coalescing
+	public static final String COALESCE_ROUTE = "coalesce-events";
+
+	// Transaction retention
+	public static final String TRANSACTION_PURGE_ROUTE = "transaction-purge";
+
+	// Source fingerprints
+	public static final String FINGERPRINT_CHECK_ROUTE = "check-fingerprint";
+	public static final String FINGERPRINT_RECORD_ROUTE = "record-fingerprint";
+
+	// Target snapshots
+	public static final String TARGET_SNAPSHOT_FETCH_ROUTE = "fetch-target-snapshot";
+	public static final String TARGET_SNAPSHOT_RECORD_ROUTE = "record-target-snapshot";
+
+	// Action execution
+	public static final String EXECUTE_ACTIONS_ROUTE = "execute-actions";
+	public static final String EXECUTE_ACTION_ROUTE_PREFIX = "execute-action-";
+	public static final String ARTIFACT_RELATIONSHIP_RECORD_ROUTE = "record-artifact-relationship";
+
+	// Endpoint clients
+	public static final String ENDPOINT_REQUEST_ROUTE = "endpoint-request";
+
+	// Retries
+	public static final String RETRY_DUE_ROUTE = "retry-due";
+
+	// Dead letters
+	public static final String DEADLETTER_LIST_ROUTE = "deadletter-list";
+	public static final String DEADLETTER_GET_ROUTE = "deadletter-get";
+	public static final String DEADLETTER_REPLAY_ROUTE = "deadletter-replay";
+	public static final String DEADLETTER_REPLAY_REST_ROUTE = "deadletter-replay-rest";
 
 	// Direct Routes
 	public static final String ENTRY_VALIDATE = "entry-validate";
@@ -66,6 +112,7 @@ public class Constants {
 	// Exchange headers
 	public static final String HOST = "Host";
 	public static final String HMAC_SIGNATURE = "X-Hub-Signature";
+	public static final String API_KEY_HEADER = "X-API-Key";
 
 	// BrIX Exchange headers
 	public static final String BRIX_TRX_ID = "BRIXTrxId";
@@ -76,6 +123,12 @@ public class Constants {
 	public static final String BRIX_PAYLOAD_LOADED = "BRIXPayloadLoaded";
 	public static final String BRIX_BROUTE = "BRIXBroute";
 	public static final String BRIX_BROUTE_DOMAIN_CHANGED = "BRIXBrouteDomainChanged";
+	public static final String BRIX_BROUTE_VERSION = "BRIXBrouteVersion";
+	public static final String BRIX_FANOUT_RESULTS = "BRIXFanOutResults";
+	public static final String BRIX_COALESCED_EVENTS = "BRIXCoalescedEvents";
+	public static final String BRIX_SOURCE_FINGERPRINT = "BRIXSourceFingerprint";
+	public static final String BRIX_FINGERPRINT_SKIPPED = "BRIXFingerprintSkipped";
+	public static final String BRIX_TARGET_SNAPSHOT_HIT = "BRIXTargetSnapshotHit";
 	public static final String BRIX_ARTIFACT_RELATIONSHIPS = "BRIXArtifactRelationships";
 	public static final String BRIX_GUID = "BRIXGuid";
 	public static final String BRIX_RESULT = "BRIXResult";
@@ -93,11 +146,24 @@ public class Constants {
 	public static final String BRIX_ASSERTED_RULES = "BRIXAssertedRules";
 	public static final String BRIX_ACTIONS = "BRIXActions";
 	public static final String BRIX_ACTIONLIST_SIZE = "BRIXActionListSize";
+	public static final String BRIX_ACTION = "BRIXAction";
+	public static final String BRIX_COMBINED_ACTIONS = "BRIXCombinedActions";
+	public static final String BRIX_ACTION_ARTIFACT_KEY = "BRIXActionArtifactKey";
+	public static final String BRIX_ACTION_RESULTS = "BRIXActionResults";
+	public static final String BRIX_ATOMIC_ACTIONS = "BRIXAtomicActions";
+	public static final String BRIX_ATOMIC_ACTIONS_DONE = "BRIXAtomicActionsDone";
 	public static final String BRIX_ENDPOINT_EXTRACT_URI = "BRIXEndpointExtractURI";
 	public static final String BRIX_ENDPOINT_SYSTEM_TYPE = "BRIXEndpointSystemType";
+	public static final String BRIX_ENDPOINT_CIRCUIT = "BRIXEndpointCircuit";
+	public static final String BRIX_PARKED = "BRIXParked";
+	public static final String BRIX_RETRY = "BRIXRetry";
+	public static final String BRIX_RETRY_ATTEMPT = "BRIXRetryAttempt";
 	public static final String BRIX_EXTRACT_RESOURCE_SIDE = "BRIXExtractResourceSide";
 	public static final String BRIX_DETERMINE_FULL_EXTRACT = "BRIXDetermineFullExtract"; // <--- Adding constant for now to determine full extract
 
+	// BrIX Exchange properties
+	public static final String BRIX_BROUTE_SNAPSHOT = "BRIXBrouteSnapshot";
+
 	// Route Stage Status
 	public static final String ROUTE_STAGE_CURRENT = "Route stage current";
 	public static final String ROUTE_STAGE_COMPLETED = "Route stage completed";
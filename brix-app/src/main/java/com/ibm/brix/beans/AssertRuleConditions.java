@@ -26,31 +26,31 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*        129153 20250306 tmueller  New stub source file created.
+//*               20261018 agent     Evaluate the BRoute's precompiled RulePlan
+//*                                  instead of sorting the configured lists
+//*                                  and compiling predicates per exchange.
+//*               20261018 agent     Only assert the candidate Rules selected
+//*                                  by the RulePlan's attribute index.
 //*                                                                 
 //* Additional notes about the Change Activity:
 //*                                                                 
 //=============================================================================
 package com.ibm.brix.beans;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.BitSet;
 
 import org.apache.camel.Exchange;
 import org.jboss.logging.Logger;
 
 import com.ibm.brix.BrixException;
 import com.ibm.brix.Constants;
-import com.ibm.brix.common.enums.PredicateType;
-import com.ibm.brix.common.enums.ResourceSide;
-import com.ibm.brix.common.enums.RuleOperator;
 import com.ibm.brix.common.model.BRoute;
 import com.ibm.brix.model.GenericArtifact;
-import com.ibm.brix.common.model.Rule;
-import com.ibm.brix.common.model.RuleCondition;
-import com.ibm.brix.common.model.RuleCondition;
 import com.ibm.brix.model.RuleList;
-import com.ibm.brix.utils.BrixPredicate;
+import com.ibm.brix.plans.CompiledRule;
+import com.ibm.brix.plans.CompiledRuleCondition;
+import com.ibm.brix.plans.RulePlan;
+import com.ibm.brix.utils.Config;
 
 public class AssertRuleConditions {
 	/* CopyRight */
@@ -58,12 +58,13 @@ public class AssertRuleConditions {
 
 	private static final Logger LOG = Logger.getLogger(AssertRuleConditions.class);
 
-	// Globals
-	private String markedDeltaAttribute;
-
 	/**
 	 * Method:  assertRuleConditions
 	 * Processes each Rule for this BRoute and attempts to assert the list of Rule Conditions for each one.
+	 * The Rules are taken from the BRoute's RulePlan, which was compiled when the BRoute snapshot was built,
+	 * so Rules and Rule Conditions are already sorted by sequence and their predicates already resolved.
+	 * Only the candidate Rules of the plan are asserted: a Rule that starts with an ATTRIBUTE EXISTS condition
+	 * on an attribute the artifact does not have is known to be false and is skipped.
 	 * Exchange Expected Input:
 	 *    - Header: BRIX_BROUTE (includes the Rule configurations)
 	 *    - Header: BRIX_SOURCE_GENERIC_ARTIFACT
@@ -90,48 +91,27 @@ public class AssertRuleConditions {
         
 		LOG.debug("Before RuleCondition processing, " + deltaArtifact.getAttributes().size() + " attributes exist in deltaArtifact.");
 
-		List<Rule> rules = broute.getRules();
-        // Ensure the list of Rules is sorted by its sequence numbers
-		Collections.sort(rules, (r1, r2) -> Integer.compare(r1.getSequence(), r2.getSequence()));
-		
-		// Process through the list of Rules on this BRoute.
-		LOG.info("Processing " + rules.size() + " Rules.");
-        for (Rule rule : rules) {
-			LOG.debug("Processing Rule: [" + /*rule.getId() +*/ "] '" + rule.getName() + "', sequence " + rule.getSequence());
-			boolean ruleAsserted = true;											//Assume true unless we find a condition asserts false.
-			List<RuleCondition> ruleConditions = rule.getRuleConditions();
+		RulePlan rulePlan = Config.getBRoutePlan(exchange, broute).getRulePlan();
 
-	        // Ensure the list of RuleConditions is sorted by its sequence numbers
-			Collections.sort(ruleConditions, (rc1, rc2) -> Integer.compare(rc1.getSequence(), rc2.getSequence()));
+		// Process through the candidate Rules on this BRoute, in sequence order.
+		BitSet candidates = rulePlan.selectCandidates(sourceGenericArtifact, targetGenericArtifact);
+		LOG.info("Processing " + candidates.cardinality() + " of " + rulePlan.size() + " Rules.");
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			CompiledRule compiledRule = rulePlan.getRules().get(i);
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Processing Rule: '" + compiledRule.getRule().getName() + "', sequence " + compiledRule.getRule().getSequence()
+					+ ", " + compiledRule.getRuleConditions().size() + " RuleConditions");
+			}
 
 			// Logic notes: As each Rule is processed, it may be tied to an attribute in the deltaArtifact. Once we assert all Rule Conditions
 			//              for a Rule to be true, remove the attribute from the deltaArtifact. We assume no other Rules should also assert to
 			//              be true for the same attribute. By removing it, any other Rules for this attribute won't find it in deltaArtifact and
 			//              can stop processing those Rule Conditions. 
-			LOG.info("Found " + ruleConditions.size() + " RuleConditions for Rule: " + rule.getName());
-			markedDeltaAttribute = null;
-
-			// For each Rule, attempt to assert each RuleCondition.
-			for (RuleCondition ruleCondition : ruleConditions) {
-				LOG.debug("Asserting RuleCondition: [" + /*ruleCondition.getId() +*/ "] '" + ruleCondition.getName() + "', sequence " + ruleCondition.getSequence());
-
-				boolean ruleConditionAsserted = assertRuleCondition(ruleCondition, sourceGenericArtifact, targetGenericArtifact, exchange);
-				
-				// If a RuleCondition asserts to be false, then we can assert the entire Rule to be false, and stop processing conditions.
-				if (!ruleConditionAsserted) {
-					LOG.debug("RuleCondition asserted to be false. Skipping all other Rule Conditions.");
-					ruleAsserted = false;
-					break;
-				}
-				else {
-					LOG.debug("RuleCondition asserted to be true.");
-				}
-			}
-			
-			if (ruleAsserted) {
+			String markedDeltaAttribute = assertRule(compiledRule, sourceGenericArtifact, targetGenericArtifact, exchange);
+			if (markedDeltaAttribute != null) {
 				LOG.debug("Rule asserted to be true. Adding to rulesToFire and removing the related attribute from the deltaArtifact.");
-				rulesToFire.append(rule);
-				if (markedDeltaAttribute != null) {
+				rulesToFire.append(compiledRule.getRule());
+				if (!markedDeltaAttribute.isEmpty()) {
 					deltaArtifact.removeAttribute(markedDeltaAttribute);
 				}
 			}
@@ -153,97 +133,33 @@ public class AssertRuleConditions {
 	}
 
 	/**
-	 * Method:  assertRuleCondition
-	 * Asserts a rule condition.
+	 * Method:  assertRule
+	 * Asserts the Rule Conditions of one Rule in sequence, stopping at the first one that asserts false.
 	 * 
-	 * @param RuleCondition ruleCondition
+	 * @param CompiledRule compiledRule
 	 * @param GenericArtifact sourceGenericArtifact
 	 * @param GenericArtifact targetGenericArtifact
-	 * @param Exchange exchage
-	 * @return boolean (T/F)
+	 * @param Exchange exchange
+	 * @return String null if the Rule asserted false; otherwise the attribute marked by its last asserted
+	 *         ATTRIBUTE EXISTS condition, or "" if it has none
 	 * @throws BrixException
 	 */
-	private boolean assertRuleCondition(RuleCondition ruleCondition, GenericArtifact sourceGenericArtifact, GenericArtifact targetGenericArtifact, Exchange exchange) throws BrixException {
-		boolean ruleConditionAsserted = false;
-		String subject = ruleCondition.getPredicateSubject();
-		String pattern = ruleCondition.getPredicatePattern();
-		RuleOperator operator = ruleCondition.getRuleConditionOperator();
-		PredicateType predicateType = ruleCondition.getPredicateType();
-		LOG.debug("  Processing RuleCondition predicate type: '" + predicateType.getName() + "'");
-
-		// The PredicateType dictates how the rule predicate subject is to be asserted.
-		switch(predicateType) {
-		case ATTRIBUTE:
-			// Testing an attribute, attempt to get the value of the attribute. Will be null if the attribute is not found.
-			ResourceSide resourceSide = ruleCondition.getResourceSide();
-			Object attributeValue = (resourceSide == ResourceSide.SOURCE ? sourceGenericArtifact.getAttributeValue(subject) : targetGenericArtifact.getAttributeValue(subject));
-			ruleConditionAsserted = assertAttributeCondition(subject, attributeValue, operator, pattern);
+	private String assertRule(CompiledRule compiledRule, GenericArtifact sourceGenericArtifact, GenericArtifact targetGenericArtifact, Exchange exchange) throws BrixException {
+		String markedDeltaAttribute = "";
+		for (CompiledRuleCondition ruleCondition : compiledRule.getRuleConditions()) {
+			boolean ruleConditionAsserted = ruleCondition.assertCondition(sourceGenericArtifact, targetGenericArtifact, exchange);
+
+			// If a RuleCondition asserts to be false, then we can assert the entire Rule to be false, and stop processing conditions.
+			if (!ruleConditionAsserted) {
+				LOG.debug("RuleCondition '" + ruleCondition.getRuleCondition().getName() + "' asserted to be false. Skipping all other Rule Conditions.");
+				return null;
+			}
 
 			// If we have established an EXISTS RuleCondition for a changed attribute in deltaArtifact, mark this attribute.
-			if ((ruleConditionAsserted == true) && (operator == RuleOperator.EXISTS)) {
-				markedDeltaAttribute = subject;
+			if (ruleCondition.isAttributeExists()) {
+				markedDeltaAttribute = ruleCondition.getSubject();
 			}
-			break;
-		case EXCHANGEHEADER:
-			// Testing an Exchange header. Retrieve the Exchange header value. The subject should be the name of the Exchange header. The value is expected to be of type String.
-	        Object headerValue = exchange.getIn().getHeader(subject, Object.class);
-			ruleConditionAsserted = assertExchangeHeaderCondition(subject, headerValue, operator, pattern);
-			break;
-		case CLASS:
-			// Test using a custom class.
-			ruleConditionAsserted = assertClassCondition(subject);
-			break;
-		default:
-			throw new IllegalArgumentException("RuleCondition does not support the PredicateType: " + predicateType.getName());
 		}
-		
-		return ruleConditionAsserted;
-	}
-
-	/**
-	 * Method:  assertAttributeCondition
-	 * Asserts a rule condition for an "attribute" type of predicate.
-	 * 
-	 * @param String attributeName
-	 * @param String attributeValue
-	 * @param RuleOperator operator
-	 * @param String pattern
-	 * @return boolean (T/F)
-	 * @throws BrixException
-	 */
-	private boolean assertAttributeCondition(String attributeName, Object attributeValue, RuleOperator operator, String pattern) throws BrixException {
-		// Use the BrixPredicate utility to test the condition.
-		return BrixPredicate.assertCondition(attributeName, attributeValue, operator, pattern);
-	}
-
-	/**
-	 * Method:  assertExchangeHeaderCondition
-	 * Asserts a rule condition for an Exchange header string value.
-	 * 
-	 * @param String headerName
-	 * @param String headerValue
-	 * @param RuleOperator operator
-	 * @param String pattern
-	 * @return boolean (T/F)
-	 * @throws BrixException
-	 */
-	private boolean assertExchangeHeaderCondition(String headerName, Object headerValue, RuleOperator operator, String pattern) throws BrixException {
-		// Use the BrixPredicate utility to test the condition.
-		return BrixPredicate.assertCondition(headerName, headerValue, operator, pattern);
-	}
-
-	/**
-	 * Method:  assertClassCondition
-	 * Uses a specialized class to assert a rule condition.
-	 * 
-	 * @param String className
-	 * @return boolean (T/F)
-	 * @throws BrixException
-	 */
-	private boolean assertClassCondition(String className) throws BrixException {
-		// Use the provided class to run special logic in asserting a rule condtion.
-		// TODO: Stubbed out for now until we need to implement.
-
-		return false;
+		return markedDeltaAttribute;
 	}
 }
@@ -0,0 +1,327 @@
+//=============================================================================
+//* Name:         BRouteFanOut.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BRoute Fan Out bean
+//*
+//* Description:  This bean class processes the BRoutes matched for one source
+//*               artifact concurrently instead of one after another. Each
+//*               BRoute is sent on its own copy of the exchange to the per
+//*               BRoute route (artifact relationships, normalize, compare,
+//*               rules and actions) on a bounded thread pool. Each BRoute has
+//*               its own timeout and its own failure, and the outcomes are
+//*               gathered into one result for the transaction.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Apply the timeout to a single BRoute too,
+//*                                  and interrupt timed out BRoutes.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.model.BRouteList;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class BRouteFanOut {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private static final Logger LOG = LoggerFactory.getLogger(BRouteFanOut.class);
+
+	@Inject
+	CamelContext camelContext;
+
+	@ConfigProperty(name = "brix.fanout.uri", defaultValue = "direct:find-artifact-relationships")
+	String brouteUri;
+
+	@ConfigProperty(name = "brix.fanout.pool-size", defaultValue = "8")
+	int poolSize;
+
+	@ConfigProperty(name = "brix.fanout.max-queue-size", defaultValue = "1000")
+	int maxQueueSize;
+
+	@ConfigProperty(name = "brix.fanout.timeout", defaultValue = "PT60S")
+	Duration timeout;
+
+	private volatile ExecutorService executor;
+	private volatile ProducerTemplate producerTemplate;
+
+	/**
+	 * Outcome of processing one BRoute.
+	 */
+	public enum Status { SUCCESS, FAILED, TIMED_OUT }
+
+	/**
+	 * The result of one BRoute of a fan out.
+	 */
+	public static final class BRouteOutcome {
+		private final int index;
+		private final BRoute broute;
+		private final Status status;
+		private final Exchange exchange;
+		private final Throwable exception;
+		private final long elapsedMillis;
+
+		BRouteOutcome(int index, BRoute broute, Status status, Exchange exchange, Throwable exception, long elapsedMillis) {
+			this.index = index;
+			this.broute = broute;
+			this.status = status;
+			this.exchange = exchange;
+			this.exception = exception;
+			this.elapsedMillis = elapsedMillis;
+		}
+
+		public int getIndex() {
+			return index;
+		}
+
+		public BRoute getBRoute() {
+			return broute;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public boolean isSuccess() {
+			return status == Status.SUCCESS;
+		}
+
+		/** The exchange the BRoute was processed on, or null if it timed out. */
+		public Exchange getExchange() {
+			return exchange;
+		}
+
+		public Throwable getException() {
+			return exception;
+		}
+
+		public long getElapsedMillis() {
+			return elapsedMillis;
+		}
+
+		@Override
+		public String toString() {
+			return "BRoute " + index + " to " + broute.getTargetEndpoint() + ": " + status + " in " + elapsedMillis + "ms"
+				+ (exception == null ? "" : " (" + exception.getMessage() + ")");
+		}
+	}
+
+	/**
+	 * Method:  fanOut
+	 * Processes each matched BRoute concurrently. Each BRoute is sent to the BRoute route on a copy
+	 * of the exchange, with the BRoute as the body and in the BRIX_BROUTE header, as the sequential
+	 * split does. A BRoute that fails or does not finish within the timeout is recorded as such and
+	 * does not affect the others; a timed out BRoute is interrupted, and the transaction no longer
+	 * waits for it. A single BRoute runs on the pool too, so the same timeout applies to it.
+	 * Exchange Expected Input:
+	 *    - Body: BRouteList
+	 * Exchange Output:
+	 *    - Header BRIX_RESULT_SUCCESS: true only if every BRoute succeeded
+	 *    - Header BRIX_FANOUT_RESULTS: List<BRouteOutcome>, in BRoute order
+	 *
+	 * @param Exchange exchange
+	 * @return List<BRouteOutcome>
+	 * @throws BrixException
+	 */
+	public List<BRouteOutcome> fanOut(Exchange exchange) throws BrixException {
+		BRouteList brouteList = exchange.getIn().getBody(BRouteList.class);
+		if (brouteList == null) {
+			throw new BrixException("BRouteList was not found on the Exchange.");
+		}
+		List<BRoute> broutes = brouteList.getTheBRouteList();
+		List<BRouteOutcome> outcomes = processConcurrently(exchange, broutes);
+
+		boolean success = true;
+		for (BRouteOutcome outcome : outcomes) {
+			if (!outcome.isSuccess()) {
+				success = false;
+				LOG.error("Fan out " + outcome);
+			}
+			else if (LOG.isDebugEnabled()) {
+				LOG.debug("Fan out " + outcome);
+			}
+		}
+		LOG.info("Fan out of " + outcomes.size() + " BRoutes complete, success=" + success);
+		exchange.getIn().setHeader(Constants.BRIX_FANOUT_RESULTS, outcomes);
+		exchange.getIn().setHeader(Constants.BRIX_RESULT_SUCCESS, success);
+		return outcomes;
+	}
+
+	private List<BRouteOutcome> processConcurrently(Exchange exchange, List<BRoute> broutes) {
+		ExecutorService pool = getExecutor();
+		int count = broutes.size();
+		List<CompletableFuture<BRouteOutcome>> futures = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final int index = i;
+			final BRoute broute = broutes.get(i);
+			CompletableFuture<BRouteOutcome> future = new CompletableFuture<>();
+			futures.add(future);
+			try {
+				Future<?> task = pool.submit(() -> {
+					if (future.isDone()) {
+						return;	// Gave up on before it started.
+					}
+					// The timeout runs from when the BRoute starts, not from when it was queued.
+					long start = System.nanoTime();
+					future.completeOnTimeout(new BRouteOutcome(index, broute, Status.TIMED_OUT, null,
+						new TimeoutException("BRoute did not complete within " + timeout), timeout.toMillis()), timeout.toMillis(), TimeUnit.MILLISECONDS);
+					Exchange copy = send(exchange, index, broute);
+					future.complete(outcome(index, broute, copy, start));
+				});
+				// A BRoute given up on is interrupted, or dropped from the queue, so it stops holding a pool thread.
+				future.whenComplete((outcome, failure) -> {
+					if (outcome != null && outcome.getStatus() == Status.TIMED_OUT) {
+						task.cancel(true);
+					}
+				});
+			}
+			catch (RejectedExecutionException e) {
+				future.complete(new BRouteOutcome(index, broute, Status.FAILED, null, e, 0));
+			}
+		}
+
+		// BRoutes queued behind others can wait up to one timeout per round of the pool.
+		long rounds = (count + poolSize - 1) / poolSize;
+		long deadline = System.nanoTime() + timeout.toNanos() * rounds;
+		List<BRouteOutcome> outcomes = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			CompletableFuture<BRouteOutcome> future = futures.get(i);
+			try {
+				outcomes.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+			}
+			catch (TimeoutException e) {
+				future.complete(new BRouteOutcome(i, broutes.get(i), Status.TIMED_OUT, null,
+					new TimeoutException("BRoute did not complete within " + timeout.multipliedBy(rounds) + " of the fan out starting"), 0));
+				outcomes.add(future.join());
+			}
+			catch (ExecutionException e) {
+				outcomes.add(new BRouteOutcome(i, broutes.get(i), Status.FAILED, null, e.getCause(), 0));
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				outcomes.add(new BRouteOutcome(i, broutes.get(i), Status.FAILED, null, e, 0));
+			}
+		}
+		return Collections.unmodifiableList(outcomes);
+	}
+
+	/*
+	 * Sends the BRoute on its own copy of the exchange. Any exception is left on the copy.
+	 */
+	private Exchange send(Exchange exchange, int index, BRoute broute) {
+		Exchange copy = ExchangeHelper.createCopy(exchange, true);
+		copy.getIn().setBody(broute);
+		copy.getIn().setHeader(Constants.BRIX_BROUTE, broute);
+		copy.setProperty(Exchange.SPLIT_INDEX, index);
+		try {
+			return getProducerTemplate().send(brouteUri, copy);
+		}
+		catch (RuntimeException e) {
+			copy.setException(e);
+			return copy;
+		}
+	}
+
+	private static BRouteOutcome outcome(int index, BRoute broute, Exchange copy, long start) {
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		Exception exception = copy.getException();
+		if (exception != null || Boolean.FALSE.equals(copy.getIn().getHeader(Constants.BRIX_RESULT_SUCCESS, Boolean.class))) {
+			return new BRouteOutcome(index, broute, Status.FAILED, copy, exception, elapsed);
+		}
+		return new BRouteOutcome(index, broute, Status.SUCCESS, copy, null, elapsed);
+	}
+
+	private ExecutorService getExecutor() {
+		ExecutorService pool = executor;
+		if (pool == null) {
+			synchronized (this) {
+				pool = executor;
+				if (pool == null) {
+					ThreadPoolProfile profile = new ThreadPoolProfile("BRouteFanOut");
+					profile.setPoolSize(poolSize);
+					profile.setMaxPoolSize(poolSize);
+					profile.setMaxQueueSize(maxQueueSize);
+					profile.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+					pool = camelContext.getExecutorServiceManager().newThreadPool(this, "BRouteFanOut", profile);
+					executor = pool;
+					LOG.info("BRoute fan out pool created: poolSize=" + poolSize + ", maxQueueSize=" + maxQueueSize + ", timeout=" + timeout);
+				}
+			}
+		}
+		return pool;
+	}
+
+	private ProducerTemplate getProducerTemplate() {
+		ProducerTemplate template = producerTemplate;
+		if (template == null) {
+			synchronized (this) {
+				template = producerTemplate;
+				if (template == null) {
+					template = camelContext.createProducerTemplate();
+					producerTemplate = template;
+				}
+			}
+		}
+		return template;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (executor != null) {
+			camelContext.getExecutorServiceManager().shutdown(executor);
+		}
+		if (producerTemplate != null) {
+			try {
+				producerTemplate.stop();
+			}
+			catch (RuntimeException e) {
+				LOG.debug("Error stopping the fan out producer template: " + e);
+			}
+		}
+	}
+}
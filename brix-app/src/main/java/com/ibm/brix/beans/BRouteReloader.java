@@ -0,0 +1,288 @@
+//=============================================================================
+//* Name:         BRouteReloader.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BRoute Reloader bean
+//*
+//* Description:  This bean class reloads the BRoute configuration while BrIX
+//*               is running. A reload reads the complete configuration from
+//*               the cfg file or from the database, builds a new BRoute
+//*               snapshot and only then swaps it in, so ingestion is never
+//*               paused and a failed reload leaves the current snapshot in
+//*               place. Reloads are triggered by a change to the watched cfg
+//*               file, by a change to the BRoute tables (the
+//*               broute_config_version row their triggers bump), by the REST
+//*               reload endpoint, or by calling the reload methods directly.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Reload on a change to the BRoute tables;
+//*                                  reload from a given cfg file.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.enums.ArtifactType;
+import com.ibm.brix.common.model.ArtifactMap;
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.common.model.GenAttrMap;
+import com.ibm.brix.common.model.Rule;
+import com.ibm.brix.model.BRouteList;
+import com.ibm.brix.utils.BRouteSnapshot;
+import com.ibm.brix.utils.Config;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+@ApplicationScoped
+public class BRouteReloader {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private static final Logger LOG = LoggerFactory.getLogger(BRouteReloader.class);
+
+	// Bumped by the triggers on the BRoute tables (flyway/db/migrations).
+	private static final String CONFIG_VERSION =
+		"SELECT version FROM public.broute_config_version WHERE id = 1";
+
+	@Inject
+	EntityManager entityManager;
+
+	@ConfigProperty(name = "brix.broutes.cfg", defaultValue = "brix.broutes.cfg")
+	String brouteCfgResource;
+
+	@ConfigProperty(name = "brix.broutes.reload.path")
+	Optional<String> brouteCfgPath;
+
+	@ConfigProperty(name = "brix.broutes.reload.source", defaultValue = Constants.BROUTE_RELOAD_SOURCE_FILE)
+	String defaultSource;
+
+	// Last seen state of the watched cfg file.
+	private long watchedLastModified = -1;
+	private long watchedSize = -1;
+
+	// Last seen version of the BRoute tables.
+	private long watchedDbVersion = -1;
+
+	/**
+	 * Method:  reload
+	 * Reloads the BRoute configuration from the source named in the exchange, or from the
+	 * configured default source.
+	 * Exchange Expected Input:
+	 *    - Header BROUTE_RELOAD_SOURCE (optional, "file" or "db")
+	 * Exchange Output:
+	 *    - Header BRIX_BROUTE_VERSION
+	 *    - Body: a short description of the published snapshot
+	 *
+	 * @param Exchange exchange
+	 * @return BRouteSnapshot
+	 * @throws BrixException
+	 */
+	public BRouteSnapshot reload(Exchange exchange) throws BrixException {
+		String source = exchange.getIn().getHeader(Constants.BROUTE_RELOAD_SOURCE, defaultSource, String.class);
+		BRouteSnapshot snapshot;
+		if (Constants.BROUTE_RELOAD_SOURCE_DB.equalsIgnoreCase(source)) {
+			snapshot = reloadFromDatabase();
+		}
+		else if (Constants.BROUTE_RELOAD_SOURCE_FILE.equalsIgnoreCase(source)) {
+			snapshot = reloadFromFile();
+		}
+		else {
+			throw new BrixException("BRouteReloader does not support the reload source: " + source);
+		}
+		exchange.getIn().setHeader(Constants.BRIX_BROUTE_VERSION, snapshot.getVersion());
+		exchange.getIn().setBody(snapshot.toString());
+		return snapshot;
+	}
+
+	/**
+	 * Method:  checkForFileChange
+	 * Reloads the BRoute configuration if the watched cfg file has changed since it was last
+	 * seen. Does nothing when no watch path is configured.
+	 *
+	 * @return boolean true if a new snapshot was published
+	 * @throws BrixException
+	 */
+	public synchronized boolean checkForFileChange() throws BrixException {
+		if (brouteCfgPath.isEmpty()) {
+			return false;
+		}
+		Path path = Paths.get(brouteCfgPath.get());
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		} catch (IOException e) {
+			LOG.warn("Unable to read BRoute cfg file " + path + ": " + e);
+			return false;
+		}
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		long size = attributes.size();
+		if (lastModified == watchedLastModified && size == watchedSize) {
+			return false;
+		}
+		boolean firstCheck = (watchedLastModified < 0);
+		watchedLastModified = lastModified;
+		watchedSize = size;
+		if (firstCheck && Config.getBRouteSnapshot().getVersion() > 0) {
+			// Routes were already loaded at startup; only start watching from here.
+			return false;
+		}
+		LOG.info("BRoute cfg file " + path + " changed, reloading");
+		reloadFromFile();
+		return true;
+	}
+
+	/**
+	 * Method:  checkForDatabaseChange
+	 * Reloads the BRoutes from the database if the BRoute tables have changed since they were
+	 * last seen, as counted by the broute_config_version row their triggers bump.
+	 *
+	 * @return boolean true if a new snapshot was published
+	 * @throws BrixException
+	 */
+	public synchronized boolean checkForDatabaseChange() throws BrixException {
+		long version;
+		try {
+			version = QuarkusTransaction.requiringNew().call(() ->
+				((Number)entityManager.createNativeQuery(CONFIG_VERSION).getSingleResult()).longValue());
+		} catch (RuntimeException e) {
+			LOG.warn("Unable to read the BRoute configuration version: " + e);
+			return false;
+		}
+		if (version == watchedDbVersion) {
+			return false;
+		}
+		boolean firstCheck = (watchedDbVersion < 0);
+		watchedDbVersion = version;
+		if (firstCheck && Config.getBRouteSnapshot().getVersion() > 0) {
+			// Routes were already loaded at startup; only start watching from here.
+			return false;
+		}
+		LOG.info("BRoute tables changed (version " + version + "), reloading");
+		reloadFromDatabase();
+		return true;
+	}
+
+	/**
+	 * Method:  reloadFromFile
+	 * Reads the complete BRoute configuration from the watched cfg file when one is configured,
+	 * or else from the brix.broutes.cfg classpath resource, and publishes it as a new snapshot.
+	 *
+	 * @return BRouteSnapshot
+	 * @throws BrixException
+	 */
+	public synchronized BRouteSnapshot reloadFromFile() throws BrixException {
+		if (brouteCfgPath.isPresent()) {
+			return reloadFromFile(Paths.get(brouteCfgPath.get()));
+		}
+		BRouteList brouteList = Config.parseBRouteList(BRouteReloader.class.getClassLoader().getResourceAsStream(brouteCfgResource));
+		return Config.publishBRoutes(brouteList, brouteCfgResource);
+	}
+
+	/**
+	 * Method:  reloadFromFile
+	 * Reads the complete BRoute configuration from the given cfg file and publishes it as a new
+	 * snapshot. If the file cannot be read or parsed, the current snapshot stays in place.
+	 *
+	 * @param Path path
+	 * @return BRouteSnapshot
+	 * @throws BrixException
+	 */
+	public synchronized BRouteSnapshot reloadFromFile(Path path) throws BrixException {
+		BRouteList brouteList;
+		try (InputStream inputStream = Files.newInputStream(path)) {
+			brouteList = Config.parseBRouteList(inputStream);
+		} catch (IOException e) {
+			throw new BrixException("Unable to read BRoute cfg file " + path, e);
+		}
+		return Config.publishBRoutes(brouteList, path.toString());
+	}
+
+	/**
+	 * Method:  reloadFromDatabase
+	 * Reads all BRoutes from the database and publishes them as a new snapshot. The object
+	 * graph of each BRoute is loaded before the transaction ends, since the snapshot outlives
+	 * the persistence context.
+	 *
+	 * @return BRouteSnapshot
+	 * @throws BrixException
+	 */
+	@Transactional
+	public synchronized BRouteSnapshot reloadFromDatabase() throws BrixException {
+		List<BRoute> broutes = BRoute.listAll();
+		BRouteList brouteList = new BRouteList();
+		for (BRoute broute : broutes) {
+			loadGraph(broute);
+			brouteList.getTheBRouteList().add(broute);
+		}
+		return Config.publishBRoutes(brouteList, "database");
+	}
+
+	private void loadGraph(BRoute broute) {
+		for (ArtifactType artifactType : ArtifactType.values()) {
+			loadGraph(broute.getSourceArtifactMap(artifactType));
+			loadGraph(broute.getTargetArtifactMap(artifactType));
+		}
+		if (broute.getRules() != null) {
+			for (Rule rule : broute.getRules()) {
+				if (rule.getRuleConditions() != null) {
+					rule.getRuleConditions().size();
+				}
+				if (rule.getRuleActionConfigs() != null) {
+					rule.getRuleActionConfigs().size();
+				}
+			}
+		}
+	}
+
+	private void loadGraph(ArtifactMap artifactMap) {
+		if (artifactMap == null || artifactMap.getAttributeMaps() == null) {
+			return;
+		}
+		for (GenAttrMap genAttrMap : artifactMap.getAttributeMaps()) {
+			if (genAttrMap.getAttributeTraits() != null) {
+				genAttrMap.getAttributeTraits().size();
+			}
+			if (genAttrMap.getToGenericValueMap() != null) {
+				genAttrMap.getToGenericValueMap().size();
+			}
+			if (genAttrMap.getFromGenericValueMap() != null) {
+				genAttrMap.getFromGenericValueMap().size();
+			}
+		}
+	}
+}
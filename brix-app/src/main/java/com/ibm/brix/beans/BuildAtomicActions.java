@@ -4,7 +4,7 @@
 //* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
 //*
 //* Module Name:  BuildAtomicActions Bean
-//*                                                                
+//*
 //* Description:  This bean class provides the business logic for processing
 //*               through the list of generated Actions, and grouping them
 //*               into sets of atomic actions that can be performed as a whole
@@ -13,35 +13,66 @@
 //*               all be done in one "call" to the EWM component as a single
 //*               save operation.
 //*
+//*               The atomic actions form a graph. For each artifact:
+//*                 - the create runs first
+//*                 - then the attribute and state updates, in order
+//*                 - alongside the updates, the comments in order, and the
+//*                   link changes in order
+//*                 - any other action (e.g. a transfer) after all of these
+//*               Atomic actions for different artifacts do not depend on
+//*               each other.
+//*
 //* (C) Copyright IBM Corporation 2025
 //*
-//* The Source code for this program is not published or otherwise     
-//* divested of its trade secrets, irrespective of what has been       
-//* deposited with the U.S. Copyright Office.                           
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
 //*
-//* Note to U.S. Government Users Restricted Rights:  Use, 
-//* duplication or disclosure restricted by GSA ADP Schedule 
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
 //* Contract with IBM Corp.
-//*                                                                 
+//*
 //* Change Log:
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*        129153 20250306 tmueller  New stub source file created.
-//*                                                                 
+//*               20261018 agent     Build the AtomicActionPlan graph, taking
+//*                                  over the combining of actions from
+//*                                  ExecuteActions.
+//*               20261018 agent     Key endpoints with the shared
+//*                                  MessageGroupKey.endpointKey.
+//*
 //* Additional notes about the Change Activity:
-//*                                                                 
+//*
 //=============================================================================
 package com.ibm.brix.beans;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.camel.Exchange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.ibm.brix.BrixException;
-import com.ibm.brix.model.AtomicAction;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.beans.MessageGroupKey;
+import com.ibm.brix.common.enums.ActionCommand;
+import com.ibm.brix.common.enums.SystemType;
+import com.ibm.brix.common.model.Artifact;
+import com.ibm.brix.common.model.ArtifactKey;
+import com.ibm.brix.factories.SystemTypeRegistry;
+import com.ibm.brix.managers.ActionMgr;
+import com.ibm.brix.model.Action;
+import com.ibm.brix.model.ActionList;
+import com.ibm.brix.model.GenericArtifact;
+import com.ibm.brix.plans.AtomicActionPlan;
+import com.ibm.brix.plans.AtomicActionPlan.Step;
 
 public class BuildAtomicActions {
 	/* CopyRight */
@@ -49,23 +80,221 @@ public class BuildAtomicActions {
 
 	private static final Logger LOG = LoggerFactory.getLogger(BuildAtomicActions.class);
 
+	/*
+	 * The last step of each branch for one artifact.
+	 */
+	private static final class ArtifactSteps {
+		Step create;
+		Step update;
+		Step comment;
+		Step link;
+		Step other;
+
+		Step openUpdate() {
+			return (update != null ? update : create);
+		}
+
+		/* A step after every other step of the artifact. */
+		void addAllDependencies(Step step) {
+			step.addDependency(create);
+			step.addDependency(update);
+			step.addDependency(comment);
+			step.addDependency(link);
+			step.addDependency(other);
+		}
+	}
+
 	/**
 	 * Method:  buildAtomicActions
 	 * Process all Actions to group them into atomic sets of actions.
 	 * Exchange Expected Input:
-	 *    - Header ???
+	 *    - Body: ActionList (from FireRuleActionConfigs), or Header BRIX_ACTIONS
 	 * Exchange Output:
-	 *    - (none)
-	 * 
+	 *    - Header BRIX_ATOMIC_ACTIONS: AtomicActionPlan
+	 *
 	 * @param Exchange exchange (Provided by Camel)
-	 * @return List<AtomicAction>
+	 * @return AtomicActionPlan
 	 * @throws BrixException
 	 */
-	public List<AtomicAction> buildAtomicActions(Exchange exchange) throws BrixException {
-        LOG.info("Process all Actions to group them into atomic sets of actions - Start");
+	public AtomicActionPlan buildAtomicActions(Exchange exchange) throws BrixException {
+		LOG.info("Process all Actions to group them into atomic sets of actions - Start");
 
-        List<AtomicAction> atomicActions = new ArrayList<AtomicAction>();
-        return atomicActions;
+		ActionList actionList = exchange.getIn().getBody(ActionList.class);
+		if (actionList == null) {
+			actionList = exchange.getIn().getHeader(Constants.BRIX_ACTIONS, ActionList.class);
+		}
+		if (actionList == null) {
+			throw new BrixException("ActionList was not found on the Exchange.");
+		}
+		List<Action> actions = new ArrayList<>(actionList.size());
+		for (Action action : actionList) {
+			actions.add(action);
+		}
+
+		AtomicActionPlan plan = build(actions, exchange);
+		LOG.info("Grouped " + actions.size() + " Actions into " + plan.getSteps().size() + " atomic actions.");
+		if (LOG.isDebugEnabled()) {
+			LOG.debug(plan.toString());
+		}
+		exchange.getIn().setHeader(Constants.BRIX_ATOMIC_ACTIONS, plan);
+		return plan;
 	}
 
+	/**
+	 * Method:  build
+	 * Groups the actions by the artifact they act on and combines them into atomic actions, keeping
+	 * the order of the ActionList within each artifact. An attribute or state change is folded into
+	 * the artifact's latest create or update if its Action Manager can combine the two and that
+	 * step does not already set one of its attributes; otherwise it is a new update step.
+	 *
+	 * @param List<Action> actions
+	 * @param Exchange exchange (for creating the Action Managers)
+	 * @return AtomicActionPlan
+	 * @throws BrixException
+	 */
+	public AtomicActionPlan build(List<Action> actions, Exchange exchange) throws BrixException {
+		AtomicActionPlan plan = new AtomicActionPlan(actions);
+		Map<String, ArtifactSteps> byArtifact = new LinkedHashMap<>();
+		Map<SystemType, ActionMgr> actionMgrs = new HashMap<>();
+
+		for (int position = 0; position < actions.size(); position++) {
+			Action action = actions.get(position);
+			ActionCommand command = action.getActionCommand();
+			String artifact = artifactKey(action);
+			ArtifactSteps artifactSteps = byArtifact.computeIfAbsent(artifact, k -> new ArtifactSteps());
+			Set<String> attributeNames = attributeNames(action);
+
+			switch (command) {
+			case CREATEARTIFACT:
+				if (artifactSteps.create != null || artifactSteps.update != null || artifactSteps.comment != null || artifactSteps.link != null || artifactSteps.other != null) {
+					// There should only ever be one create, and it comes first.
+					LOG.warn("Action '" + action.getActionName() + "' creates an artifact other actions in the list already act on; it is run after them.");
+					Step step = newStep(plan, artifact, action, position, attributeNames);
+					artifactSteps.addAllDependencies(step);
+					artifactSteps.other = step;
+				}
+				else {
+					artifactSteps.create = newStep(plan, artifact, action, position, attributeNames);
+				}
+				break;
+			case MODIFYATTRIBUTE:
+			case CHANGESTATE: {
+				Step open = artifactSteps.openUpdate();
+				if (open != null && actionMgr(actionMgrs, action, exchange).canCombine(open.getActionCommand(), command)
+						&& Collections.disjoint(open.getAttributeNames(), attributeNames) && (artifactSteps.other == null || artifactSteps.other.getId() < open.getId())) {
+					combine(open, action, position, attributeNames);
+				}
+				else {
+					Step step = newStep(plan, artifact, action, position, attributeNames);
+					step.addDependency(open);
+					step.addDependency(artifactSteps.other);
+					artifactSteps.update = step;
+				}
+				break;
+			}
+			case ADDCOMMENT:
+				artifactSteps.comment = chain(plan, artifactSteps, artifactSteps.comment, artifact, action, position, attributeNames);
+				break;
+			case ADDLINK:
+			case REMOVELINK:
+				artifactSteps.link = chain(plan, artifactSteps, artifactSteps.link, artifact, action, position, attributeNames);
+				break;
+			default: {
+				Step step = newStep(plan, artifact, action, position, attributeNames);
+				artifactSteps.addAllDependencies(step);
+				artifactSteps.other = step;
+				break;
+			}
+			}
+		}
+		return plan;
+	}
+
+	/*
+	 * A comment or link step runs after the previous one of its kind, and after the create.
+	 */
+	private static Step chain(AtomicActionPlan plan, ArtifactSteps artifactSteps, Step previous, String artifact, Action action, int position, Set<String> attributeNames) {
+		Step step = newStep(plan, artifact, action, position, attributeNames);
+		step.addDependency(previous);
+		step.addDependency(artifactSteps.create);
+		step.addDependency(artifactSteps.other);
+		return step;
+	}
+
+	private static ActionMgr actionMgr(Map<SystemType, ActionMgr> actionMgrs, Action action, Exchange exchange) throws BrixException {
+		ActionMgr actionMgr = actionMgrs.get(action.getSystemType());
+		if (actionMgr == null) {
+			actionMgr = SystemTypeRegistry.getInstance().getActionMgr(action.getSystemType(), exchange);
+			actionMgrs.put(action.getSystemType(), actionMgr);
+		}
+		return actionMgr;
+	}
+
+	/*
+	 * The step starts with a copy of the action, so the ActionList's own actions are not changed
+	 * by combining.
+	 */
+	private static Step newStep(AtomicActionPlan plan, String artifact, Action action, int position, Set<String> attributeNames) {
+		Action copy = new Action();
+		copy.setActionName(action.getActionName());
+		copy.setActionCommand(action.getActionCommand());
+		copy.setSequence(action.getSequence());
+		copy.setResourceSide(action.getResourceSide());
+		copy.setEndpointURI(action.getEndpointURI());
+		copy.setSystemType(action.getSystemType());
+		copy.setCredential(action.getCredential());
+		copy.setArtifactType(action.getArtifactType());
+		copy.setArtifactKey(action.getArtifactKey());
+		GenericArtifact artifactCopy = new GenericArtifact();
+		if (action.getActionArtifact() != null && action.getActionArtifact().getAttributes() != null) {
+			artifactCopy.addAttributes(action.getActionArtifact().getAttributes());
+		}
+		copy.setActionArtifact(artifactCopy);
+
+		Step step = plan.addStep(artifact, copy);
+		step.addAction(position, attributeNames);
+		return step;
+	}
+
+	private static void combine(Step step, Action action, int position, Set<String> attributeNames) {
+		Action combined = step.getAction();
+		if (action.getActionArtifact() != null && action.getActionArtifact().getAttributes() != null) {
+			combined.getActionArtifact().addAttributes(action.getActionArtifact().getAttributes());
+		}
+		combined.setActionName(combined.getActionName() + "+" + action.getActionName());
+		// A combined attribute and state change is performed as the state change.
+		if (action.getActionCommand() == ActionCommand.CHANGESTATE && combined.getActionCommand() != ActionCommand.CREATEARTIFACT) {
+			combined.setActionCommand(ActionCommand.CHANGESTATE);
+		}
+		step.addAction(position, attributeNames);
+	}
+
+	private static Set<String> attributeNames(Action action) {
+		Artifact artifact = action.getActionArtifact();
+		if (artifact == null || artifact.getAttributes() == null) {
+			return Collections.emptySet();
+		}
+		return artifact.getAttributes().keySet();
+	}
+
+	/*
+	 * Actions act on the same artifact if they are on the same side, endpoint and artifact key. All
+	 * actions for an artifact that does not exist yet share the null key.
+	 */
+	private static String artifactKey(Action action) {
+		ArtifactKey artifactKey = action.getArtifactKey();
+		return action.getResourceSide() + "|" + endpointKey(action) + "|" + (artifactKey == null ? "" : artifactKey.getArtifactKeyString());
+	}
+
+	/**
+	 * Method:  endpointKey
+	 * Returns the key of the action's endpoint (MessageGroupKey.endpointKey), as its circuit,
+	 * bulkhead and rate limit are kept by.
+	 *
+	 * @param Action action
+	 * @return String
+	 */
+	public static String endpointKey(Action action) {
+		return MessageGroupKey.endpointKey(action.getEndpointURI() == null ? null : action.getEndpointURI().toString());
+	}
 }
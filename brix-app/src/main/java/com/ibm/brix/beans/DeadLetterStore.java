@@ -0,0 +1,668 @@
+//=============================================================================
+//* Name:         DeadLetterStore.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Dead Letter Store bean
+//*
+//* Description:  This bean class keeps the failed exchanges that are not
+//*               retried any more (their retries are used up, or retries are
+//*               off) in the dead_letter table: the raw body and headers of
+//*               the message as it came from the webhook or poll queue, that
+//*               queue's URI, the stage it failed in and the last error. The
+//*               /deadletters REST routes list and filter them and replay
+//*               them in bulk through the pipeline, on a pool of the
+//*               requested parallelism. A bulk replay needs a filter, or
+//*               all=true, and sends at most replay.max-batch rows; it first
+//*               marks its rows
+//*               REPLAYING (SKIP LOCKED, so concurrent replays do not send a
+//*               row twice); each row is REPLAYED once it was re-sent, or NEW
+//*               again if that failed. A replayed message that fails again is
+//*               retried as a new failure. The table comes from the Flyway
+//*               migrations in flyway/db. The queries are plain SQL but for
+//*               the id sequence, so they also run on H2.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Require a filter or all=true to replay,
+//*                                  cap the batch, and keep to SQL that H2
+//*                                  runs too.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.ProducerTemplate;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+@ApplicationScoped
+public class DeadLetterStore {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private static final Logger LOG = LoggerFactory.getLogger(DeadLetterStore.class);
+
+	public static final String METRIC_PREFIX = "brix.deadletter";
+
+	// dead_letter.status
+	public static final String NEW = "NEW";
+	public static final String REPLAYING = "REPLAYING";
+	public static final String REPLAYED = "REPLAYED";
+
+	// Query parameters of the REST routes
+	public static final String PARAM_ID = "id";
+	public static final String PARAM_STATUS = "status";
+	public static final String PARAM_TRX_ID = "trxId";
+	public static final String PARAM_SOURCE = "source";
+	public static final String PARAM_STAGE = "stage";
+	public static final String PARAM_ERROR = "error";
+	public static final String PARAM_SINCE = "since";
+	public static final String PARAM_UNTIL = "until";
+	public static final String PARAM_LIMIT = "limit";
+	public static final String PARAM_OFFSET = "offset";
+	public static final String PARAM_PARALLELISM = "parallelism";
+	public static final String PARAM_ALL = "all";
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final TypeReference<LinkedHashMap<String, Object>> HEADERS_TYPE = new TypeReference<>() {};
+
+	// The id sequence of the bigserial column; NEXT VALUE FOR is the standard form (H2).
+	private static final String NEXT_ID_POSTGRESQL =
+		"SELECT nextval('public.dead_letter_id_seq')";
+	private static final String NEXT_ID_STANDARD =
+		"SELECT NEXT VALUE FOR public.dead_letter_id_seq";
+
+	private static final String INSERT =
+		"INSERT INTO public.dead_letter (id, trxid, source, stage, body, headers, attempts, lasterror)"
+		+ " VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7, ?8)";
+
+	// Both in one transaction.
+	private static final String MOVE_COPY =
+		"INSERT INTO public.dead_letter (id, trxid, source, stage, body, headers, attempts, lasterror)"
+		+ " SELECT ?2, trxid, replayuri, stage, body, headers, attempts, ?3 FROM public.retry_queue WHERE id = ?1";
+	private static final String MOVE_DELETE =
+		"DELETE FROM public.retry_queue WHERE id = ?1";
+
+	private static final String COLUMNS =
+		"id, trxid, source, stage, octet_length(body), headers, attempts, lasterror, status, replaycount, lastreplaytime, createtime";
+
+	private static final String BODY =
+		"SELECT body FROM public.dead_letter WHERE id = ?1";
+
+	private static final String REPLAY_ROW =
+		"SELECT trxid, source, body, headers FROM public.dead_letter WHERE id = ?1";
+
+	private static final String REPLAYED_SQL =
+		"UPDATE public.dead_letter SET status = '" + REPLAYED + "', replaycount = replaycount + 1, lastreplaytime = now() WHERE id = ?1";
+
+	private static final String REPLAY_FAILED_SQL =
+		"UPDATE public.dead_letter SET status = '" + NEW + "', replaycount = replaycount + 1, lastreplaytime = now(),"
+		+ " lasterror = ?2 WHERE id = ?1";
+
+	@Inject
+	EntityManager entityManager;
+
+	@Inject
+	CamelContext camelContext;
+
+	@Inject
+	MeterRegistry meterRegistry;
+
+	@ConfigProperty(name = "brix.deadletter.enabled", defaultValue = "true")
+	boolean enabled;
+
+	@ConfigProperty(name = "quarkus.datasource.db-kind", defaultValue = "postgresql")
+	String dbKind;
+
+	@ConfigProperty(name = "brix.deadletter.list.default-limit", defaultValue = "100")
+	int defaultLimit;
+
+	@ConfigProperty(name = "brix.deadletter.list.max-limit", defaultValue = "1000")
+	int maxLimit;
+
+	/** Replays in flight at once when the request does not set parallelism. */
+	@ConfigProperty(name = "brix.deadletter.replay.parallelism", defaultValue = "4")
+	int defaultParallelism;
+
+	@ConfigProperty(name = "brix.deadletter.replay.max-parallelism", defaultValue = "32")
+	int maxParallelism;
+
+	/** Upper bound of dead letters one replay request sends; send the request again for more. */
+	@ConfigProperty(name = "brix.deadletter.replay.max-batch", defaultValue = "500")
+	int maxReplayBatch;
+
+	private String nextIdSql;
+
+	private volatile ProducerTemplate producerTemplate;
+
+	private Counter stored;
+	private Counter replayed;
+	private Counter replayFailed;
+
+	/**
+	 * The dead letters a request selects, from its query parameters.
+	 */
+	static final class Filter {
+		final List<Object> parameters = new ArrayList<>();
+		final StringBuilder where = new StringBuilder();
+		// Whether the request set any of the parameters, not just the default status.
+		boolean selective;
+
+		/*
+		 * Adds a condition; ? in it is the value.
+		 */
+		void add(String condition, Object value) {
+			add(condition, value, true);
+		}
+
+		void add(String condition, Object value, boolean requested) {
+			selective |= requested;
+			parameters.add(value);
+			where.append(where.length() == 0 ? " WHERE " : " AND ")
+				.append(condition.replace("?", "?" + parameters.size()));
+		}
+
+		static Filter from(Message message, String defaultStatus) throws BrixException {
+			Filter filter = new Filter();
+			String ids = message.getHeader(PARAM_ID, String.class);
+			if (ids != null && !ids.isBlank()) {
+				List<Long> idList = new ArrayList<>();
+				for (String id : ids.split(",")) {
+					idList.add(parseLong(PARAM_ID, id.trim()));
+				}
+				filter.add("id IN (?)", idList);
+			}
+			String status = message.getHeader(PARAM_STATUS, String.class);
+			if (status != null && !status.isBlank()) {
+				filter.add("status = ?", status.trim().toUpperCase());
+			}
+			else if (defaultStatus != null) {
+				filter.add("status = ?", defaultStatus, false);
+			}
+			String trxId = message.getHeader(PARAM_TRX_ID, String.class);
+			if (trxId != null && !trxId.isBlank()) {
+				filter.add("trxid = ?", trxId.trim());
+			}
+			String source = message.getHeader(PARAM_SOURCE, String.class);
+			if (source != null && !source.isBlank()) {
+				filter.add("source LIKE ?", "%" + source.trim() + "%");
+			}
+			String stage = message.getHeader(PARAM_STAGE, String.class);
+			if (stage != null && !stage.isBlank()) {
+				filter.add("stage LIKE ?", "%" + stage.trim() + "%");
+			}
+			String error = message.getHeader(PARAM_ERROR, String.class);
+			if (error != null && !error.isBlank()) {
+				filter.add("lasterror LIKE ?", "%" + error.trim() + "%");
+			}
+			OffsetDateTime since = parseTime(PARAM_SINCE, message.getHeader(PARAM_SINCE, String.class));
+			if (since != null) {
+				filter.add("createtime >= ?", since);
+			}
+			OffsetDateTime until = parseTime(PARAM_UNTIL, message.getHeader(PARAM_UNTIL, String.class));
+			if (until != null) {
+				filter.add("createtime < ?", until);
+			}
+			return filter;
+		}
+	}
+
+	@PostConstruct
+	void init() {
+		nextIdSql = ("postgresql".equalsIgnoreCase(dbKind) ? NEXT_ID_POSTGRESQL : NEXT_ID_STANDARD);
+		stored = Counter.builder(METRIC_PREFIX + ".stored")
+			.description("Failed exchanges stored as dead letters")
+			.register(meterRegistry);
+		replayed = Counter.builder(METRIC_PREFIX + ".replayed")
+			.description("Dead letters replayed through the pipeline")
+			.tag("outcome", "success")
+			.register(meterRegistry);
+		replayFailed = Counter.builder(METRIC_PREFIX + ".replayed")
+			.description("Dead letters replayed through the pipeline")
+			.tag("outcome", "failure")
+			.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Method:  store
+	 * Stores a failed unit of work as a dead letter. Called by the RetryScheduler.
+	 *
+	 * @param String trxId
+	 * @param String source the URI of the route it came from, to replay it to
+	 * @param String stage where it failed
+	 * @param byte[] body (empty for none)
+	 * @param String headers in JSON
+	 * @param int attempts the retries made
+	 * @param String error the last failure
+	 * @return Long the dead letter's id, null if not stored
+	 */
+	public Long store(String trxId, String source, String stage, byte[] body, String headers, int attempts, String error) {
+		if (!enabled) {
+			return null;
+		}
+		try {
+			long id = QuarkusTransaction.requiringNew().call(() -> {
+				long next = nextId();
+				entityManager.createNativeQuery(INSERT)
+					.setParameter(1, next)
+					.setParameter(2, trxId)
+					.setParameter(3, source)
+					.setParameter(4, stage)
+					.setParameter(5, body)
+					.setParameter(6, headers)
+					.setParameter(7, attempts)
+					.setParameter(8, error)
+					.executeUpdate();
+				return next;
+			});
+			stored.increment();
+			LOG.warn("Transaction " + trxId + " stored as dead letter " + id + " (stage " + stage + "): " + error);
+			return id;
+		}
+		catch (RuntimeException e) {
+			LOG.error("Transaction " + trxId + " could not be stored as a dead letter.", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Method:  moveFromRetryQueue
+	 * Moves a retry whose attempts are used up to the dead letters. Without the store, the
+	 * retry is deleted.
+	 *
+	 * @param long retryId
+	 * @param String error the last failure
+	 * @return Long the dead letter's id, null if not stored
+	 */
+	public Long moveFromRetryQueue(long retryId, String error) {
+		if (!enabled) {
+			QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery("DELETE FROM public.retry_queue WHERE id = ?1")
+				.setParameter(1, retryId)
+				.executeUpdate());
+			return null;
+		}
+		Long id = QuarkusTransaction.requiringNew().call(() -> {
+			long next = nextId();
+			int moved = entityManager.createNativeQuery(MOVE_COPY)
+				.setParameter(1, retryId)
+				.setParameter(2, next)
+				.setParameter(3, error)
+				.executeUpdate();
+			if (moved == 0) {
+				return null;
+			}
+			entityManager.createNativeQuery(MOVE_DELETE)
+				.setParameter(1, retryId)
+				.executeUpdate();
+			return next;
+		});
+		if (id != null) {
+			stored.increment();
+		}
+		return id;
+	}
+
+	/**
+	 * Method:  list
+	 * Lists the dead letters matching the query parameters (id, status, trxId, source, stage,
+	 * error, since, until), oldest first, limit and offset paging. The body is left out.
+	 * Called by the GET /deadletters route.
+	 *
+	 * @param Exchange exchange (Provided by Camel)
+	 * @return String the dead letters in JSON
+	 * @throws BrixException if a parameter is not valid
+	 */
+	@SuppressWarnings("unchecked")
+	public String list(Exchange exchange) throws BrixException {
+		Message message = exchange.getIn();
+		Filter filter = Filter.from(message, null);
+		int limit = Math.min(parseInt(PARAM_LIMIT, message.getHeader(PARAM_LIMIT, String.class), defaultLimit), maxLimit);
+		int offset = parseInt(PARAM_OFFSET, message.getHeader(PARAM_OFFSET, String.class), 0);
+		List<Object[]> rows = QuarkusTransaction.requiringNew().call(() -> bind(entityManager.createNativeQuery(
+				"SELECT " + COLUMNS + " FROM public.dead_letter" + filter.where + " ORDER BY id LIMIT " + limit + " OFFSET " + offset),
+				filter.parameters)
+			.getResultList());
+		List<Map<String, Object>> deadLetters = new ArrayList<>(rows.size());
+		for (Object[] row : rows) {
+			deadLetters.add(toMap(row));
+		}
+		return json(exchange, deadLetters);
+	}
+
+	/**
+	 * Method:  get
+	 * One dead letter, with its body (as UTF-8 text). Called by the GET /deadletters/{id} route.
+	 *
+	 * @param Exchange exchange (Provided by Camel), header id
+	 * @return String the dead letter in JSON; 404 if there is none
+	 * @throws BrixException if the id is not valid
+	 */
+	@SuppressWarnings("unchecked")
+	public String get(Exchange exchange) throws BrixException {
+		long id = parseLong(PARAM_ID, exchange.getIn().getHeader(PARAM_ID, String.class));
+		Map<String, Object> deadLetter = QuarkusTransaction.requiringNew().call(() -> {
+			List<Object[]> rows = entityManager.createNativeQuery("SELECT " + COLUMNS + " FROM public.dead_letter WHERE id = ?1")
+				.setParameter(1, id)
+				.getResultList();
+			if (rows.isEmpty()) {
+				return null;
+			}
+			Map<String, Object> map = toMap(rows.get(0));
+			byte[] body = (byte[])entityManager.createNativeQuery(BODY).setParameter(1, id).getSingleResult();
+			map.put("body", (body == null ? null : new String(body, StandardCharsets.UTF_8)));
+			return map;
+		});
+		if (deadLetter == null) {
+			exchange.getIn().setHeader(Exchange.HTTP_RESPONSE_CODE, 404);
+			return "Dead letter " + id + " was not found.";
+		}
+		return json(exchange, deadLetter);
+	}
+
+	/**
+	 * Method:  replay
+	 * Replays the dead letters matching the query parameters (as for list, status NEW unless
+	 * set; at most limit, and at most replay.max-batch) to the route they came from,
+	 * parallelism at a time. Without a filter parameter, all=true must be set to replay every
+	 * NEW dead letter. Waits for them and returns the counts. Called by the
+	 * POST /deadletters/replay route.
+	 *
+	 * @param Exchange exchange (Provided by Camel)
+	 * @return String the counts in JSON
+	 * @throws BrixException if a parameter is not valid, or there is neither a filter nor all=true
+	 */
+	public String replay(Exchange exchange) throws BrixException {
+		Message message = exchange.getIn();
+		Filter filter = Filter.from(message, NEW);
+		if (!filter.selective && !"true".equalsIgnoreCase(message.getHeader(PARAM_ALL, "", String.class).trim())) {
+			throw new BrixException("Set a filter (" + String.join(", ", PARAM_ID, PARAM_STATUS, PARAM_TRX_ID, PARAM_SOURCE, PARAM_STAGE,
+				PARAM_ERROR, PARAM_SINCE, PARAM_UNTIL) + "), or " + PARAM_ALL + "=true to replay every " + NEW + " dead letter.");
+		}
+		int limit = Math.min(parseInt(PARAM_LIMIT, message.getHeader(PARAM_LIMIT, String.class), maxReplayBatch), maxReplayBatch);
+		int parallelism = Math.max(1, Math.min(
+			parseInt(PARAM_PARALLELISM, message.getHeader(PARAM_PARALLELISM, String.class), defaultParallelism), maxParallelism));
+
+		List<Long> ids = claim(filter, limit);
+		int succeeded = 0;
+		if (!ids.isEmpty()) {
+			long start = System.nanoTime();
+			ExecutorService pool = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "DeadLetterReplay", parallelism);
+			try {
+				List<CompletableFuture<Boolean>> futures = new ArrayList<>(ids.size());
+				for (Long id : ids) {
+					futures.add(CompletableFuture.supplyAsync(() -> replay(id), pool));
+				}
+				for (CompletableFuture<Boolean> future : futures) {
+					try {
+						if (future.get()) {
+							succeeded++;
+						}
+					}
+					catch (ExecutionException e) {
+						LOG.error("Dead letter replay failed.", e.getCause());
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new BrixException("Dead letter replay interrupted; the rest are left " + REPLAYING + ".", e);
+					}
+				}
+			}
+			finally {
+				camelContext.getExecutorServiceManager().shutdown(pool);
+			}
+			LOG.info("Replayed " + ids.size() + " dead letters, " + succeeded + " succeeded, parallelism " + parallelism + ", "
+				+ ((System.nanoTime() - start) / 1_000_000) + "ms.");
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("selected", ids.size());
+		result.put("replayed", succeeded);
+		result.put("failed", ids.size() - succeeded);
+		result.put("parallelism", parallelism);
+		// A full batch may have left more to replay.
+		result.put("limit", limit);
+		return json(exchange, result);
+	}
+
+	/*
+	 * Marks the selected dead letters REPLAYING; rows another replay holds are skipped.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<Long> claim(Filter filter, int limit) {
+		return QuarkusTransaction.requiringNew().call(() -> {
+			List<Number> rows = bind(entityManager.createNativeQuery(
+					"SELECT id FROM public.dead_letter" + filter.where + " ORDER BY id LIMIT " + limit + " FOR UPDATE SKIP LOCKED"),
+					filter.parameters)
+				.getResultList();
+			List<Long> ids = new ArrayList<>(rows.size());
+			for (Number row : rows) {
+				ids.add(row.longValue());
+			}
+			if (!ids.isEmpty()) {
+				entityManager.createNativeQuery("UPDATE public.dead_letter SET status = '" + REPLAYING + "' WHERE id IN (?1)")
+					.setParameter(1, ids)
+					.executeUpdate();
+			}
+			return ids;
+		});
+	}
+
+	/*
+	 * Sends one dead letter to its route. A failure OnException stored again (header BRIX_RETRY)
+	 * is now a new retry, so the dead letter counts as replayed.
+	 */
+	private boolean replay(long id) {
+		String error = null;
+		try {
+			Object[] row = (Object[])QuarkusTransaction.requiringNew().call(() -> entityManager.createNativeQuery(REPLAY_ROW)
+				.setParameter(1, id)
+				.getSingleResult());
+			Exchange exchange = RetryScheduler.newExchange(camelContext, (byte[])row[2], (String)row[3]);
+			if (row[0] != null) {
+				exchange.getIn().setHeader(Constants.BRIX_TRX_ID, row[0]);
+			}
+			Exchange reply = getProducerTemplate().send((String)row[1], exchange);
+			if (reply.getException() != null && reply.getIn().getHeader(Constants.BRIX_RETRY) == null) {
+				error = reply.getException().toString();
+			}
+		}
+		catch (RuntimeException e) {
+			error = e.toString();
+		}
+		boolean success = (error == null);
+		(success ? replayed : replayFailed).increment();
+		String lastError = (error == null || error.length() <= 3000 ? error : error.substring(0, 3000));
+		try {
+			QuarkusTransaction.requiringNew().run(() -> {
+				Query update = entityManager.createNativeQuery(success ? REPLAYED_SQL : REPLAY_FAILED_SQL).setParameter(1, id);
+				if (!success) {
+					update.setParameter(2, lastError);
+				}
+				update.executeUpdate();
+			});
+		}
+		catch (RuntimeException e) {
+			LOG.error("Dead letter " + id + " could not be updated after its replay; it is left " + REPLAYING + ".", e);
+		}
+		if (!success) {
+			LOG.warn("Dead letter " + id + " replay failed: " + error);
+		}
+		return success;
+	}
+
+	private long nextId() {
+		return ((Number)entityManager.createNativeQuery(nextIdSql).getSingleResult()).longValue();
+	}
+
+	private static Query bind(Query query, List<Object> parameters) {
+		for (int i = 0; i < parameters.size(); i++) {
+			query.setParameter(i + 1, parameters.get(i));
+		}
+		return query;
+	}
+
+	private static Map<String, Object> toMap(Object[] row) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("id", ((Number)row[0]).longValue());
+		map.put("trxId", row[1]);
+		map.put("source", row[2]);
+		map.put("stage", row[3]);
+		map.put("bodySize", (row[4] == null ? 0 : ((Number)row[4]).intValue()));
+		try {
+			map.put("headers", (row[5] == null ? null : MAPPER.readValue((String)row[5], HEADERS_TYPE)));
+		}
+		catch (JsonProcessingException e) {
+			map.put("headers", row[5]);
+		}
+		map.put("attempts", row[6]);
+		map.put("lastError", row[7]);
+		map.put("status", row[8]);
+		map.put("replayCount", row[9]);
+		map.put("lastReplayTime", toInstantString(row[10]));
+		map.put("createTime", toInstantString(row[11]));
+		return map;
+	}
+
+	private static String json(Exchange exchange, Object value) throws BrixException {
+		exchange.getIn().setHeader(Exchange.CONTENT_TYPE, "application/json");
+		try {
+			return MAPPER.writeValueAsString(value);
+		}
+		catch (JsonProcessingException e) {
+			throw new BrixException("Dead letters could not be written as JSON.", e);
+		}
+	}
+
+	private static String toInstantString(Object value) {
+		if (value == null) {
+			return null;
+		}
+		if (value instanceof OffsetDateTime) {
+			return ((OffsetDateTime)value).toInstant().toString();
+		}
+		if (value instanceof Instant) {
+			return value.toString();
+		}
+		if (value instanceof Timestamp) {
+			return ((Timestamp)value).toInstant().toString();
+		}
+		return value.toString();
+	}
+
+	static long parseLong(String name, String value) throws BrixException {
+		try {
+			return Long.parseLong(value);
+		}
+		catch (NumberFormatException e) {
+			throw new BrixException("Parameter " + name + " is not a number: " + value);
+		}
+	}
+
+	static int parseInt(String name, String value, int defaultValue) throws BrixException {
+		if (value == null || value.isBlank()) {
+			return defaultValue;
+		}
+		try {
+			int number = Integer.parseInt(value.trim());
+			if (number < 0) {
+				throw new BrixException("Parameter " + name + " must not be negative: " + value);
+			}
+			return number;
+		}
+		catch (NumberFormatException e) {
+			throw new BrixException("Parameter " + name + " is not a number: " + value);
+		}
+	}
+
+	/*
+	 * An ISO-8601 instant (2026-10-18T10:00:00Z) or offset date time.
+	 */
+	static OffsetDateTime parseTime(String name, String value) throws BrixException {
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		try {
+			return OffsetDateTime.parse(value.trim()).withOffsetSameInstant(ZoneOffset.UTC);
+		}
+		catch (DateTimeParseException e) {
+			throw new BrixException("Parameter " + name + " is not an ISO-8601 date time: " + value);
+		}
+	}
+
+	private ProducerTemplate getProducerTemplate() {
+		ProducerTemplate template = producerTemplate;
+		if (template == null) {
+			synchronized (this) {
+				template = producerTemplate;
+				if (template == null) {
+					template = camelContext.createProducerTemplate();
+					producerTemplate = template;
+				}
+			}
+		}
+		return template;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (producerTemplate != null) {
+			try {
+				producerTemplate.stop();
+			}
+			catch (RuntimeException e) {
+				LOG.debug("Error stopping the dead letter producer template: " + e);
+			}
+		}
+	}
+}
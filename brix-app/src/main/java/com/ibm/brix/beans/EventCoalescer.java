@@ -0,0 +1,175 @@
+//=============================================================================
+//* Name:         EventCoalescer.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  Event Coalescer bean
+//*
+//* Description:  This bean class is the aggregation strategy of the optional
+//*               coalescing stage after LoadPayload. A burst of events for one
+//*               artifact, such as an issue saved several times in a few
+//*               seconds, is collapsed into one sync of the latest state: the
+//*               latest event wins, and the group completes once no event has
+//*               arrived for the quiet period or the first event has waited
+//*               the max wait. The number of events absorbed is put on the
+//*               exchange and recorded as a metric so the window can be tuned.
+//*               The transactions of absorbed events are completed as
+//*               superseded by the latest one.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Complete the transactions of absorbed
+//*                                  events as superseded.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.time.Duration;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.enums.Status;
+import com.ibm.brix.common.model.Artifact;
+import com.ibm.brix.utils.PartitionedExecutor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class EventCoalescer implements AggregationStrategy {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private static final Logger LOG = LoggerFactory.getLogger(EventCoalescer.class);
+
+	public static final String METRIC_PREFIX = "brix.coalesce";
+
+	// Exchange property holding when the first event of the group arrived, in epoch millis.
+	private static final String FIRST_EVENT_TIME = "BRIXCoalesceFirstEventTime";
+
+	@Inject
+	MeterRegistry meterRegistry;
+
+	@Inject
+	TransactionBean transactionBean;
+
+	@ConfigProperty(name = "brix.coalesce.quiet-period", defaultValue = "PT3S")
+	Duration quietPeriod;
+
+	@ConfigProperty(name = "brix.coalesce.max-wait", defaultValue = "PT15S")
+	Duration maxWait;
+
+	private DistributionSummary eventsPerSync;
+
+	@PostConstruct
+	void init() {
+		eventsPerSync = DistributionSummary.builder(METRIC_PREFIX + ".events")
+			.description("Events collapsed into one sync by the coalescing stage")
+			.register(meterRegistry);
+		LOG.info("Event coalescing window: quietPeriod=" + quietPeriod + ", maxWait=" + maxWait);
+	}
+
+	/**
+	 * Method:  correlationKey
+	 * Returns the key events are coalesced on: the partition key of the artifact.
+	 * Exchange Expected Input:
+	 *    - Header JMSXGroupID -or- Header BRIX_SOURCE_ARTIFACT -or- Body: Artifact
+	 *
+	 * @param Exchange exchange
+	 * @return String
+	 * @throws BrixException
+	 */
+	public String correlationKey(Exchange exchange) throws BrixException {
+		if (exchange.getIn().getHeader(Constants.BRIX_SOURCE_ARTIFACT) == null && exchange.getIn().getBody() instanceof Artifact) {
+			exchange.getIn().setHeader(Constants.BRIX_SOURCE_ARTIFACT, exchange.getIn().getBody());
+		}
+		return PartitionedExecutor.partitionKey(exchange);
+	}
+
+	/**
+	 * Method:  aggregate
+	 * The latest event replaces the earlier ones of the group. The time of the group's first
+	 * event and the number of events are carried forward on the latest one. The transaction of
+	 * the event replaced is completed as superseded, so it is not left QUEUED.
+	 */
+	@Override
+	public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+		if (oldExchange == null) {
+			newExchange.setProperty(FIRST_EVENT_TIME, System.currentTimeMillis());
+			newExchange.getIn().setHeader(Constants.BRIX_COALESCED_EVENTS, 1);
+			return newExchange;
+		}
+		newExchange.setProperty(FIRST_EVENT_TIME, oldExchange.getProperty(FIRST_EVENT_TIME));
+		int events = oldExchange.getIn().getHeader(Constants.BRIX_COALESCED_EVENTS, 1, Integer.class) + 1;
+		newExchange.getIn().setHeader(Constants.BRIX_COALESCED_EVENTS, events);
+		supersede(oldExchange, newExchange);
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Coalesced event " + events + " for " + newExchange.getProperty(Exchange.AGGREGATED_CORRELATION_KEY));
+		}
+		return newExchange;
+	}
+
+	/**
+	 * Method:  completionTimeout
+	 * Returns how long the group waits for another event: the quiet period, but never past the
+	 * max wait from the group's first event.
+	 *
+	 * @param Exchange exchange (the aggregated exchange)
+	 * @return long milliseconds
+	 */
+	public long completionTimeout(Exchange exchange) {
+		Long firstEventTime = exchange.getProperty(FIRST_EVENT_TIME, Long.class);
+		long quiet = quietPeriod.toMillis();
+		if (firstEventTime == null) {
+			return quiet;
+		}
+		long remaining = firstEventTime + maxWait.toMillis() - System.currentTimeMillis();
+		return Math.max(1, Math.min(quiet, remaining));
+	}
+
+	private void supersede(Exchange absorbed, Exchange latest) {
+		String trxId = absorbed.getIn().getHeader(Constants.BRIX_TRX_ID, String.class);
+		if (trxId == null || trxId.equals(latest.getIn().getHeader(Constants.BRIX_TRX_ID, String.class))) {
+			return;
+		}
+		absorbed.getIn().setHeader(Constants.BRIX_TRX_STATUS, Status.COMPLETED);
+		try {
+			transactionBean.updateStatus(absorbed, "Superseded by transaction " + latest.getIn().getHeader(Constants.BRIX_TRX_ID) + " (coalesced)");
+		}
+		catch (BrixException | RuntimeException e) {
+			LOG.warn("Unable to complete superseded transaction " + trxId + ": " + e);
+		}
+	}
+
+	@Override
+	public void onCompletion(Exchange exchange) {
+		int events = exchange.getIn().getHeader(Constants.BRIX_COALESCED_EVENTS, 1, Integer.class);
+		eventsPerSync.record(events);
+		if (events > 1) {
+			LOG.info("Coalesced " + events + " events for " + exchange.getProperty(Exchange.AGGREGATED_CORRELATION_KEY) + " into one sync; "
+				+ (events - 1) + " absorbed.");
+		}
+	}
+}
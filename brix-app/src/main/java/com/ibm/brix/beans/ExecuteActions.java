@@ -4,63 +4,548 @@
 //* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
 //*
 //* Module Name:  Execute Actions Bean
-//*                                                                
+//*
 //* Description:  This bean class provides the business logic for executing the
 //*               list of atomic actions to be performed for this Exchange.
 //*               The actions contain enough information on what the action
 //*               is, and where it is to be performed (the target endpoint
 //*               system, the source endpoint system, or something local to
 //*               BrIX operational data), and calls the appropriate endpoint
-//*               custom Camel component to perform the action. 
+//*               custom Camel component to perform the action.
+//*
+//*               The actions are run as the AtomicActionPlan built by
+//*               BuildAtomicActions, one endpoint call per atomic action:
+//*               each one runs as soon as the ones it depends on have
+//*               succeeded, so independent ones run at the same time,
+//*               limited per endpoint by its action bulkhead. The plan keeps
+//*               each step's outcome; when the exchange is retried only the
+//*               steps that did not succeed are run again. A durable retry
+//*               replays the stored message, so the plan is rebuilt and the
+//*               successful steps saved with it (BRIX_ATOMIC_ACTIONS_DONE)
+//*               are restored before it runs. A call refused by
+//*               an open circuit fails the exchange with a
+//*               CircuitOpenException, so it can be parked and resumed.
+//*               Each call first takes a token from the endpoint's rate
+//*               limit, and its response (CamelHttpResponseCode and the
+//*               Retry-After and RateLimit headers, when the component sets
+//*               them) adapts that limit. The ETag and Last-Modified the
+//*               target's last write returned are put on the exchange, so
+//*               its snapshot can be validated on the next sync.
 //*
 //* (C) Copyright IBM Corporation 2025
 //*
-//* The Source code for this program is not published or otherwise     
-//* divested of its trade secrets, irrespective of what has been       
-//* deposited with the U.S. Copyright Office.                           
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
 //*
-//* Note to U.S. Government Users Restricted Rights:  Use, 
-//* duplication or disclosure restricted by GSA ADP Schedule 
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
 //* Contract with IBM Corp.
-//*                                                                 
+//*
 //* Change Log:
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*        129153 20250307 tmueller  New stub source file created.
-//*                                                                 
+//*               20261018 agent     Execute the ActionList with one combined
+//*                                  call per artifact update, pipelined calls
+//*                                  and a result per action.
+//*               20261018 agent     Run the AtomicActionPlan graph and resume
+//*                                  it from the failed steps on a retry.
+//*               20261018 agent     Send the endpoint calls asynchronously, so
+//*                                  no thread waits on a call in flight.
+//*               20261018 agent     Make the calls through the endpoint's
+//*                                  action bulkhead and circuit breaker.
+//*               20261018 agent     Make the calls within the endpoint's rate
+//*                                  limit.
+//*               20261018 agent     Restore the steps a durable retry saved as
+//*                                  successful.
+//*               20261018 agent     Return the ETag and Last-Modified of the
+//*                                  target's last write, for its snapshot.
+//*
 //* Additional notes about the Change Activity:
-//*                                                                 
+//*
 //=============================================================================
 package com.ibm.brix.beans;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.ExchangeBuilder;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.ibm.brix.BrixException;
+import com.ibm.brix.CircuitOpenException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.enums.ResourceSide;
+import com.ibm.brix.common.enums.SystemType;
+import com.ibm.brix.common.model.ArtifactKey;
+import com.ibm.brix.factories.SystemTypeRegistry;
+import com.ibm.brix.managers.ActionMgr;
+import com.ibm.brix.model.Action;
+import com.ibm.brix.plans.AtomicActionPlan;
+import com.ibm.brix.plans.AtomicActionPlan.Step;
+import com.ibm.brix.plans.AtomicActionPlan.StepStatus;
+import com.ibm.brix.utils.EndpointGuards;
+import com.ibm.brix.utils.EndpointGuards.CallKind;
+import com.ibm.brix.utils.EndpointRateLimiter;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
 public class ExecuteActions {
 	/* CopyRight */
 	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2025 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
 
 	private static final Logger LOG = LoggerFactory.getLogger(ExecuteActions.class);
 
+	public static final String METRIC_PREFIX = "brix.actions";
+
+	@Inject
+	CamelContext camelContext;
+
+	@Inject
+	MeterRegistry meterRegistry;
+
+	@Inject
+	EndpointGuards endpointGuards;
+
+	@Inject
+	EndpointRateLimiter rateLimiter;
+
+	@ConfigProperty(name = "brix.actions.pool-size", defaultValue = "16")
+	int poolSize;
+
+	@ConfigProperty(name = "brix.actions.max-queue-size", defaultValue = "1000")
+	int maxQueueSize;
+
+	@ConfigProperty(name = "brix.actions.timeout", defaultValue = "PT120S")
+	Duration timeout;
+
+	private volatile ExecutorService executor;
+	private volatile ProducerTemplate producerTemplate;
+
+	private Counter calls;
+	private Counter reused;
+	private DistributionSummary actionsPerCall;
+	private final Map<StepStatus, Counter> results = new EnumMap<>(StepStatus.class);
+
+	/**
+	 * The result of one action of the ActionList: the outcome of the atomic action (step) that
+	 * performed it.
+	 */
+	public static final class ActionResult {
+		private final Action action;
+		private final StepStatus status;
+		private final int step;
+		private final Throwable exception;
+		private final long elapsedMillis;
+
+		ActionResult(Action action, Step step) {
+			this.action = action;
+			this.status = step.getStatus();
+			this.step = step.getId();
+			this.exception = step.getException();
+			this.elapsedMillis = step.getElapsedMillis();
+		}
+
+		public Action getAction() {
+			return action;
+		}
+
+		public StepStatus getStatus() {
+			return status;
+		}
+
+		public boolean isSuccess() {
+			return status == StepStatus.SUCCESS;
+		}
+
+		/** The id of the step that performed the action; actions combined into one call share it. */
+		public int getStep() {
+			return step;
+		}
+
+		public Throwable getException() {
+			return exception;
+		}
+
+		/** How long the endpoint call took, including waiting for the endpoint's concurrency limit. */
+		public long getElapsedMillis() {
+			return elapsedMillis;
+		}
+
+		@Override
+		public String toString() {
+			return "Action '" + action.getActionName() + "' (" + action.getActionCommand().getName() + ") step " + step + ": " + status + " in " + elapsedMillis + "ms"
+				+ (exception == null ? "" : " (" + exception.getMessage() + ")");
+		}
+	}
+
+	@PostConstruct
+	void init() {
+		calls = Counter.builder(METRIC_PREFIX + ".calls")
+			.description("Endpoint calls made to perform actions")
+			.register(meterRegistry);
+		reused = Counter.builder(METRIC_PREFIX + ".steps.reused")
+			.description("Atomic actions not run again on a retry, as they succeeded before")
+			.register(meterRegistry);
+		actionsPerCall = DistributionSummary.builder(METRIC_PREFIX + ".per.call")
+			.description("Actions performed by one endpoint call")
+			.register(meterRegistry);
+		for (StepStatus status : List.of(StepStatus.SUCCESS, StepStatus.FAILED, StepStatus.SKIPPED, StepStatus.TIMED_OUT)) {
+			results.put(status, Counter.builder(METRIC_PREFIX + ".results")
+				.description("Actions executed, by result")
+				.tag("status", status.name().toLowerCase(Locale.ROOT))
+				.register(meterRegistry));
+		}
+	}
+
 	/**
 	 * Method:  executeActions
-	 * Processes the list of atomic actions to be performed and calls the appropriate custom Camel component for each action.
+	 * Processes the list of atomic actions to be performed and calls the appropriate custom Camel
+	 * component for each action. Each step of the plan is sent to the Action Manager's action URI
+	 * on its own exchange, with the combined action in the BRIX_ACTION header and its artifact as
+	 * the body; the component sets BRIX_RESULT_SUCCESS to false or throws to fail it, and sets
+	 * BRIX_ACTION_ARTIFACT_KEY after a create; CamelHttpResponseCode and the Retry-After and RateLimit
+	 * headers it sets adapt the endpoint's rate limit, and the ETag and Last-Modified it sets are
+	 * kept on the step. A step runs once every step it depends on has
+	 * succeeded, and is skipped if one of them did not. When the exchange already carries a plan
+	 * that was run before, only its unsuccessful steps are run.
 	 * Exchange Expected Input:
-	 *    - Header BRIX_ATOMIC_ACTIONS
+	 *    - Header BRIX_ATOMIC_ACTIONS (from BuildAtomicActions), or
+	 *    - Body: ActionList (from FireRuleActionConfigs), which is built into the plan here
+	 *    - Header BRIX_ATOMIC_ACTIONS_DONE (optional, from a durable retry): the steps that succeeded
 	 * Exchange Output:
-	 *    - (none)
-	 * 
+	 *    - Header BRIX_ATOMIC_ACTIONS: the plan, with the outcome of each step
+	 *    - Header BRIX_ACTION_RESULTS: List<ActionResult>, in ActionList order
+	 *    - Header BRIX_RESULT_SUCCESS: true only if every action succeeded
+	 *    - Header BRIX_ACTION_ARTIFACT_KEY, when an artifact was created
+	 *    - Header ETag and Last-Modified: those of the last successful write to the target, removed
+	 *      if it returned none
+	 *    - Header BRIX_ENDPOINT_CIRCUIT, when an open circuit refused a call
+	 *
 	 * @param Exchange exchange (Provided by Camel)
-	 * @return (void)
+	 * @return List<ActionResult>
+	 * @throws CircuitOpenException if an open circuit refused a call; the headers are set first
 	 * @throws BrixException
 	 */
-	public void executeActions(Exchange exchange) throws BrixException {
-        LOG.info("Processing each atomic Action - Start");
+	public List<ActionResult> executeActions(Exchange exchange) throws BrixException {
+		LOG.info("Processing each atomic Action - Start");
+
+		AtomicActionPlan plan = exchange.getIn().getHeader(Constants.BRIX_ATOMIC_ACTIONS, AtomicActionPlan.class);
+		if (plan == null) {
+			plan = new BuildAtomicActions().buildAtomicActions(exchange);
+			String done = exchange.getIn().getHeader(Constants.BRIX_ATOMIC_ACTIONS_DONE, String.class);
+			if (done != null) {
+				LOG.info("Restored " + plan.restoreOutcomes(done) + " successful steps saved by the retry.");
+			}
+		}
+		int pending = plan.prepareRetry();
+		int done = plan.getSteps().size() - pending;
+		if (done > 0) {
+			reused.increment(done);
+			LOG.info("Resuming actions: " + done + " of " + plan.getSteps().size() + " steps already succeeded.");
+		}
+		LOG.info("Executing " + plan.getActions().size() + " actions in " + pending + " endpoint calls.");
+
+		Map<SystemType, ActionMgr> actionMgrs = new HashMap<>();
+		for (Step step : plan.getSteps()) {
+			SystemType systemType = step.getAction().getSystemType();
+			if (!actionMgrs.containsKey(systemType)) {
+				actionMgrs.put(systemType, SystemTypeRegistry.getInstance().getActionMgr(systemType, exchange));
+			}
+		}
+
+		if (pending == 1 && plan.getSteps().size() == 1) {
+			// A single call gains nothing from the pool, so it is made from the caller's thread.
+			await(plan, List.of(perform(exchange, plan, plan.getSteps().get(0), actionMgrs)));
+		}
+		else if (pending > 0) {
+			performConcurrently(exchange, plan, actionMgrs);
+		}
+
+		List<ActionResult> actionResults = new ArrayList<>(plan.getActions().size());
+		boolean success = true;
+		for (int position = 0; position < plan.getActions().size(); position++) {
+			ActionResult result = new ActionResult(plan.getActions().get(position), plan.getStepFor(position));
+			actionResults.add(result);
+			Counter counter = results.get(result.getStatus());
+			if (counter != null) {
+				counter.increment();
+			}
+			if (!result.isSuccess()) {
+				success = false;
+				LOG.error(result.toString());
+			}
+			else if (LOG.isDebugEnabled()) {
+				LOG.debug(result.toString());
+			}
+		}
+		Step lastWrite = null;
+		for (Step step : plan.getSteps()) {
+			if (step.getCreatedKey() != null) {
+				exchange.getIn().setHeader(Constants.BRIX_ACTION_ARTIFACT_KEY, step.getCreatedKey());
+			}
+			if (step.isSuccess() && step.getAction().getResourceSide() == ResourceSide.TARGET
+					&& (lastWrite == null || step.getFinishedNanos() - lastWrite.getFinishedNanos() > 0)) {
+				lastWrite = step;
+			}
+		}
+		// The target's validators after its last write, for its snapshot (TargetSnapshotCheck.record);
+		// any the exchange had from before the write are stale.
+		if (lastWrite != null) {
+			setOrRemove(exchange, TargetSnapshotCheck.HTTP_ETAG, lastWrite.getEtag());
+			setOrRemove(exchange, TargetSnapshotCheck.HTTP_LAST_MODIFIED, lastWrite.getLastModified());
+		}
+
+		LOG.info("Processing each atomic Action - End: " + plan.getActions().size() + " actions, success=" + success);
+		exchange.getIn().setHeader(Constants.BRIX_ATOMIC_ACTIONS, plan);
+		exchange.getIn().setHeader(Constants.BRIX_ACTION_RESULTS, Collections.unmodifiableList(actionResults));
+		exchange.getIn().setHeader(Constants.BRIX_RESULT_SUCCESS, success);
+		for (Step step : plan.getSteps()) {
+			if (step.getException() instanceof CircuitOpenException) {
+				CircuitOpenException open = (CircuitOpenException) step.getException();
+				exchange.getIn().setHeader(Constants.BRIX_ENDPOINT_CIRCUIT, open.getEndpoint() + " " + endpointGuards.getState(open.getEndpoint()));
+				throw open;
+			}
+		}
+		return actionResults;
+	}
+
+	/*
+	 * Starts each step once the steps it depends on have completed. The steps are in dependency
+	 * order, so their futures exist before any step that waits for them.
+	 */
+	private void performConcurrently(Exchange exchange, AtomicActionPlan plan, Map<SystemType, ActionMgr> actionMgrs) {
+		ExecutorService pool = getExecutor();
+		Map<Integer, CompletableFuture<Boolean>> futures = new HashMap<>();
+		for (Step step : plan.getSteps()) {
+			if (step.isSuccess()) {
+				futures.put(step.getId(), CompletableFuture.completedFuture(true));
+				continue;
+			}
+			List<CompletableFuture<Boolean>> dependencies = new ArrayList<>(step.getDependsOn().size());
+			for (int id : step.getDependsOn()) {
+				dependencies.add(futures.get(id));
+			}
+			CompletableFuture<Boolean> future = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0])).thenCompose(v -> {
+				for (CompletableFuture<Boolean> dependency : dependencies) {
+					if (!Boolean.TRUE.equals(dependency.join())) {
+						step.finish(StepStatus.SKIPPED, new BrixException("A step it depends on did not succeed."), 0);
+						return CompletableFuture.completedFuture(false);
+					}
+				}
+				return submit(pool, exchange, plan, step, actionMgrs);
+			});
+			futures.put(step.getId(), future);
+		}
+		await(plan, futures.values());
+	}
+
+	/*
+	 * Waits for the steps' calls, up to the timeout; any step not finished by then is timed out.
+	 */
+	private void await(AtomicActionPlan plan, Collection<CompletableFuture<Boolean>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException e) {
+			LOG.error("Actions did not complete within " + timeout + "; the unfinished steps are reported as timed out.");
+		}
+		catch (ExecutionException e) {
+			LOG.error("Error executing actions: " + e.getCause());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		for (Step step : plan.getSteps()) {
+			step.finish(StepStatus.TIMED_OUT, new TimeoutException("Step did not complete within " + timeout), timeout.toMillis());
+		}
+	}
+
+	private CompletableFuture<Boolean> submit(ExecutorService pool, Exchange exchange, AtomicActionPlan plan, Step step, Map<SystemType, ActionMgr> actionMgrs) {
+		try {
+			return CompletableFuture.supplyAsync(() -> perform(exchange, plan, step, actionMgrs), pool).thenCompose(call -> call);
+		}
+		catch (RejectedExecutionException e) {
+			step.finish(StepStatus.FAILED, e, 0);
+			return CompletableFuture.completedFuture(false);
+		}
+	}
+
+	/*
+	 * Sends the endpoint call of one step, once the endpoint's rate limit allows it, through the
+	 * endpoint's action bulkhead and circuit breaker. The call is asynchronous: the future
+	 * completes, true if the call succeeded, once its outcome has been recorded on the step.
+	 */
+	private CompletableFuture<Boolean> perform(Exchange exchange, AtomicActionPlan plan, Step step, Map<SystemType, ActionMgr> actionMgrs) {
+		if (!step.start()) {
+			return CompletableFuture.completedFuture(step.isSuccess());
+		}
+		long start = System.nanoTime();
+		Action action = step.getAction();
+		// An artifact created by an earlier step is acted on by its new key.
+		for (int id : step.getDependsOn()) {
+			ArtifactKey createdKey = plan.getStep(id).getCreatedKey();
+			if (createdKey != null) {
+				action.setArtifactKey(createdKey);
+			}
+		}
+
+		List<Action> combined = new ArrayList<>(step.getPositions().size());
+		for (int position : step.getPositions()) {
+			combined.add(plan.getActions().get(position));
+		}
+		String endpoint = BuildAtomicActions.endpointKey(action);
+		String actionUri = actionMgrs.get(action.getSystemType()).getActionUri(action);
+		Function<Void, CompletableFuture<Exchange>> call = token -> endpointGuards.<Exchange>call(endpoint, CallKind.ACTION, () -> {
+			Exchange request = ExchangeBuilder.anExchange(camelContext)
+				.withBody(action.getActionArtifact())
+				.withHeader(Constants.BRIX_ACTION, action)
+				.withHeader(Constants.BRIX_COMBINED_ACTIONS, combined)
+				.withHeader(Constants.BRIX_TRX_ID, exchange.getIn().getHeader(Constants.BRIX_TRX_ID))
+				.withHeader(Constants.BRIX_BROUTE, exchange.getIn().getHeader(Constants.BRIX_BROUTE))
+				.withHeader(Constants.BRIX_ARTIFACT_RELATIONSHIPS, exchange.getIn().getHeader(Constants.BRIX_ARTIFACT_RELATIONSHIPS))
+				.build();
+			return getProducerTemplate().asyncSend(actionUri, request);
+		}, reply -> reply.getException() != null);
+		CompletableFuture<Void> permit = (endpoint.isEmpty() ? CompletableFuture.completedFuture(null) : rateLimiter.acquire(endpoint));
+		// A call that had to wait for its token is sent from the action pool, not the rate limiter's thread.
+		CompletableFuture<Exchange> sent = (permit.isDone() ? permit.thenCompose(call) : permit.thenComposeAsync(call, getExecutor()));
+		return sent.handle((reply, failure) -> {
+			Throwable exception = (failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+			if (exception == null) {
+				calls.increment();
+				actionsPerCall.record(step.getPositions().size());
+				exception = reply.getException();
+				onResponse(endpoint, reply);
+			}
+			if (exception != null || Boolean.FALSE.equals(reply.getIn().getHeader(Constants.BRIX_RESULT_SUCCESS, Boolean.class))) {
+				step.finish(StepStatus.FAILED, exception, elapsed(start));
+				return false;
+			}
+			step.setCreatedKey(reply.getIn().getHeader(Constants.BRIX_ACTION_ARTIFACT_KEY, ArtifactKey.class));
+			step.setValidators(reply.getIn().getHeader(TargetSnapshotCheck.HTTP_ETAG, String.class),
+				reply.getIn().getHeader(TargetSnapshotCheck.HTTP_LAST_MODIFIED, String.class));
+			return step.finish(StepStatus.SUCCESS, null, elapsed(start));
+		});
+	}
+
+	/*
+	 * Feeds the endpoint's answer to its rate limit. A call that failed without a status code got
+	 * no answer from the endpoint, so there is nothing to adapt to.
+	 */
+	private void onResponse(String endpoint, Exchange reply) {
+		if (endpoint.isEmpty()) {
+			return;
+		}
+		Integer statusCode = reply.getIn().getHeader(Exchange.HTTP_RESPONSE_CODE, Integer.class);
+		if (statusCode == null) {
+			if (reply.getException() != null) {
+				return;
+			}
+			statusCode = 200;
+		}
+		Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		for (String name : EndpointRateLimiter.RESPONSE_HEADERS) {
+			String value = reply.getIn().getHeader(name, String.class);
+			if (value != null) {
+				headers.put(name, value);
+			}
+		}
+		rateLimiter.onResponse(endpoint, statusCode, headers);
+	}
+
+	private static void setOrRemove(Exchange exchange, String name, String value) {
+		if (value == null) {
+			exchange.getIn().removeHeader(name);
+		}
+		else {
+			exchange.getIn().setHeader(name, value);
+		}
+	}
+
+	private static long elapsed(long start) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+
+	private ExecutorService getExecutor() {
+		ExecutorService pool = executor;
+		if (pool == null) {
+			synchronized (this) {
+				pool = executor;
+				if (pool == null) {
+					ThreadPoolProfile profile = new ThreadPoolProfile("ExecuteActions");
+					profile.setPoolSize(poolSize);
+					profile.setMaxPoolSize(poolSize);
+					profile.setMaxQueueSize(maxQueueSize);
+					profile.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+					pool = camelContext.getExecutorServiceManager().newThreadPool(this, "ExecuteActions", profile);
+					executor = pool;
+					LOG.info("Action pool created: poolSize=" + poolSize + ", maxQueueSize=" + maxQueueSize + ", timeout=" + timeout);
+				}
+			}
+		}
+		return pool;
+	}
+
+	private ProducerTemplate getProducerTemplate() {
+		ProducerTemplate template = producerTemplate;
+		if (template == null) {
+			synchronized (this) {
+				template = producerTemplate;
+				if (template == null) {
+					template = camelContext.createProducerTemplate();
+					// Complete asynchronous sends from the route itself, not a thread blocked on each one.
+					template.setThreadedAsyncMode(false);
+					producerTemplate = template;
+				}
+			}
+		}
+		return template;
+	}
 
-        // ??? What do we want to return here if anything?
-        return;
+	@PreDestroy
+	void shutdown() {
+		if (executor != null) {
+			camelContext.getExecutorServiceManager().shutdown(executor);
+		}
+		if (producerTemplate != null) {
+			try {
+				producerTemplate.stop();
+			}
+			catch (RuntimeException e) {
+				LOG.debug("Error stopping the action producer template: " + e);
+			}
+		}
 	}
 }
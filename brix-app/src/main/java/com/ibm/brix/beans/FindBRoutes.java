@@ -24,6 +24,7 @@
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20231107 tollefso  New source file created.
 //*               20250311 tmueller  Refactored as FindBRoutes bean class.
+//*               20261018 agent     Pin the exchange to its BRoute snapshot.
 //*                                                                 
 //* Additional notes about the Change Activity:
 //*                                                                 
@@ -39,6 +40,7 @@ import com.ibm.brix.BrixException;
 import com.ibm.brix.Constants;
 import com.ibm.brix.common.model.Artifact;
 import com.ibm.brix.model.BRouteList;
+import com.ibm.brix.utils.BRouteSnapshot;
 import com.ibm.brix.utils.Config;
 
 public class FindBRoutes {
@@ -48,11 +50,14 @@ public class FindBRoutes {
 
 	/**
 	 * Method:  findBRoutes
-	 * Finds the BRoutes in scope for the source Artifact.
+	 * Finds the BRoutes in scope for the source Artifact. The exchange is pinned to the BRoute
+	 * snapshot used for the lookup, so the rest of the transaction keeps using that version even
+	 * if the BRoute configuration is reloaded while it is in flight.
 	 * Exchange Expected Input:
 	 *    - Header BRIX_SOURCE_ARTIFACT
 	 * Exchange Output:
-	 *    - (none)
+	 *    - Header BRIX_BROUTE_VERSION
+	 *    - Property BRIX_BROUTE_SNAPSHOT
 	 * 
 	 * @param Exchange exchange
 	 * @return BRouteList
@@ -65,7 +70,11 @@ public class FindBRoutes {
         Artifact srcArtifact = (Artifact)exchange.getIn().getHeader(Constants.BRIX_SOURCE_ARTIFACT);
         LOG.info("Finding BRoutes for Artifact " + srcArtifact.getFullPath() + " with type " + srcArtifact.getArtifactType().getName());
 
-		BRouteList brouteList = Config.findMatchingBRoutes(srcArtifact);
+		BRouteSnapshot snapshot = Config.getBRouteSnapshot(exchange);
+		exchange.setProperty(Constants.BRIX_BROUTE_SNAPSHOT, snapshot);
+		exchange.getIn().setHeader(Constants.BRIX_BROUTE_VERSION, snapshot.getVersion());
+
+		BRouteList brouteList = Config.findMatchingBRoutes(snapshot, srcArtifact);
 		if (brouteList.size() > 0) {
 	        LOG.info("BRoutes found: " + brouteList.size());
         }
@@ -0,0 +1,208 @@
+//=============================================================================
+//* Name:         FingerprintCheck.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Fingerprint Check bean
+//*
+//* Description:  This bean class skips events which change nothing any BRoute
+//*               maps. Right after LoadPayload the fingerprint of the mapped
+//*               source attributes is compared with the one stored on the
+//*               artifact's relationships at their last successful sync; if
+//*               every relationship already has it, fetching the target,
+//*               normalizing and comparing would find no deltas and the
+//*               event is dropped. After a successful sync the fingerprint is
+//*               recorded on the relationships. The fingerprint includes the
+//*               source and target mappings, so a changed mapping is synced
+//*               again.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Hash the mapping definitions with the
+//*                                  source attributes.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.model.Artifact;
+import com.ibm.brix.common.model.ArtifactRelationship;
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.common.repositories.ArtifactRelationshipRepository;
+import com.ibm.brix.model.ArtifactRelationshipList;
+import com.ibm.brix.model.BRouteList;
+import com.ibm.brix.plans.ArtifactMapPlan;
+import com.ibm.brix.plans.BRoutePlan;
+import com.ibm.brix.plans.SourceFingerprint;
+import com.ibm.brix.utils.BRouteSnapshot;
+import com.ibm.brix.utils.Config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class FingerprintCheck {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private static final Logger LOG = LoggerFactory.getLogger(FingerprintCheck.class);
+
+	public static final String METRIC_PREFIX = "brix.fingerprint";
+
+	@Inject
+	ArtifactRelationshipRepository artifactRelationshipRepository;
+
+	@Inject
+	MeterRegistry meterRegistry;
+
+	private Counter skipped;
+	private Counter changed;
+
+	@PostConstruct
+	void init() {
+		skipped = Counter.builder(METRIC_PREFIX + ".events")
+			.description("Events checked against the fingerprint of the last synced source attributes")
+			.tag("result", "skipped")
+			.register(meterRegistry);
+		changed = Counter.builder(METRIC_PREFIX + ".events")
+			.description("Events checked against the fingerprint of the last synced source attributes")
+			.tag("result", "changed")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Method:  isUnchanged
+	 * Computes the fingerprint of the loaded artifact and returns true if every relationship of
+	 * the artifact was last synced with it, and there is at least one relationship per matched
+	 * BRoute. An artifact without relationships, or without BRoutes, is never skipped.
+	 * Exchange Expected Input:
+	 *    - Body: Artifact (from LoadPayload)
+	 * Exchange Output:
+	 *    - Header BRIX_SOURCE_FINGERPRINT (when a BRoute matched)
+	 *
+	 * @param Exchange exchange
+	 * @return boolean
+	 * @throws BrixException
+	 */
+	public boolean isUnchanged(Exchange exchange) throws BrixException {
+		Artifact artifact = exchange.getIn().getBody(Artifact.class);
+		if (artifact == null) {
+			throw new BrixException("Artifact was not found on the Exchange.");
+		}
+
+		BRouteSnapshot snapshot = Config.getBRouteSnapshot(exchange);
+		BRouteList brouteList = Config.findMatchingBRoutes(snapshot, artifact);
+		List<ArtifactMapPlan> plans = new ArrayList<>(brouteList.size() * 2);
+		boolean mapped = false;
+		for (BRoute broute : brouteList.getTheBRouteList()) {
+			BRoutePlan broutePlan = snapshot.getBRoutePlan(broute);
+			ArtifactMapPlan plan = broutePlan.getSourceArtifactMapPlan(artifact.getArtifactType());
+			if (plan != null) {
+				plans.add(plan);
+				mapped = true;
+			}
+			// What is written to the target also depends on its mapping.
+			plans.addAll(broutePlan.getTargetArtifactMapPlans());
+		}
+		if (!mapped) {
+			changed.increment();
+			return false;
+		}
+		String fingerprint = SourceFingerprint.compute(plans, artifact);
+		exchange.getIn().setHeader(Constants.BRIX_SOURCE_FINGERPRINT, fingerprint);
+
+		List<ArtifactRelationship> relationships = findRelationships(artifact);
+		boolean unchanged = relationships.size() >= brouteList.size();
+		for (int i = 0; unchanged && i < relationships.size(); i++) {
+			unchanged = fingerprint.equals(relationships.get(i).getSourceFingerprint());
+		}
+
+		if (unchanged) {
+			skipped.increment();
+			LOG.info("No mapped attribute of " + artifact.getFullPath() + " changed since the last sync; event skipped.");
+		}
+		else {
+			changed.increment();
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Source fingerprint of " + artifact.getFullPath() + " is " + fingerprint);
+			}
+		}
+		return unchanged;
+	}
+
+	/**
+	 * Method:  record
+	 * Records the fingerprint computed by isUnchanged on the relationships of the source artifact,
+	 * once the sync has succeeded. Nothing is recorded for a failed sync, so the next event for the
+	 * artifact is processed in full.
+	 * Exchange Expected Input:
+	 *    - Header BRIX_SOURCE_FINGERPRINT
+	 *    - Header BRIX_SOURCE_ARTIFACT
+	 *    - Header BRIX_RESULT_SUCCESS
+	 *
+	 * @param Exchange exchange
+	 * @throws BrixException
+	 */
+	public void record(Exchange exchange) throws BrixException {
+		String fingerprint = exchange.getIn().getHeader(Constants.BRIX_SOURCE_FINGERPRINT, String.class);
+		Artifact artifact = exchange.getIn().getHeader(Constants.BRIX_SOURCE_ARTIFACT, Artifact.class);
+		if (fingerprint == null || artifact == null || exchange.getException() != null
+				|| !Boolean.TRUE.equals(exchange.getIn().getHeader(Constants.BRIX_RESULT_SUCCESS, Boolean.class))) {
+			return;
+		}
+
+		List<ArtifactRelationship> relationships = findRelationships(artifact);
+		List<Long> ids = new ArrayList<>(relationships.size());
+		for (ArtifactRelationship relationship : relationships) {
+			// The cached relationships are shared, so the next check sees the new fingerprint at once.
+			relationship.setSourceFingerprint(fingerprint);
+			if (relationship.id != null) {
+				ids.add(relationship.id);
+			}
+		}
+		if (!ids.isEmpty()) {
+			artifactRelationshipRepository.updateSourceFingerprint(ids, fingerprint);
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Recorded source fingerprint " + fingerprint + " on " + relationships.size() + " relationships of " + artifact.getFullPath());
+		}
+	}
+
+	private static List<ArtifactRelationship> findRelationships(Artifact artifact) throws BrixException {
+		ArtifactRelationshipList relationshipList;
+		try {
+			relationshipList = Config.findMatchingArtifactRelationship(artifact);
+		}
+		catch (BrixException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw new BrixException("Unable to find the relationships of " + artifact.getFullPath() + ". " + e, e);
+		}
+		return relationshipList.getTheArtifactRelationshipList();
+	}
+}
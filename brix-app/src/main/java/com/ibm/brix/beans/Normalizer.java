@@ -22,22 +22,16 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20240215 tmueller  New source file created.
+//*               20261018 agent     Run the BRoute's precompiled ArtifactMapPlan
+//*                                  instead of interpreting the GenAttrMaps.
+//*               20261018 agent     Implement the COMPOSE trait with the
+//*                                  plan's pre-parsed templates.
 //*                                                                 
 //* Additional notes about the Change Activity:
 //*                                                                 
 //=============================================================================
 package com.ibm.brix.beans;
 
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.zone.ZoneRulesException;
-import java.util.List;
-import java.util.Map;
-
 import org.apache.camel.Exchange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,16 +39,12 @@ import org.slf4j.LoggerFactory;
 import com.ibm.brix.BrixException;
 import com.ibm.brix.Constants;
 import com.ibm.brix.common.enums.ArtifactType;
-import com.ibm.brix.common.enums.AttributeType;
-import com.ibm.brix.common.enums.ResourceSide;
-import com.ibm.brix.common.enums.Trait;
 import com.ibm.brix.common.model.Artifact;
-import com.ibm.brix.common.model.ArtifactMap;
-import com.ibm.brix.common.model.AttributeProperties;
 import com.ibm.brix.common.model.BRoute;
-import com.ibm.brix.common.model.GenAttrMap;
-import com.ibm.brix.common.model.GenValueMap;
 import com.ibm.brix.model.GenericArtifact;
+import com.ibm.brix.plans.ArtifactMapPlan;
+import com.ibm.brix.plans.AttributeConverter;
+import com.ibm.brix.utils.Config;
 
 
 public class Normalizer {
@@ -90,140 +80,46 @@ public class Normalizer {
         	throw new BrixException("Artifact was not found on the Exchange.");
         }
 
-        LOG.info("broute: " + broute.toString());
+        if (LOG.isDebugEnabled()) {
+        	LOG.debug("broute: " + broute.toString());
+        }
 
-        // When normalizing, we get the artifact's source artifact mappings.
+        // When normalizing, we get the artifact's source artifact mappings, compiled into a plan when the BRoute snapshot was built.
         ArtifactType artifactType = artifact.getArtifactType();
-		ArtifactMap sourceArtifactMap = broute.getSourceArtifactMap(artifactType);
-		if (sourceArtifactMap == null) {
+		ArtifactMapPlan sourceArtifactMapPlan = Config.getBRoutePlan(exchange, broute).getSourceArtifactMapPlan(artifactType);
+		if (sourceArtifactMapPlan == null) {
         	throw new BrixException("The Source Artifact Map configuration for artifact type " + artifactType + " was not found on the BRoute.");
 		}
-        LOG.info("sourceArtifactMap: " + sourceArtifactMap.toString());
-		List<GenAttrMap> genAttrMaps = sourceArtifactMap.getAttributeMaps();
 
 		// Create a new Generic Artifact and load its contents
 		GenericArtifact genericArtifact = new GenericArtifact();
 		
-		// Pass 1 - Loop through all the generic attribute mapping configurations, which contains the list of attributes that need to be created on the Generic Artifact,
-		//          and create a new generic attribute to be added to the Generic Artifact.
-        LOG.info("Starting Pass 1");
-		for (GenAttrMap genAttrMap : genAttrMaps) {
-	        LOG.info("genAttrMap: " + genAttrMap.toString());
+		// Pass 1 - Loop through all the generic attribute converters, one per generic attribute mapping configuration, which contains the list of attributes
+		//          that need to be created on the Generic Artifact, and create a new generic attribute to be added to the Generic Artifact.
+		//          The converter does the special handling of DATE and ENUM values.
+        LOG.debug("Starting Pass 1");
+		for (AttributeConverter converter : sourceArtifactMapPlan.getConverters()) {
 			// Attempt to use the original value object from the Source Artifact. If it doesn't exist, then the value will be null (for now).
-			String attributeName = genAttrMap.getAttributeName();
-			AttributeType attributeType = genAttrMap.getAttributeType();
-			String genericName = genAttrMap.getGenericName();
-			Object value = artifact.getAttributeValue(attributeName);
-			LOG.info("Creating generic attribute '" + genericName + "' based on source attribute '" + attributeName + "'");
-			
-			// Special handling of the source attribute's value to the generic value based on the attribute type.
-			switch (attributeType) {
-				case DATE:
-					LOG.info("Date type found: Converting attribute date value to generic Instant: " + value);
-					String pattern = genAttrMap.getAttributeTrait(Trait.PATTERN);
-					value = convertToGenericDate(value, pattern);
-					break;
-				case ENUM:
-					LOG.info("Enum type found: Determining generic attribute based on value map for attribute value: " + value);
-					value = computeGenericValueFromValueMap(value, genAttrMap.getToGenericValueMap());
-					break;
-				default:
-					break;
+			Object value = converter.convert(artifact.getAttributeValue(converter.getFromName()));
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Created generic attribute '" + converter.getToName() + "' based on source attribute '" + converter.getFromName() + "'");
 			}
-			
+
 			// Add the newly formed generic attribute to the Generic Artifact.
-			genericArtifact.addAttribute(genericName, value, genAttrMap.getAttributeTraits(), attributeType);
+			genericArtifact.addAttribute(converter.getToName(), value, converter.getAttributeTraits(), converter.getAttributeType());
 		}
 		
-		// Pass 2 - Loop through all the new Generic Artifact attributes. If there is an attribute "compose" trait associated with it, this tells us we need to
-		// compose the value based on the trait's incantation. Assign this composed value.
-        LOG.info("Starting Pass 2");
-		Map<String,AttributeProperties> genericAttributes = genericArtifact.getAttributes();
-		for (Map.Entry<String, AttributeProperties> genericAttribute : genericAttributes.entrySet()) {
-			String composeTrait = genericArtifact.getAttributeTrait(genericAttribute.getKey(), Trait.COMPOSE);
-			if (composeTrait != null) {
-				String value = composeValue(composeTrait);
-				genericArtifact.setAttributeValue(genericAttribute.getKey(), value);
-			}
+		// Pass 2 - Loop through the attributes that have a "compose" trait, which tells us we need to compose the value based on the trait's
+		//          incantation. The templates were parsed when the plan was compiled. Assign each composed value in place.
+        LOG.debug("Starting Pass 2");
+		for (AttributeConverter converter : sourceArtifactMapPlan.getComposedConverters()) {
+			genericArtifact.setAttributeValue(converter.getToName(), converter.compose(genericArtifact));
 		}
 
-        LOG.info("Created GenericArtifact: " + genericArtifact.toString());
+        if (LOG.isDebugEnabled()) {
+        	LOG.debug("Created GenericArtifact: " + genericArtifact.toString());
+        }
 
         return genericArtifact;
 	}
-
-
-	/**
-	 * Method:  convertToGenericDate
-	 * Convert the given source attribute date value into an Instant date object, using the pattern to determine the value's format.
-	 * 
-	 * @param Object value
-	 * @param String pattern
-	 * @return Instant The date object representation of the attribute value.
-	 * @throws BrixException 
-	 */
-	private Instant convertToGenericDate(Object value, String pattern) throws BrixException {
-		try {
-			String dateStr = (String) value.toString();
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
-			LocalDateTime localDateTime = LocalDateTime.parse(dateStr, formatter);
-			ZonedDateTime zonedDateTime = localDateTime.atZone(ZoneId.of(Constants.TIMEZONE_UTC)); 
-			Instant dateInstant = zonedDateTime.toInstant();
-			return dateInstant;
-		}
-		catch (IllegalArgumentException|DateTimeParseException|ZoneRulesException e) {
-	        LOG.error("Date conversion exeption: " + e);
-	        throw new BrixException(e);
-		}
-	}
-
-
-	/**
-	 * Method:  computeGenericValueFromValueMap
-	 * Determines the generic value to use for this generic attribute, based on the value map configuration.
-	 * 
-	 * @param Object value
-	 * @param List<GenValueMap> valueMapList
-	 * @return String The generic value to use.
-	 */
-	private String computeGenericValueFromValueMap(Object value, List<GenValueMap> valueMapList) {
-		if (value == null) {
-			return null;
-		}
-		String valueStr = (String) value.toString();
-		String genericValueStr = valueStr;
-
-		// Look up the current attribute value in the value map list. If found, send back the mapped generic value.
-		boolean found = false;
-		for (GenValueMap valueMap : valueMapList) {
-			// ??? Do we need to presort the list by order?  What does this give us?
-			LOG.info("==>Lookup valueStr '" + genericValueStr + "' on value map: " + valueMap.toString());
-			// Since we are normalizing a source attribute to a generic attribute, the resource side is 'source'.
-			if ((valueMap.getResourceSide() == ResourceSide.SOURCE) && (valueMap.getAttributeValue().equals(valueStr))) {
-				genericValueStr = valueMap.getGenericValue();
-				found = true;
-				break;
-			}
-		}
-		
-		if (!found) {
-			LOG.warn("Attribute enum value '" + valueStr + "' was not found in the Generic Value Map configuration. Using the original enum value for the generic attribute value.");
-		}
-		return genericValueStr;
-	}
-
-
-	/**
-	 * Method:  composeValue
-	 * Using the "compose" trait on the generic attribute, constructs the value for the attribute.
-	 * 
-	 * @param String trait
-	 * @return String The composed attribute value to use.
-	 */
-	private String composeValue(String composeTrait) {
-		String value = "";
-		// Process the compose trait for constructing the value.
-		// TODO
-		return value;
-	}
 }
@@ -0,0 +1,794 @@
+//=============================================================================
+//* Name:         RetryScheduler.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Retry Scheduler bean
+//*
+//* Description:  This bean class re-drives failed exchanges. OnException
+//*               stores the failed unit of work (the message as it entered
+//*               the route, with its simple headers) in the retry_queue table
+//*               with the URI of that route and the time of the next attempt,
+//*               after a jittered exponential backoff. The retry-due Quartz
+//*               route claims the due retries in batches (SKIP LOCKED, so
+//*               several instances share the work) and replays each batch
+//*               in process through its route, from the route's consumer, so
+//*               a route fed by a queue (jms:) processes it rather than
+//*               enqueueing it again. Each batch is finished before the next
+//*               is claimed, so a backlog after a target outage drains
+//*               quickly without sending it all to the target at once. A retry that succeeds is
+//*               deleted; retries whose attempts are used up are moved to
+//*               the DeadLetterStore.
+//*               Only failures that may pass are retried (isRetryable); the
+//*               others go to the DeadLetterStore at once. The stored
+//*               headers keep the message group (JMSXGroupID), so a retry is
+//*               ordered like the original, and the successful steps of the
+//*               AtomicActionPlan (BRIX_ATOMIC_ACTIONS_DONE), so a retry
+//*               does not repeat the creates and comments that were made.
+//*               Exchanges refused by an open circuit are stored the same
+//*               way, PARKED until EndpointGuards releases them when the
+//*               circuit half opens or closes, so they survive a restart
+//*               and are replayed from the start of the pipeline.
+//*               The table comes from the Flyway migrations in flyway/db.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Move exhausted retries to the
+//*                                  DeadLetterStore, with their stage.
+//*               20261018 agent     Keep the message group and the successful
+//*                                  atomic actions; retry only failures that
+//*                                  may pass.
+//*               20261018 agent     Hold the exchanges parked by an open
+//*                                  circuit until it is released.
+//*               20261018 agent     Replay in process through the route's
+//*                                  consumer, and settle once it finished.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.io.IOException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.Message;
+import org.apache.camel.Route;
+import org.apache.camel.builder.ExchangeBuilder;
+import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibm.brix.BrixException;
+import com.ibm.brix.CircuitOpenException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.CommonConstants;
+import com.ibm.brix.common.model.Transaction;
+import com.ibm.brix.common.repositories.TransactionRepository;
+import com.ibm.brix.plans.AtomicActionPlan;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import jakarta.persistence.QueryTimeoutException;
+
+@ApplicationScoped
+public class RetryScheduler {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private static final Logger LOG = LoggerFactory.getLogger(RetryScheduler.class);
+
+	public static final String METRIC_PREFIX = "brix.retry";
+
+	// retry_queue.status
+	public static final String PENDING = "PENDING";
+	public static final String RUNNING = "RUNNING";
+	public static final String PARKED = "PARKED";
+
+	// retry_queue.stage of an exchange parked for an endpoint
+	private static final String PARKED_STAGE = "circuit ";
+
+	private static final int MAX_ERROR_LENGTH = 3000;
+	private static final int MAX_STAGE_LENGTH = 500;
+	// Causes followed to find the failure that decides whether it is retried.
+	private static final int MAX_CAUSE_DEPTH = 20;
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final TypeReference<LinkedHashMap<String, Object>> HEADERS_TYPE = new TypeReference<>() {};
+
+	private static final String INSERT =
+		"INSERT INTO public.retry_queue (trxid, replayuri, body, headers, attempts, nextattempt, lasterror, stage, status)"
+		+ " VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7, ?8, ?9)";
+
+	// The retries due first. SKIP LOCKED leaves rows another instance is claiming alone.
+	private static final String DUE =
+		"SELECT id, trxid, replayuri, body, headers, attempts FROM public.retry_queue"
+		+ " WHERE status = 'PENDING' AND nextattempt <= now() ORDER BY nextattempt LIMIT ?1 FOR UPDATE SKIP LOCKED";
+
+	private static final String CLAIM =
+		"UPDATE public.retry_queue SET status = 'RUNNING', updatetime = now() WHERE id IN (?1)";
+
+	// Retries left RUNNING by an instance that stopped while replaying them.
+	private static final String RECOVER =
+		"UPDATE public.retry_queue SET status = 'PENDING', updatetime = now() WHERE status = 'RUNNING' AND updatetime < ?1";
+
+	// Exchanges parked for an endpoint whose circuit half opened or closed, oldest first.
+	private static final String RELEASE =
+		"UPDATE public.retry_queue SET status = 'PENDING', nextattempt = now(), updatetime = now() WHERE id IN"
+		+ " (SELECT id FROM public.retry_queue WHERE status = 'PARKED' AND stage = ?1 ORDER BY id LIMIT ?2)";
+
+	// Exchanges parked for longer than parked-timeout, e.g. by an instance that stopped.
+	private static final String RECOVER_PARKED =
+		"UPDATE public.retry_queue SET status = 'PENDING', nextattempt = now(), updatetime = now() WHERE status = 'PARKED' AND updatetime < ?1";
+
+	private static final String RESCHEDULE =
+		"UPDATE public.retry_queue SET status = 'PENDING', attempts = ?2, nextattempt = ?3, lasterror = ?4, updatetime = now() WHERE id = ?1";
+
+	private static final String DELETE =
+		"DELETE FROM public.retry_queue WHERE id = ?1";
+
+	@Inject
+	EntityManager entityManager;
+
+	@Inject
+	TransactionRepository transactionRepository;
+
+	@Inject
+	DeadLetterStore deadLetterStore;
+
+	@Inject
+	CamelContext camelContext;
+
+	@Inject
+	MeterRegistry meterRegistry;
+
+	@ConfigProperty(name = "brix.retry.enabled", defaultValue = "true")
+	boolean enabled;
+
+	/** Retries of one unit of work before it is moved to the dead-letter store. */
+	@ConfigProperty(name = "brix.retry.max-attempts", defaultValue = "8")
+	int maxAttempts;
+
+	/** Delay before the first retry; each further retry waits multiplier times longer, up to max-delay. */
+	@ConfigProperty(name = "brix.retry.initial-delay", defaultValue = "PT30S")
+	Duration initialDelay;
+
+	@ConfigProperty(name = "brix.retry.multiplier", defaultValue = "2.0")
+	double multiplier;
+
+	@ConfigProperty(name = "brix.retry.max-delay", defaultValue = "PT1H")
+	Duration maxDelay;
+
+	/** Fraction of the delay taken off at random, so retries failed together are not due together. */
+	@ConfigProperty(name = "brix.retry.jitter", defaultValue = "0.5")
+	double jitter;
+
+	@ConfigProperty(name = "brix.retry.batch-size", defaultValue = "50")
+	int batchSize;
+
+	/** Upper bound of batches in one run, so a large backlog is worked off over several runs. */
+	@ConfigProperty(name = "brix.retry.max-batches", defaultValue = "20")
+	int maxBatches;
+
+	/** Pause between batches, to let the target recover. */
+	@ConfigProperty(name = "brix.retry.pause", defaultValue = "PT1S")
+	Duration pause;
+
+	/** How long a run waits for a batch to be replayed before it claims the next. */
+	@ConfigProperty(name = "brix.retry.batch-timeout", defaultValue = "PT5M")
+	Duration batchTimeout;
+
+	/** A retry still RUNNING after this long is assumed lost and made due again. */
+	@ConfigProperty(name = "brix.retry.running-timeout", defaultValue = "PT30M")
+	Duration runningTimeout;
+
+	/** An exchange parked for an open circuit is due after this long, if its circuit was not seen to close. */
+	@ConfigProperty(name = "brix.retry.parked-timeout", defaultValue = "PT5M")
+	Duration parkedTimeout;
+
+	private Counter scheduled;
+	private Counter exhausted;
+	private Counter succeeded;
+	private Counter failed;
+
+	/**
+	 * One claimed retry.
+	 */
+	static final class Retry {
+		final long id;
+		final String trxId;
+		final String replayUri;
+		final byte[] body;
+		final String headers;
+		final int attempt;
+
+		Retry(Object[] row) {
+			this.id = ((Number)row[0]).longValue();
+			this.trxId = (String)row[1];
+			this.replayUri = (String)row[2];
+			this.body = (byte[])row[3];
+			this.headers = (String)row[4];
+			this.attempt = ((Number)row[5]).intValue();
+		}
+	}
+
+	@PostConstruct
+	void init() {
+		scheduled = Counter.builder(METRIC_PREFIX + ".scheduled")
+			.description("Failed exchanges stored for a retry")
+			.register(meterRegistry);
+		exhausted = Counter.builder(METRIC_PREFIX + ".exhausted")
+			.description("Failed exchanges moved to the dead-letter store after their last retry")
+			.register(meterRegistry);
+		succeeded = Counter.builder(METRIC_PREFIX + ".replayed")
+			.description("Retries replayed to their route")
+			.tag("outcome", "success")
+			.register(meterRegistry);
+		failed = Counter.builder(METRIC_PREFIX + ".replayed")
+			.description("Retries replayed to their route")
+			.tag("outcome", "failure")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Method:  schedule
+	 * Stores the failed unit of work of the exchange for a retry after the backoff, or in the
+	 * DeadLetterStore when its attempts are used up, the failure is not retryable or retries are
+	 * off. That is the message as it entered the route when Camel keeps it
+	 * (camel.main.allow-use-original-message), otherwise the current message, replayed through
+	 * the route from its consumer, with the successful steps of the exchange's AtomicActionPlan. Sets
+	 * header BRIX_RETRY to the retry or dead letter for the transaction status. Called by
+	 * OnException.
+	 *
+	 * @param Exchange exchange (Provided by Camel)
+	 * @param Throwable cause the failure
+	 * @return boolean true if a retry is scheduled
+	 */
+	public boolean schedule(Exchange exchange, Throwable cause) {
+		if (!enabled && !deadLetterStore.isEnabled()) {
+			return false;
+		}
+		String trxId = exchange.getIn().getHeader(Constants.BRIX_TRX_ID, String.class);
+		Stored stored = Stored.of(exchange, trxId);
+		if (stored == null) {
+			return false;
+		}
+		String stage = failureStage(exchange);
+		String error = truncate(String.valueOf(cause));
+
+		int attempt = exchange.getIn().getHeader(Constants.BRIX_RETRY_ATTEMPT, 0, Integer.class) + 1;
+		boolean retryable = isRetryable(cause, exchange.getIn().getHeader(Exchange.HTTP_RESPONSE_CODE, Integer.class));
+		if (!enabled || !retryable || attempt > maxAttempts) {
+			Long id = deadLetterStore.store(trxId, stored.replayUri, stage, stored.body, stored.headers, attempt - 1, error);
+			if (enabled && retryable) {
+				exhausted.increment();
+			}
+			String retry = (!enabled ? "disabled" : !retryable ? "not retryable" : "exhausted after " + maxAttempts + " attempts")
+				+ (id == null ? "" : "; dead letter " + id);
+			exchange.getIn().setHeader(Constants.BRIX_RETRY, retry);
+			LOG.warn("Transaction " + trxId + " is not retried (" + retry + ").");
+			return false;
+		}
+		OffsetDateTime nextAttempt = OffsetDateTime.now(ZoneOffset.UTC).plus(backoff(attempt));
+		if (!insert(trxId, stored, attempt, nextAttempt, error, stage, PENDING)) {
+			return false;
+		}
+		scheduled.increment();
+		exchange.getIn().setHeader(Constants.BRIX_RETRY, attempt + " of " + maxAttempts + " at " + nextAttempt);
+		LOG.info("Transaction " + trxId + " retry " + attempt + " of " + maxAttempts + " scheduled at " + nextAttempt + ".");
+		return true;
+	}
+
+	/**
+	 * Method:  hold
+	 * Stores the unit of work of an exchange refused by an open circuit, as for a retry, but
+	 * PARKED: it is not due until release is called for the endpoint, when the circuit half opens
+	 * or closes, or until it was parked for parked-timeout (e.g. the instance that parked it
+	 * stopped). Parking does not use up an attempt. Called by EndpointGuards.park.
+	 *
+	 * @param Exchange exchange (Provided by Camel)
+	 * @param Throwable cause the CircuitOpenException
+	 * @param String endpoint whose circuit is open
+	 * @return boolean true if it is stored
+	 */
+	public boolean hold(Exchange exchange, Throwable cause, String endpoint) {
+		if (!enabled) {
+			return false;
+		}
+		String trxId = exchange.getIn().getHeader(Constants.BRIX_TRX_ID, String.class);
+		Stored stored = Stored.of(exchange, trxId);
+		if (stored == null) {
+			return false;
+		}
+		int attempt = exchange.getIn().getHeader(Constants.BRIX_RETRY_ATTEMPT, 0, Integer.class);
+		if (!insert(trxId, stored, attempt, OffsetDateTime.now(ZoneOffset.UTC), truncate(String.valueOf(cause)), parkedStage(endpoint), PARKED)) {
+			return false;
+		}
+		LOG.info("Transaction " + trxId + " parked until the circuit for " + endpoint + " closes.");
+		return true;
+	}
+
+	/**
+	 * Method:  release
+	 * Makes up to count exchanges parked for the endpoint due now, oldest first. Called by
+	 * EndpointGuards when the endpoint's circuit half opens (one, for the trial call) or closes.
+	 *
+	 * @param String endpoint
+	 * @param int count
+	 * @return int the number released
+	 */
+	public int release(String endpoint, int count) {
+		if (!enabled) {
+			return 0;
+		}
+		try {
+			int released = QuarkusTransaction.requiringNew().call(() -> entityManager.createNativeQuery(RELEASE)
+				.setParameter(1, parkedStage(endpoint))
+				.setParameter(2, count)
+				.executeUpdate());
+			if (released > 0) {
+				LOG.info("Released " + released + " exchanges parked for " + endpoint + "; they are replayed with the due retries.");
+			}
+			return released;
+		}
+		catch (RuntimeException e) {
+			LOG.error("Exchanges parked for " + endpoint + " could not be released; they are due after " + parkedTimeout + ".", e);
+			return 0;
+		}
+	}
+
+	/*
+	 * The unit of work of a failed exchange, as it is stored: the message as it entered the route
+	 * when Camel keeps it (camel.main.allow-use-original-message), otherwise the current message,
+	 * to replay through the route that consumes from its from endpoint, with the successful steps of the exchange's
+	 * AtomicActionPlan.
+	 */
+	private static final class Stored {
+		final String replayUri;
+		final byte[] body;
+		final String headers;
+
+		Stored(String replayUri, byte[] body, String headers) {
+			this.replayUri = replayUri;
+			this.body = body;
+			this.headers = headers;
+		}
+
+		/* Null, logged, if the exchange cannot be stored. */
+		static Stored of(Exchange exchange, String trxId) {
+			if (exchange.getFromEndpoint() == null) {
+				LOG.warn("Transaction " + trxId + " is not stored: the exchange did not come from a route.");
+				return null;
+			}
+			Message message = originalMessage(exchange);
+			Object value = message.getBody();
+			byte[] body = (value == null ? new byte[0]
+				: exchange.getContext().getTypeConverter().tryConvertTo(byte[].class, exchange, value));
+			if (body == null) {
+				LOG.warn("Transaction " + trxId + " is not stored: its body (" + value.getClass().getName() + ") cannot be stored.");
+				return null;
+			}
+			try {
+				Map<String, Object> headers = storedHeaders(message.getHeaders());
+				AtomicActionPlan plan = exchange.getIn().getHeader(Constants.BRIX_ATOMIC_ACTIONS, AtomicActionPlan.class);
+				if (plan != null) {
+					headers.put(Constants.BRIX_ATOMIC_ACTIONS_DONE, plan.saveOutcomes());
+				}
+				return new Stored(exchange.getFromEndpoint().getEndpointUri(), body, MAPPER.writeValueAsString(headers));
+			}
+			catch (JsonProcessingException | BrixException e) {
+				LOG.warn("Transaction " + trxId + " is not stored: its headers cannot be stored: " + e);
+				return null;
+			}
+		}
+	}
+
+	private boolean insert(String trxId, Stored stored, int attempt, OffsetDateTime nextAttempt, String error, String stage, String status) {
+		try {
+			QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery(INSERT)
+				.setParameter(1, trxId)
+				.setParameter(2, stored.replayUri)
+				.setParameter(3, stored.body)
+				.setParameter(4, stored.headers)
+				.setParameter(5, attempt)
+				.setParameter(6, nextAttempt)
+				.setParameter(7, error)
+				.setParameter(8, stage)
+				.setParameter(9, status)
+				.executeUpdate());
+			return true;
+		}
+		catch (RuntimeException e) {
+			LOG.error("Transaction " + trxId + " could not be stored for a retry.", e);
+			return false;
+		}
+	}
+
+	private static String parkedStage(String endpoint) {
+		String stage = PARKED_STAGE + endpoint;
+		return (stage.length() > MAX_STAGE_LENGTH ? stage.substring(0, MAX_STAGE_LENGTH) : stage);
+	}
+
+	/**
+	 * Method:  isRetryable
+	 * A failure is retried only when it may pass: the endpoint or database could not be reached or
+	 * did not answer in time, refused the work for now (an open circuit, a full pool, HTTP 408, 429
+	 * or 5xx) or gave up on a lock. Any other failure, such as a message or configuration that is
+	 * not valid, fails the same way again. The failure and its causes are checked.
+	 *
+	 * @param Throwable cause the failure
+	 * @param Integer statusCode (the HTTP response code on the exchange, may be null)
+	 * @return boolean
+	 */
+	public static boolean isRetryable(Throwable cause, Integer statusCode) {
+		if (statusCode != null && (statusCode == 408 || statusCode == 429 || statusCode >= 500)) {
+			return true;
+		}
+		Throwable failure = cause;
+		for (int depth = 0; failure != null && depth < MAX_CAUSE_DEPTH; depth++) {
+			if (failure instanceof IOException
+				|| failure instanceof TimeoutException
+				|| failure instanceof ExchangeTimedOutException
+				|| failure instanceof CircuitOpenException
+				|| failure instanceof RejectedExecutionException
+				|| failure instanceof SQLTransientException
+				|| failure instanceof SQLRecoverableException
+				|| failure instanceof LockTimeoutException
+				|| failure instanceof PessimisticLockException
+				|| failure instanceof QueryTimeoutException) {
+				return true;
+			}
+			failure = (failure.getCause() == failure ? null : failure.getCause());
+		}
+		return false;
+	}
+
+	/**
+	 * Method:  replayDue
+	 * Replays the due retries, a batch at a time. Called by the retry-due Quartz route.
+	 *
+	 * @return int the number of retries replayed
+	 */
+	public int replayDue() {
+		if (!enabled) {
+			return 0;
+		}
+		recover();
+		int total = 0;
+		int batches = 0;
+		long start = System.nanoTime();
+		while (batches < maxBatches) {
+			List<Retry> batch = claim();
+			if (batch.isEmpty()) {
+				break;
+			}
+			batches++;
+			total += batch.size();
+			replay(batch);
+			if (batch.size() < batchSize) {
+				break;
+			}
+			if (!pause.isZero()) {
+				try {
+					Thread.sleep(pause.toMillis());
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+		if (total > 0) {
+			LOG.info("Replayed " + total + " retries in " + batches + " batches, " + elapsedMillis(start) + "ms"
+				+ (batches == maxBatches ? "; more remain for the next run." : "."));
+		}
+		return total;
+	}
+
+	/**
+	 * Method:  backoff
+	 * The delay before a retry: initial-delay times multiplier to the power of the attempts
+	 * before it, at most max-delay, less a random part of up to jitter of it.
+	 *
+	 * @param int attempt the retry, from 1
+	 * @return Duration
+	 */
+	public Duration backoff(int attempt) {
+		return backoff(attempt, initialDelay, multiplier, maxDelay, jitter, ThreadLocalRandom.current().nextDouble());
+	}
+
+	static Duration backoff(int attempt, Duration initialDelay, double multiplier, Duration maxDelay, double jitter, double random) {
+		double delay = initialDelay.toMillis() * Math.pow(multiplier, Math.max(0, attempt - 1));
+		delay = Math.min(delay, maxDelay.toMillis());
+		return Duration.ofMillis((long)(delay * (1.0 - jitter * random)));
+	}
+
+	private void recover() {
+		OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).minus(runningTimeout);
+		int count = QuarkusTransaction.requiringNew().call(() -> entityManager.createNativeQuery(RECOVER)
+			.setParameter(1, cutoff)
+			.executeUpdate());
+		if (count > 0) {
+			LOG.warn(count + " retries were RUNNING for more than " + runningTimeout + "; they are due again.");
+		}
+		OffsetDateTime parkedCutoff = OffsetDateTime.now(ZoneOffset.UTC).minus(parkedTimeout);
+		int held = QuarkusTransaction.requiringNew().call(() -> entityManager.createNativeQuery(RECOVER_PARKED)
+			.setParameter(1, parkedCutoff)
+			.executeUpdate());
+		if (held > 0) {
+			LOG.info(held + " exchanges were parked for more than " + parkedTimeout + "; they are due again.");
+		}
+	}
+
+	/*
+	 * Marks the next batch of due retries RUNNING and records the retry on their transactions.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<Retry> claim() {
+		return QuarkusTransaction.requiringNew().call(() -> {
+			List<Object[]> rows = entityManager.createNativeQuery(DUE)
+				.setParameter(1, batchSize)
+				.getResultList();
+			List<Retry> batch = new ArrayList<>(rows.size());
+			if (rows.isEmpty()) {
+				return batch;
+			}
+			List<Long> ids = new ArrayList<>(rows.size());
+			Map<String, Integer> attempts = new HashMap<>();
+			for (Object[] row : rows) {
+				Retry retry = new Retry(row);
+				batch.add(retry);
+				ids.add(retry.id);
+				if (retry.trxId != null) {
+					attempts.put(retry.trxId, retry.attempt);
+				}
+			}
+			entityManager.createNativeQuery(CLAIM).setParameter(1, ids).executeUpdate();
+			if (!attempts.isEmpty()) {
+				Instant now = Instant.now();
+				List<Transaction> transactions = transactionRepository.list("trxId in ?1", new ArrayList<>(attempts.keySet()));
+				for (Transaction transaction : transactions) {
+					transaction.setRetryCount(attempts.get(transaction.getTrxId()));
+					transaction.setLastRetryTime(now);
+				}
+			}
+			return batch;
+		});
+	}
+
+	/*
+	 * Runs the batch through the routes and waits (up to batch-timeout) for all of it to finish.
+	 */
+	private void replay(List<Retry> batch) {
+		List<CompletableFuture<Void>> futures = new ArrayList<>(batch.size());
+		for (Retry retry : batch) {
+			CompletableFuture<Void> future;
+			try {
+				future = process(retry)
+					.handle((reply, e) -> {
+						settle(retry, (e != null ? e : reply.getException()), reply);
+						return null;
+					});
+			}
+			catch (RuntimeException | BrixException e) {
+				settle(retry, e, null);
+				future = CompletableFuture.completedFuture(null);
+			}
+			futures.add(future);
+		}
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(batchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException e) {
+			LOG.warn("Retry batch not finished after " + batchTimeout + "; claiming the next batch.");
+		}
+		catch (ExecutionException e) {
+			LOG.error("Retry batch failed.", e.getCause());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/*
+	 * Runs the retry through the route that consumes from its replay URI, as its consumer would, and
+	 * completes once the route has finished with it. Sending it to the endpoint instead would only
+	 * enqueue it when the route is fed by a queue (jms:), and the batch would be done at once. The
+	 * exchange comes from the consumer, so a failure is stored again for the same route.
+	 */
+	private CompletableFuture<Exchange> process(Retry retry) throws BrixException {
+		Consumer consumer = null;
+		for (Route route : camelContext.getRoutes()) {
+			if (retry.replayUri.equals(route.getEndpoint().getEndpointUri())) {
+				consumer = route.getConsumer();
+				break;
+			}
+		}
+		if (consumer == null) {
+			throw new BrixException("No route consumes from " + retry.replayUri + " to replay retry " + retry.id + ".");
+		}
+		Exchange exchange = consumer.createExchange(false);
+		fill(exchange, retry.body, retry.headers);
+		if (retry.trxId != null) {
+			exchange.getIn().setHeader(Constants.BRIX_TRX_ID, retry.trxId);
+		}
+		exchange.getIn().setHeader(Constants.BRIX_RETRY_ATTEMPT, retry.attempt);
+
+		CompletableFuture<Exchange> done = new CompletableFuture<>();
+		AsyncProcessor processor = AsyncProcessorConverterHelper.convert(consumer.getProcessor());
+		processor.process(exchange, doneSync -> done.complete(exchange));
+		return done;
+	}
+
+	/*
+	 * A retry that succeeded is done. One that failed and was handled by OnException was stored
+	 * again as a new retry (header BRIX_RETRY); otherwise it is rescheduled here, or moved to the
+	 * dead letters if the failure is not retryable.
+	 */
+	private void settle(Retry retry, Throwable error, Exchange reply) {
+		try {
+			if (error == null || (reply != null && reply.getIn().getHeader(Constants.BRIX_RETRY) != null)) {
+				(error == null ? succeeded : failed).increment();
+				QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery(DELETE)
+					.setParameter(1, retry.id)
+					.executeUpdate());
+				return;
+			}
+			failed.increment();
+			int attempt = retry.attempt + 1;
+			boolean retryable = isRetryable(error, (reply == null ? null : reply.getIn().getHeader(Exchange.HTTP_RESPONSE_CODE, Integer.class)));
+			if (!retryable || attempt > maxAttempts) {
+				if (retryable) {
+					exhausted.increment();
+				}
+				Long id = deadLetterStore.moveFromRetryQueue(retry.id, truncate(error.toString()));
+				LOG.warn("Retry " + retry.id + " (transaction " + retry.trxId + ") failed " + (retryable ? "its last attempt" : "and is not retryable")
+					+ (id == null ? "" : "; dead letter " + id) + ": " + error);
+				return;
+			}
+			OffsetDateTime nextAttempt = OffsetDateTime.now(ZoneOffset.UTC).plus(backoff(attempt));
+			QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery(RESCHEDULE)
+				.setParameter(1, retry.id)
+				.setParameter(2, attempt)
+				.setParameter(3, nextAttempt)
+				.setParameter(4, truncate(error.toString()))
+				.executeUpdate());
+			LOG.info("Retry " + retry.id + " (transaction " + retry.trxId + ") failed; attempt " + attempt + " at " + nextAttempt + ": " + error);
+		}
+		catch (RuntimeException e) {
+			LOG.error("Retry " + retry.id + " could not be updated; it is due again after " + runningTimeout + ".", e);
+		}
+	}
+
+	/**
+	 * Method:  newExchange
+	 * An exchange with a stored body and headers, to replay to their route.
+	 *
+	 * @param CamelContext camelContext
+	 * @param byte[] body (empty for none)
+	 * @param String headers as stored, in JSON
+	 * @return Exchange
+	 * @throws IllegalStateException if the stored headers are not valid
+	 */
+	static Exchange newExchange(CamelContext camelContext, byte[] body, String headers) {
+		Exchange exchange = ExchangeBuilder.anExchange(camelContext).build();
+		fill(exchange, body, headers);
+		return exchange;
+	}
+
+	private static void fill(Exchange exchange, byte[] body, String headers) {
+		exchange.getIn().setBody(body == null || body.length == 0 ? null : body);
+		if (headers != null) {
+			try {
+				exchange.getIn().getHeaders().putAll(MAPPER.readValue(headers, HEADERS_TYPE));
+			}
+			catch (JsonProcessingException e) {
+				throw new IllegalStateException("Stored headers are not valid: " + e, e);
+			}
+		}
+	}
+
+	/*
+	 * The route, and the endpoint in it, the exchange failed in.
+	 */
+	static String failureStage(Exchange exchange) {
+		String stage = exchange.getProperty(Exchange.FAILURE_ROUTE_ID, String.class);
+		if (stage == null) {
+			stage = exchange.getFromRouteId();
+		}
+		String endpoint = exchange.getProperty(Exchange.FAILURE_ENDPOINT, String.class);
+		if (endpoint != null) {
+			stage = (stage == null ? endpoint : stage + " " + endpoint);
+		}
+		return (stage != null && stage.length() > MAX_STAGE_LENGTH ? stage.substring(0, MAX_STAGE_LENGTH) : stage);
+	}
+
+	private static Message originalMessage(Exchange exchange) {
+		if (Boolean.TRUE.equals(exchange.getContext().isAllowUseOriginalMessage()) && exchange.getUnitOfWork() != null) {
+			Message original = exchange.getUnitOfWork().getOriginalInMessage();
+			if (original != null) {
+				return original;
+			}
+		}
+		return exchange.getIn();
+	}
+
+	/*
+	 * The headers a replay needs: simple values, without those Camel, the JMS broker and
+	 * the retry itself set again. The message group is kept, so the replay is ordered with the
+	 * other messages of its artifact.
+	 */
+	static Map<String, Object> storedHeaders(Map<String, Object> headers) {
+		Map<String, Object> stored = new LinkedHashMap<>();
+		for (Map.Entry<String, Object> header : headers.entrySet()) {
+			String name = header.getKey();
+			Object value = header.getValue();
+			if (name.startsWith("Camel") || (name.startsWith("JMS") && !CommonConstants.HEADER_JMSX_GROUP_ID.equals(name))
+				|| Constants.BRIX_RETRY.equals(name) || Constants.BRIX_RETRY_ATTEMPT.equals(name)) {
+				continue;
+			}
+			if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+				stored.put(name, value);
+			}
+			else if (value instanceof Enum) {
+				stored.put(name, ((Enum<?>)value).name());
+			}
+			else if (value instanceof Character) {
+				stored.put(name, value.toString());
+			}
+		}
+		return stored;
+	}
+
+	private static String truncate(String message) {
+		return (message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+	}
+
+	private static long elapsedMillis(long start) {
+		return Duration.ofNanos(System.nanoTime() - start).toMillis();
+	}
+
+}
@@ -0,0 +1,285 @@
+//=============================================================================
+//* Name:         TargetSnapshotCheck.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Target Snapshot Check bean
+//*
+//* Description:  This bean class lets a sync compare against the generic form
+//*               of the target as BrIX last wrote it, instead of fetching and
+//*               normalizing the target every time:
+//*                 - before the fetch, a snapshot with an ETag or
+//*                   Last-Modified turns the fetch into a conditional request
+//*                 - after the fetch, a 304 Not Modified answer means the
+//*                   snapshot is current and it is used as the target
+//*                 - after a successful write, the target's new generic form
+//*                   (its previous form with the deltas applied) is stored
+//*               Any other answer is a mismatch and the fetched target is
+//*               normalized as before.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.cache.TargetSnapshotCache;
+import com.ibm.brix.cache.TargetSnapshotCache.TargetSnapshot;
+import com.ibm.brix.common.model.ArtifactRelationship;
+import com.ibm.brix.common.model.AttributeProperties;
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.model.ArtifactRelationshipList;
+import com.ibm.brix.model.GenericArtifact;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class TargetSnapshotCheck {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private static final Logger LOG = LoggerFactory.getLogger(TargetSnapshotCheck.class);
+
+	public static final String METRIC_PREFIX = "brix.target.snapshot";
+
+	public static final String HTTP_IF_NONE_MATCH = "If-None-Match";
+	public static final String HTTP_IF_MODIFIED_SINCE = "If-Modified-Since";
+	public static final String HTTP_ETAG = "ETag";
+	public static final String HTTP_LAST_MODIFIED = "Last-Modified";
+	public static final int HTTP_NOT_MODIFIED = 304;
+
+	// Exchange property holding the snapshot a conditional fetch was made against.
+	private static final String CANDIDATE = "BRIXTargetSnapshotCandidate";
+
+	@Inject
+	TargetSnapshotCache targetSnapshotCache;
+
+	@Inject
+	MeterRegistry meterRegistry;
+
+	/**
+	 * How long a snapshot without an ETag or Last-Modified is used without fetching the target.
+	 * PT0S (the default) always fetches such targets; only endpoints BrIX is the sole writer of
+	 * should set it.
+	 */
+	@ConfigProperty(name = "brix.target.snapshot.unvalidated-max-age", defaultValue = "PT0S")
+	Duration unvalidatedMaxAge;
+
+	private Counter notModified;
+	private Counter unvalidated;
+	private Counter modified;
+	private Counter missed;
+
+	@PostConstruct
+	void init() {
+		notModified = lookups("not-modified");
+		unvalidated = lookups("unvalidated");
+		modified = lookups("modified");
+		missed = lookups("miss");
+	}
+
+	private Counter lookups(String result) {
+		return Counter.builder(METRIC_PREFIX + ".lookups")
+			.description("Target snapshot lookups, by whether the snapshot replaced the target fetch")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Method:  beforeFetch
+	 * Looks up the snapshot of the target. Returns true if it can be used without contacting the
+	 * target at all; otherwise the fetch goes ahead, made conditional if the snapshot has a
+	 * validator.
+	 * Exchange Expected Input:
+	 *    - Header BRIX_BROUTE
+	 *    - Header BRIX_ARTIFACT_RELATIONSHIPS
+	 *    - Header BRIX_BROUTE_VERSION
+	 * Exchange Output:
+	 *    - Header If-None-Match and/or If-Modified-Since, for a conditional fetch
+	 *    - Header BRIX_TARGET_GENERIC_ARTIFACT and BRIX_TARGET_SNAPSHOT_HIT, when true is returned
+	 *
+	 * @param Exchange exchange
+	 * @return boolean
+	 * @throws BrixException
+	 */
+	public boolean beforeFetch(Exchange exchange) throws BrixException {
+		exchange.getIn().setHeader(Constants.BRIX_TARGET_SNAPSHOT_HIT, false);
+		String key = key(exchange);
+		TargetSnapshot snapshot = (key == null ? null : targetSnapshotCache.get(key));
+		Long version = exchange.getIn().getHeader(Constants.BRIX_BROUTE_VERSION, Long.class);
+		if (snapshot == null || (version != null && version != snapshot.getBRouteVersion())) {
+			missed.increment();
+			return false;
+		}
+
+		if (snapshot.hasValidator()) {
+			if (snapshot.getEtag() != null) {
+				exchange.getIn().setHeader(HTTP_IF_NONE_MATCH, snapshot.getEtag());
+			}
+			if (snapshot.getLastModified() != null) {
+				exchange.getIn().setHeader(HTTP_IF_MODIFIED_SINCE, snapshot.getLastModified());
+			}
+			exchange.setProperty(CANDIDATE, snapshot);
+			return false;
+		}
+		if (!unvalidatedMaxAge.isZero() && snapshot.getSyncTime().plus(unvalidatedMaxAge).isAfter(Instant.now())) {
+			useSnapshot(exchange, snapshot);
+			unvalidated.increment();
+			return true;
+		}
+		missed.increment();
+		return false;
+	}
+
+	/**
+	 * Method:  afterFetch
+	 * Returns true if the target answered a conditional fetch with 304 Not Modified, in which case
+	 * the snapshot is put on the exchange as the target and the fetched body must not be
+	 * normalized. The conditional headers are removed either way.
+	 * Exchange Expected Input:
+	 *    - Header CamelHttpResponseCode, from the fetch
+	 * Exchange Output:
+	 *    - Header BRIX_TARGET_GENERIC_ARTIFACT and BRIX_TARGET_SNAPSHOT_HIT, when true is returned
+	 *
+	 * @param Exchange exchange
+	 * @return boolean
+	 */
+	public boolean afterFetch(Exchange exchange) {
+		exchange.getIn().removeHeader(HTTP_IF_NONE_MATCH);
+		exchange.getIn().removeHeader(HTTP_IF_MODIFIED_SINCE);
+		TargetSnapshot snapshot = exchange.getProperty(CANDIDATE, TargetSnapshot.class);
+		exchange.removeProperty(CANDIDATE);
+		if (snapshot == null) {
+			return false;
+		}
+		Integer responseCode = exchange.getIn().getHeader(Exchange.HTTP_RESPONSE_CODE, Integer.class);
+		if (responseCode != null && responseCode == HTTP_NOT_MODIFIED) {
+			useSnapshot(exchange, snapshot);
+			notModified.increment();
+			return true;
+		}
+		modified.increment();
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Target changed since its snapshot (response " + responseCode + "); using the fetched target.");
+		}
+		return false;
+	}
+
+	/**
+	 * Method:  record
+	 * Stores the target's generic form after a successful write: the target as it was compared,
+	 * with the delta attributes applied, and the ETag and Last-Modified the write returned. After
+	 * a failed write the snapshot is dropped, as the target's state is not known.
+	 * Exchange Expected Input:
+	 *    - Header BRIX_BROUTE, BRIX_ARTIFACT_RELATIONSHIPS, BRIX_BROUTE_VERSION
+	 *    - Header BRIX_TARGET_GENERIC_ARTIFACT, BRIX_DELTA_GENERIC_ARTIFACT
+	 *    - Header BRIX_RESULT_SUCCESS
+	 *    - Header ETag and/or Last-Modified, from the write (optional; set by ExecuteActions)
+	 *
+	 * @param Exchange exchange
+	 * @throws BrixException
+	 */
+	public void record(Exchange exchange) throws BrixException {
+		String key = key(exchange);
+		if (key == null) {
+			return;
+		}
+		if (exchange.getException() != null || !Boolean.TRUE.equals(exchange.getIn().getHeader(Constants.BRIX_RESULT_SUCCESS, Boolean.class))) {
+			targetSnapshotCache.invalidate(key);
+			return;
+		}
+		GenericArtifact target = exchange.getIn().getHeader(Constants.BRIX_TARGET_GENERIC_ARTIFACT, GenericArtifact.class);
+		GenericArtifact delta = exchange.getIn().getHeader(Constants.BRIX_DELTA_GENERIC_ARTIFACT, GenericArtifact.class);
+		if (target == null) {
+			targetSnapshotCache.invalidate(key);
+			return;
+		}
+
+		GenericArtifact written = new GenericArtifact();
+		addAll(written, target);
+		if (delta != null) {
+			addAll(written, delta);
+		}
+		Long version = exchange.getIn().getHeader(Constants.BRIX_BROUTE_VERSION, Long.class);
+		String etag = exchange.getIn().getHeader(HTTP_ETAG, String.class);
+		String lastModified = exchange.getIn().getHeader(HTTP_LAST_MODIFIED, String.class);
+		targetSnapshotCache.put(key, new TargetSnapshot(written, etag, lastModified, (version == null ? 0 : version)));
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Stored target snapshot " + key + " (etag=" + etag + ", lastModified=" + lastModified + ")");
+		}
+	}
+
+	private static void useSnapshot(Exchange exchange, TargetSnapshot snapshot) {
+		exchange.getIn().setHeader(Constants.BRIX_TARGET_GENERIC_ARTIFACT, snapshot.getGenericArtifact());
+		exchange.getIn().setHeader(Constants.BRIX_TARGET_SNAPSHOT_HIT, true);
+	}
+
+	/*
+	 * Later attributes replace earlier ones of the same name.
+	 */
+	private static void addAll(GenericArtifact to, GenericArtifact from) {
+		if (from.getAttributes() == null) {
+			return;
+		}
+		for (Map.Entry<String, AttributeProperties> attribute : from.getAttributes().entrySet()) {
+			AttributeProperties properties = attribute.getValue();
+			if (properties == null) {
+				continue;
+			}
+			if (to.getAttributes() != null && to.getAttributes().containsKey(attribute.getKey())) {
+				to.setAttributeValue(attribute.getKey(), properties.getAttributeValue());
+			}
+			else {
+				to.addAttribute(attribute.getKey(), properties.getAttributeValue(), properties.getAttributeTraits(), properties.getAttributeType());
+			}
+		}
+	}
+
+	/*
+	 * The target endpoint of the BRoute and the target key of the first relationship, as
+	 * PrepArtifactExtract uses them; null if the artifact has no relationship yet.
+	 */
+	private static String key(Exchange exchange) throws BrixException {
+		BRoute broute = exchange.getIn().getHeader(Constants.BRIX_BROUTE, BRoute.class);
+		if (broute == null) {
+			throw new BrixException("BRoute missing from Exchange header");
+		}
+		ArtifactRelationshipList relationships = exchange.getIn().getHeader(Constants.BRIX_ARTIFACT_RELATIONSHIPS, ArtifactRelationshipList.class);
+		if (relationships == null || relationships.size() == 0) {
+			return null;
+		}
+		ArtifactRelationship relationship = relationships.getTheArtifactRelationshipList().get(0);
+		if (relationship.getTargetArtifact() == null) {
+			return null;
+		}
+		return TargetSnapshotCache.key(broute.getTargetEndpoint(), relationship.getTargetArtifactKeyString());
+	}
+}
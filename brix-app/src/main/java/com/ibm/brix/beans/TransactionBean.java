@@ -21,6 +21,17 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20240326 tollefso  New source file created.
+//*               20261018 agent     Track transactions in the bounded
+//*                                  TransactionRegistry instead of the
+//*                                  unbounded static TransactionList.
+//*               20261018 agent     Write inserts and status changes through
+//*                                  the batching TransactionJournal.
+//*               20261018 agent     Add the endpoint circuit state to the
+//*                                  status message.
+//*               20261018 agent     Add the scheduled retry to the status
+//*                                  message.
+//*               20261018 agent     Write a transaction read from the DB only
+//*                                  once, at commit.
 //*
 //* Additional notes about the Change Activity:
 //*
@@ -37,11 +48,11 @@ import org.slf4j.MDC;
 
 import com.ibm.brix.BrixException;
 import com.ibm.brix.Constants;
+import com.ibm.brix.cache.TransactionJournal;
+import com.ibm.brix.cache.TransactionRegistry;
 import com.ibm.brix.common.enums.Status;
 import com.ibm.brix.common.model.Transaction;
 import com.ibm.brix.common.repositories.TransactionRepository;
-import com.ibm.brix.model.TransactionList;
-import com.ibm.brix.utils.Config;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
@@ -56,6 +67,12 @@ public class TransactionBean {
     @Inject
     TransactionRepository transactionRepository;
 
+    @Inject
+    TransactionRegistry transactionRegistry;
+
+    @Inject
+    TransactionJournal transactionJournal;
+
     /**
      * Method:  create
      * Creates a transaction object for the given exchange.
@@ -65,20 +82,41 @@ public class TransactionBean {
      */
     public Transaction create(Exchange exchange) throws BrixException {
         Transaction transaction = new Transaction(exchange);
-        transactionRepository.persist(transaction);
+        transactionJournal.insert(transaction);
         MDC.put(Constants.BRIX_TRX_ID, transaction.getTrxId());
 
-        Config.getTransactionList().append(transaction);
+        transactionRegistry.put(transaction);
 
         LOG.debug(transaction.toString());
         return transaction;
     }
 
+    /**
+     * Method:  updateStatus
+     * Sets the status of the exchange's transaction from its BRIX_TRX_STATUS header. The
+     * registered transaction is updated at once; the database row is updated by the journal.
+     * A transaction that is not registered or queued is read from the DB, and the change is
+     * written when this bean's transaction commits.
+     * If an endpoint's circuit breaker refused a call (header BRIX_ENDPOINT_CIRCUIT), its state
+     * is added to the status message, as is the retry scheduled for it (header BRIX_RETRY).
+     *
+     * @param Exchange exchange (Provided by Camel)
+     * @param String statusMessage
+     * @throws BrixException
+     */
     public Transaction updateStatus(Exchange exchange, String statusMessage) throws BrixException {
         Transaction transaction = null;
         if (exchange != null) {
             String trxId = exchange.getIn().getHeader(Constants.BRIX_TRX_ID, String.class);
-            transaction = transactionRepository.findByTransactionId(trxId);
+            transaction = (trxId == null ? null : transactionRegistry.getIfPresent(trxId));
+            if (transaction == null) {
+                transaction = transactionJournal.getQueued(trxId);
+            }
+            boolean managed = false;
+            if (transaction == null) {
+                transaction = transactionRepository.findByTransactionId(trxId);
+                managed = (transaction != null);
+            }
             if (transaction == null) {
                 throw new BrixException(String.format("Transaction was not found."));
             }
@@ -90,8 +128,20 @@ public class TransactionBean {
             if (statusMessage == null) {
                 statusMessage = "";
             }
+            String circuit = exchange.getIn().getHeader(Constants.BRIX_ENDPOINT_CIRCUIT, String.class);
+            if (circuit != null) {
+                statusMessage = statusMessage + " [circuit " + circuit + "]";
+            }
+            String retry = exchange.getIn().getHeader(Constants.BRIX_RETRY, String.class);
+            if (retry != null) {
+                statusMessage = statusMessage + " [retry " + retry + "]";
+            }
             LOG.debug("updateStatus:statusMessage=" + statusMessage);
             transaction.setStatusMessage(statusMessage);
+            transactionRegistry.put(transaction);
+            if (!managed) {
+                transactionJournal.updateStatus(transaction.getTrxId(), newStatus, statusMessage);
+            }
         }
         return transaction;
     }
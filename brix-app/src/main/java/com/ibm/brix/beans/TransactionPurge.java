@@ -0,0 +1,191 @@
+//=============================================================================
+//* Name:         TransactionPurge.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Transaction Purge bean
+//*
+//* Description:  This bean class applies the Transaction retention: finished
+//*               (COMPLETED or ERROR) transactions older than the retention
+//*               period are moved to the monthly partitioned
+//*               transaction_archive table, or deleted when archiving is
+//*               off. Rows are moved in small batches, each in its own
+//*               database transaction, oldest first, so the purge never holds
+//*               locks on many rows or for long, and rows locked by the
+//*               pipeline are skipped until the next run. The tables and
+//*               indexes come from the Flyway migrations in flyway/db.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+@ApplicationScoped
+public class TransactionPurge {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private static final Logger LOG = LoggerFactory.getLogger(TransactionPurge.class);
+
+	public static final String METRIC_PREFIX = "brix.transaction.purge";
+
+	// The oldest finished transactions before the cutoff. SKIP LOCKED leaves rows in use alone.
+	private static final String CANDIDATES =
+		"SELECT id FROM public.transaction WHERE status IN ('COMPLETED', 'ERROR') AND createtime < ?1"
+		+ " ORDER BY createtime LIMIT ?2 FOR UPDATE SKIP LOCKED";
+
+	private static final String ARCHIVE_BATCH =
+		"WITH moved AS (DELETE FROM public.transaction WHERE id IN (" + CANDIDATES + ") RETURNING *)"
+		+ " INSERT INTO public.transaction_archive SELECT * FROM moved";
+
+	private static final String DELETE_BATCH =
+		"DELETE FROM public.transaction WHERE id IN (" + CANDIDATES + ")";
+
+	private static final String OLDEST =
+		"SELECT min(createtime) FROM public.transaction WHERE status IN ('COMPLETED', 'ERROR') AND createtime < ?1";
+
+	@Inject
+	EntityManager entityManager;
+
+	@Inject
+	MeterRegistry meterRegistry;
+
+	@ConfigProperty(name = "brix.transaction.purge.retention", defaultValue = "P30D")
+	Duration retention;
+
+	@ConfigProperty(name = "brix.transaction.purge.archive", defaultValue = "true")
+	boolean archive;
+
+	@ConfigProperty(name = "brix.transaction.purge.batch-size", defaultValue = "1000")
+	int batchSize;
+
+	/** Upper bound of batches in one run, so a large backlog is worked off over several runs. */
+	@ConfigProperty(name = "brix.transaction.purge.max-batches", defaultValue = "500")
+	int maxBatches;
+
+	/** Pause between batches, to leave the database to the pipeline. */
+	@ConfigProperty(name = "brix.transaction.purge.pause", defaultValue = "PT0.1S")
+	Duration pause;
+
+	private Counter purged;
+
+	@PostConstruct
+	void init() {
+		purged = Counter.builder(METRIC_PREFIX + ".rows")
+			.description("Finished transactions moved to the archive or deleted by the retention purge")
+			.tag("mode", archive ? "archive" : "delete")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Method:  purge
+	 * Moves or deletes the finished transactions older than the retention period, in batches.
+	 * Called by the transaction-purge Quartz route.
+	 *
+	 * @return int the number of transactions purged
+	 */
+	public int purge() {
+		OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).minus(retention);
+		if (archive) {
+			createArchivePartitions(cutoff);
+		}
+		String statement = (archive ? ARCHIVE_BATCH : DELETE_BATCH);
+		int total = 0;
+		int batches = 0;
+		long start = System.nanoTime();
+		while (batches < maxBatches) {
+			int count = QuarkusTransaction.requiringNew().call(() -> entityManager.createNativeQuery(statement)
+				.setParameter(1, cutoff)
+				.setParameter(2, batchSize)
+				.executeUpdate());
+			batches++;
+			total += count;
+			purged.increment(count);
+			if (count < batchSize) {
+				break;
+			}
+			if (!pause.isZero()) {
+				try {
+					Thread.sleep(pause.toMillis());
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+		LOG.info("Transaction purge " + (archive ? "archived " : "deleted ") + total + " transactions older than " + cutoff + " in "
+			+ batches + " batches, " + elapsedMillis(start) + "ms" + (batches == maxBatches ? "; more remain for the next run." : "."));
+		return total;
+	}
+
+	/*
+	 * The archive has one partition per month; create those the rows about to be moved fall in.
+	 */
+	private void createArchivePartitions(OffsetDateTime cutoff) {
+		QuarkusTransaction.requiringNew().run(() -> {
+			Object oldest = entityManager.createNativeQuery(OLDEST).setParameter(1, cutoff).getSingleResult();
+			if (oldest == null) {
+				return;
+			}
+			OffsetDateTime month = toOffsetDateTime(oldest).withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
+			while (!month.isAfter(cutoff)) {
+				entityManager.createNativeQuery("SELECT public.brix_transaction_archive_partition(?1)")
+					.setParameter(1, month)
+					.getSingleResult();
+				month = month.plusMonths(1);
+			}
+		});
+	}
+
+	private static OffsetDateTime toOffsetDateTime(Object value) {
+		if (value instanceof OffsetDateTime) {
+			return ((OffsetDateTime)value).withOffsetSameInstant(ZoneOffset.UTC);
+		}
+		if (value instanceof Instant) {
+			return ((Instant)value).atOffset(ZoneOffset.UTC);
+		}
+		if (value instanceof Timestamp) {
+			return ((Timestamp)value).toInstant().atOffset(ZoneOffset.UTC);
+		}
+		return OffsetDateTime.parse(value.toString());
+	}
+
+	private static long elapsedMillis(long start) {
+		return Duration.ofNanos(System.nanoTime() - start).toMillis();
+	}
+}
@@ -0,0 +1,297 @@
+//=============================================================================
+//* Name:         ArtifactRelationshipCache.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX ArtifactRelationship Cache
+//*
+//* Description:  Read-through cache of ArtifactRelationships keyed by the
+//*               source ArtifactKey. Relationships are loaded on demand with
+//*               a keyed ArtifactRelationshipRepository query instead of
+//*               reading every relationship at startup. The cache is bounded
+//*               by size and entries expire after a TTL, so relationships
+//*               created by other BrIX instances are picked up; lookups that
+//*               found no relationship expire sooner. Relationships created
+//*               through this class are persisted and their source key is
+//*               invalidated once the transaction commits. Hit, miss,
+//*               eviction and load latency metrics are published through
+//*               Micrometer.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Invalidate the source key after commit
+//*                                  instead of writing through, record the
+//*                                  relationship of a created target, and
+//*                                  expire empty lookups sooner.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.enums.ActionCommand;
+import com.ibm.brix.common.enums.State;
+import com.ibm.brix.common.enums.Status;
+import com.ibm.brix.common.model.Artifact;
+import com.ibm.brix.common.model.ArtifactKey;
+import com.ibm.brix.common.model.ArtifactRelationship;
+import com.ibm.brix.common.repositories.ArtifactRelationshipRepository;
+import com.ibm.brix.common.repositories.ArtifactRepository;
+import com.ibm.brix.model.ArtifactRelationshipList;
+import com.ibm.brix.plans.AtomicActionPlan;
+import com.ibm.brix.plans.AtomicActionPlan.Step;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.transaction.Transactional;
+
+@ApplicationScoped
+public class ArtifactRelationshipCache {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+    private static final Logger LOG = LoggerFactory.getLogger(ArtifactRelationshipCache.class);
+
+    public static final String CACHE_NAME = "brix.artifactrelationship.cache";
+
+    @Inject
+    ArtifactRelationshipRepository artifactRelationshipRepository;
+
+    @Inject
+    ArtifactRepository artifactRepository;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "brix.artifactrelationship.cache.max-size", defaultValue = "100000")
+    long maxSize;
+
+    @ConfigProperty(name = "brix.artifactrelationship.cache.ttl", defaultValue = "PT10M")
+    Duration ttl;
+
+    @ConfigProperty(name = "brix.artifactrelationship.cache.negative-ttl", defaultValue = "PT30S")
+    Duration negativeTtl;
+
+    // Values are unmodifiable lists; an empty list caches "no relationship yet" for the negative TTL.
+    private Cache<String, List<ArtifactRelationship>> cache;
+    private Timer loadTimer;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<String, List<ArtifactRelationship>>() {
+                @Override
+                public long expireAfterCreate(String key, List<ArtifactRelationship> value, long currentTime) {
+                    return (value.isEmpty() ? negativeTtl : ttl).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, List<ArtifactRelationship> value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, List<ArtifactRelationship> value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        loadTimer = Timer.builder(CACHE_NAME + ".load")
+            .description("Latency of loading ArtifactRelationships for one source ArtifactKey")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        LOG.info("ArtifactRelationship cache created: maxSize=" + maxSize + ", ttl=" + ttl + ", negativeTtl=" + negativeTtl);
+    }
+
+    /**
+     * Method:  findSourcesMatching
+     * Returns the relationships whose source artifact has the given key, loading them from the
+     * DB on a cache miss. The returned ArtifactRelationshipList is a new list owned by the caller.
+     *
+     * @param ArtifactKey artifactKey
+     * @return ArtifactRelationshipList
+     * @throws BrixException
+     */
+    public ArtifactRelationshipList findSourcesMatching(ArtifactKey artifactKey) throws BrixException {
+        if (artifactKey == null || artifactKey.getArtifactKeyString() == null) {
+            throw new BrixException("ArtifactRelationshipCache: Null artifactKey");
+        }
+        List<ArtifactRelationship> relationships;
+        try {
+            relationships = cache.get(artifactKey.getArtifactKeyString(), this::load);
+        } catch (RuntimeException e) {
+            throw new BrixException("ArtifactRelationshipCache: unable to load relationships for " + artifactKey, e);
+        }
+
+        ArtifactRelationshipList artifactRelationshipList = new ArtifactRelationshipList();
+        for (ArtifactRelationship artifactRelationship : relationships) {
+            artifactRelationshipList.append(artifactRelationship);
+        }
+        return artifactRelationshipList;
+    }
+
+    /**
+     * Method:  create
+     * Persists a new relationship. The cache entry for its source key is invalidated once the
+     * transaction commits, so the next lookup loads every relationship of the key from the DB,
+     * and a rolled back relationship is never seen.
+     *
+     * @param ArtifactRelationship artifactRelationship
+     * @return ArtifactRelationship
+     */
+    @Transactional
+    public ArtifactRelationship create(ArtifactRelationship artifactRelationship) {
+        artifactRelationshipRepository.persist(artifactRelationship);
+        invalidateAfterCommit(artifactRelationship.getSourceArtifactKeyString());
+        return artifactRelationship;
+    }
+
+    /**
+     * Method:  record
+     * Records the relationship between the source artifact and each target artifact created by a
+     * CREATEARTIFACT step of the plan, unless the source already has a relationship to it. The
+     * source and target artifacts are stored first if they are not in the DB yet.
+     * Exchange Expected Input:
+     *    - Header BRIX_SOURCE_ARTIFACT
+     *    - Header BRIX_ATOMIC_ACTIONS (from ExecuteActions)
+     * Exchange Output:
+     *    - (none)
+     *
+     * @param Exchange exchange
+     */
+    @Transactional
+    public void record(Exchange exchange) {
+        Artifact source = exchange.getIn().getHeader(Constants.BRIX_SOURCE_ARTIFACT, Artifact.class);
+        AtomicActionPlan plan = exchange.getIn().getHeader(Constants.BRIX_ATOMIC_ACTIONS, AtomicActionPlan.class);
+        if (source == null || source.getArtifactKeyString() == null || plan == null) {
+            return;
+        }
+
+        int created = 0;
+        for (Step step : plan.getSteps()) {
+            ArtifactKey createdKey = step.getCreatedKey();
+            if (step.getActionCommand() != ActionCommand.CREATEARTIFACT || !step.isSuccess()
+                    || createdKey == null || createdKey.getArtifactKeyString() == null) {
+                continue;
+            }
+            if (isRelated(source, createdKey.getArtifactKeyString())) {
+                continue;
+            }
+            Artifact target = (createdKey.getArtifact() != null) ? createdKey.getArtifact() : step.getAction().getActionArtifact();
+            if (target == null) {
+                LOG.warn("No target artifact to relate " + source.getArtifactKeyString() + " to " + createdKey.getArtifactKeyString());
+                continue;
+            }
+            target.setArtifactKeyString(createdKey.getArtifactKeyString());
+            ArtifactRelationship relationship = new ArtifactRelationship(
+                source.getArtifactKeyString() + " -> " + createdKey.getArtifactKeyString(),
+                "Created by transaction " + exchange.getIn().getHeader(Constants.BRIX_TRX_ID),
+                stored(source), stored(target), State.INITIALIZED, Status.INITIALIZED);
+            artifactRelationshipRepository.persist(relationship);
+            created++;
+        }
+        if (created > 0) {
+            invalidateAfterCommit(source.getArtifactKeyString());
+            LOG.info("Recorded " + created + " artifact relationships for source " + source.getArtifactKeyString());
+        }
+    }
+
+    /**
+     * Drops the cache entry for the key, e.g. after a relationship was changed or deleted.
+     */
+    public void invalidate(ArtifactKey artifactKey) {
+        if (artifactKey != null && artifactKey.getArtifactKeyString() != null) {
+            cache.invalidate(artifactKey.getArtifactKeyString());
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // Reads the DB rather than the cache, which may be stale for a moment after a create.
+    private boolean isRelated(Artifact source, String targetKeyString) {
+        for (ArtifactRelationship relationship : artifactRelationshipRepository.findBySourceArtifactKey(source.getArtifactKeyString())) {
+            if (targetKeyString.equals(relationship.getTargetArtifactKeyString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Returns the stored artifact with the same key, or stores this one.
+    private Artifact stored(Artifact artifact) {
+        Artifact existing = artifactRepository.find("artifactKeyString", artifact.getArtifactKeyString()).firstResult();
+        if (existing != null) {
+            return existing;
+        }
+        return artifactRepository.getEntityManager().merge(artifact);
+    }
+
+    private void invalidateAfterCommit(String key) {
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == jakarta.transaction.Status.STATUS_COMMITTED) {
+                    cache.invalidate(key);
+                }
+            }
+        });
+    }
+
+    private List<ArtifactRelationship> load(String artifactKeyString) {
+        return loadTimer.record(() -> {
+            List<ArtifactRelationship> loaded = artifactRelationshipRepository.findBySourceArtifactKey(artifactKeyString);
+            LOG.debug("Loaded " + loaded.size() + " artifact relationships for key " + artifactKeyString);
+            return Collections.unmodifiableList(new ArrayList<>(loaded));
+        });
+    }
+}
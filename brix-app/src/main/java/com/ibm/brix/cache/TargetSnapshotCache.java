@@ -0,0 +1,180 @@
+//=============================================================================
+//* Name:         TargetSnapshotCache.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Target Snapshot Cache
+//*
+//* Description:  Bounded in-memory store of the normalized (generic) form of
+//*               each target artifact as it was after BrIX last wrote to it,
+//*               keyed by target endpoint and target artifact key. Each
+//*               snapshot keeps the ETag and Last-Modified the target
+//*               returned for that write, so it can be validated with a
+//*               conditional request instead of a full fetch, and the BRoute
+//*               version it was normalized with, since a changed ArtifactMap
+//*               gives a different generic form.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.ibm.brix.common.beans.MessageGroupKey;
+import com.ibm.brix.common.model.AttributeProperties;
+import com.ibm.brix.common.model.Endpoint;
+import com.ibm.brix.model.GenericArtifact;
+import com.ibm.brix.utils.BRouteIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class TargetSnapshotCache {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+    private static final Logger LOG = LoggerFactory.getLogger(TargetSnapshotCache.class);
+
+    public static final String CACHE_NAME = "brix.target.snapshot.cache";
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "brix.target.snapshot.max-size", defaultValue = "100000")
+    long maxSize;
+
+    @ConfigProperty(name = "brix.target.snapshot.ttl", defaultValue = "PT24H")
+    Duration ttl;
+
+    /**
+     * The generic form of a target artifact after the last successful write to it.
+     */
+    public static final class TargetSnapshot {
+        private final GenericArtifact genericArtifact;
+        private final String etag;
+        private final String lastModified;
+        private final long brouteVersion;
+        private final Instant syncTime;
+
+        public TargetSnapshot(GenericArtifact genericArtifact, String etag, String lastModified, long brouteVersion) {
+            this.genericArtifact = copyOf(genericArtifact);
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.brouteVersion = brouteVersion;
+            this.syncTime = Instant.now();
+        }
+
+        /** A copy of the snapshot's generic artifact, which the caller may change. */
+        public GenericArtifact getGenericArtifact() {
+            return copyOf(genericArtifact);
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        /** True if the target returned an ETag or Last-Modified to validate the snapshot with. */
+        public boolean hasValidator() {
+            return etag != null || lastModified != null;
+        }
+
+        public long getBRouteVersion() {
+            return brouteVersion;
+        }
+
+        public Instant getSyncTime() {
+            return syncTime;
+        }
+    }
+
+    private Cache<String, TargetSnapshot> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        LOG.info("Target snapshot cache created: maxSize=" + maxSize + ", ttl=" + ttl);
+    }
+
+    /**
+     * Method:  key
+     * Returns the cache key of a target artifact.
+     *
+     * @param Endpoint targetEndpoint
+     * @param String targetArtifactKey
+     * @return String
+     */
+    public static String key(Endpoint targetEndpoint, String targetArtifactKey) {
+        return MessageGroupKey.partitionKey(BRouteIndex.normalizeAddress(targetEndpoint), targetArtifactKey);
+    }
+
+    public TargetSnapshot get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, TargetSnapshot snapshot) {
+        cache.put(key, snapshot);
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static GenericArtifact copyOf(GenericArtifact genericArtifact) {
+        GenericArtifact copy = new GenericArtifact();
+        if (genericArtifact != null && genericArtifact.getAttributes() != null) {
+            for (Map.Entry<String, AttributeProperties> attribute : genericArtifact.getAttributes().entrySet()) {
+                AttributeProperties properties = attribute.getValue();
+                if (properties == null) {
+                    continue;
+                }
+                copy.addAttribute(attribute.getKey(), properties.getAttributeValue(), properties.getAttributeTraits(), properties.getAttributeType());
+            }
+        }
+        return copy;
+    }
+}
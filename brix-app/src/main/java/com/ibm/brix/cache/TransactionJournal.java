@@ -0,0 +1,489 @@
+//=============================================================================
+//* Name:         TransactionJournal.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Transaction Journal
+//*
+//* Description:  Write-behind journal for Transaction persistence. New
+//*               Transactions and status changes are queued and written by
+//*               one flusher task, on a thread pool managed by Camel, in a
+//*               single database transaction per batch, so Hibernate sends
+//*               them as JDBC batches
+//*               (quarkus.hibernate-orm.jdbc.statement-batch-size) instead of
+//*               one round trip per exchange and status change.
+//*                 - The queue is bounded. When it is full the caller waits
+//*                   up to the enqueue timeout, then writes its own entry
+//*                   directly, so the pipeline is slowed rather than entries
+//*                   being dropped.
+//*                 - By default create returns once its Transaction is
+//*                   queued. With durable set, create waits for the batch
+//*                   holding it to commit (group commit); status changes
+//*                   are always write-behind.
+//*                 - A status change is never written before the insert of
+//*                   its Transaction, also when the caller writes it. A
+//*                   change whose Transaction is not found fails.
+//*                 - A batch that fails is written again one entry at a
+//*                   time, the inserts first.
+//*                 - Everything queued is flushed at shutdown.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Order status changes behind their insert,
+//*                                  default to non-durable, and run the
+//*                                  flusher on a Camel managed thread.
+//*               20261018 agent     Retry a failed batch as new inserts
+//*                                  first, and fail dropped status changes.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.enums.Status;
+import com.ibm.brix.common.model.Transaction;
+import com.ibm.brix.common.repositories.TransactionRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class TransactionJournal {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionJournal.class);
+
+    public static final String METRIC_PREFIX = "brix.transaction.journal";
+
+    @Inject
+    TransactionRepository transactionRepository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    CamelContext camelContext;
+
+    /** false writes every create and status change directly, as before the journal. */
+    @ConfigProperty(name = "brix.transaction.journal.enabled", defaultValue = "true")
+    boolean enabled;
+
+    /** true makes create wait for its Transaction to be committed. */
+    @ConfigProperty(name = "brix.transaction.journal.durable", defaultValue = "false")
+    boolean durable;
+
+    @ConfigProperty(name = "brix.transaction.journal.capacity", defaultValue = "10000")
+    int capacity;
+
+    @ConfigProperty(name = "brix.transaction.journal.batch-size", defaultValue = "200")
+    int batchSize;
+
+    @ConfigProperty(name = "brix.transaction.journal.flush-interval", defaultValue = "PT0.05S")
+    Duration flushInterval;
+
+    @ConfigProperty(name = "brix.transaction.journal.enqueue-timeout", defaultValue = "PT1S")
+    Duration enqueueTimeout;
+
+    /*
+     * A queued write: a new Transaction, or a status change of an existing one.
+     */
+    static final class Entry {
+        final Transaction transaction;
+        final String trxId;
+        final Status status;
+        final String statusMessage;
+        final CompletableFuture<Void> committed = new CompletableFuture<>();
+
+        Entry(Transaction transaction) {
+            this.transaction = transaction;
+            this.trxId = transaction.getTrxId();
+            this.status = null;
+            this.statusMessage = null;
+        }
+
+        Entry(String trxId, Status status, String statusMessage) {
+            this.transaction = null;
+            this.trxId = trxId;
+            this.status = status;
+            this.statusMessage = statusMessage;
+        }
+
+        boolean isInsert() {
+            return transaction != null;
+        }
+    }
+
+    private BlockingQueue<Entry> queue;
+    // Inserts queued but not yet committed, so a status change written by its caller can wait for them.
+    private final Map<String, Entry> pendingInserts = new ConcurrentHashMap<>();
+    // Held while entries taken from the queue are written, so batches are committed in queue order.
+    private final Object writeLock = new Object();
+    private ExecutorService flusher;
+    private volatile boolean running;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder directWrites = new LongAdder();
+    private Timer flushTimer;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            LOG.info("Transaction journal disabled; transactions are written directly.");
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder(METRIC_PREFIX + ".queued", queue, BlockingQueue::size)
+            .description("Transaction writes waiting to be flushed")
+            .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".writes", writes, LongAdder::sum)
+            .description("Transaction inserts and status changes written by the journal")
+            .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".batches", batches, LongAdder::sum)
+            .description("Batches committed by the journal")
+            .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".direct.writes", directWrites, LongAdder::sum)
+            .description("Writes made by the caller because the journal queue was full")
+            .register(meterRegistry);
+        flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+            .description("Time to write and commit one batch")
+            .register(meterRegistry);
+
+        running = true;
+        flusher = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this, "TransactionJournal");
+        flusher.execute(this::flushLoop);
+        LOG.info("Transaction journal started: durable=" + durable + ", capacity=" + capacity + ", batchSize=" + batchSize
+            + ", flushInterval=" + flushInterval);
+    }
+
+    /**
+     * Method:  insert
+     * Queues a new Transaction to be persisted. With durable set, returns once it is committed.
+     *
+     * @param Transaction transaction
+     * @throws BrixException if it could not be written
+     */
+    public void insert(Transaction transaction) throws BrixException {
+        if (!enabled) {
+            QuarkusTransaction.joiningExisting().run(() -> transactionRepository.persist(transaction));
+            return;
+        }
+        Entry entry = new Entry(transaction);
+        pendingInserts.put(entry.trxId, entry);
+        enqueue(entry);
+        if (durable) {
+            awaitCommit(entry);
+        }
+    }
+
+    /**
+     * Method:  getQueued
+     * Returns the Transaction of an insert that is queued but not yet committed, or null.
+     *
+     * @param String trxId
+     * @return Transaction
+     */
+    public Transaction getQueued(String trxId) {
+        Entry entry = (trxId == null) ? null : pendingInserts.get(trxId);
+        return (entry == null) ? null : entry.transaction;
+    }
+
+    /**
+     * Method:  updateStatus
+     * Queues a status change of a Transaction. A change queued in the same batch as the
+     * Transaction's insert is applied before the insert is written.
+     *
+     * @param String trxId
+     * @param Status status
+     * @param String statusMessage
+     * @throws BrixException if it could not be written
+     */
+    public void updateStatus(String trxId, Status status, String statusMessage) throws BrixException {
+        Entry entry = new Entry(trxId, status, statusMessage);
+        if (!enabled) {
+            writeDirect(entry);
+            return;
+        }
+        enqueue(entry);
+    }
+
+    /**
+     * Method:  flush
+     * Writes everything queued so far before returning.
+     */
+    public void flush() throws BrixException {
+        if (!enabled) {
+            return;
+        }
+        List<Entry> pending = new ArrayList<>(queue.size());
+        synchronized (writeLock) {
+            queue.drainTo(pending);
+            writeBatches(pending);
+        }
+        if (!pending.isEmpty()) {
+            awaitCommit(pending.get(pending.size() - 1));
+        }
+    }
+
+    void onShutdown(@Observes ShutdownEvent event) {
+        if (!enabled) {
+            return;
+        }
+        // The flusher stops within one flush interval; flush waits for the batch it is writing.
+        running = false;
+        try {
+            flush();
+            LOG.info("Transaction journal flushed at shutdown.");
+        }
+        catch (BrixException e) {
+            LOG.error("Transaction journal could not flush at shutdown: " + e);
+        }
+        camelContext.getExecutorServiceManager().shutdown(flusher);
+    }
+
+    private void enqueue(Entry entry) throws BrixException {
+        try {
+            if (running && queue.offer(entry, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Full, stopping or interrupted: the caller writes its own entry, after the insert of its Transaction.
+        directWrites.increment();
+        Entry insert = entry.isInsert() ? null : pendingInserts.get(entry.trxId);
+        if (insert != null) {
+            if (running) {
+                awaitCommit(insert);
+            }
+            else {
+                flush();
+            }
+        }
+        writeDirect(entry);
+    }
+
+    private void awaitCommit(Entry entry) throws BrixException {
+        try {
+            entry.committed.get(Math.max(enqueueTimeout.toMillis(), 1000) + 30_000, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BrixException("Interrupted waiting for transaction " + entry.trxId + " to be written.", e);
+        }
+        catch (ExecutionException e) {
+            throw new BrixException("Transaction " + entry.trxId + " could not be written. " + e.getCause(), e.getCause());
+        }
+        catch (TimeoutException e) {
+            throw new BrixException("Timed out waiting for transaction " + entry.trxId + " to be written.", e);
+        }
+    }
+
+    private void flushLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        long intervalNanos = flushInterval.toNanos();
+        while (running) {
+            try {
+                synchronized (writeLock) {
+                    Entry first = queue.poll(intervalNanos, TimeUnit.NANOSECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    writeBatches(batch);
+                }
+            }
+            catch (InterruptedException e) {
+                // The pool is shut down; onShutdown flushes what is left.
+                return;
+            }
+            catch (RuntimeException e) {
+                LOG.error("Transaction journal flush failed: " + e);
+            }
+            finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /*
+     * Writes the entries in batches of batchSize. A batch that fails is retried one entry at a
+     * time, so one bad entry does not lose the rest of its batch: the inserts first, as new
+     * Transactions again (the failed flush gave them ids that were rolled back), then the status
+     * changes, so they find their Transaction.
+     */
+    void writeBatches(List<Entry> entries) {
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Entry> batch = entries.subList(from, Math.min(entries.size(), from + batchSize));
+            List<Entry> dropped;
+            try {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                dropped = QuarkusTransaction.requiringNew().call(() -> write(batch));
+                sample.stop(flushTimer);
+            }
+            catch (RuntimeException e) {
+                LOG.warn("Transaction journal batch of " + batch.size() + " failed, writing its entries one at a time: " + e);
+                for (Entry entry : batch) {
+                    if (entry.isInsert()) {
+                        entry.transaction.id = null;
+                        writeSingle(entry);
+                    }
+                }
+                for (Entry entry : batch) {
+                    if (!entry.isInsert()) {
+                        writeSingle(entry);
+                    }
+                }
+                continue;
+            }
+            batches.increment();
+            writes.add(batch.size() - dropped.size());
+            for (Entry entry : batch) {
+                if (dropped.contains(entry)) {
+                    entry.committed.completeExceptionally(notFound(entry));
+                }
+                else {
+                    committed(entry);
+                }
+            }
+        }
+    }
+
+    private void writeSingle(Entry entry) {
+        try {
+            writeDirect(entry);
+        }
+        catch (BrixException | RuntimeException e) {
+            LOG.error("Transaction journal could not write transaction " + entry.trxId + ": " + e);
+            if (entry.isInsert()) {
+                pendingInserts.remove(entry.trxId, entry);
+            }
+            entry.committed.completeExceptionally(e);
+        }
+    }
+
+    private void writeDirect(Entry entry) throws BrixException {
+        List<Entry> dropped;
+        try {
+            dropped = QuarkusTransaction.requiringNew().call(() -> write(List.of(entry)));
+        }
+        catch (RuntimeException e) {
+            throw new BrixException("Transaction " + entry.trxId + " could not be written. " + e, e);
+        }
+        if (!dropped.isEmpty()) {
+            throw notFound(entry);
+        }
+        writes.increment();
+        committed(entry);
+    }
+
+    private static BrixException notFound(Entry entry) {
+        return new BrixException("Transaction " + entry.trxId + " was not found; status change to " + entry.status + " dropped.");
+    }
+
+    private void committed(Entry entry) {
+        if (entry.isInsert()) {
+            pendingInserts.remove(entry.trxId, entry);
+        }
+        entry.committed.complete(null);
+    }
+
+    /*
+     * Runs in the batch's database transaction. Status changes for Transactions inserted in this
+     * batch are applied before the insert; the others are applied to the loaded Transactions,
+     * latest change last. Everything is sent to the database at commit, in JDBC batches.
+     * Returns the status changes whose Transaction was not found.
+     */
+    private List<Entry> write(List<Entry> batch) {
+        Map<String, Transaction> inserted = new HashMap<>();
+        Map<String, List<Entry>> updates = new LinkedHashMap<>();
+        for (Entry entry : batch) {
+            if (entry.isInsert()) {
+                inserted.put(entry.trxId, entry.transaction);
+            }
+            else {
+                updates.computeIfAbsent(entry.trxId, k -> new ArrayList<>(2)).add(entry);
+            }
+        }
+
+        Map<String, Transaction> loaded = new HashMap<>();
+        List<String> toLoad = new ArrayList<>();
+        for (String trxId : updates.keySet()) {
+            if (!inserted.containsKey(trxId)) {
+                toLoad.add(trxId);
+            }
+        }
+        if (!toLoad.isEmpty()) {
+            List<Transaction> found = transactionRepository.list("trxId in ?1", toLoad);
+            for (Transaction transaction : found) {
+                loaded.put(transaction.getTrxId(), transaction);
+            }
+        }
+
+        List<Entry> dropped = new ArrayList<>();
+        for (Map.Entry<String, List<Entry>> changes : updates.entrySet()) {
+            Transaction transaction = inserted.get(changes.getKey());
+            if (transaction == null) {
+                transaction = loaded.get(changes.getKey());
+            }
+            if (transaction == null) {
+                LOG.error("Transaction " + changes.getKey() + " was not found; status change dropped.");
+                dropped.addAll(changes.getValue());
+                continue;
+            }
+            for (Entry change : changes.getValue()) {
+                transaction.setStatus(change.status);
+                transaction.setStatusMessage(change.statusMessage);
+            }
+        }
+        for (Entry entry : batch) {
+            if (entry.isInsert()) {
+                transactionRepository.persist(entry.transaction);
+            }
+        }
+        return dropped;
+    }
+}
@@ -0,0 +1,219 @@
+//=============================================================================
+//* Name:         TransactionRegistry.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Transaction Registry
+//*
+//* Description:  Bounded in-memory registry of the Transactions this BrIX
+//*               instance is processing or has recently finished. Active
+//*               transactions are held until they reach a terminal status
+//*               (COMPLETED or ERROR); only finished transactions are evicted
+//*               when the registry is full or when they have not been touched
+//*               for the configured expiry, so the heap no longer grows with
+//*               total traffic. Lookups of transactions that are
+//*               no longer in the registry fall back to the
+//*               TransactionRepository. Live entry and eviction gauges are
+//*               published through Micrometer for sizing pods.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Never evict active transactions; size and
+//*                                  expiry eviction applies once finished.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import com.ibm.brix.common.enums.Status;
+import com.ibm.brix.common.model.Transaction;
+import com.ibm.brix.common.repositories.TransactionRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+@ApplicationScoped
+public class TransactionRegistry {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionRegistry.class);
+
+    public static final String METRIC_PREFIX = "brix.transaction.registry";
+
+    @Inject
+    TransactionRepository transactionRepository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "brix.transaction.registry.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "brix.transaction.registry.expire-after-access", defaultValue = "PT15M")
+    Duration expireAfterAccess;
+
+    @ConfigProperty(name = "brix.transaction.registry.active-max-age", defaultValue = "PT24H")
+    Duration activeMaxAge;
+
+    // Transactions not yet in a terminal status. Not bounded by size; the max age only drops
+    // transactions whose route ended without setting a terminal status.
+    private Cache<String, Transaction> active;
+    private Cache<String, Transaction> transactions;
+    private final LongAdder sizeEvictions = new LongAdder();
+    private final LongAdder expiryEvictions = new LongAdder();
+    private final LongAdder abandonedEvictions = new LongAdder();
+    private final LongAdder repositoryLookups = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        active = Caffeine.newBuilder()
+            .expireAfterWrite(activeMaxAge)
+            .removalListener((String trxId, Transaction transaction, RemovalCause cause) -> {
+                if (cause == RemovalCause.EXPIRED) {
+                    abandonedEvictions.increment();
+                    LOG.warn("Transaction " + trxId + " was dropped from the registry after " + activeMaxAge + " without a terminal status");
+                }
+            })
+            .build();
+        transactions = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterAccess(expireAfterAccess)
+            .removalListener((String trxId, Transaction transaction, RemovalCause cause) -> {
+                if (cause == RemovalCause.SIZE) {
+                    sizeEvictions.increment();
+                }
+                else if (cause == RemovalCause.EXPIRED) {
+                    expiryEvictions.increment();
+                }
+            })
+            .build();
+
+        Gauge.builder(METRIC_PREFIX + ".live", this, TransactionRegistry::size)
+            .description("Transactions currently held in the registry")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", active, Cache::estimatedSize)
+            .description("Transactions held in the registry that have not reached a terminal status")
+            .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", sizeEvictions, LongAdder::sum)
+            .tag("cause", "size")
+            .description("Transactions evicted because the registry was full")
+            .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", expiryEvictions, LongAdder::sum)
+            .tag("cause", "expired")
+            .description("Transactions evicted because they were not accessed within the expiry")
+            .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", abandonedEvictions, LongAdder::sum)
+            .tag("cause", "abandoned")
+            .description("Active transactions dropped because they did not finish within the active max age")
+            .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".fallback.lookups", repositoryLookups, LongAdder::sum)
+            .description("Lookups that were not in the registry and went to the TransactionRepository")
+            .register(meterRegistry);
+        LOG.info("Transaction registry created: maxSize=" + maxSize + ", expireAfterAccess=" + expireAfterAccess + ", activeMaxAge=" + activeMaxAge);
+    }
+
+    /**
+     * Adds or replaces the registry entry for the transaction. An active transaction is held
+     * until it is put again with a terminal status; from then on it may be evicted.
+     */
+    public void put(Transaction transaction) {
+        if (transaction == null || transaction.getTrxId() == null) {
+            return;
+        }
+        if (isTerminal(transaction.getStatus())) {
+            transactions.put(transaction.getTrxId(), transaction);
+            active.invalidate(transaction.getTrxId());
+        }
+        else {
+            active.put(transaction.getTrxId(), transaction);
+            transactions.invalidate(transaction.getTrxId());
+        }
+    }
+
+    /**
+     * Returns true for the statuses after which a transaction is no longer processed.
+     */
+    public static boolean isTerminal(Status status) {
+        return status == Status.COMPLETED || status == Status.ERROR;
+    }
+
+    /**
+     * Method:  get
+     * Returns the transaction with the given id from the registry or, when it has been evicted
+     * or was created by another instance, from the TransactionRepository.
+     *
+     * @param String trxId
+     * @return Transaction, or null if not found
+     */
+    @Transactional
+    public Transaction get(String trxId) {
+        if (trxId == null) {
+            return null;
+        }
+        Transaction transaction = getIfPresent(trxId);
+        if (transaction == null) {
+            repositoryLookups.increment();
+            transaction = transactionRepository.findByTransactionId(trxId);
+        }
+        return transaction;
+    }
+
+    /**
+     * Returns the transaction only if it is held in the registry.
+     */
+    public Transaction getIfPresent(String trxId) {
+        if (trxId == null) {
+            return null;
+        }
+        Transaction transaction = active.getIfPresent(trxId);
+        return (transaction != null) ? transaction : transactions.getIfPresent(trxId);
+    }
+
+    public void remove(String trxId) {
+        if (trxId != null) {
+            active.invalidate(trxId);
+            transactions.invalidate(trxId);
+        }
+    }
+
+    public long size() {
+        return active.estimatedSize() + transactions.estimatedSize();
+    }
+
+    /*
+     * Runs pending expiry and size maintenance; used by the tests.
+     */
+    void cleanUp() {
+        active.cleanUp();
+        transactions.cleanUp();
+    }
+}
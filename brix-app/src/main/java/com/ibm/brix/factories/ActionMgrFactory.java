@@ -22,21 +22,18 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20231023 tollefso  New source file created.
+//*               20261018 agent     Delegate to the shared SystemTypeRegistry;
+//*                                  the constructor is looked up once.
 //*                                                                 
 //* Additional notes about the Change Activity:
 //*                                                                 
 //=============================================================================
 package com.ibm.brix.factories;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.apache.camel.Exchange;
 import org.json.simple.parser.ParseException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.ibm.brix.BrixException;
 import com.ibm.brix.common.enums.SystemType;
@@ -45,20 +42,18 @@ import com.ibm.brix.managers.ActionMgr;
 public class ActionMgrFactory {
     public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2023 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
 
-    private static final Logger LOG = LoggerFactory.getLogger(ActionMgrFactory.class);
-
-    //Preallocate space for entries with the expected usage
-    private Map<SystemType, Class<? extends ActionMgr>> registeredActionManagers = new HashMap<>(6);
+    private final SystemTypeRegistry registry = SystemTypeRegistry.getInstance();
 
     /**
      * Method:  registerActionMgr
-     * Registration of Action Manager classes.
+     * Registration of Action Manager classes. The class must have a public constructor
+     * taking the Exchange, which is looked up once here.
      *
      * @param SystemType systemType
      * @param Class actionMgrClass
      */
-    public void registerActionMgr(SystemType systemType, Class<? extends ActionMgr> actionMgrClass){
-        registeredActionManagers.put(systemType, actionMgrClass);
+    public void registerActionMgr(SystemType systemType, Class<? extends ActionMgr> actionMgrClass) throws BrixException {
+        registry.registerActionMgr(systemType, SystemTypeRegistry.constructorCreator(actionMgrClass, Exchange.class));
     }
 
     //=============================================================================
@@ -72,13 +67,6 @@ public class ActionMgrFactory {
      * @param SystemType systemType
      */
     public ActionMgr getActionMgr(SystemType systemType, Exchange exchange) throws SecurityException, NoSuchMethodException, IllegalArgumentException, InstantiationException, IllegalAccessException, InvocationTargetException, ParseException, BrixException{
-        Class<? extends ActionMgr> actionMgrClass = registeredActionManagers.get(systemType);
-        if (actionMgrClass == null) {
-            throw new BrixException("No ActionMgr registered for type " + systemType.getName());
-        }
-        LOG.info("Found registered Action Manager class: " + actionMgrClass.getName());
-        Constructor<? extends ActionMgr> actionMgrConstructor = actionMgrClass.getConstructor(Exchange.class);
-        ActionMgr actionMgr = actionMgrConstructor.newInstance(exchange);
-        return actionMgr;
+        return registry.getActionMgr(systemType, exchange);
     }
 }
\ No newline at end of file
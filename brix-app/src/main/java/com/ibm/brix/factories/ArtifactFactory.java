@@ -21,58 +21,36 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20240304 tmueller  New source file created.
+//*               20261018 agent     Delegate to the shared SystemTypeRegistry;
+//*                                  built-in artifacts come from the plugins.
 //*                                                                 
 //* Additional notes about the Change Activity:
 //*                                                                 
 //=============================================================================
 package com.ibm.brix.factories;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.ibm.brix.BrixException;
 import com.ibm.brix.common.enums.SystemType;
 import com.ibm.brix.common.model.Artifact;
-import com.ibm.brix.common.simpleendpoint.model.SEArtifact;
 
 public class ArtifactFactory {
 	/* CopyRight */
 	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2023 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
 
-	private static final Logger LOG = LoggerFactory.getLogger(ArtifactFactory.class);
-
-	//Preallocate space for entries with the expected usage
-	private Map<SystemType, Class<? extends Artifact>> registeredArtifacts = new HashMap<>(6);
-
-	/**
-	 * Constructor
-	 */
-    public ArtifactFactory() {
-    	initializeFactories();
-    }
-
-	/**
-	 * Method:  initializeFactories
-	 * Initialize and register the Artifact factories.
-	 */
-	private void initializeFactories() {
-		registerArtifact(SystemType.SIMPLEEP, SEArtifact.class);
-	}
+	private final SystemTypeRegistry registry = SystemTypeRegistry.getInstance();
 
 	/**
 	 * Method:  registerArtifact
-	 * Registration of Artifact classes.
+	 * Registration of Artifact classes. The class must have a public constructor with
+	 * no parameters, which is looked up once here.
 	 *
 	 * @param SystemType systemType
 	 * @param Class artifactClass
 	 */
-	private void registerArtifact(SystemType systemType, Class<? extends Artifact> artifactClass){
-		registeredArtifacts.put(systemType, artifactClass);
+	public void registerArtifact(SystemType systemType, Class<? extends Artifact> artifactClass) throws BrixException {
+		registry.registerArtifact(systemType, SystemTypeRegistry.noArgConstructorCreator(artifactClass));
 	}
 
 	//=============================================================================
@@ -86,15 +64,7 @@ public class ArtifactFactory {
 	 * @param SystemType systemType
 	 */
 	public Artifact getArtifact(SystemType systemType) throws SecurityException, NoSuchMethodException, IllegalArgumentException, InstantiationException, IllegalAccessException, InvocationTargetException, BrixException {
-		Class<? extends Artifact> artifactClass = registeredArtifacts.get(systemType);
-		if (artifactClass == null) {
-			throw new BrixException("No Artifact registered for type " + systemType.getName());
-		}
-        LOG.info("Found registered Artifact class: " + artifactClass.getName());
-        Class<? extends Artifact>[] parameterType = null;		//Get the constructor with no parameters
-        Constructor<? extends Artifact> artifactConstructor = artifactClass.getConstructor(parameterType);
-		Artifact artifact = artifactConstructor.newInstance();
-		return artifact;
+		return registry.getArtifact(systemType);
 	}
 
 }
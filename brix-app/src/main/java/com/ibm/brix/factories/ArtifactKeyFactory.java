@@ -22,59 +22,37 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20250306 mitre  New source file created.
+//*               20261018 agent     Delegate to the shared SystemTypeRegistry;
+//*                                  built-in keys come from the plugins.
 //*                                                                 
 //* Additional notes about the Change Activity:
 //*                                                                 
 //=============================================================================
 package com.ibm.brix.factories;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.ibm.brix.BrixException;
 import com.ibm.brix.common.enums.ArtifactType;
 import com.ibm.brix.common.model.Artifact;
 import com.ibm.brix.common.model.ArtifactKey;
-import com.ibm.brix.common.simpleendpoint.model.SEArtifactKey;
 
 public class ArtifactKeyFactory {
     /* CopyRight */
     public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2025 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
 
-    private static final Logger LOG = LoggerFactory.getLogger(ArtifactKeyFactory.class);
-
-    //Preallocate space for entries with the expected usage
-    private Map<ArtifactType, Class<? extends ArtifactKey>> registeredArtifactKeys = new HashMap<>(6);
-
-    /**
-     * Constructor
-     */
-    public ArtifactKeyFactory() {
-    	initializeFactories();
-    }
-
-    /**
-     * Method:  initializeFactories
-     * Initialize and register the Artifact Key factories.
-     */
-    private void initializeFactories() {
-	    registerArtifactKey(ArtifactType.SEISSUE, SEArtifactKey.class);
-    }    
+    private final SystemTypeRegistry registry = SystemTypeRegistry.getInstance();
 
     /**
      * Method:  registerArtifactKey
-     * Registration of Artifact Key classes.
+     * Registration of Artifact Key classes. The class must have a public constructor
+     * taking the Artifact, which is looked up once here.
      *
-     * @param SystemType systemType
+     * @param ArtifactType artifactType
      * @param Class artifactKeyClass
      */
-    private void registerArtifactKey(ArtifactType artifactType, Class<? extends ArtifactKey> artifactKeyClass){
-	    registeredArtifactKeys.put(artifactType, artifactKeyClass);
+    public void registerArtifactKey(ArtifactType artifactType, Class<? extends ArtifactKey> artifactKeyClass) throws BrixException {
+	    registry.registerArtifactKey(artifactType, SystemTypeRegistry.constructorCreator(artifactKeyClass, Artifact.class));
     }
 
     //=============================================================================
@@ -88,14 +66,6 @@ public class ArtifactKeyFactory {
      * @param SystemType systemType
      */
     public ArtifactKey getArtifactKey(ArtifactType artifactType, Artifact artifact) throws SecurityException, NoSuchMethodException, IllegalArgumentException, InstantiationException, IllegalAccessException, InvocationTargetException, BrixException {
-        Class<? extends ArtifactKey> artifactKeyClass = registeredArtifactKeys.get(artifactType);
-	    if (artifactKeyClass == null) {
-            throw new BrixException("No Artifact Key registered for type " + artifactType.getName());
-	    }
-        LOG.info("Found registered ArtifactKey class: " + artifactKeyClass.getName());
-        Constructor<? extends ArtifactKey> artifactKeyConstructor = artifactKeyClass.getDeclaredConstructor(Artifact.class);
-        ArtifactKey artifactKey = artifactKeyConstructor.newInstance(artifact);
-        
-        return artifactKey;
+        return registry.getArtifactKey(artifactType, artifact);
     }
 }
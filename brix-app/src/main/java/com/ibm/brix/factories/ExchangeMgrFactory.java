@@ -22,21 +22,19 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20230915 tmueller  New source file created.
+//*               20261018 agent     Exchange Managers no longer parse the payload
+//*                                  when constructed; drop ParseException.
+//*               20261018 agent     Delegate to the shared SystemTypeRegistry;
+//*                                  the constructor is looked up once.
 //*                                                                 
 //* Additional notes about the Change Activity:
 //*                                                                 
 //=============================================================================
 package com.ibm.brix.factories;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.apache.camel.Exchange;
-import org.json.simple.parser.ParseException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.ibm.brix.BrixException;
 import com.ibm.brix.common.enums.SystemType;
@@ -46,20 +44,18 @@ public class ExchangeMgrFactory {
 	/* CopyRight */
 	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2023 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
 
-	private static final Logger LOG = LoggerFactory.getLogger(ExchangeMgrFactory.class);
-
-	//Preallocate space for entries with the expected usage
-	private Map<SystemType, Class<? extends ExchangeMgr>> registeredExchangeManagers = new HashMap<>(6);
+	private final SystemTypeRegistry registry = SystemTypeRegistry.getInstance();
 
 	/**
 	 * Method:  registerExchangeMgr
-	 * Registration of Exchange Manager classes.
+	 * Registration of Exchange Manager classes. The class must have a public constructor
+	 * taking the Exchange, which is looked up once here.
 	 *
 	 * @param SystemType systemType
 	 * @param Class exchangeMgrClass
 	 */
-	public void registerExchangeMgr(SystemType systemType, Class<? extends ExchangeMgr> exchangeMgrClass){
-		registeredExchangeManagers.put(systemType, exchangeMgrClass);
+	public void registerExchangeMgr(SystemType systemType, Class<? extends ExchangeMgr> exchangeMgrClass) throws BrixException {
+		registry.registerExchangeMgr(systemType, SystemTypeRegistry.constructorCreator(exchangeMgrClass, Exchange.class));
 	}
 
 	//=============================================================================
@@ -72,14 +68,7 @@ public class ExchangeMgrFactory {
 	 *
 	 * @param SystemType systemType
 	 */
-	public ExchangeMgr getExchangeMgr(SystemType systemType, Exchange exchange) throws SecurityException, NoSuchMethodException, IllegalArgumentException, InstantiationException, IllegalAccessException, InvocationTargetException, ParseException, BrixException{
-		Class<? extends ExchangeMgr> exchangeMgrClass = registeredExchangeManagers.get(systemType);
-		if (exchangeMgrClass == null) {
-			throw new BrixException("No ExchangeMgr registered for type " + systemType.getName());
-		}
-        LOG.info("Found registered Exchange Manager class: " + exchangeMgrClass.getName());
-        Constructor<? extends ExchangeMgr> exchangeMgrConstructor = exchangeMgrClass.getConstructor(Exchange.class);
-		ExchangeMgr exchangeMgr = exchangeMgrConstructor.newInstance(exchange);
-		return exchangeMgr;
+	public ExchangeMgr getExchangeMgr(SystemType systemType, Exchange exchange) throws SecurityException, NoSuchMethodException, IllegalArgumentException, InstantiationException, IllegalAccessException, InvocationTargetException, BrixException{
+		return registry.getExchangeMgr(systemType, exchange);
 	}
 }
@@ -0,0 +1,46 @@
+//=============================================================================
+//* Name:         SystemTypePlugin.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX System Type Plugin
+//*
+//* Description:  Extension point for adding support for a SystemType. A plugin
+//*               registers the creators of its Exchange Manager, Action Manager,
+//*               Artifact and Artifact Key with the SystemTypeRegistry once.
+//*               Plugins are found through ServiceLoader
+//*               (META-INF/services/com.ibm.brix.factories.SystemTypePlugin)
+//*               or as CDI beans.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.factories;
+
+public interface SystemTypePlugin {
+	/* CopyRight */
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	/**
+	 * Method:  register
+	 * Registers this plugin's creators with the registry. Called once per plugin.
+	 *
+	 * @param SystemTypeRegistry registry
+	 */
+	void register(SystemTypeRegistry registry);
+}
@@ -0,0 +1,59 @@
+//=============================================================================
+//* Name:         SystemTypePluginLoader.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX System Type Plugin Loader
+//*
+//* Description:  At startup, registers the SystemTypePlugin CDI beans with the
+//*               SystemTypeRegistry, which also populates the registry with the
+//*               built-in and ServiceLoader plugins before the first exchange.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.factories;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class SystemTypePluginLoader {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	@Inject
+	@Any
+	Instance<SystemTypePlugin> plugins;
+
+	/**
+	 * Method:  onStart
+	 * Registers the CDI plugins with the SystemTypeRegistry.
+	 *
+	 * @param StartupEvent event
+	 */
+	void onStart(@Observes StartupEvent event) {
+		SystemTypeRegistry registry = SystemTypeRegistry.getInstance();
+		for (SystemTypePlugin plugin : plugins) {
+			registry.registerPlugin(plugin);
+		}
+	}
+}
@@ -0,0 +1,295 @@
+//=============================================================================
+//* Name:         SystemTypeRegistry.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX System Type Registry
+//*
+//* Description:  The one registry of the per-SystemType Exchange Managers,
+//*               Action Managers and Artifacts, and the per-ArtifactType
+//*               Artifact Keys. It is populated once, from the built-in
+//*               plugins and the plugins found through ServiceLoader, and
+//*               CDI plugins are added at startup. Instances are created
+//*               through the registered lambdas or, for classes registered
+//*               through the factories, through a constructor handle that is
+//*               looked up once at registration.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.factories;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.Exchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.enums.ArtifactType;
+import com.ibm.brix.common.enums.SystemType;
+import com.ibm.brix.common.model.Artifact;
+import com.ibm.brix.common.model.ArtifactKey;
+import com.ibm.brix.managers.ActionMgr;
+import com.ibm.brix.managers.ExchangeMgr;
+import com.ibm.brix.simpleEndpoint.SEPlugin;
+
+public final class SystemTypeRegistry {
+	/* CopyRight */
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private static final Logger LOG = LoggerFactory.getLogger(SystemTypeRegistry.class);
+
+	/**
+	 * Creates an instance from one argument, e.g. an Exchange Manager from its Exchange.
+	 */
+	@FunctionalInterface
+	public interface Creator<P, T> {
+		T create(P parameter) throws Exception;
+	}
+
+	private final Map<SystemType, Creator<Exchange, ? extends ExchangeMgr>> exchangeMgrs = new ConcurrentHashMap<>();
+	private final Map<SystemType, Creator<Exchange, ? extends ActionMgr>> actionMgrs = new ConcurrentHashMap<>();
+	private final Map<SystemType, Callable<? extends Artifact>> artifacts = new ConcurrentHashMap<>();
+	private final Map<ArtifactType, Creator<Artifact, ? extends ArtifactKey>> artifactKeys = new ConcurrentHashMap<>();
+
+	private SystemTypeRegistry() {
+	}
+
+	/*
+	 * Holder idiom: the registry is built and populated on first use, exactly once.
+	 */
+	private static final class Holder {
+		private static final SystemTypeRegistry INSTANCE = createDefault();
+	}
+
+	/**
+	 * Method:  getInstance
+	 * Returns the application's registry.
+	 *
+	 * @return SystemTypeRegistry
+	 */
+	public static SystemTypeRegistry getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	private static SystemTypeRegistry createDefault() {
+		SystemTypeRegistry registry = new SystemTypeRegistry();
+		// Built-in system types.
+		registry.registerPlugin(new SEPlugin());
+		// Plugins packaged with a META-INF/services entry.
+		try {
+			for (SystemTypePlugin plugin : ServiceLoader.load(SystemTypePlugin.class)) {
+				registry.registerPlugin(plugin);
+			}
+		}
+		catch (ServiceConfigurationError e) {
+			LOG.error("Unable to load a SystemTypePlugin: " + e);
+		}
+		return registry;
+	}
+
+	/**
+	 * Method:  registerPlugin
+	 * Lets a plugin register its creators.
+	 *
+	 * @param SystemTypePlugin plugin
+	 */
+	public void registerPlugin(SystemTypePlugin plugin) {
+		LOG.info("Registering SystemTypePlugin " + plugin.getClass().getName());
+		plugin.register(this);
+	}
+
+	public void registerExchangeMgr(SystemType systemType, Creator<Exchange, ? extends ExchangeMgr> creator) {
+		exchangeMgrs.put(systemType, creator);
+	}
+
+	public void registerActionMgr(SystemType systemType, Creator<Exchange, ? extends ActionMgr> creator) {
+		actionMgrs.put(systemType, creator);
+	}
+
+	public void registerArtifact(SystemType systemType, Callable<? extends Artifact> creator) {
+		artifacts.put(systemType, creator);
+	}
+
+	public void registerArtifactKey(ArtifactType artifactType, Creator<Artifact, ? extends ArtifactKey> creator) {
+		artifactKeys.put(artifactType, creator);
+	}
+
+	/**
+	 * Method:  getExchangeMgr
+	 * Creates the Exchange Manager registered for the system type.
+	 *
+	 * @param SystemType systemType
+	 * @param Exchange exchange
+	 * @return ExchangeMgr
+	 * @throws BrixException if none is registered or it cannot be created
+	 */
+	public ExchangeMgr getExchangeMgr(SystemType systemType, Exchange exchange) throws BrixException {
+		Creator<Exchange, ? extends ExchangeMgr> creator = exchangeMgrs.get(systemType);
+		if (creator == null) {
+			throw new BrixException("No ExchangeMgr registered for type " + systemType.getName());
+		}
+		try {
+			return creator.create(exchange);
+		}
+		catch (BrixException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw new BrixException("Unable to create the ExchangeMgr for type " + systemType.getName() + ". " + e, e);
+		}
+	}
+
+	/**
+	 * Method:  getActionMgr
+	 * Creates the Action Manager registered for the system type.
+	 *
+	 * @param SystemType systemType
+	 * @param Exchange exchange
+	 * @return ActionMgr
+	 * @throws BrixException if none is registered or it cannot be created
+	 */
+	public ActionMgr getActionMgr(SystemType systemType, Exchange exchange) throws BrixException {
+		Creator<Exchange, ? extends ActionMgr> creator = actionMgrs.get(systemType);
+		if (creator == null) {
+			throw new BrixException("No ActionMgr registered for type " + systemType.getName());
+		}
+		try {
+			return creator.create(exchange);
+		}
+		catch (BrixException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw new BrixException("Unable to create the ActionMgr for type " + systemType.getName() + ". " + e, e);
+		}
+	}
+
+	/**
+	 * Method:  getArtifact
+	 * Creates a new, empty Artifact of the class registered for the system type.
+	 *
+	 * @param SystemType systemType
+	 * @return Artifact
+	 * @throws BrixException if none is registered or it cannot be created
+	 */
+	public Artifact getArtifact(SystemType systemType) throws BrixException {
+		Callable<? extends Artifact> creator = artifacts.get(systemType);
+		if (creator == null) {
+			throw new BrixException("No Artifact registered for type " + systemType.getName());
+		}
+		try {
+			return creator.call();
+		}
+		catch (BrixException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw new BrixException("Unable to create the Artifact for type " + systemType.getName() + ". " + e, e);
+		}
+	}
+
+	/**
+	 * Method:  getArtifactKey
+	 * Creates the Artifact Key of the class registered for the artifact type.
+	 *
+	 * @param ArtifactType artifactType
+	 * @param Artifact artifact
+	 * @return ArtifactKey
+	 * @throws BrixException if none is registered or it cannot be created
+	 */
+	public ArtifactKey getArtifactKey(ArtifactType artifactType, Artifact artifact) throws BrixException {
+		Creator<Artifact, ? extends ArtifactKey> creator = artifactKeys.get(artifactType);
+		if (creator == null) {
+			throw new BrixException("No Artifact Key registered for type " + artifactType.getName());
+		}
+		try {
+			return creator.create(artifact);
+		}
+		catch (BrixException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw new BrixException("Unable to create the Artifact Key for type " + artifactType.getName() + ". " + e, e);
+		}
+	}
+
+	/**
+	 * Method:  constructorCreator
+	 * Looks up the public constructor of the class taking one parameter of the given type, once,
+	 * and returns a creator that invokes it. Used for classes registered through the factories.
+	 *
+	 * @param Class<T> instanceClass
+	 * @param Class<P> parameterType
+	 * @return Creator<P, T>
+	 * @throws BrixException if the class has no such constructor
+	 */
+	static <P, T> Creator<P, T> constructorCreator(Class<T> instanceClass, Class<P> parameterType) throws BrixException {
+		final MethodHandle constructor;
+		try {
+			constructor = MethodHandles.publicLookup().findConstructor(instanceClass, MethodType.methodType(void.class, parameterType));
+		}
+		catch (NoSuchMethodException|IllegalAccessException e) {
+			throw new BrixException("No public " + instanceClass.getName() + "(" + parameterType.getName() + ") constructor. " + e, e);
+		}
+		return parameter -> {
+			try {
+				return instanceClass.cast(constructor.invoke(parameter));
+			}
+			catch (Exception|Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new Exception(t);
+			}
+		};
+	}
+
+	/**
+	 * Method:  noArgConstructorCreator
+	 * As constructorCreator, for a public no-argument constructor.
+	 */
+	static <T> Callable<T> noArgConstructorCreator(Class<T> instanceClass) throws BrixException {
+		final MethodHandle constructor;
+		try {
+			constructor = MethodHandles.publicLookup().findConstructor(instanceClass, MethodType.methodType(void.class));
+		}
+		catch (NoSuchMethodException|IllegalAccessException e) {
+			throw new BrixException("No public " + instanceClass.getName() + "() constructor. " + e, e);
+		}
+		return () -> {
+			try {
+				return instanceClass.cast(constructor.invoke());
+			}
+			catch (Exception|Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new Exception(t);
+			}
+		};
+	}
+}
@@ -0,0 +1,76 @@
+//=============================================================================
+//* Name:         EndpointCircuitsHealthCheck.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Endpoint Circuits Health Check
+//*
+//* Description:  Readiness check reporting the circuit breaker state of every
+//*               endpoint called so far.
+//*               An open circuit means an endpoint system is unavailable, not
+//*               that BrIX is, so the check stays up unless
+//*               brix.circuit.health-down-when-open is set.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Parked exchanges are counted in the
+//*                                  retry queue, not here.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.health;
+
+import java.util.Map;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+import com.ibm.brix.utils.EndpointGuards;
+import com.ibm.brix.utils.EndpointGuards.CircuitState;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@Readiness
+@ApplicationScoped
+public class EndpointCircuitsHealthCheck implements HealthCheck {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    public static final String NAME = "brix-endpoint-circuits";
+
+    @Inject
+    EndpointGuards endpointGuards;
+
+    @ConfigProperty(name = "brix.circuit.health-down-when-open", defaultValue = "false")
+    boolean downWhenOpen;
+
+    @Override
+    public HealthCheckResponse call() {
+        HealthCheckResponseBuilder response = HealthCheckResponse.named(NAME).up();
+        boolean open = false;
+        for (Map.Entry<String, String> state : endpointGuards.getStates().entrySet()) {
+            response.withData(state.getKey(), state.getValue());
+            open |= state.getValue().startsWith(CircuitState.OPEN.name());
+        }
+        if (open && downWhenOpen) {
+            response.down();
+        }
+        return response.build();
+    }
+}
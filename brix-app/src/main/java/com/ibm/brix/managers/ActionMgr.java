@@ -22,6 +22,11 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20231023 tollefso  New source file created.
+//*               20261018 agent     Create Action Managers through the shared
+//*                                  SystemTypeRegistry instead of registering a
+//*                                  new factory on every call.
+//*               20261018 agent     Add the Camel URI actions are sent to and
+//*                                  which actions can share one endpoint call.
 //*                                                                 
 //* Additional notes about the Change Activity:
 //*                                                                 
@@ -36,9 +41,10 @@ import org.slf4j.LoggerFactory;
 
 import com.ibm.brix.BrixException;
 import com.ibm.brix.Constants;
+import com.ibm.brix.common.enums.ActionCommand;
 import com.ibm.brix.common.enums.SystemType;
-import com.ibm.brix.factories.ActionMgrFactory;
-import com.ibm.brix.simpleEndpoint.SEActionMgr;
+import com.ibm.brix.factories.SystemTypeRegistry;
+import com.ibm.brix.model.Action;
 
 
 public abstract class ActionMgr {
@@ -47,7 +53,6 @@ public abstract class ActionMgr {
 
     private static final Logger LOG = LoggerFactory.getLogger(ActionMgr.class);
 
-    private static ActionMgrFactory actionMgrFactory;
     private SystemType systemType;
     protected Exchange exchange;
 
@@ -55,17 +60,6 @@ public abstract class ActionMgr {
     protected ActionMgr(SystemType type, Exchange exchange) throws ParseException {
         this.systemType = type;
         this.exchange = exchange;
-
-        initializeFactories();
-    }
-
-    /**
-     * Initialize and register with the action factories. It is here that all Action Managers must be registered.
-     */
-    private static void initializeFactories() {
-        // Create the action manager factory and register its action managers
-        actionMgrFactory = new ActionMgrFactory();
-        actionMgrFactory.registerActionMgr(SystemType.SIMPLEEP, SEActionMgr.class);
     }
 
     /**
@@ -80,9 +74,6 @@ public abstract class ActionMgr {
         ActionMgr actionMgr = null;
         SystemType systemType = SystemType.UNKNOWN;
 
-        // Since this is a static method, initialize the factories here.
-        initializeFactories();
-
         // Get the system type from the exchange header.
         systemType = exchange.getIn().getHeader(Constants.BRIX_SOURCE_SYSTEM_TYPE, SystemType.class);
 
@@ -90,7 +81,7 @@ public abstract class ActionMgr {
         
         // Instantiate the appropriate Action Manager for this system type.
         try {
-            actionMgr = actionMgrFactory.getActionMgr(systemType, exchange);
+            actionMgr = SystemTypeRegistry.getInstance().getActionMgr(systemType, exchange);
         }
         catch (Exception e) {
             LOG.error("ERROR: ", e);
@@ -100,4 +91,43 @@ public abstract class ActionMgr {
         return actionMgr;
     }
 
+    public SystemType getSystemType() {
+        return systemType;
+    }
+
+    /**
+     * Method:  getActionUri
+     * Returns the Camel endpoint URI of the custom component that performs actions on endpoints
+     * of this system type. ExecuteActions sends each endpoint call there, with the action in the
+     * BRIX_ACTION header and its artifact as the body. Defaults to direct:execute-action-<type>.
+     *
+     * @param Action action
+     * @return String
+     */
+    public String getActionUri(Action action) {
+        return "direct:" + Constants.EXECUTE_ACTION_ROUTE_PREFIX + systemType.name().toLowerCase();
+    }
+
+    /**
+     * Method:  canCombine
+     * Determines if an action can be folded into an earlier action for the same artifact, so both
+     * are performed by one endpoint call. By default attribute changes are added to a create or to
+     * another attribute or state change, and state changes to attribute or state changes; system
+     * types which cannot set a state in the same update as other attributes override this.
+     *
+     * @param ActionCommand into (the earlier action)
+     * @param ActionCommand next
+     * @return boolean
+     */
+    public boolean canCombine(ActionCommand into, ActionCommand next) {
+        switch (next) {
+        case MODIFYATTRIBUTE:
+            return into == ActionCommand.CREATEARTIFACT || into == ActionCommand.MODIFYATTRIBUTE || into == ActionCommand.CHANGESTATE;
+        case CHANGESTATE:
+            return into == ActionCommand.MODIFYATTRIBUTE || into == ActionCommand.CHANGESTATE;
+        default:
+            return false;
+        }
+    }
+
 }
@@ -24,16 +24,22 @@
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20230915 tmueller  New source file created.
 //*        129157 20250501 carndt    Switch to BRIX_ENDPOINT_SYSTEM_TYPE header
+//*               20261018 agent     Stream the payload from the raw body instead
+//*                                  of parsing a String into a JSONObject tree;
+//*                                  getPayload builds the tree on first use.
+//*               20261018 agent     Create Exchange Managers through the shared
+//*                                  SystemTypeRegistry instead of registering a
+//*                                  new factory on every call.
 //*                                                                 
 //* Additional notes about the Change Activity:
 //*                                                                 
 //=============================================================================
 package com.ibm.brix.managers;
 
+import java.io.IOException;
+
 import org.apache.camel.Exchange;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.json.simple.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,9 +47,11 @@ import com.ibm.brix.BrixException;
 import com.ibm.brix.Constants;
 import com.ibm.brix.common.CommonConstants;
 import com.ibm.brix.common.enums.SystemType;
-import com.ibm.brix.factories.ExchangeMgrFactory;
+import com.ibm.brix.factories.SystemTypeRegistry;
 import com.ibm.brix.common.model.Artifact;
-import com.ibm.brix.simpleEndpoint.SEExchangeMgr;
+import com.ibm.brix.utils.JsonPayloadReader;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 public abstract class ExchangeMgr {
 	/* CopyRight */
@@ -51,39 +59,24 @@ public abstract class ExchangeMgr {
 
 	private static final Logger LOG = LoggerFactory.getLogger(ExchangeMgr.class);
 
-	private static ExchangeMgrFactory exchangeMgrFactory;
 	private SystemType systemType;
 	protected Exchange exchange;
-    protected JSONObject payload;
+    private JSONObject payload;
+    private boolean payloadLoaded = false;
 
 	/**
 	 * Constructor
+	 * The payload is not parsed here. Subclasses stream it with openPayload(), and the
+	 * JSONObject tree is only built if getPayload() is called.
 	 * 
 	 * @param SystemType type
 	 * @param Exchange exchange
-	 * @throws ParseException 
 	 */
-    protected ExchangeMgr(SystemType type, Exchange exchange) throws ParseException {
+    protected ExchangeMgr(SystemType type, Exchange exchange) {
     	this.systemType = type;
     	this.exchange = exchange;
-    	//this.payload = this.exchange.getIn().getBody(JSONObject.class);
-        String body = exchange.getIn().getBody(String.class);
-        JSONParser parser = new JSONParser();
-        this.payload = (JSONObject) parser.parse(body);
-
-    	initializeFactories();
     }
 
-	/**
-	 * Method:  initializeFactories
-	 * Initialize and register with the rule factories. It is here that all Exchange Managers must be registered.
-	 */
-	private static void initializeFactories() {
-		// Create the exchange manager factory and register its exchange managers
-		exchangeMgrFactory = new ExchangeMgrFactory();
-		exchangeMgrFactory.registerExchangeMgr(SystemType.SIMPLEEP, SEExchangeMgr.class);
-	}
-
 	/**
 	 * Method:  getExchangeMgr
 	 * Determines the appropriate source system type Exchange Manager that is used
@@ -98,9 +91,6 @@ public abstract class ExchangeMgr {
 		ExchangeMgr exchangeMgr = null;
         SystemType systemType = SystemType.UNKNOWN;
 
-        // Since this is a static method, initialize the factories here.
-        initializeFactories();
-
         // Get the system type from the exchange header.
 		// CCA Feature 129157: switch from BRIX_SOURCE_SYSTEM_TYPE to BRIX_ENDPOINT_SYSTEM_TYPE
 		// If BRIX_ENDPOINT_SYSTEM_TYPE does not return a systemType, check CommonConstants.HEADER_SYSTEMTYPE
@@ -113,7 +103,7 @@ public abstract class ExchangeMgr {
         
         // Instantiate the appropriate Exchange Manager for this system type.
         try {
-        	exchangeMgr = exchangeMgrFactory.getExchangeMgr(systemType, exchange);
+        	exchangeMgr = SystemTypeRegistry.getInstance().getExchangeMgr(systemType, exchange);
         }
         catch (Exception e) {
         	LOG.error("ERROR: ", e);
@@ -132,11 +122,39 @@ public abstract class ExchangeMgr {
 
 	/**
 	 * Method:  getPayload
+	 * Returns the payload as a JSONObject tree, parsing it on the first call. Returns null if the
+	 * body is empty, JSON null or cannot be parsed as a JSON object.
 	 */
 	public JSONObject getPayload() {
+		if (!payloadLoaded) {
+			payloadLoaded = true;
+			try (JsonParser parser = openPayload()) {
+				this.payload = (parser == null ? null : JsonPayloadReader.readObject(parser));
+			}
+			catch (IOException|BrixException e) {
+				LOG.error("Unable to parse the exchange payload: " + e);
+				this.payload = null;
+			}
+		}
 		return this.payload;
 	}
 
+	/**
+	 * Method:  openPayload
+	 * Opens a streaming JSON parser over the raw exchange body. The caller closes it.
+	 * 
+	 * @return JsonParser, or null if the exchange has no body
+	 * @throws BrixException
+	 */
+	protected JsonParser openPayload() throws BrixException {
+		try {
+			return JsonPayloadReader.createParser(exchange);
+		}
+		catch (IOException e) {
+			throw new BrixException("Unable to read the exchange payload. " + e);
+		}
+	}
+
 	/**
 	 * Method:  validHeaders
 	 * Determines if the headers on the exchange are valid for processing this type of exchange.
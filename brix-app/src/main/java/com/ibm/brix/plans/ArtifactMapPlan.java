@@ -0,0 +1,124 @@
+//=============================================================================
+//* Name:         ArtifactMapPlan.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Artifact Map Plan
+//*
+//* Description:  An ArtifactMap compiled into a transformation plan for one
+//*               direction: one ready-to-run AttributeConverter per GenAttrMap,
+//*               in configured order. Plans are built with the BRoutePlan when
+//*               the BRoute snapshot is built, so the Normalizer and the
+//*               Denormalizer only read, convert and write each attribute.
+//*               The converters with a COMPOSE trait are kept in a second list
+//*               for the compose pass. A digest of the definition tells a
+//*               changed mapping apart from an unchanged one.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Add the digest of the definition.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.brix.common.model.ArtifactMap;
+import com.ibm.brix.common.model.GenAttrMap;
+import com.ibm.brix.plans.AttributeConverter.Direction;
+
+public final class ArtifactMapPlan {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private final ArtifactMap artifactMap;
+	private final Direction direction;
+	private final List<AttributeConverter> converters;
+	private final List<AttributeConverter> composedConverters;
+	private final String definitionDigest;
+
+	private ArtifactMapPlan(ArtifactMap artifactMap, Direction direction, List<AttributeConverter> converters, List<AttributeConverter> composedConverters) {
+		this.artifactMap = artifactMap;
+		this.direction = direction;
+		this.converters = converters;
+		this.composedConverters = composedConverters;
+		this.definitionDigest = SourceFingerprint.digestDefinition(artifactMap, direction);
+	}
+
+	/**
+	 * Method:  compile
+	 * Compiles every GenAttrMap of the ArtifactMap for the given direction.
+	 *
+	 * @param ArtifactMap artifactMap
+	 * @param Direction direction
+	 * @return ArtifactMapPlan
+	 */
+	public static ArtifactMapPlan compile(ArtifactMap artifactMap, Direction direction) {
+		List<GenAttrMap> genAttrMaps = artifactMap.getAttributeMaps();
+		List<AttributeConverter> converters = new ArrayList<>(genAttrMaps == null ? 0 : genAttrMaps.size());
+		if (genAttrMaps != null) {
+			for (GenAttrMap genAttrMap : genAttrMaps) {
+				converters.add(new AttributeConverter(genAttrMap, direction));
+			}
+		}
+
+		// When several GenAttrMaps write the same attribute, the last one added to the artifact supplies its traits.
+		Map<String, AttributeConverter> lastWriters = new LinkedHashMap<>();
+		for (AttributeConverter converter : converters) {
+			lastWriters.remove(converter.getToName());
+			lastWriters.put(converter.getToName(), converter);
+		}
+		List<AttributeConverter> composed = new ArrayList<>();
+		for (AttributeConverter converter : lastWriters.values()) {
+			if (converter.isComposed()) {
+				composed.add(converter);
+			}
+		}
+		return new ArtifactMapPlan(artifactMap, direction, Collections.unmodifiableList(converters), Collections.unmodifiableList(composed));
+	}
+
+	public ArtifactMap getArtifactMap() {
+		return artifactMap;
+	}
+
+	public Direction getDirection() {
+		return direction;
+	}
+
+	public List<AttributeConverter> getConverters() {
+		return converters;
+	}
+
+	/**
+	 * The converters of the attributes which have a COMPOSE trait, in the order their attributes
+	 * were last written. A template may reference an attribute composed before it.
+	 */
+	public List<AttributeConverter> getComposedConverters() {
+		return composedConverters;
+	}
+
+	/**
+	 * The SHA-256, in hex, of the direction and the GenAttrMaps of the ArtifactMap; any change to a
+	 * name, type, trait or value map gives a different one.
+	 */
+	public String getDefinitionDigest() {
+		return definitionDigest;
+	}
+}
@@ -0,0 +1,381 @@
+//=============================================================================
+//* Name:         AtomicActionPlan.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Atomic Action Plan
+//*
+//* Description:  The atomic actions built from the ActionList of one exchange,
+//*               as a graph: each step is one call to an endpoint component,
+//*               performing one or more combined Actions, and lists the steps
+//*               that must have succeeded before it can run. Steps whose
+//*               dependencies are met run at the same time. The plan keeps
+//*               the outcome of every step, so that a retry of the exchange
+//*               only runs the steps which did not succeed. The outcomes of
+//*               the successful steps can be saved with a stored message and
+//*               restored onto the plan rebuilt when it is replayed.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Save and restore the successful steps, for
+//*                                  a durable retry.
+//*               20261018 agent     Keep the validators a step's write
+//*                                  returned, and when it finished.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.enums.ActionCommand;
+import com.ibm.brix.common.model.ArtifactKey;
+import com.ibm.brix.model.Action;
+
+public final class AtomicActionPlan {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	// Saved outcomes: the key of each successful step, with the key of the artifact it created (or null).
+	private static final ObjectMapper MAPPER = new ObjectMapper().addMixIn(ArtifactKey.class, SavedArtifactKey.class);
+	private static final TypeReference<LinkedHashMap<String, ArtifactKey>> OUTCOMES_TYPE = new TypeReference<>() {};
+
+	/*
+	 * Only the created key itself is saved, not the artifact it was read from.
+	 */
+	@JsonIgnoreProperties(value = { "artifact" }, ignoreUnknown = true)
+	private abstract static class SavedArtifactKey {
+	}
+
+	/**
+	 * Outcome of one step. A step is PENDING until it is run, and again after a failed attempt
+	 * once the plan is prepared for a retry.
+	 */
+	public enum StepStatus { PENDING, RUNNING, SUCCESS, FAILED, SKIPPED, TIMED_OUT }
+
+	/**
+	 * One atomic action: a single call to an endpoint component.
+	 */
+	public static final class Step {
+		private final int id;
+		private final String artifact;
+		private final Action action;
+		private final List<Integer> positions = new ArrayList<>();
+		private final Set<String> attributeNames = new LinkedHashSet<>();
+		private final Set<Integer> dependsOn = new LinkedHashSet<>();
+		private final AtomicReference<StepStatus> status = new AtomicReference<>(StepStatus.PENDING);
+		private volatile Throwable exception;
+		private volatile long elapsedMillis;
+		private volatile int attempts;
+		private volatile ArtifactKey createdKey;
+		private volatile String etag;
+		private volatile String lastModified;
+		private volatile long finishedNanos;
+
+		Step(int id, String artifact, Action action) {
+			this.id = id;
+			this.artifact = artifact;
+			this.action = action;
+		}
+
+		public int getId() {
+			return id;
+		}
+
+		/** The side, endpoint and artifact key the step acts on. */
+		public String getArtifact() {
+			return artifact;
+		}
+
+		/** The action sent to the endpoint component, with the attributes of every action combined into it. */
+		public Action getAction() {
+			return action;
+		}
+
+		public ActionCommand getActionCommand() {
+			return action.getActionCommand();
+		}
+
+		/** The positions in the ActionList of the actions this step performs. */
+		public List<Integer> getPositions() {
+			return Collections.unmodifiableList(positions);
+		}
+
+		public Set<String> getAttributeNames() {
+			return Collections.unmodifiableSet(attributeNames);
+		}
+
+		/** The ids of the steps which must succeed before this one runs. */
+		public Set<Integer> getDependsOn() {
+			return Collections.unmodifiableSet(dependsOn);
+		}
+
+		public StepStatus getStatus() {
+			return status.get();
+		}
+
+		public boolean isSuccess() {
+			return status.get() == StepStatus.SUCCESS;
+		}
+
+		public Throwable getException() {
+			return exception;
+		}
+
+		public long getElapsedMillis() {
+			return elapsedMillis;
+		}
+
+		/** The number of times the step was run. */
+		public int getAttempts() {
+			return attempts;
+		}
+
+		/** The key of the artifact a successful create step created, if the endpoint returned one. */
+		public ArtifactKey getCreatedKey() {
+			return createdKey;
+		}
+
+		public void setCreatedKey(ArtifactKey createdKey) {
+			this.createdKey = createdKey;
+		}
+
+		/** The ETag the endpoint returned for the step's successful write, if any. */
+		public String getEtag() {
+			return etag;
+		}
+
+		/** The Last-Modified the endpoint returned for the step's successful write, if any. */
+		public String getLastModified() {
+			return lastModified;
+		}
+
+		public void setValidators(String etag, String lastModified) {
+			this.etag = etag;
+			this.lastModified = lastModified;
+		}
+
+		/** System.nanoTime() when the step's outcome was recorded; 0 if it was not run here. */
+		public long getFinishedNanos() {
+			return finishedNanos;
+		}
+
+		public void addAction(int position, Set<String> names) {
+			positions.add(position);
+			attributeNames.addAll(names);
+		}
+
+		public void addDependency(Step step) {
+			if (step != null && step != this) {
+				dependsOn.add(step.id);
+			}
+		}
+
+		/**
+		 * Method:  start
+		 * Marks a pending step as running. Returns false if it was not pending.
+		 *
+		 * @return boolean
+		 */
+		public boolean start() {
+			if (status.compareAndSet(StepStatus.PENDING, StepStatus.RUNNING)) {
+				attempts++;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Method:  finish
+		 * Records the outcome of a pending or running step. The first outcome is kept, so a call
+		 * finishing after the step was given up on does not change what was reported.
+		 *
+		 * @param StepStatus outcome
+		 * @param Throwable exception
+		 * @param long elapsedMillis
+		 * @return boolean (true if the outcome was recorded)
+		 */
+		public boolean finish(StepStatus outcome, Throwable exception, long elapsedMillis) {
+			StepStatus current = status.get();
+			while (current == StepStatus.PENDING || current == StepStatus.RUNNING) {
+				if (status.compareAndSet(current, outcome)) {
+					this.exception = exception;
+					this.elapsedMillis = elapsedMillis;
+					this.finishedNanos = System.nanoTime();
+					return true;
+				}
+				current = status.get();
+			}
+			return false;
+		}
+
+		@Override
+		public String toString() {
+			return "Step " + id + " '" + action.getActionName() + "' (" + action.getActionCommand().getName() + ", after " + dependsOn + "): " + status.get()
+				+ (attempts > 1 ? " on attempt " + attempts : "") + (exception == null ? "" : " (" + exception.getMessage() + ")");
+		}
+	}
+
+	private final List<Action> actions;
+	private final List<Step> steps = new ArrayList<>();
+
+	public AtomicActionPlan(List<Action> actions) {
+		this.actions = Collections.unmodifiableList(new ArrayList<>(actions));
+	}
+
+	/**
+	 * Method:  addStep
+	 * Adds a step performing the given action. Steps must be added after the steps they depend on.
+	 *
+	 * @param String artifact
+	 * @param Action action
+	 * @return Step
+	 */
+	public Step addStep(String artifact, Action action) {
+		Step step = new Step(steps.size() + 1, artifact, action);
+		steps.add(step);
+		return step;
+	}
+
+	/** The Actions the plan was built from, in ActionList order. */
+	public List<Action> getActions() {
+		return actions;
+	}
+
+	/** The steps, each after the steps it depends on. */
+	public List<Step> getSteps() {
+		return Collections.unmodifiableList(steps);
+	}
+
+	public Step getStep(int id) {
+		return steps.get(id - 1);
+	}
+
+	/** The step performing the action at the given ActionList position. */
+	public Step getStepFor(int position) {
+		for (Step step : steps) {
+			if (step.positions.contains(position)) {
+				return step;
+			}
+		}
+		return null;
+	}
+
+	/** True once every step has succeeded. */
+	public boolean isComplete() {
+		for (Step step : steps) {
+			if (!step.isSuccess()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Method:  prepareRetry
+	 * Sets every failed, skipped or timed out step back to pending, so that running the plan again
+	 * resumes from the failed steps. Returns the number of steps to run.
+	 *
+	 * @return int
+	 */
+	public int prepareRetry() {
+		int pending = 0;
+		for (Step step : steps) {
+			StepStatus status = step.status.get();
+			if (status == StepStatus.FAILED || status == StepStatus.SKIPPED || status == StepStatus.TIMED_OUT) {
+				step.status.compareAndSet(status, StepStatus.PENDING);
+			}
+			if (step.status.get() == StepStatus.PENDING) {
+				pending++;
+			}
+		}
+		return pending;
+	}
+
+	/**
+	 * Method:  saveOutcomes
+	 * The steps that succeeded, with the key of any artifact they created, in JSON. A retry that
+	 * replays the stored message rebuilds the plan and restores them (restoreOutcomes), so that
+	 * it only runs the steps which did not succeed.
+	 *
+	 * @return String
+	 * @throws BrixException if a created key cannot be written
+	 */
+	public String saveOutcomes() throws BrixException {
+		Map<String, ArtifactKey> outcomes = new LinkedHashMap<>();
+		for (Step step : steps) {
+			if (step.isSuccess()) {
+				outcomes.put(outcomeKey(step), step.getCreatedKey());
+			}
+		}
+		try {
+			return MAPPER.writerFor(OUTCOMES_TYPE).writeValueAsString(outcomes);
+		}
+		catch (JsonProcessingException e) {
+			throw new BrixException("The outcomes of the atomic actions cannot be saved: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Method:  restoreOutcomes
+	 * Marks the pending steps saved as successful by saveOutcomes successful again, with the keys
+	 * of the artifacts they created. A step is matched by its id, artifact and command, so in a
+	 * plan that was built differently (the rules gave other actions) the steps that do not match
+	 * are run. Returns the number of steps restored.
+	 *
+	 * @param String outcomes (from saveOutcomes)
+	 * @return int
+	 * @throws BrixException if the outcomes are not valid
+	 */
+	public int restoreOutcomes(String outcomes) throws BrixException {
+		Map<String, ArtifactKey> saved;
+		try {
+			saved = MAPPER.readValue(outcomes, OUTCOMES_TYPE);
+		}
+		catch (JsonProcessingException e) {
+			throw new BrixException("The saved outcomes of the atomic actions are not valid: " + e.getMessage(), e);
+		}
+		int restored = 0;
+		for (Step step : steps) {
+			String key = outcomeKey(step);
+			if (saved.containsKey(key) && step.status.compareAndSet(StepStatus.PENDING, StepStatus.SUCCESS)) {
+				step.createdKey = saved.get(key);
+				restored++;
+			}
+		}
+		return restored;
+	}
+
+	private static String outcomeKey(Step step) {
+		return step.id + "|" + step.artifact + "|" + step.getActionCommand().name();
+	}
+
+	@Override
+	public String toString() {
+		return "AtomicActionPlan of " + actions.size() + " actions in " + steps.size() + " steps " + steps;
+	}
+}
@@ -0,0 +1,299 @@
+//=============================================================================
+//* Name:         AttributeConverter.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Attribute Converter
+//*
+//* Description:  One GenAttrMap compiled for one direction of transformation.
+//*               The attribute names to read and write are resolved, a DATE
+//*               pattern is turned into a DateTimeFormatter once, and the ENUM
+//*               value map entries for the direction's resource side are put
+//*               into a hash map, so converting a value is a single call.
+//*               A COMPOSE trait is parsed once into a ComposeTemplate.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.enums.AttributeType;
+import com.ibm.brix.common.enums.ResourceSide;
+import com.ibm.brix.common.enums.Trait;
+import com.ibm.brix.common.model.Artifact;
+import com.ibm.brix.common.model.GenAttrMap;
+import com.ibm.brix.common.model.GenValueMap;
+
+public final class AttributeConverter {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+	private static final Logger LOG = LoggerFactory.getLogger(AttributeConverter.class);
+
+	static final ZoneId ZONE_UTC = ZoneId.of(Constants.TIMEZONE_UTC);
+
+	/**
+	 * The direction an ArtifactMap is applied in. Normalizing reads the system attribute and writes the
+	 * generic attribute using the SOURCE value maps; denormalizing reads the generic attribute and writes
+	 * the system attribute using the TARGET value maps.
+	 */
+	public enum Direction {
+		NORMALIZE,
+		DENORMALIZE
+	}
+
+	@FunctionalInterface
+	private interface ValueConversion {
+		Object convert(Object value) throws BrixException;
+	}
+
+	private final GenAttrMap genAttrMap;
+	private final String fromName;
+	private final String toName;
+	private final AttributeType attributeType;
+	private final Map<Trait,String> attributeTraits;
+	private final ValueConversion conversion;
+	private final ComposeTemplate composeTemplate;
+	private final BrixException composeError;
+
+	AttributeConverter(GenAttrMap genAttrMap, Direction direction) {
+		this.genAttrMap = genAttrMap;
+		this.attributeType = genAttrMap.getAttributeType();
+		this.attributeTraits = genAttrMap.getAttributeTraits();
+		if (direction == Direction.NORMALIZE) {
+			this.fromName = genAttrMap.getAttributeName();
+			this.toName = genAttrMap.getGenericName();
+		}
+		else {
+			this.fromName = genAttrMap.getGenericName();
+			this.toName = genAttrMap.getAttributeName();
+		}
+
+		if (attributeType == AttributeType.DATE) {
+			this.conversion = (direction == Direction.NORMALIZE ? toGenericDate(genAttrMap.getAttributeTrait(Trait.PATTERN)) : fromGenericDate(genAttrMap.getAttributeTrait(Trait.PATTERN)));
+		}
+		else if (attributeType == AttributeType.ENUM) {
+			this.conversion = (direction == Direction.NORMALIZE ? toGenericEnum(genAttrMap.getToGenericValueMap()) : fromGenericEnum(genAttrMap.getFromGenericValueMap()));
+		}
+		else {
+			this.conversion = value -> value;
+		}
+
+		// A template which cannot be parsed is reported when a value is composed, rather than failing the whole plan.
+		String composeTrait = (attributeTraits == null ? null : attributeTraits.get(Trait.COMPOSE));
+		ComposeTemplate template = null;
+		BrixException error = null;
+		if (composeTrait != null) {
+			try {
+				template = ComposeTemplate.parse(composeTrait);
+			}
+			catch (BrixException e) {
+				LOG.error("Invalid COMPOSE trait on attribute '" + toName + "': " + e.getMessage());
+				error = e;
+			}
+		}
+		this.composeTemplate = template;
+		this.composeError = error;
+	}
+
+	/**
+	 * Method:  convert
+	 * Converts the value read from getFromName() into the value to write to getToName().
+	 *
+	 * @param Object value
+	 * @return Object
+	 * @throws BrixException
+	 */
+	public Object convert(Object value) throws BrixException {
+		return conversion.convert(value);
+	}
+
+	/**
+	 * Method:  compose
+	 * Renders the COMPOSE trait of this attribute against the artifact being built.
+	 *
+	 * @param Artifact artifact
+	 * @return String
+	 * @throws BrixException if the COMPOSE trait could not be parsed
+	 */
+	public String compose(Artifact artifact) throws BrixException {
+		if (composeError != null) {
+			throw new BrixException(composeError.getMessage());
+		}
+		return (composeTemplate == null ? null : composeTemplate.render(artifact));
+	}
+
+	/** True if this attribute has a COMPOSE trait. */
+	public boolean isComposed() {
+		return composeTemplate != null || composeError != null;
+	}
+
+	public GenAttrMap getGenAttrMap() {
+		return genAttrMap;
+	}
+
+	/** Name of the attribute the value is read from. */
+	public String getFromName() {
+		return fromName;
+	}
+
+	/** Name of the attribute the converted value is written to. */
+	public String getToName() {
+		return toName;
+	}
+
+	public AttributeType getAttributeType() {
+		return attributeType;
+	}
+
+	public Map<Trait,String> getAttributeTraits() {
+		return attributeTraits;
+	}
+
+	/*
+	 * System date string -> Instant, parsed as a local date time in UTC.
+	 */
+	private static ValueConversion toGenericDate(String pattern) {
+		final DateFormat dateFormat = new DateFormat(pattern, null);
+		return value -> {
+			String dateStr = value.toString();
+			try {
+				return LocalDateTime.parse(dateStr, dateFormat.get()).atZone(ZONE_UTC).toInstant();
+			}
+			catch (IllegalArgumentException|DateTimeParseException e) {
+				LOG.error("Date conversion exeption: " + e);
+				throw new BrixException(e);
+			}
+		};
+	}
+
+	/*
+	 * Instant -> system date string, formatted in UTC.
+	 */
+	private static ValueConversion fromGenericDate(String pattern) {
+		final DateFormat dateFormat = new DateFormat(pattern, ZONE_UTC);
+		return value -> {
+			try {
+				return dateFormat.get().format((Instant)value);
+			}
+			catch (IllegalArgumentException|DateTimeParseException e) {
+				LOG.error("Date conversion exeption: " + e);
+				throw new BrixException(e);
+			}
+		};
+	}
+
+	/*
+	 * A DATE pattern compiled once. A pattern which cannot be compiled is reported each time a value is
+	 * converted, as it was when the formatter was built per value, rather than failing the whole plan.
+	 */
+	private static final class DateFormat {
+		private final DateTimeFormatter formatter;
+		private final String pattern;
+		private final IllegalArgumentException patternError;
+
+		DateFormat(String pattern, ZoneId zone) {
+			DateTimeFormatter compiled = null;
+			IllegalArgumentException error = null;
+			if (pattern != null) {
+				try {
+					compiled = DateTimeFormatter.ofPattern(pattern);
+					if (zone != null) {
+						compiled = compiled.withZone(zone);
+					}
+				}
+				catch (IllegalArgumentException e) {
+					error = e;
+				}
+			}
+			this.formatter = compiled;
+			this.pattern = pattern;
+			this.patternError = error;
+		}
+
+		DateTimeFormatter get() {
+			if (pattern == null) {
+				throw new NullPointerException("pattern");
+			}
+			if (patternError != null) {
+				throw new IllegalArgumentException(patternError.getMessage(), patternError);
+			}
+			return formatter;
+		}
+	}
+
+	/*
+	 * System enum value -> generic value, from the SOURCE value maps. The first configured entry for a
+	 * value wins, as it did with the linear search. An unmapped value is passed through as a string.
+	 */
+	private static ValueConversion toGenericEnum(List<GenValueMap> valueMapList) {
+		Map<String,String> valueMap = new HashMap<>();
+		if (valueMapList != null) {
+			for (GenValueMap genValueMap : valueMapList) {
+				if (genValueMap.getResourceSide() == ResourceSide.SOURCE && genValueMap.getAttributeValue() != null) {
+					valueMap.putIfAbsent(genValueMap.getAttributeValue(), genValueMap.getGenericValue());
+				}
+			}
+		}
+		return lookupEnum(Collections.unmodifiableMap(valueMap),
+				"Attribute enum value '%s' was not found in the Generic Value Map configuration. Using the original enum value for the generic attribute value.");
+	}
+
+	/*
+	 * Generic enum value -> system value, from the TARGET value maps.
+	 */
+	private static ValueConversion fromGenericEnum(List<GenValueMap> valueMapList) {
+		Map<String,String> valueMap = new HashMap<>();
+		if (valueMapList != null) {
+			for (GenValueMap genValueMap : valueMapList) {
+				if (genValueMap.getResourceSide() == ResourceSide.TARGET && genValueMap.getGenericValue() != null) {
+					valueMap.putIfAbsent(genValueMap.getGenericValue(), genValueMap.getAttributeValue());
+				}
+			}
+		}
+		return lookupEnum(Collections.unmodifiableMap(valueMap),
+				"Generic enum value '%s' was not found in the Generic Value Map configuration. Using the generic enum value for the target attribute value.");
+	}
+
+	private static ValueConversion lookupEnum(Map<String,String> valueMap, String notFoundMessage) {
+		return value -> {
+			if (value == null) {
+				return null;
+			}
+			String valueStr = value.toString();
+			if (valueMap.containsKey(valueStr)) {
+				return valueMap.get(valueStr);
+			}
+			LOG.warn(String.format(notFoundMessage, valueStr));
+			return valueStr;
+		};
+	}
+}
@@ -0,0 +1,113 @@
+//=============================================================================
+//* Name:         BRoutePlan.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX BRoute Plan
+//*
+//* Description:  Everything that is precomputed for one BRoute when a BRoute
+//*               snapshot is built, so that the per-exchange beans do not
+//*               have to derive it from the configuration on every exchange.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Add the source and target ArtifactMapPlans.
+//*               20261018 agent     Return all the target ArtifactMapPlans.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.ibm.brix.common.enums.ArtifactType;
+import com.ibm.brix.common.model.ArtifactMap;
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.plans.AttributeConverter.Direction;
+
+public final class BRoutePlan {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private final BRoute broute;
+	private final RulePlan rulePlan;
+	private final Map<ArtifactType, ArtifactMapPlan> sourceArtifactMapPlans;
+	private final Map<ArtifactType, ArtifactMapPlan> targetArtifactMapPlans;
+
+	private BRoutePlan(BRoute broute, RulePlan rulePlan, Map<ArtifactType, ArtifactMapPlan> sourceArtifactMapPlans, Map<ArtifactType, ArtifactMapPlan> targetArtifactMapPlans) {
+		this.broute = broute;
+		this.rulePlan = rulePlan;
+		this.sourceArtifactMapPlans = sourceArtifactMapPlans;
+		this.targetArtifactMapPlans = targetArtifactMapPlans;
+	}
+
+	/**
+	 * Method:  compile
+	 * Compiles the Rules of the BRoute, its source ArtifactMaps for normalizing and its target
+	 * ArtifactMaps for denormalizing.
+	 * 
+	 * @param BRoute broute
+	 * @return BRoutePlan
+	 */
+	public static BRoutePlan compile(BRoute broute) {
+		Map<ArtifactType, ArtifactMapPlan> sourcePlans = new EnumMap<>(ArtifactType.class);
+		Map<ArtifactType, ArtifactMapPlan> targetPlans = new EnumMap<>(ArtifactType.class);
+		for (ArtifactType artifactType : ArtifactType.values()) {
+			ArtifactMap sourceArtifactMap = broute.getSourceArtifactMap(artifactType);
+			if (sourceArtifactMap != null) {
+				sourcePlans.put(artifactType, ArtifactMapPlan.compile(sourceArtifactMap, Direction.NORMALIZE));
+			}
+			ArtifactMap targetArtifactMap = broute.getTargetArtifactMap(artifactType);
+			if (targetArtifactMap != null) {
+				targetPlans.put(artifactType, ArtifactMapPlan.compile(targetArtifactMap, Direction.DENORMALIZE));
+			}
+		}
+		return new BRoutePlan(broute, RulePlan.compile(broute), Collections.unmodifiableMap(sourcePlans), Collections.unmodifiableMap(targetPlans));
+	}
+
+	public BRoute getBRoute() {
+		return broute;
+	}
+
+	public RulePlan getRulePlan() {
+		return rulePlan;
+	}
+
+	/**
+	 * The normalizing plan of the BRoute's source ArtifactMap for the artifact type, or null
+	 * if the BRoute has no source ArtifactMap for it.
+	 */
+	public ArtifactMapPlan getSourceArtifactMapPlan(ArtifactType artifactType) {
+		return (artifactType == null ? null : sourceArtifactMapPlans.get(artifactType));
+	}
+
+	/**
+	 * The denormalizing plan of the BRoute's target ArtifactMap for the artifact type, or null
+	 * if the BRoute has no target ArtifactMap for it.
+	 */
+	public ArtifactMapPlan getTargetArtifactMapPlan(ArtifactType artifactType) {
+		return (artifactType == null ? null : targetArtifactMapPlans.get(artifactType));
+	}
+
+	/**
+	 * The denormalizing plans of all the BRoute's target ArtifactMaps.
+	 */
+	public Collection<ArtifactMapPlan> getTargetArtifactMapPlans() {
+		return targetArtifactMapPlans.values();
+	}
+}
@@ -0,0 +1,79 @@
+//=============================================================================
+//* Name:         CompiledRule.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Compiled Rule
+//*
+//* Description:  A Rule with its RuleConditions sorted by sequence and compiled.
+//*               The condition list is an unmodifiable copy; the configured
+//*               Rule is never modified. A Rule whose first condition is an
+//*               ATTRIBUTE EXISTS condition is guarded by that condition;
+//*               RulePlan uses the guard to skip the Rule when the attribute
+//*               is absent.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ibm.brix.common.model.Rule;
+import com.ibm.brix.common.model.RuleCondition;
+
+public final class CompiledRule {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private final Rule rule;
+	private final List<CompiledRuleCondition> ruleConditions;
+	private final CompiledRuleCondition guard;
+
+	CompiledRule(Rule rule) {
+		this.rule = rule;
+		List<RuleCondition> sorted = (rule.getRuleConditions() == null) ? new ArrayList<>() : new ArrayList<>(rule.getRuleConditions());
+		// Stable sort, so conditions with equal sequence keep their configured order as before.
+		sorted.sort((rc1, rc2) -> Integer.compare(rc1.getSequence(), rc2.getSequence()));
+		List<CompiledRuleCondition> compiled = new ArrayList<>(sorted.size());
+		for (RuleCondition ruleCondition : sorted) {
+			compiled.add(new CompiledRuleCondition(ruleCondition));
+		}
+		this.ruleConditions = Collections.unmodifiableList(compiled);
+		// Only the first condition may guard the Rule: it is asserted before any other condition, so skipping the
+		// Rule when it is false can neither change the result nor hide an exception a later condition would throw.
+		this.guard = (!compiled.isEmpty() && compiled.get(0).isAttributeExists()) ? compiled.get(0) : null;
+	}
+
+	public Rule getRule() {
+		return rule;
+	}
+
+	public List<CompiledRuleCondition> getRuleConditions() {
+		return ruleConditions;
+	}
+
+	/**
+	 * The leading ATTRIBUTE EXISTS condition of this Rule, or null if the Rule does not start with one
+	 * and so has to be asserted for every artifact.
+	 */
+	public CompiledRuleCondition getGuard() {
+		return guard;
+	}
+}
@@ -0,0 +1,125 @@
+//=============================================================================
+//* Name:         CompiledRuleCondition.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Compiled Rule Condition
+//*
+//* Description:  A RuleCondition with its predicate resolved ahead of time by
+//*               BrixPredicate.compile. Asserting it only looks up the subject
+//*               value and tests it. Conditions with a PredicateType that
+//*               cannot be asserted are rejected when the plan is compiled.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Reject CLASS conditions at compile time
+//*                                  instead of asserting them false.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import org.apache.camel.Exchange;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.enums.PredicateType;
+import com.ibm.brix.common.enums.ResourceSide;
+import com.ibm.brix.common.enums.RuleOperator;
+import com.ibm.brix.common.model.RuleCondition;
+import com.ibm.brix.model.GenericArtifact;
+import com.ibm.brix.utils.BrixPredicate;
+import com.ibm.brix.utils.BrixPredicate.CompiledPredicate;
+
+public final class CompiledRuleCondition {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private final RuleCondition ruleCondition;
+	private final PredicateType predicateType;
+	private final String subject;
+	private final ResourceSide resourceSide;
+	private final RuleOperator operator;
+	private final CompiledPredicate predicate;
+
+	/*
+	 * Throws IllegalArgumentException for a PredicateType that cannot be asserted, so a BRoute
+	 * configured with one fails to load instead of silently never matching.
+	 */
+	CompiledRuleCondition(RuleCondition ruleCondition) {
+		this.ruleCondition = ruleCondition;
+		this.predicateType = ruleCondition.getPredicateType();
+		if (predicateType != PredicateType.ATTRIBUTE && predicateType != PredicateType.EXCHANGEHEADER) {
+			throw new IllegalArgumentException("RuleCondition does not support the PredicateType: "
+				+ (predicateType == null ? "null" : predicateType.getName()) + " (" + ruleCondition + ")");
+		}
+		this.subject = ruleCondition.getPredicateSubject();
+		this.resourceSide = ruleCondition.getResourceSide();
+		this.operator = ruleCondition.getRuleConditionOperator();
+		this.predicate = BrixPredicate.compile(operator, ruleCondition.getPredicatePattern());
+	}
+
+	/**
+	 * Method:  assertCondition
+	 * Asserts this condition with the same semantics as AssertRuleConditions has always used:
+	 *    - ATTRIBUTE tests the attribute value of the generic artifact on the condition's resource side
+	 *    - EXCHANGEHEADER tests the value of the Exchange header
+	 * CLASS and any other PredicateType are rejected by the constructor.
+	 * 
+	 * @param GenericArtifact sourceGenericArtifact
+	 * @param GenericArtifact targetGenericArtifact
+	 * @param Exchange exchange
+	 * @return boolean (T/F)
+	 * @throws BrixException
+	 */
+	public boolean assertCondition(GenericArtifact sourceGenericArtifact, GenericArtifact targetGenericArtifact, Exchange exchange) throws BrixException {
+		switch(predicateType) {
+		case ATTRIBUTE:
+			GenericArtifact artifact = (resourceSide == ResourceSide.SOURCE ? sourceGenericArtifact : targetGenericArtifact);
+			return predicate.test(artifact.getAttributeValue(subject));
+		case EXCHANGEHEADER:
+			return predicate.test(exchange.getIn().getHeader(subject, Object.class));
+		default:
+			throw new IllegalArgumentException("RuleCondition does not support the PredicateType: " + predicateType.getName());
+		}
+	}
+
+	/**
+	 * True for an ATTRIBUTE EXISTS condition, which marks the attribute it tests as handled
+	 * by the rule.
+	 */
+	public boolean isAttributeExists() {
+		return predicateType == PredicateType.ATTRIBUTE && operator == RuleOperator.EXISTS;
+	}
+
+	public RuleCondition getRuleCondition() {
+		return ruleCondition;
+	}
+
+	public PredicateType getPredicateType() {
+		return predicateType;
+	}
+
+	public String getSubject() {
+		return subject;
+	}
+
+	public ResourceSide getResourceSide() {
+		return resourceSide;
+	}
+
+	public RuleOperator getOperator() {
+		return operator;
+	}
+}
@@ -0,0 +1,220 @@
+//=============================================================================
+//* Name:         ComposeTemplate.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Compose Template
+//*
+//* Description:  The value of a Trait.COMPOSE trait parsed once into a list of
+//*               segments. Rendering a template against an artifact only
+//*               appends literals and attribute values to one StringBuilder.
+//*               Template language:
+//*                  text           literal text
+//*                  {name}         value of attribute 'name' of the artifact
+//*                                 being built, "" if it has no value
+//*                  {name|f|g:x}   the value passed through functions, left
+//*                                 to right:
+//*                                    upper, lower, trim
+//*                                    default:text  - text if the value is
+//*                                                    missing or empty
+//*                                    truncate:n    - at most n characters
+//*                  {{ and }}      literal { and }
+//*               e.g. "{project|upper}-{number} ({summary|truncate:40})"
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.model.Artifact;
+
+public final class ComposeTemplate {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	@FunctionalInterface
+	private interface Segment {
+		void render(Artifact artifact, StringBuilder sb);
+	}
+
+	@FunctionalInterface
+	private interface ValueFunction {
+		String apply(String value);
+	}
+
+	private final String template;
+	private final List<Segment> segments;
+	private final int literalLength;
+
+	private ComposeTemplate(String template, List<Segment> segments, int literalLength) {
+		this.template = template;
+		this.segments = segments;
+		this.literalLength = literalLength;
+	}
+
+	/**
+	 * Method:  parse
+	 * Parses a COMPOSE trait value into a template.
+	 *
+	 * @param String template
+	 * @return ComposeTemplate
+	 * @throws BrixException if the template is not well formed
+	 */
+	public static ComposeTemplate parse(String template) throws BrixException {
+		if (template == null) {
+			throw new BrixException("The COMPOSE template is null.");
+		}
+		List<Segment> segments = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		int literalLength = 0;
+		int i = 0;
+		int length = template.length();
+		while (i < length) {
+			char c = template.charAt(i);
+			if (c == '{' && i + 1 < length && template.charAt(i + 1) == '{') {
+				literal.append('{');
+				i += 2;
+			}
+			else if (c == '}' && i + 1 < length && template.charAt(i + 1) == '}') {
+				literal.append('}');
+				i += 2;
+			}
+			else if (c == '}') {
+				throw new BrixException("Unmatched '}' at position " + i + " in COMPOSE template: " + template);
+			}
+			else if (c == '{') {
+				int end = template.indexOf('}', i + 1);
+				if (end < 0) {
+					throw new BrixException("Unterminated '{' at position " + i + " in COMPOSE template: " + template);
+				}
+				if (literal.length() > 0) {
+					segments.add(literalSegment(literal.toString()));
+					literalLength += literal.length();
+					literal.setLength(0);
+				}
+				segments.add(parseReference(template.substring(i + 1, end), template));
+				i = end + 1;
+			}
+			else {
+				literal.append(c);
+				i++;
+			}
+		}
+		if (literal.length() > 0) {
+			segments.add(literalSegment(literal.toString()));
+			literalLength += literal.length();
+		}
+		return new ComposeTemplate(template, Collections.unmodifiableList(segments), literalLength);
+	}
+
+	/**
+	 * Method:  render
+	 * Renders the template against the attribute values the artifact has now.
+	 *
+	 * @param Artifact artifact
+	 * @return String
+	 */
+	public String render(Artifact artifact) {
+		StringBuilder sb = new StringBuilder(literalLength + 16 * segments.size());
+		for (Segment segment : segments) {
+			segment.render(artifact, sb);
+		}
+		return sb.toString();
+	}
+
+	public String getTemplate() {
+		return template;
+	}
+
+	private static Segment literalSegment(String text) {
+		return (artifact, sb) -> sb.append(text);
+	}
+
+	/*
+	 * "name" or "name|function|function:argument"
+	 */
+	private static Segment parseReference(String reference, String template) throws BrixException {
+		String[] parts = reference.split("\\|", -1);
+		String attributeName = parts[0].trim();
+		if (attributeName.isEmpty()) {
+			throw new BrixException("Missing attribute name in '{" + reference + "}' in COMPOSE template: " + template);
+		}
+		List<ValueFunction> functions = new ArrayList<>(parts.length - 1);
+		for (int p = 1; p < parts.length; p++) {
+			functions.add(parseFunction(parts[p], template));
+		}
+
+		if (functions.isEmpty()) {
+			return (artifact, sb) -> {
+				Object value = artifact.getAttributeValue(attributeName);
+				if (value != null) {
+					sb.append(value);
+				}
+			};
+		}
+		ValueFunction[] chain = functions.toArray(new ValueFunction[0]);
+		return (artifact, sb) -> {
+			Object value = artifact.getAttributeValue(attributeName);
+			String str = (value == null ? null : value.toString());
+			for (ValueFunction function : chain) {
+				str = function.apply(str);
+			}
+			if (str != null) {
+				sb.append(str);
+			}
+		};
+	}
+
+	private static ValueFunction parseFunction(String function, String template) throws BrixException {
+		int colon = function.indexOf(':');
+		String name = (colon < 0 ? function : function.substring(0, colon)).trim();
+		String argument = (colon < 0 ? null : function.substring(colon + 1));
+		switch (name) {
+		case "upper":
+			return value -> (value == null ? null : value.toUpperCase(Locale.ROOT));
+		case "lower":
+			return value -> (value == null ? null : value.toLowerCase(Locale.ROOT));
+		case "trim":
+			return value -> (value == null ? null : value.trim());
+		case "default":
+			if (argument == null) {
+				throw new BrixException("Function 'default' needs a value, e.g. default:none, in COMPOSE template: " + template);
+			}
+			return value -> ((value == null || value.isEmpty()) ? argument : value);
+		case "truncate":
+			final int max;
+			try {
+				max = Integer.parseInt(argument == null ? "" : argument.trim());
+			}
+			catch (NumberFormatException e) {
+				throw new BrixException("Function 'truncate' needs a length, e.g. truncate:40, in COMPOSE template: " + template);
+			}
+			if (max < 0) {
+				throw new BrixException("Function 'truncate' needs a length of 0 or more in COMPOSE template: " + template);
+			}
+			return value -> ((value == null || value.length() <= max) ? value : value.substring(0, max));
+		default:
+			throw new BrixException("Unknown function '" + name + "' in COMPOSE template: " + template);
+		}
+	}
+}
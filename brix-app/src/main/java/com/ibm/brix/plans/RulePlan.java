@@ -0,0 +1,162 @@
+//=============================================================================
+//* Name:         RulePlan.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Rule Plan
+//*
+//* Description:  The Rules of one BRoute compiled into an immutable evaluation
+//*               plan: rules and their conditions sorted by sequence, regular
+//*               expressions precompiled and operators resolved to predicate
+//*               objects. A plan is built once per BRoute when the BRoute
+//*               snapshot is built, so asserting rules per exchange is only
+//*               the evaluation itself.
+//*               The plan also indexes its Rules by the attribute of their
+//*               leading ATTRIBUTE EXISTS condition, per resource side, so
+//*               only the Rules whose guarding attribute is present on the
+//*               artifact (plus the Rules without a guard) are asserted.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.brix.common.enums.ResourceSide;
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.common.model.Rule;
+import com.ibm.brix.model.GenericArtifact;
+
+public final class RulePlan {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private final List<CompiledRule> rules;
+	// Positions in rules of the Rules without a guard; these are always candidates.
+	private final BitSet unguardedRules;
+	// Guarding attribute name -> positions in rules, per resource side.
+	private final Map<String, BitSet> sourceGuardIndex;
+	private final Map<String, BitSet> targetGuardIndex;
+	private final BitSet sourceGuardedRules;
+	private final BitSet targetGuardedRules;
+
+	private RulePlan(List<CompiledRule> rules) {
+		this.rules = rules;
+		this.unguardedRules = new BitSet(rules.size());
+		this.sourceGuardedRules = new BitSet(rules.size());
+		this.targetGuardedRules = new BitSet(rules.size());
+		Map<String, BitSet> sourceIndex = new LinkedHashMap<>();
+		Map<String, BitSet> targetIndex = new LinkedHashMap<>();
+		for (int i = 0; i < rules.size(); i++) {
+			CompiledRuleCondition guard = rules.get(i).getGuard();
+			if (guard == null || guard.getSubject() == null) {
+				unguardedRules.set(i);
+			}
+			// Same side selection as CompiledRuleCondition.assertCondition: anything but SOURCE asserts the target.
+			else if (guard.getResourceSide() == ResourceSide.SOURCE) {
+				sourceIndex.computeIfAbsent(guard.getSubject(), k -> new BitSet()).set(i);
+				sourceGuardedRules.set(i);
+			}
+			else {
+				targetIndex.computeIfAbsent(guard.getSubject(), k -> new BitSet()).set(i);
+				targetGuardedRules.set(i);
+			}
+		}
+		this.sourceGuardIndex = Collections.unmodifiableMap(new HashMap<>(sourceIndex));
+		this.targetGuardIndex = Collections.unmodifiableMap(new HashMap<>(targetIndex));
+	}
+
+	/**
+	 * Method:  compile
+	 * Compiles the Rules of the BRoute. The BRoute's own lists are copied, not sorted in place.
+	 * 
+	 * @param BRoute broute
+	 * @return RulePlan
+	 */
+	public static RulePlan compile(BRoute broute) {
+		List<Rule> sorted = (broute.getRules() == null) ? new ArrayList<>() : new ArrayList<>(broute.getRules());
+		// Stable sort, so rules with equal sequence keep their configured order as before.
+		sorted.sort((r1, r2) -> Integer.compare(r1.getSequence(), r2.getSequence()));
+		List<CompiledRule> compiled = new ArrayList<>(sorted.size());
+		for (Rule rule : sorted) {
+			compiled.add(new CompiledRule(rule));
+		}
+		return new RulePlan(Collections.unmodifiableList(compiled));
+	}
+
+	public List<CompiledRule> getRules() {
+		return rules;
+	}
+
+	public int size() {
+		return rules.size();
+	}
+
+	/**
+	 * Method:  selectCandidates
+	 * Returns the positions in getRules() of the Rules that can assert true for these artifacts: every
+	 * Rule without a guard, and every guarded Rule whose guarding attribute has a value on its resource side.
+	 * Any other Rule would assert false on its first condition, so leaving it out gives the same RuleList.
+	 * Iterating the returned BitSet visits the candidates in plan (sequence) order. The lookup walks the
+	 * smaller of the artifact's attributes and the plan's guarding attributes, so its cost does not grow
+	 * with the number of Rules in the plan. If a side's artifact is missing, all Rules guarded on that side
+	 * stay candidates, so asserting them fails exactly as it did without the index.
+	 * 
+	 * @param GenericArtifact sourceGenericArtifact
+	 * @param GenericArtifact targetGenericArtifact
+	 * @return BitSet
+	 */
+	public BitSet selectCandidates(GenericArtifact sourceGenericArtifact, GenericArtifact targetGenericArtifact) {
+		BitSet candidates = (BitSet)unguardedRules.clone();
+		addGuardedCandidates(candidates, sourceGuardIndex, sourceGuardedRules, sourceGenericArtifact);
+		addGuardedCandidates(candidates, targetGuardIndex, targetGuardedRules, targetGenericArtifact);
+		return candidates;
+	}
+
+	private static void addGuardedCandidates(BitSet candidates, Map<String, BitSet> guardIndex, BitSet guardedRules, GenericArtifact artifact) {
+		if (guardIndex.isEmpty()) {
+			return;
+		}
+		if (artifact == null || artifact.getAttributes() == null) {
+			candidates.or(guardedRules);
+			return;
+		}
+		Map<String, ?> attributes = artifact.getAttributes();
+		if (attributes.size() < guardIndex.size()) {
+			for (String attributeName : attributes.keySet()) {
+				BitSet guarded = guardIndex.get(attributeName);
+				if (guarded != null && artifact.getAttributeValue(attributeName) != null) {
+					candidates.or(guarded);
+				}
+			}
+		}
+		else {
+			for (Map.Entry<String, BitSet> entry : guardIndex.entrySet()) {
+				if (artifact.getAttributeValue(entry.getKey()) != null) {
+					candidates.or(entry.getValue());
+				}
+			}
+		}
+	}
+}
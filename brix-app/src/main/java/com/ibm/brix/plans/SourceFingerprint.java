@@ -0,0 +1,209 @@
+//=============================================================================
+//* Name:         SourceFingerprint.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Source Fingerprint
+//*
+//* Description:  A stable hash of the source attributes read by the source
+//*               ArtifactMap plans of the BRoutes matched for an artifact.
+//*               Only mapped attributes are hashed, by name in sorted order,
+//*               so a change to an attribute no BRoute maps, or a different
+//*               attribute order in the payload, leaves the fingerprint the
+//*               same. The definition digests of the plans are mixed in, so a
+//*               changed mapping gives a new one.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Mix in the digests of the ArtifactMap
+//*                                  definitions.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.ibm.brix.common.model.Artifact;
+import com.ibm.brix.common.model.ArtifactMap;
+import com.ibm.brix.common.model.GenAttrMap;
+import com.ibm.brix.common.model.GenValueMap;
+import com.ibm.brix.plans.AttributeConverter.Direction;
+
+public final class SourceFingerprint {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	// Separators which cannot be confused with each other in the hashed text.
+	private static final char NAME_END = '\u0001';
+	private static final char VALUE_END = '\u0002';
+	private static final String NULL_VALUE = "\u0000";
+
+	private SourceFingerprint() {
+	}
+
+	/**
+	 * Method:  compute
+	 * Returns the SHA-256 fingerprint, in hex, of the attributes of the artifact read by the
+	 * normalizing plans, and of the definitions of all the plans.
+	 *
+	 * @param Collection<ArtifactMapPlan> plans (the source plans, and the target plans whose mapping also decides what is written)
+	 * @param Artifact artifact
+	 * @return String
+	 */
+	public static String compute(Collection<ArtifactMapPlan> plans, Artifact artifact) {
+		SortedSet<String> definitions = new TreeSet<>();
+		SortedSet<String> names = new TreeSet<>();
+		for (ArtifactMapPlan plan : plans) {
+			definitions.add(plan.getDefinitionDigest());
+			if (plan.getDirection() != Direction.NORMALIZE) {
+				continue;
+			}
+			for (AttributeConverter converter : plan.getConverters()) {
+				if (converter.getFromName() != null) {
+					names.add(converter.getFromName());
+				}
+			}
+		}
+
+		StringBuilder text = new StringBuilder((definitions.size() + names.size()) * 64);
+		for (String definition : definitions) {
+			text.append(definition).append(VALUE_END);
+		}
+		for (String name : names) {
+			text.append(name).append(NAME_END);
+			appendValue(text, artifact.getAttributeValue(name));
+			text.append(VALUE_END);
+		}
+		return hex(text);
+	}
+
+	/**
+	 * Method:  digestDefinition
+	 * Returns the SHA-256, in hex, of the direction and of every GenAttrMap of the ArtifactMap, in
+	 * order: its names, type, traits and value maps. Computed once when the plan is compiled.
+	 *
+	 * @param ArtifactMap artifactMap
+	 * @param Direction direction
+	 * @return String
+	 */
+	static String digestDefinition(ArtifactMap artifactMap, Direction direction) {
+		StringBuilder text = new StringBuilder(256);
+		text.append(direction).append(VALUE_END);
+		appendValue(text, artifactMap.getArtifactType());
+		text.append(VALUE_END);
+		List<GenAttrMap> genAttrMaps = artifactMap.getAttributeMaps();
+		if (genAttrMaps != null) {
+			for (GenAttrMap genAttrMap : genAttrMaps) {
+				text.append('{');
+				appendValue(text, genAttrMap.getAttributeName());
+				text.append(NAME_END);
+				appendValue(text, genAttrMap.getGenericName());
+				text.append(NAME_END);
+				appendValue(text, genAttrMap.getAttributeType());
+				text.append(NAME_END);
+				appendValue(text, genAttrMap.getAttributeTraits());
+				text.append(NAME_END);
+				appendValueMaps(text, genAttrMap.getToGenericValueMap());
+				text.append(NAME_END);
+				appendValueMaps(text, genAttrMap.getFromGenericValueMap());
+				text.append('}');
+			}
+		}
+		return hex(text);
+	}
+
+	private static void appendValueMaps(StringBuilder text, List<GenValueMap> genValueMaps) {
+		text.append('[');
+		if (genValueMaps != null) {
+			for (GenValueMap genValueMap : genValueMaps) {
+				appendValue(text, genValueMap.getResourceSide());
+				text.append(NAME_END);
+				appendValue(text, genValueMap.getAttributeValue());
+				text.append(NAME_END);
+				appendValue(text, genValueMap.getGenericValue());
+				text.append(NAME_END);
+				text.append(genValueMap.getSequence());
+				text.append(VALUE_END);
+			}
+		}
+		text.append(']');
+	}
+
+	private static String hex(StringBuilder text) {
+		return HexFormat.of().formatHex(sha256().digest(text.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/*
+	 * Writes a value so that equal values always give the same text: maps by sorted key and
+	 * dates as instants.
+	 */
+	private static void appendValue(StringBuilder text, Object value) {
+		if (value == null) {
+			text.append(NULL_VALUE);
+		}
+		else if (value instanceof Date) {
+			text.append(((Date)value).toInstant());
+		}
+		else if (value instanceof Map) {
+			text.append('{');
+			for (Map.Entry<String, Object> entry : sorted((Map<?, ?>)value).entrySet()) {
+				text.append(entry.getKey()).append(NAME_END);
+				appendValue(text, entry.getValue());
+				text.append(VALUE_END);
+			}
+			text.append('}');
+		}
+		else if (value instanceof Collection) {
+			text.append('[');
+			for (Object element : (Collection<?>)value) {
+				appendValue(text, element);
+				text.append(VALUE_END);
+			}
+			text.append(']');
+		}
+		else {
+			text.append(value);
+		}
+	}
+
+	private static TreeMap<String, Object> sorted(Map<?, ?> map) {
+		TreeMap<String, Object> sorted = new TreeMap<>();
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			sorted.put(String.valueOf(entry.getKey()), entry.getValue());
+		}
+		return sorted;
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to provide SHA-256.
+			throw new IllegalStateException(e);
+		}
+	}
+}
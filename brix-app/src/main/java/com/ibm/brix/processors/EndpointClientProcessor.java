@@ -0,0 +1,178 @@
+//=============================================================================
+//* Name:         EndpointClientProcessor.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Endpoint Client Processor
+//*
+//* Description:  Asynchronous processor which sends the exchange's request to
+//*               an endpoint through the pooled EndpointClients. The exchange
+//*               is suspended, not blocked, while the request is in flight,
+//*               and continues on the resume pool once the response arrives.
+//*               Calls go through the endpoint's fetch bulkhead and circuit
+//*               breaker; a 5xx response or no response counts as a failure.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Apply the rate limit of the BRoute's
+//*                                  endpoint.
+//*               20261018 agent     Make the call through the endpoint's fetch
+//*                                  bulkhead and circuit breaker.
+//*               20261018 agent     The rate limit is configured by the
+//*                                  endpoint's address, not its BRoute name.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.processors;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.CircuitOpenException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.enums.SystemType;
+import com.ibm.brix.utils.EndpointClients;
+import com.ibm.brix.utils.EndpointClients.EndpointResponse;
+import com.ibm.brix.utils.EndpointGuards;
+import com.ibm.brix.utils.EndpointGuards.CallKind;
+
+public class EndpointClientProcessor extends AsyncProcessorSupport {
+	/* CopyRight */
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private static final Logger LOG = LoggerFactory.getLogger(EndpointClientProcessor.class);
+
+	// Request headers passed on to the endpoint; BrIX and Camel headers are not.
+	private static final List<String> REQUEST_HEADERS = List.of("Accept", "Authorization", "Content-Type", "If-None-Match", "If-Modified-Since");
+	// Response headers set on the exchange.
+	private static final List<String> RESPONSE_HEADERS = List.of("Content-Type", "ETag", "Last-Modified", "Location");
+
+	private final EndpointClients endpointClients;
+	private final EndpointGuards endpointGuards;
+
+	public EndpointClientProcessor(EndpointClients endpointClients, EndpointGuards endpointGuards) {
+		this.endpointClients = endpointClients;
+		this.endpointGuards = endpointGuards;
+	}
+
+	/**
+	 * Method:  process
+	 * Sends the request and returns at once; the callback is called when the response was read.
+	 * Exchange Expected Input:
+	 *    - Header CamelHttpUri, or BRIX_ENDPOINT_EXTRACT_URI (from PrepArtifactExtract)
+	 *    - Header CamelHttpMethod (optional, GET by default)
+	 *    - Header BRIX_ENDPOINT_SYSTEM_TYPE (optional)
+	 *    - Header BRIX_BROUTE and BRIX_EXTRACT_RESOURCE_SIDE (optional, for the endpoint's rate limit)
+	 *    - Body: the request body, for methods other than GET, HEAD and DELETE
+	 * Exchange Output:
+	 *    - Body: the response body (byte[])
+	 *    - Header CamelHttpResponseCode, and the response's Content-Type, ETag, Last-Modified and Location
+	 *    - Header BRIX_ENDPOINT_CIRCUIT, if the circuit refused the call
+	 *    - Exception: BrixException if the endpoint returned 400 or above, or no response was received;
+	 *      CircuitOpenException if the endpoint's circuit is open
+	 *
+	 * @param Exchange exchange (Provided by Camel)
+	 * @param AsyncCallback callback
+	 * @return boolean (false; the exchange always continues asynchronously)
+	 */
+	@Override
+	public boolean process(Exchange exchange, AsyncCallback callback) {
+		String uri = exchange.getIn().getHeader(Exchange.HTTP_URI, String.class);
+		if (uri == null) {
+			uri = exchange.getIn().getHeader(Constants.BRIX_ENDPOINT_EXTRACT_URI, String.class);
+		}
+		String method = exchange.getIn().getHeader(Exchange.HTTP_METHOD, "GET", String.class);
+		SystemType systemType = exchange.getIn().getHeader(Constants.BRIX_ENDPOINT_SYSTEM_TYPE, SystemType.class);
+
+		Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		for (String name : REQUEST_HEADERS) {
+			String value = exchange.getIn().getHeader(name, String.class);
+			if (value != null) {
+				headers.put(name, value);
+			}
+		}
+		byte[] body = null;
+		if (!"GET".equalsIgnoreCase(method) && !"HEAD".equalsIgnoreCase(method) && !"DELETE".equalsIgnoreCase(method)) {
+			body = exchange.getIn().getBody(byte[].class);
+		}
+
+		final String requestUri = uri;
+		try {
+			if (requestUri == null) {
+				throw new BrixException("No endpoint URI on the Exchange.");
+			}
+			LOG.debug(method + " " + requestUri);
+			final byte[] requestBody = body;
+			endpointGuards.<EndpointResponse>call(requestUri, CallKind.FETCH, () -> {
+				try {
+					return endpointClients.send(systemType, method, requestUri, headers, requestBody);
+				}
+				catch (BrixException e) {
+					return CompletableFuture.failedFuture(e);
+				}
+			}, response -> response.getStatusCode() >= 500).whenComplete((response, failure) -> {
+				try {
+					Throwable cause = (failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+					if (cause instanceof CircuitOpenException) {
+						exchange.getIn().setHeader(Constants.BRIX_ENDPOINT_CIRCUIT, ((CircuitOpenException) cause).getEndpoint() + " " + endpointGuards.getState(requestUri));
+						exchange.setException(cause);
+					}
+					else if (cause != null) {
+						exchange.setException(new BrixException(method + " " + requestUri + " failed: " + cause.getMessage(), cause));
+					}
+					else {
+						setResponse(exchange, method, requestUri, response);
+					}
+				}
+				finally {
+					callback.done(false);
+				}
+			});
+		}
+		catch (BrixException e) {
+			exchange.setException(e);
+			callback.done(true);
+			return true;
+		}
+		return false;
+	}
+
+	private static void setResponse(Exchange exchange, String method, String uri, EndpointResponse response) {
+		exchange.getIn().setBody(response.getBody());
+		exchange.getIn().setHeader(Exchange.HTTP_RESPONSE_CODE, response.getStatusCode());
+		for (String name : RESPONSE_HEADERS) {
+			exchange.getIn().removeHeader(name);
+			String value = response.getHeader(name);
+			if (value != null) {
+				exchange.getIn().setHeader(name, value);
+			}
+		}
+		// 304 Not Modified answers a conditional fetch and is not an error.
+		if (response.getStatusCode() >= 400) {
+			exchange.setException(new BrixException(method + " " + uri + " returned HTTP " + response.getStatusCode()));
+		}
+	}
+}
@@ -21,6 +21,10 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20240328 tollefso  New source file created.
+//*               20261018 agent     Use the CDI TransactionBean so its
+//*                                  injected repository and registry are set.
+//*               20261018 agent     Store the failed exchange for a retry;
+//*                                  its transaction is QUEUED until then.
 //*
 //* Additional notes about the Change Activity:
 //*
@@ -32,10 +36,13 @@ import org.apache.camel.Processor;
 import org.jboss.logging.Logger;
 
 import com.ibm.brix.Constants;
+import com.ibm.brix.beans.RetryScheduler;
 import com.ibm.brix.beans.TransactionBean;
 import com.ibm.brix.common.enums.Status;
 import com.ibm.brix.utils.ExchangeInspector;
 
+import jakarta.enterprise.inject.spi.CDI;
+
 public class OnException implements Processor {
     public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2024 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
 
@@ -44,6 +51,8 @@ public class OnException implements Processor {
     /**
      * Method:  process
      * Processor method that handles the exception handling process called from a camel route.
+     * The failed exchange is stored for a retry by the RetryScheduler; while a retry is
+     * scheduled its transaction is QUEUED, otherwise ERROR (and the exchange is a dead letter).
      * 
      * @param Exchange exchange
      * @throws Exception
@@ -53,8 +62,9 @@ public class OnException implements Processor {
         LOG.error("[onException] === START EXCEPTION ===");
         Exception e = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
 
-        exchange.getIn().setHeader(Constants.BRIX_TRX_STATUS, Status.ERROR.toString());
-        new TransactionBean().updateStatus(exchange, e.toString());
+        boolean retry = CDI.current().select(RetryScheduler.class).get().schedule(exchange, e);
+        exchange.getIn().setHeader(Constants.BRIX_TRX_STATUS, (retry ? Status.QUEUED : Status.ERROR).toString());
+        CDI.current().select(TransactionBean.class).get().updateStatus(exchange, e.toString());
 
         LOG.error("Exception: ", e);
         LOG.error(new ExchangeInspector(true).format(exchange));
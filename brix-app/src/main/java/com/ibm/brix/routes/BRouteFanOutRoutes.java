@@ -0,0 +1,48 @@
+//=============================================================================
+//* Name:         BRouteFanOutRoutes.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX BRoute Fan Out Routes
+//*
+//* Description:  Route which processes the BRoutes matched for a source
+//*               artifact concurrently:
+//*                 - direct:fan-out-broutes, body is the BRouteList returned
+//*                   by FindBRoutes. Used in place of the sequential split
+//*                   over the BRouteList into direct:find-artifact-relationships.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import org.apache.camel.builder.RouteBuilder;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.BRouteFanOut;
+
+public class BRouteFanOutRoutes extends RouteBuilder {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Override
+    public void configure() throws Exception {
+        from("direct:" + Constants.BROUTE_FANOUT_ROUTE)
+            .routeId(Constants.BROUTE_FANOUT_ROUTE)
+            .bean(BRouteFanOut.class, "fanOut");
+    }
+}
@@ -0,0 +1,96 @@
+//=============================================================================
+//* Name:         BRouteReloadRoutes.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX BRoute Reload Routes
+//*
+//* Description:  Routes which trigger a reload of the BRoute configuration:
+//*                 - direct:broute-reload, for programmatic reloads
+//*                 - POST /broutes/reload[?source=file|db], with the api.key
+//*                   in header X-API-Key
+//*                 - a Quartz timer watching brix.broutes.reload.path, when
+//*                   a path is set
+//*                 - a Quartz timer watching the BRoute tables, when
+//*                   brix.broutes.reload.db-watch is true
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Require the API key on the REST route;
+//*                                  watch the file only when a path is set;
+//*                                  watch the BRoute tables.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import java.util.Optional;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.BRouteReloader;
+import com.ibm.brix.utils.ApiKeyCheck;
+
+import jakarta.inject.Inject;
+
+public class BRouteReloadRoutes extends RouteBuilder {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Inject
+    ApiKeyCheck apiKeyCheck;
+
+    @ConfigProperty(name = "brix.broutes.reload.path")
+    Optional<String> brouteCfgPath;
+
+    @ConfigProperty(name = "brix.broutes.reload.db-watch", defaultValue = "false")
+    boolean dbWatch;
+
+    @Override
+    public void configure() throws Exception {
+        from("direct:" + Constants.BROUTE_RELOAD_ROUTE)
+            .routeId(Constants.BROUTE_RELOAD_ROUTE)
+            .bean(BRouteReloader.class, "reload");
+
+        from("platform-http:" + Constants.REST_BROUTES_RELOAD + "?httpMethodRestrict=POST")
+            .routeId(Constants.BROUTE_RELOAD_REST_ROUTE)
+            .onException(BrixException.class)
+                .handled(true)
+                .setHeader(Exchange.HTTP_RESPONSE_CODE, constant(500))
+                .setBody(simple("BRoute reload failed, current routes kept: ${exception.message}"))
+            .end()
+            .process(apiKeyCheck)
+            .setHeader(Constants.BROUTE_RELOAD_SOURCE, header("source"))
+            .to("direct:" + Constants.BROUTE_RELOAD_ROUTE);
+
+        if (brouteCfgPath.isPresent() && !brouteCfgPath.get().isBlank()) {
+            from("quartz://brix/" + Constants.BROUTE_RELOAD_WATCH_ROUTE
+                    + "?trigger.repeatInterval={{brix.broutes.reload.interval:30000}}&trigger.repeatCount=-1")
+                .routeId(Constants.BROUTE_RELOAD_WATCH_ROUTE)
+                .bean(BRouteReloader.class, "checkForFileChange");
+        }
+
+        if (dbWatch) {
+            from("quartz://brix/" + Constants.BROUTE_RELOAD_DB_WATCH_ROUTE
+                    + "?trigger.repeatInterval={{brix.broutes.reload.interval:30000}}&trigger.repeatCount=-1")
+                .routeId(Constants.BROUTE_RELOAD_DB_WATCH_ROUTE)
+                .bean(BRouteReloader.class, "checkForDatabaseChange");
+        }
+    }
+}
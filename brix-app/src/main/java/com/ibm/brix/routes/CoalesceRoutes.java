@@ -0,0 +1,74 @@
+//=============================================================================
+//* Name:         CoalesceRoutes.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Event Coalescing Routes
+//*
+//* Description:  Optional coalescing stage after LoadPayload:
+//*                 - direct:coalesce-events, body is the loaded source
+//*                   Artifact. Events for the same artifact are aggregated,
+//*                   latest wins, and the latest is sent on to
+//*                   brix.coalesce.next when the window closes. When
+//*                   brix.coalesce.enabled is false every event is sent on
+//*                   immediately.
+//*               The open windows are held in memory. The JMS message of an
+//*               absorbed or held event is already acknowledged, so a crash
+//*               loses the latest event of each open window, at most
+//*               brix.coalesce.max-wait of events per artifact; the next
+//*               event for the artifact syncs its state again. On a normal
+//*               shutdown the open windows are completed and sent on first.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Use completionTimeout(Expression) and
+//*                                  complete open windows on shutdown.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import org.apache.camel.builder.RouteBuilder;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.EventCoalescer;
+
+import jakarta.inject.Inject;
+
+public class CoalesceRoutes extends RouteBuilder {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Inject
+    EventCoalescer coalescer;
+
+    @Override
+    public void configure() throws Exception {
+        from("direct:" + Constants.COALESCE_ROUTE)
+            .routeId(Constants.COALESCE_ROUTE)
+            .choice()
+                .when(simple("{{brix.coalesce.enabled:false}}"))
+                    .aggregate(method(coalescer, "correlationKey"), coalescer)
+                        .completionTimeout(method(coalescer, "completionTimeout"))
+                        .completionTimeoutCheckerInterval(250)
+                        .forceCompletionOnStop()
+                        .to("{{brix.coalesce.next:direct:find-broutes}}")
+                    .end()
+                .endChoice()
+                .otherwise()
+                    .to("{{brix.coalesce.next:direct:find-broutes}}")
+            .end();
+    }
+}
@@ -0,0 +1,86 @@
+//=============================================================================
+//* Name:         DeadLetterRoutes.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Dead Letter Routes
+//*
+//* Description:  REST routes over the dead-letter store:
+//*                 - GET /deadletters, lists the dead letters matching the
+//*                   query parameters id (comma separated), status, trxId,
+//*                   source, stage, error, since, until, limit and offset
+//*                 - GET /deadletters/{id}, one dead letter with its body
+//*                 - POST /deadletters/replay, replays the dead letters
+//*                   matching the same parameters (status NEW by default)
+//*                   through the pipeline, parallelism at a time; a filter
+//*                   or all=true is required, and at most
+//*                   brix.deadletter.replay.max-batch are sent per request;
+//*                   also direct:deadletter-replay
+//*               The REST routes require the api.key in header X-API-Key.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Require the API key on the REST routes.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.DeadLetterStore;
+import com.ibm.brix.utils.ApiKeyCheck;
+
+import jakarta.inject.Inject;
+
+public class DeadLetterRoutes extends RouteBuilder {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Inject
+    ApiKeyCheck apiKeyCheck;
+
+    @Override
+    public void configure() throws Exception {
+        // Parameters that are not valid.
+        onException(BrixException.class)
+            .handled(true)
+            .setHeader(Exchange.HTTP_RESPONSE_CODE, constant(400))
+            .setHeader(Exchange.CONTENT_TYPE, constant("text/plain"))
+            .setBody(simple("${exception.message}"));
+
+        from("platform-http:" + Constants.REST_DEADLETTERS + "?httpMethodRestrict=GET")
+            .routeId(Constants.DEADLETTER_LIST_ROUTE)
+            .process(apiKeyCheck)
+            .bean(DeadLetterStore.class, "list");
+
+        from("platform-http:" + Constants.REST_DEADLETTERS + "/{" + DeadLetterStore.PARAM_ID + "}?httpMethodRestrict=GET")
+            .routeId(Constants.DEADLETTER_GET_ROUTE)
+            .process(apiKeyCheck)
+            .bean(DeadLetterStore.class, "get");
+
+        from("direct:" + Constants.DEADLETTER_REPLAY_ROUTE)
+            .routeId(Constants.DEADLETTER_REPLAY_ROUTE)
+            .bean(DeadLetterStore.class, "replay");
+
+        from("platform-http:" + Constants.REST_DEADLETTERS_REPLAY + "?httpMethodRestrict=POST")
+            .routeId(Constants.DEADLETTER_REPLAY_REST_ROUTE)
+            .process(apiKeyCheck)
+            .to("direct:" + Constants.DEADLETTER_REPLAY_ROUTE);
+    }
+}
@@ -0,0 +1,69 @@
+//=============================================================================
+//* Name:         EndpointClientRoutes.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Endpoint Client Routes
+//*
+//* Description:  Route which sends a request to an endpoint on the pooled,
+//*               non-blocking endpoint clients:
+//*                 - direct:endpoint-request, with the URI in CamelHttpUri
+//*                   or BRIX_ENDPOINT_EXTRACT_URI. The response body and
+//*                   CamelHttpResponseCode are on the exchange on return.
+//*                   If the endpoint's circuit is open the exchange is
+//*                   parked (BRIX_PARKED) in the retry queue and its
+//*                   routing stops; it is replayed from the start of its
+//*                   pipeline once the circuit closes.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Park exchanges refused by an open circuit.
+//*               20261018 agent     Park them in the retry queue.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import org.apache.camel.builder.RouteBuilder;
+
+import com.ibm.brix.CircuitOpenException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.processors.EndpointClientProcessor;
+import com.ibm.brix.utils.EndpointClients;
+import com.ibm.brix.utils.EndpointGuards;
+
+import jakarta.inject.Inject;
+
+public class EndpointClientRoutes extends RouteBuilder {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Inject
+    EndpointClients endpointClients;
+
+    @Inject
+    EndpointGuards endpointGuards;
+
+    @Override
+    public void configure() throws Exception {
+        onException(CircuitOpenException.class)
+            .handled(true)
+            .bean(endpointGuards, "park");
+
+        from("direct:" + Constants.ENDPOINT_REQUEST_ROUTE)
+            .routeId(Constants.ENDPOINT_REQUEST_ROUTE)
+            .process(new EndpointClientProcessor(endpointClients, endpointGuards));
+    }
+}
@@ -0,0 +1,81 @@
+//=============================================================================
+//* Name:         ExecuteActionsRoutes.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Execute Actions Routes
+//*
+//* Description:  Route which performs the actions generated for a BRoute:
+//*                 - direct:execute-actions, body is the ActionList returned
+//*                   by FireRuleActionConfigs. Each endpoint call is sent to
+//*                   the action URI of the system type's Action Manager
+//*                   (direct:execute-action-<type> by default).
+//*                   If an endpoint's circuit is open the exchange is
+//*                   parked in the retry queue, and replayed from the
+//*                   start of its pipeline once the circuit closes; the
+//*                   replay resumes the plan from the steps that did not
+//*                   succeed.
+//*                 - direct:record-artifact-relationship, after the actions
+//*                   ran, relates the source artifact to each artifact a
+//*                   CREATEARTIFACT step created.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Park exchanges refused by an open circuit.
+//*               20261018 agent     Record the relationships of created
+//*                                  target artifacts.
+//*               20261018 agent     Replay parked exchanges from the start
+//*                                  of the pipeline.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import org.apache.camel.builder.RouteBuilder;
+
+import com.ibm.brix.CircuitOpenException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.ExecuteActions;
+import com.ibm.brix.cache.ArtifactRelationshipCache;
+import com.ibm.brix.utils.EndpointGuards;
+
+import jakarta.inject.Inject;
+
+public class ExecuteActionsRoutes extends RouteBuilder {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Inject
+    EndpointGuards endpointGuards;
+
+    @Inject
+    ArtifactRelationshipCache artifactRelationshipCache;
+
+    @Override
+    public void configure() throws Exception {
+        onException(CircuitOpenException.class)
+            .handled(true)
+            .bean(endpointGuards, "park");
+
+        from("direct:" + Constants.EXECUTE_ACTIONS_ROUTE)
+            .routeId(Constants.EXECUTE_ACTIONS_ROUTE)
+            .bean(ExecuteActions.class, "executeActions")
+            .to("direct:" + Constants.ARTIFACT_RELATIONSHIP_RECORD_ROUTE);
+
+        from("direct:" + Constants.ARTIFACT_RELATIONSHIP_RECORD_ROUTE)
+            .routeId(Constants.ARTIFACT_RELATIONSHIP_RECORD_ROUTE)
+            .bean(artifactRelationshipCache, "record");
+    }
+}
@@ -0,0 +1,68 @@
+//=============================================================================
+//* Name:         FingerprintRoutes.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Source Fingerprint Routes
+//*
+//* Description:  Routes which skip events that change no mapped attribute:
+//*                 - direct:check-fingerprint, right after LoadPayload with
+//*                   the loaded Artifact as the body. An unchanged event ends
+//*                   here as a success with BRIX_FINGERPRINT_SKIPPED set;
+//*                   any other is sent on to brix.fingerprint.next.
+//*                 - direct:record-fingerprint, at the end of the sync, records
+//*                   the fingerprint on the relationships if it succeeded.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.builder.PredicateBuilder;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.FingerprintCheck;
+
+import jakarta.inject.Inject;
+
+public class FingerprintRoutes extends RouteBuilder {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Inject
+    FingerprintCheck fingerprintCheck;
+
+    @Override
+    public void configure() throws Exception {
+        from("direct:" + Constants.FINGERPRINT_CHECK_ROUTE)
+            .routeId(Constants.FINGERPRINT_CHECK_ROUTE)
+            .choice()
+                .when(PredicateBuilder.and(simple("{{brix.fingerprint.enabled:true}}"), method(fingerprintCheck, "isUnchanged")))
+                    .setHeader(Constants.BRIX_FINGERPRINT_SKIPPED, constant(true))
+                    .setHeader(Constants.BRIX_RESULT_SUCCESS, constant(true))
+                .otherwise()
+                    .to("{{brix.fingerprint.next:direct:coalesce-events}}")
+            .end();
+
+        from("direct:" + Constants.FINGERPRINT_RECORD_ROUTE)
+            .routeId(Constants.FINGERPRINT_RECORD_ROUTE)
+            .filter(simple("{{brix.fingerprint.enabled:true}}"))
+                .bean(fingerprintCheck, "record")
+            .end();
+    }
+}
@@ -0,0 +1,53 @@
+//=============================================================================
+//* Name:         RetryRoutes.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Retry Routes
+//*
+//* Description:  Routes which replay the due retries of failed exchanges:
+//*                 - direct:retry-due, for an on demand run
+//*                 - a Quartz cron trigger (brix.retry.cron)
+//*               Retries are stored by OnException through RetryScheduler.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import org.apache.camel.builder.RouteBuilder;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.RetryScheduler;
+
+public class RetryRoutes extends RouteBuilder {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Override
+    public void configure() throws Exception {
+        from("direct:" + Constants.RETRY_DUE_ROUTE)
+            .routeId(Constants.RETRY_DUE_ROUTE)
+            .bean(RetryScheduler.class, "replayDue");
+
+        // stateful: a run that is still replaying when the next one is due is not started twice.
+        from("quartz://brix/" + Constants.RETRY_DUE_ROUTE + "?cron={{brix.retry.cron:0/15+*+*+*+*+?}}&stateful=true")
+            .routeId(Constants.RETRY_DUE_ROUTE + "-schedule")
+            .autoStartup("{{brix.retry.enabled:true}}")
+            .to("direct:" + Constants.RETRY_DUE_ROUTE);
+    }
+}
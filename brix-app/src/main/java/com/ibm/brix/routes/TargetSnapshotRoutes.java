@@ -0,0 +1,69 @@
+//=============================================================================
+//* Name:         TargetSnapshotRoutes.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Target Snapshot Routes
+//*
+//* Description:  Routes which use the snapshot of the last synced target in
+//*               place of a full target fetch:
+//*                 - direct:fetch-target-snapshot, in place of the target
+//*                   fetch. Sends the fetch on to brix.target.snapshot.fetch,
+//*                   conditional when the snapshot has a validator, unless
+//*                   the snapshot can be used as is. When
+//*                   BRIX_TARGET_SNAPSHOT_HIT is true on return, the target
+//*                   generic artifact is already on the exchange and the
+//*                   target must not be normalized.
+//*                 - direct:record-target-snapshot, after the write to the
+//*                   target.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import org.apache.camel.builder.RouteBuilder;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.TargetSnapshotCheck;
+
+import jakarta.inject.Inject;
+
+public class TargetSnapshotRoutes extends RouteBuilder {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Inject
+    TargetSnapshotCheck targetSnapshotCheck;
+
+    @Override
+    public void configure() throws Exception {
+        from("direct:" + Constants.TARGET_SNAPSHOT_FETCH_ROUTE)
+            .routeId(Constants.TARGET_SNAPSHOT_FETCH_ROUTE)
+            .choice()
+                .when(method(targetSnapshotCheck, "beforeFetch"))
+                    .log("Using the target snapshot without a fetch")
+                .otherwise()
+                    .to("{{brix.target.snapshot.fetch:direct:extract-target-artifact}}")
+                    .bean(targetSnapshotCheck, "afterFetch")
+            .end();
+
+        from("direct:" + Constants.TARGET_SNAPSHOT_RECORD_ROUTE)
+            .routeId(Constants.TARGET_SNAPSHOT_RECORD_ROUTE)
+            .bean(targetSnapshotCheck, "record");
+    }
+}
@@ -0,0 +1,52 @@
+//=============================================================================
+//* Name:         TransactionPurgeRoutes.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Transaction Purge Routes
+//*
+//* Description:  Routes which run the Transaction retention purge:
+//*                 - direct:transaction-purge, for an on demand purge
+//*                 - a Quartz cron trigger (brix.transaction.purge.cron)
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import org.apache.camel.builder.RouteBuilder;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.TransactionPurge;
+
+public class TransactionPurgeRoutes extends RouteBuilder {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Override
+    public void configure() throws Exception {
+        from("direct:" + Constants.TRANSACTION_PURGE_ROUTE)
+            .routeId(Constants.TRANSACTION_PURGE_ROUTE)
+            .bean(TransactionPurge.class, "purge");
+
+        // stateful: a run that is still going when the next one is due is not started twice.
+        from("quartz://brix/" + Constants.TRANSACTION_PURGE_ROUTE + "?cron={{brix.transaction.purge.cron:0+30+2+*+*+?}}&stateful=true")
+            .routeId(Constants.TRANSACTION_PURGE_ROUTE + "-schedule")
+            .autoStartup("{{brix.transaction.purge.enabled:true}}")
+            .to("direct:" + Constants.TRANSACTION_PURGE_ROUTE);
+    }
+}
@@ -23,6 +23,8 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20230915 tmueller  New source file created.
+//*               20261018 agent     Stream the payload fields directly into the
+//*                                  SEArtifact attributes.
 //*                                                                 
 //* Additional notes about the Change Activity:
 //*                                                                 
@@ -30,10 +32,11 @@
 package com.ibm.brix.simpleEndpoint;
 
 import org.apache.camel.Exchange;
-import org.json.simple.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.json.simple.JSONObject;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import com.ibm.brix.BrixException;
 import com.ibm.brix.common.CommonConstants;
@@ -44,7 +47,9 @@ import com.ibm.brix.common.model.Artifact;
 import com.ibm.brix.common.model.AttributeProperties;
 import com.ibm.brix.common.simpleendpoint.model.SEEndpoint;
 import com.ibm.brix.common.simpleendpoint.model.SEArtifact;
+import com.ibm.brix.utils.JsonPayloadReader;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
 
 public class SEExchangeMgr extends ExchangeMgr {
@@ -62,9 +67,8 @@ public class SEExchangeMgr extends ExchangeMgr {
      * Constructor
      * 
      * @param Exchange exchange
-     * @throws ParseException 
      */
-    public SEExchangeMgr(Exchange exchange) throws ParseException {
+    public SEExchangeMgr(Exchange exchange) {
         super(SystemType.SIMPLEEP, exchange);
 
         origin = (String)exchange.getIn().getHeader(CommonConstants.HEADER_SIMPLE_ENDPOINT_ORIGIN);
@@ -116,6 +120,7 @@ public class SEExchangeMgr extends ExchangeMgr {
     /**
      * Method:  readArtifactFromPollingExchange
      * Reads through the JSON payload to load the attribute data into an Artifact.
+     * Every top level property of the payload becomes an attribute.
      * 
      * @return Artifact
      * @throws BrixException 
@@ -125,17 +130,15 @@ public class SEExchangeMgr extends ExchangeMgr {
         LOG.info("Reading polling payload for Simple Endpoint.");
         SEArtifact seArtifact = new SEArtifact();
 
-        if (payload == null) {
-            throw new BrixException(String.format("Payload was null."));
+        try (JsonParser parser = openPayload()) {
+            if (parser == null || !JsonPayloadReader.readFields(parser, (name, p) -> addAttribute(seArtifact, name, p))) {
+                throw new BrixException(String.format("Payload was null."));
+            }
         }
-
-        JSONObject fields = payload;
-
-        for (Object key : fields.keySet()) {
-            String keyStr = (String)key;
-            Object keyValue = fields.get(keyStr);
-            seArtifact.addAttribute(keyStr, new AttributeProperties(keyValue, AttributeType.UNKNOWN));
+        catch (IOException e) {
+            throw new BrixException("Invalid Simple Endpoint payload. " + e.getMessage());
         }
+
         seArtifact.setArtifactKeyString(seArtifact.getId_integer());
         try {
             seArtifact.setEndpoint(new SEEndpoint(origin));
@@ -143,13 +146,16 @@ public class SEExchangeMgr extends ExchangeMgr {
         catch (URISyntaxException e) {
             throw new BrixException("Malformed URI:" + e.toString());
         }
-        LOG.info("SEArtifact:\n" + seArtifact.toString());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("SEArtifact:\n" + seArtifact.toString());
+        }
         return seArtifact;
     }
 
     /**
      * Method:  readArtifactFromWebhookExchange
      * Reads through the JSON payload to load the attribute data into an Artifact.
+     * The properties of the payload's "fields" object become attributes; "pk" is the artifact key.
      * 
      * @return Artifact
      * @throws BrixException 
@@ -159,21 +165,34 @@ public class SEExchangeMgr extends ExchangeMgr {
         LOG.info("Reading webhook payload for Simple Endpoint.");
         SEArtifact seArtifact = new SEArtifact();
         String msgTemplate = "Invalid Simple Endpoint payload. Required %s property missing from JSON payload.";
-
-        if (payload == null) {
-            throw new BrixException(String.format("Payload was null."));
+        Object[] pk = new Object[1];
+        boolean[] fieldsFound = new boolean[1];
+
+        try (JsonParser parser = openPayload()) {
+            boolean found = (parser != null) && JsonPayloadReader.readFields(parser, (name, p) -> {
+                if (PAYLOAD_ID_PROP.equals(name)) {
+                    pk[0] = JsonPayloadReader.readValue(p);
+                }
+                else if (FIELDS_PROPERTY.equals(name) && p.currentToken() == JsonToken.START_OBJECT) {
+                    fieldsFound[0] = true;
+                    JsonPayloadReader.readFields(p, (fieldName, fp) -> addAttribute(seArtifact, fieldName, fp));
+                }
+            });
+            if (!found) {
+                throw new BrixException(String.format("Payload was null."));
+            }
         }
-        if ( ! payload.containsKey(PAYLOAD_ID_PROP) ) {
-            throw new BrixException(String.format(msgTemplate, PAYLOAD_ID_PROP));
+        catch (IOException e) {
+            throw new BrixException("Invalid Simple Endpoint payload. " + e.getMessage());
         }
-        seArtifact.setArtifactKeyString(Long.toString((Long)payload.get(PAYLOAD_ID_PROP)));
-        JSONObject fields = (JSONObject)payload.get(FIELDS_PROPERTY);
 
-        for (Object key : fields.keySet()) {
-            String keyStr = (String)key;
-            Object keyValue = fields.get(keyStr);
-            seArtifact.addAttribute(keyStr, new AttributeProperties(keyValue, AttributeType.UNKNOWN));
+        if (pk[0] == null) {
+            throw new BrixException(String.format(msgTemplate, PAYLOAD_ID_PROP));
+        }
+        if (!fieldsFound[0]) {
+            throw new BrixException(String.format(msgTemplate, FIELDS_PROPERTY));
         }
+        seArtifact.setArtifactKeyString(Long.toString((Long)pk[0]));
         try {
             seArtifact.setEndpoint(new SEEndpoint(origin));
         }
@@ -181,8 +200,17 @@ public class SEExchangeMgr extends ExchangeMgr {
             throw new BrixException("Malformed URI: " + e.toString());
         }
     
-        LOG.info("SEArtifact:\n" + seArtifact.toString());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("SEArtifact:\n" + seArtifact.toString());
+        }
         return seArtifact;
     }
 
+    /*
+     * Adds the value the parser is positioned on as an attribute of the artifact.
+     */
+    private static void addAttribute(SEArtifact seArtifact, String name, JsonParser parser) throws IOException {
+        seArtifact.addAttribute(name, new AttributeProperties(JsonPayloadReader.readValue(parser), AttributeType.UNKNOWN));
+    }
+
 }
@@ -0,0 +1,49 @@
+//=============================================================================
+//* Name:         SEPlugin.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Simple Endpoint Plugin
+//*
+//* Description:  Registers the Simple Endpoint Exchange Manager, Action
+//*               Manager, Artifact and Artifact Key with the
+//*               SystemTypeRegistry.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.simpleEndpoint;
+
+import com.ibm.brix.common.enums.ArtifactType;
+import com.ibm.brix.common.enums.SystemType;
+import com.ibm.brix.common.simpleendpoint.model.SEArtifact;
+import com.ibm.brix.common.simpleendpoint.model.SEArtifactKey;
+import com.ibm.brix.factories.SystemTypePlugin;
+import com.ibm.brix.factories.SystemTypeRegistry;
+
+public class SEPlugin implements SystemTypePlugin {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Override
+    public void register(SystemTypeRegistry registry) {
+        registry.registerExchangeMgr(SystemType.SIMPLEEP, SEExchangeMgr::new);
+        registry.registerActionMgr(SystemType.SIMPLEEP, SEActionMgr::new);
+        registry.registerArtifact(SystemType.SIMPLEEP, SEArtifact::new);
+        registry.registerArtifactKey(ArtifactType.SEISSUE, SEArtifactKey::new);
+    }
+}
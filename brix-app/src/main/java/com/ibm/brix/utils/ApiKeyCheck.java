@@ -0,0 +1,97 @@
+//=============================================================================
+//* Name:         ApiKeyCheck.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX API Key Check
+//*
+//* Description:  Processor which guards the administrative REST routes
+//*               (BRoute reload, dead letters): the request must carry the
+//*               configured api.key in the X-API-Key header. Otherwise the
+//*               route is stopped with 401, or 503 while no api.key is
+//*               configured, so the routes are closed by default.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.Constants;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class ApiKeyCheck implements Processor {
+	public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+	private static final Logger LOG = LoggerFactory.getLogger(ApiKeyCheck.class);
+
+	// The placeholder in application.properties until the key is set for the deployment.
+	private static final String PLACEHOLDER = "<API.KEY>";
+
+	@ConfigProperty(name = "api.key")
+	Optional<String> apiKey;
+
+	/**
+	 * Method:  process
+	 * Stops the exchange with 401 (503 without a configured key) unless header X-API-Key
+	 * holds the api.key. The header is removed so it is not passed on.
+	 *
+	 * @param Exchange exchange (Provided by Camel)
+	 */
+	@Override
+	public void process(Exchange exchange) {
+		String presented = exchange.getIn().getHeader(Constants.API_KEY_HEADER, String.class);
+		exchange.getIn().removeHeader(Constants.API_KEY_HEADER);
+		if (!isConfigured()) {
+			LOG.warn("Refused " + exchange.getFromRouteId() + ": no api.key is configured.");
+			refuse(exchange, 503, "No API key is configured for this endpoint.");
+			return;
+		}
+		if (!matches(presented)) {
+			LOG.warn("Refused " + exchange.getFromRouteId() + ": missing or wrong " + Constants.API_KEY_HEADER + ".");
+			refuse(exchange, 401, "Missing or wrong " + Constants.API_KEY_HEADER + " header.");
+		}
+	}
+
+	boolean isConfigured() {
+		return apiKey.isPresent() && !apiKey.get().isBlank() && !PLACEHOLDER.equals(apiKey.get());
+	}
+
+	boolean matches(String presented) {
+		return presented != null && isConfigured()
+			&& MessageDigest.isEqual(presented.getBytes(StandardCharsets.UTF_8), apiKey.get().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void refuse(Exchange exchange, int status, String message) {
+		exchange.getIn().setHeader(Exchange.HTTP_RESPONSE_CODE, status);
+		exchange.getIn().setHeader(Exchange.CONTENT_TYPE, "text/plain");
+		exchange.getIn().setBody(message);
+		exchange.setRouteStop(true);
+	}
+}
@@ -0,0 +1,211 @@
+//=============================================================================
+//* Name:         BRouteIndex.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX BRoute Lookup Index
+//*
+//* Description:  Immutable lookup table over the configured BRoutes. The
+//*               routes are bucketed by (source system type, normalized
+//*               source endpoint address, source artifact type) once when
+//*               the BRoute configuration is loaded, so that finding the
+//*               BRoutes for an incoming artifact is a single hash lookup
+//*               instead of a walk of the whole BRouteList. An index is
+//*               never modified after it is built; a new configuration
+//*               produces a new index which is published in one step.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Normalize addresses with MessageGroupKey.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.common.beans.MessageGroupKey;
+import com.ibm.brix.common.enums.ArtifactType;
+import com.ibm.brix.common.enums.SystemType;
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.common.model.Endpoint;
+import com.ibm.brix.model.BRouteList;
+
+public final class BRouteIndex {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+    private static final Logger LOG = LoggerFactory.getLogger(BRouteIndex.class);
+
+    public static final BRouteIndex EMPTY = new BRouteIndex(Collections.emptyMap(), 0);
+
+    private final Map<Key, BRouteList> buckets;
+    private final int routeCount;
+
+    private BRouteIndex(Map<Key, BRouteList> buckets, int routeCount) {
+        this.buckets = buckets;
+        this.routeCount = routeCount;
+    }
+
+    /**
+     * Method:  build
+     * Builds a new index over the supplied BRoutes. A BRoute is filed under every source
+     * artifact type it has a source ArtifactMap for. A BRoute without any source ArtifactMap
+     * cannot be narrowed by type and is filed under every artifact type, preserving the
+     * behavior of the linear scan for it.
+     *
+     * @param BRouteList brouteList
+     * @return BRouteIndex
+     */
+    public static BRouteIndex build(BRouteList brouteList) {
+        if (brouteList == null || brouteList.getTheBRouteList() == null || brouteList.size() == 0) {
+            return EMPTY;
+        }
+
+        Map<Key, List<BRoute>> grouped = new LinkedHashMap<>();
+        for (BRoute broute : brouteList.getTheBRouteList()) {
+            Endpoint sourceEndpoint = broute.getSourceEndpoint();
+            if (sourceEndpoint == null) {
+                LOG.warn("BRouteIndex: skipping BRoute without a source endpoint: " + broute);
+                continue;
+            }
+            SystemType systemType = sourceEndpoint.getSystemType();
+            String address = normalizeAddress(sourceEndpoint);
+
+            List<ArtifactType> artifactTypes = new ArrayList<>();
+            for (ArtifactType artifactType : ArtifactType.values()) {
+                if (broute.getSourceArtifactMap(artifactType) != null) {
+                    artifactTypes.add(artifactType);
+                }
+            }
+            if (artifactTypes.isEmpty()) {
+                Collections.addAll(artifactTypes, ArtifactType.values());
+            }
+
+            for (ArtifactType artifactType : artifactTypes) {
+                grouped.computeIfAbsent(new Key(systemType, address, artifactType), k -> new ArrayList<>()).add(broute);
+            }
+            // Untyped bucket, for artifacts that have not been given an artifact type yet
+            grouped.computeIfAbsent(new Key(systemType, address, null), k -> new ArrayList<>()).add(broute);
+        }
+
+        Map<Key, BRouteList> buckets = new HashMap<>(grouped.size() * 2);
+        for (Map.Entry<Key, List<BRoute>> entry : grouped.entrySet()) {
+            BRouteList bucket = new BRouteList();
+            bucket.getTheBRouteList().addAll(entry.getValue());
+            buckets.put(entry.getKey(), bucket);
+        }
+
+        LOG.info("BRouteIndex built: " + brouteList.size() + " broutes in " + buckets.size() + " buckets");
+        return new BRouteIndex(Collections.unmodifiableMap(buckets), brouteList.size());
+    }
+
+    /**
+     * Method:  findSourcesMatching
+     * Returns the BRoutes whose source endpoint matches the endpoint of the artifact. The
+     * bucket for the artifact's key is then filtered with BRouteList.findSourcesMatching,
+     * so the endpoint matching rules are the same as for the full list. A null artifact type
+     * matches on the endpoint alone. The returned BRouteList is a new list owned by the caller.
+     *
+     * @param Endpoint sourceEndpoint
+     * @param ArtifactType artifactType
+     * @return BRouteList
+     */
+    public BRouteList findSourcesMatching(Endpoint sourceEndpoint, ArtifactType artifactType) {
+        if (sourceEndpoint == null) {
+            return new BRouteList();
+        }
+        BRouteList bucket = buckets.get(new Key(sourceEndpoint.getSystemType(), normalizeAddress(sourceEndpoint), artifactType));
+        if (bucket == null) {
+            return new BRouteList();
+        }
+        return bucket.findSourcesMatching(sourceEndpoint);
+    }
+
+    /**
+     * Number of BRoutes the index was built from. Used to detect a BRouteList
+     * that has been appended to since the index was published.
+     */
+    public int getRouteCount() {
+        return routeCount;
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * Method:  normalizeAddress
+     * Normalizes an endpoint address so that trivially different spellings of the same
+     * address share a bucket: scheme and host are lower cased and trailing slashes on the
+     * path are dropped. An address which cannot be parsed is used as-is.
+     *
+     * @param Endpoint endpoint
+     * @return String
+     */
+    public static String normalizeAddress(Endpoint endpoint) {
+        String address;
+        try {
+            address = String.valueOf(endpoint.getAddressAsURI());
+        } catch (Exception e) {
+            return "";
+        }
+        return normalizeAddress(address);
+    }
+
+    // Shared with the partition keys, so a BRoute bucket and a partition agree on an endpoint.
+    static String normalizeAddress(String address) {
+        return MessageGroupKey.normalizeEndpoint(address);
+    }
+
+    private static final class Key {
+        private final SystemType systemType;
+        private final String address;
+        private final ArtifactType artifactType;
+        private final int hash;
+
+        Key(SystemType systemType, String address, ArtifactType artifactType) {
+            this.systemType = systemType;
+            this.address = address;
+            this.artifactType = artifactType;
+            this.hash = Objects.hash(systemType, address, artifactType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key)o;
+            return systemType == other.systemType && artifactType == other.artifactType && address.equals(other.address);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+//=============================================================================
+//* Name:         BRouteSnapshot.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX BRoute Configuration Snapshot
+//*
+//* Description:  One complete, versioned BRoute configuration: the BRouteList
+//*               with the lookup index and the compiled BRoutePlans built over
+//*               it. A snapshot is built in full before it is published and
+//*               is never modified afterwards.
+//*               An exchange pins the snapshot it started with, so a reload
+//*               never mixes old and new routes within one transaction.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Hold a compiled BRoutePlan per BRoute.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.model.BRouteList;
+import com.ibm.brix.plans.BRoutePlan;
+
+public final class BRouteSnapshot {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    public static final BRouteSnapshot EMPTY = new BRouteSnapshot(0, new BRouteList(), BRouteIndex.EMPTY, Collections.emptyMap(), "empty");
+
+    private final long version;
+    private final BRouteList brouteList;
+    private final BRouteIndex brouteIndex;
+    private final Map<BRoute, BRoutePlan> broutePlans;
+    private final String origin;
+    private final Instant createTime;
+
+    private BRouteSnapshot(long version, BRouteList brouteList, BRouteIndex brouteIndex, Map<BRoute, BRoutePlan> broutePlans, String origin) {
+        this.version = version;
+        this.brouteList = brouteList;
+        this.brouteIndex = brouteIndex;
+        this.broutePlans = broutePlans;
+        this.origin = origin;
+        this.createTime = Instant.now();
+    }
+
+    /**
+     * Method:  build
+     * Builds a snapshot over a BRouteList which from here on belongs to the snapshot. The
+     * caller must not modify the list after handing it over.
+     *
+     * @param long version
+     * @param BRouteList brouteList
+     * @param String origin       where the routes were read from, for logging
+     * @return BRouteSnapshot
+     */
+    public static BRouteSnapshot build(long version, BRouteList brouteList, String origin) {
+        BRouteList list = (brouteList == null) ? new BRouteList() : brouteList;
+
+        // Plans are keyed by identity: the BRoute objects handed out by this snapshot are the keys.
+        Map<BRoute, BRoutePlan> plans = new IdentityHashMap<>();
+        if (list.getTheBRouteList() != null) {
+            for (BRoute broute : list.getTheBRouteList()) {
+                plans.put(broute, BRoutePlan.compile(broute));
+            }
+        }
+        return new BRouteSnapshot(version, list, BRouteIndex.build(list), Collections.unmodifiableMap(plans), origin);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public BRouteList getBRouteList() {
+        return brouteList;
+    }
+
+    public BRouteIndex getBRouteIndex() {
+        return brouteIndex;
+    }
+
+    /*
+     * Returns the compiled plan of a BRoute of this snapshot, or null if the
+     * BRoute is not part of this snapshot.
+     */
+    public BRoutePlan getBRoutePlan(BRoute broute) {
+        return broutePlans.get(broute);
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public Instant getCreateTime() {
+        return createTime;
+    }
+
+    public String toString() {
+        return "BRouteSnapshot[version=" + version + ", broutes=" + brouteList.size() + ", origin=" + origin + ", createTime=" + createTime + "]";
+    }
+}
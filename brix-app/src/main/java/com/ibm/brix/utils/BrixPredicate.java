@@ -29,6 +29,8 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*        129161 20250331 tmueller  New source file created.
+//*               20261018 agent     Add compile() to resolve an operator and
+//*                                  pattern once into a CompiledPredicate.
 //*                                                                 
 //* Additional notes about the Change Activity:
 //*                                                                 
@@ -37,6 +39,7 @@ package com.ibm.brix.utils;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.jboss.logging.Logger;
 
@@ -50,6 +53,90 @@ public class BrixPredicate {
 
 	private static final Logger LOG = Logger.getLogger(BrixPredicate.class);
 
+	/**
+	 * A rule condition operator and pattern resolved ahead of time, so that asserting it
+	 * only has to test the subject value.
+	 */
+	@FunctionalInterface
+	public interface CompiledPredicate {
+		boolean test(Object subjectValue) throws BrixException;
+	}
+
+	/**
+	 * Method:  compile
+	 * Resolves the operator and pattern into a CompiledPredicate which gives the same result as
+	 * assertCondition for any subject value. A MATCHREGEX pattern is compiled here, once. Errors
+	 * which assertCondition would report, such as an invalid regular expression or an unsupported
+	 * operator, are reported when the predicate is tested, in the same cases as assertCondition.
+	 * 
+	 * @param RuleOperator operator
+	 * @param String pattern
+	 * @return CompiledPredicate
+	 */
+	public static CompiledPredicate compile(RuleOperator operator, String pattern) {
+		if (operator == null) {
+			// assertCondition fails on a null operator before asserting anything; do the same when tested.
+			return subjectValue -> { throw new NullPointerException("BrixPredicate operator is null"); };
+		}
+
+		switch(operator) {
+		case EXISTS:
+			return subjectValue -> exists(subjectValue);
+		case NOTEXISTS:
+			return subjectValue -> (!(exists(subjectValue)));
+		case EQUALS:
+			return subjectValue -> equals(subjectValue, pattern);
+		case EQUALSIGNORECASE:
+			return subjectValue -> equalsIgnoreCase(subjectValue, pattern);
+		case NOTEQUALS:
+			return subjectValue -> (!(equals(subjectValue, pattern)));
+		case CONTAINS:
+			return subjectValue -> contains(subjectValue, pattern);
+		case NOTCONTAINS:
+			return subjectValue -> (!(contains(subjectValue, pattern)));
+		case TRUE:
+			return subjectValue -> isTrue(subjectValue);
+		case FALSE:
+			return subjectValue -> isFalse(subjectValue);
+		case EMPTY:
+			return subjectValue -> isEmpty(subjectValue);
+		case NOTEMPTY:
+			return subjectValue -> (!(isEmpty(subjectValue)));
+		case MATCHREGEX:
+			return compileMatchRegex(pattern);
+		default:
+			IllegalArgumentException unsupported = new IllegalArgumentException("BrixPredicate does not support the operator: " + operator.getName());
+			return subjectValue -> { throw new BrixException("Brix Predicate assertCondition error:\n", unsupported); };
+		}
+	}
+
+	/**
+	 * Method:  compileMatchRegex
+	 * Precompiled form of matchRegex. Like matchRegex, an invalid pattern is only reported when
+	 * it is tested against a String subject value.
+	 * 
+	 * @param String regexPattern
+	 * @return CompiledPredicate
+	 */
+	private static CompiledPredicate compileMatchRegex(String regexPattern) {
+		if (regexPattern == null) {
+			return subjectValue -> false;
+		}
+		final Pattern pattern;
+		try {
+			pattern = Pattern.compile(regexPattern);
+		}
+		catch (PatternSyntaxException e) {
+			return subjectValue -> {
+				if (subjectValue instanceof String) {
+					throw new BrixException("Brix Predicate assertCondition error:\n", e);
+				}
+				return false;
+			};
+		}
+		return subjectValue -> (subjectValue instanceof String) && pattern.matcher((String)subjectValue).find();
+	}
+
 	/**
 	 * Method:  assertCondition
 	 * Asserts the test on the subject or subject value against the pattern to be true or false, based on the operator used.
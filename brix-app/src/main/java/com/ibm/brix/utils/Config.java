@@ -24,6 +24,20 @@
 //*      127205   20250320 mitre     Adding readArtifactRelationshipsFromFile 
 //*                                  method to read pre-loaded artifact
 //*                                  relationships from JSON file
+//*               20261018 agent     Find matching BRoutes through an immutable
+//*                                  BRouteIndex instead of scanning the list
+//*               20261018 agent     Publish BRoutes as versioned, immutable
+//*                                  BRouteSnapshots that can be reloaded
+//*               20261018 agent     Read ArtifactRelationships through the
+//*                                  ArtifactRelationshipCache instead of
+//*                                  loading all of them at startup
+//*               20261018 agent     Look transactions up in the bounded
+//*                                  TransactionRegistry
+//*               20261018 agent     Add getBRoutePlan for compiled BRoutes
+//*               20261018 agent     Create ArtifactKeys through the shared
+//*                                  SystemTypeRegistry
+//*               20261018 agent     Keep the BRoutes when the file cannot be
+//*                                  read.
 //*
 //* Additional notes about the Change Activity:
 //*
@@ -31,7 +45,9 @@
 package com.ibm.brix.utils;
 
 import com.ibm.brix.BrixException;
-import com.ibm.brix.factories.ArtifactKeyFactory;
+import com.ibm.brix.cache.ArtifactRelationshipCache;
+import com.ibm.brix.cache.TransactionRegistry;
+import com.ibm.brix.factories.SystemTypeRegistry;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,13 +58,15 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.ibm.brix.common.model.Artifact;
 import com.ibm.brix.common.model.ArtifactKey;
 import com.ibm.brix.common.model.ArtifactRelationship;
+import com.ibm.brix.common.enums.ArtifactType;
 import com.ibm.brix.model.ArtifactRelationshipList;
 import com.ibm.brix.model.BRouteList;
+import com.ibm.brix.common.model.BRoute;
 import com.ibm.brix.common.model.Endpoint;
+import com.ibm.brix.plans.BRoutePlan;
 import com.ibm.brix.common.model.Transaction;
-import com.ibm.brix.model.TransactionList;
 
-import jakarta.transaction.Transactional;
+import jakarta.enterprise.inject.spi.CDI;
 
 import java.io.BufferedReader;
 import java.io.InputStream;
@@ -56,63 +74,151 @@ import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
 import java.io.IOException;
 
-import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.Exchange;
+
+import com.ibm.brix.Constants;
 
 public class Config {
     public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2024 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
     private static final Logger LOG = LoggerFactory.getLogger(Config.class);
 
-    private static BRouteList brouteList = new BRouteList();
-    private static TransactionList transactionList = new TransactionList();
+    private static final AtomicReference<BRouteSnapshot> brouteSnapshot = new AtomicReference<>(BRouteSnapshot.EMPTY);
     private static ArtifactRelationshipList artifactRelationshipList = new ArtifactRelationshipList();
 
 
+    /*
+     * Returns the BRouteList of the current snapshot. The list belongs to the
+     * snapshot and must not be modified; publish a new list with publishBRoutes.
+     */
     public static BRouteList getBRouteList() {
-        return brouteList;
+        return getBRouteSnapshot().getBRouteList();
     }
 
-    public static ArtifactRelationshipList getArtifactRelationshipList() {
-        return artifactRelationshipList;
+    /*
+     * Returns the current BRoute lookup index. The index is immutable and is
+     * replaced as a whole whenever the BRoute configuration changes, so callers
+     * can use it without locking.
+     */
+    public static BRouteIndex getBRouteIndex() {
+        return getBRouteSnapshot().getBRouteIndex();
     }
 
-    public static TransactionList getTransactionList() {
-        return transactionList;
+    public static BRouteSnapshot getBRouteSnapshot() {
+        return brouteSnapshot.get();
     }
 
     /*
-     * Returns null if not found.
+     * Returns the snapshot the exchange was pinned to when its BRoutes were found,
+     * or the current snapshot if the exchange has not been pinned yet.
      */
-    public static Transaction getTransaction(String trxid) {
-        return getTransactionList().get(trxid);
+    public static BRouteSnapshot getBRouteSnapshot(Exchange exchange) {
+        BRouteSnapshot pinned = (exchange == null) ? null : exchange.getProperty(Constants.BRIX_BROUTE_SNAPSHOT, BRouteSnapshot.class);
+        return (pinned != null) ? pinned : getBRouteSnapshot();
     }
 
-    public static final void readBroutesFromFile(String fileName) {
-        LOG.info("reading from " + fileName);
+    /*
+     * Returns the compiled plan for a BRoute from the snapshot the exchange is
+     * pinned to. A BRoute which is not part of that snapshot, such as one built
+     * by a test, is compiled on the spot.
+     */
+    public static BRoutePlan getBRoutePlan(Exchange exchange, BRoute broute) {
+        BRoutePlan plan = getBRouteSnapshot(exchange).getBRoutePlan(broute);
+        if (plan == null) {
+            LOG.debug("No precompiled plan for BRoute, compiling: " + broute);
+            plan = BRoutePlan.compile(broute);
+        }
+        return plan;
+    }
 
+    /*
+     * Builds a new snapshot over the given BRouteList and swaps it in atomically.
+     * Exchanges already in flight keep the snapshot they were pinned to.
+     */
+    public static synchronized BRouteSnapshot publishBRoutes(BRouteList newBRouteList, String origin) {
+        BRouteSnapshot current = brouteSnapshot.get();
+        BRouteSnapshot next = BRouteSnapshot.build(current.getVersion() + 1, newBRouteList, origin);
+        brouteSnapshot.set(next);
+        LOG.info("Published " + next + " replacing version " + current.getVersion());
+        return next;
+    }
+
+    /*
+     * Parses a BRoute configuration in the brix.broutes.cfg format.
+     */
+    public static final BRouteList parseBRouteList(String content) throws BrixException {
         ObjectMapper mapper = new ObjectMapper();
         mapper.findAndRegisterModules();
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        try {
+            BRouteList parsed = mapper.readValue(content, BRouteList.class);
+            if (parsed == null) {
+                throw new BrixException("parseBRouteList: no BRoutes found");
+            }
+            return parsed;
+        } catch (IOException e) {
+            throw new BrixException("parseBRouteList: unable to parse JSON", e);
+        }
+    }
+
+    public static final BRouteList parseBRouteList(InputStream inputStream) throws BrixException {
+        if (inputStream == null) {
+            throw new BrixException("parseBRouteList: no input");
+        }
+        try {
+            return parseBRouteList(readInputStreamToString(inputStream));
+        } catch (IOException e) {
+            throw new BrixException("parseBRouteList: unable to read input", e);
+        }
+    }
+
+    public static ArtifactRelationshipList getArtifactRelationshipList() {
+        return artifactRelationshipList;
+    }
+
+    /*
+     * Returns null if not found. Transactions which are no longer held in
+     * the TransactionRegistry are read from the DB.
+     */
+    public static Transaction getTransaction(String trxid) {
+        return CDI.current().select(TransactionRegistry.class).get().get(trxid);
+    }
+
+    public static final synchronized void readBroutesFromFile(String fileName) {
+        LOG.info("reading from " + fileName);
+
         BRouteList brouteListFromFile = null;
 
         try {
             InputStream inputStream = Config.class.getClassLoader()
                 .getResourceAsStream(fileName);
-            String content = readInputStreamToString(inputStream);
             //String content = new String(Files.readAllBytes(Paths.get(fileName)));
-            brouteListFromFile = mapper.readValue(content, BRouteList.class);
+            brouteListFromFile = parseBRouteList(inputStream);
 
         } catch (Exception e) {
             LOG.error("Unable to parse JSON:'" + e + "'");
         }
+        if (brouteListFromFile == null) {
+            // Keep the current snapshot; a new version would only invalidate what was cached for it.
+            LOG.warn("BRoutes not read from " + fileName + "; the current BRoutes are kept.");
+            return;
+        }
 
-        //Append the broutes read-in to the master broute list
-        //  to ensure there are no duplicates
-        getBRouteList().append(brouteListFromFile);
+        //Append the broutes read-in to a copy of the master broute list
+        //  to ensure there are no duplicates, then publish the copy
+        BRouteList newBRouteList = new BRouteList();
+        newBRouteList.append(getBRouteList());
+        newBRouteList.append(brouteListFromFile);
+        BRouteSnapshot snapshot = publishBRoutes(newBRouteList, fileName);
 
-        LOG.info("new parsed route=" + brouteList);
+        LOG.info("new parsed route=" + snapshot.getBRouteList());
     }
 
-    @Transactional
+    /*
+     * Pre-loads artifact relationships from a JSON file, as used by the tests. Without
+     * a file, relationships are read on demand through the ArtifactRelationshipCache.
+     */
     public static final void readArtifactRelationshipsFromFile(String fileName) {
         InputStream inputStream = Config.class.getClassLoader()
             .getResourceAsStream(fileName);
@@ -136,11 +242,9 @@ public class Config {
             //Append the artifact relatinship read-in to the master artifact relationship list
             //  to ensure there are no duplicates
             getArtifactRelationshipList().append(artifactRelationshipListFromFile);
-        } else { //if not from a file then get from DB
-            List<ArtifactRelationship> artifactRelationships = ArtifactRelationship.listAll();
-            for (int i = 0; i < artifactRelationships.size(); i++) {
-                getArtifactRelationshipList().append(artifactRelationships.get(i));
-            }
+        } else { //if not from a file then read through the cache from the DB
+            LOG.info("No " + fileName + " found, artifact relationships will be read on demand from the DB");
+            return;
         }
         LOG.info("new parsed artifact relationship=" + artifactRelationshipList);
     }
@@ -160,15 +264,25 @@ public class Config {
     }
 
     public static final BRouteList findMatchingBRoutes(Artifact sourceArtifact)
+        throws BrixException {
+        return findMatchingBRoutes(getBRouteSnapshot(), sourceArtifact);
+    }
+
+    public static final BRouteList findMatchingBRoutes(BRouteSnapshot snapshot, Artifact sourceArtifact)
         throws BrixException {
         if (sourceArtifact == null)
             throw new BrixException("findMatchingBRoutes: Null sourceArtifact");
 
         Endpoint sourceEndpoint = sourceArtifact.getEndpoint();
-        LOG.info("findMatchingBRoutes: " + sourceEndpoint);
-        BRouteList brouteList = getBRouteList().findSourcesMatching(sourceEndpoint);
+        ArtifactType artifactType = sourceArtifact.getArtifactType();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("findMatchingBRoutes: " + sourceEndpoint + " artifactType=" + artifactType);
+        }
+        BRouteList brouteList = snapshot.getBRouteIndex().findSourcesMatching(sourceEndpoint, artifactType);
 
-        LOG.info("Matching broutes:" + brouteList);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Matching broutes:" + brouteList);
+        }
         return brouteList;
     }
 
@@ -177,12 +291,16 @@ public class Config {
         if (sourceArtifact == null)
             throw new BrixException("findMatchingArtifactRelationship: Null sourceArtifact");
 
-        ArtifactKeyFactory artifactKeyFactory = new ArtifactKeyFactory();
-		ArtifactKey artifactKey = artifactKeyFactory.getArtifactKey(sourceArtifact.getArtifactType(), sourceArtifact);
-        LOG.info("findMatchingArtifactRelationship Key: " + artifactKey);
-        ArtifactRelationshipList artifactRelationshipList = getArtifactRelationshipList().findSourcesMatching(artifactKey);
+		ArtifactKey artifactKey = SystemTypeRegistry.getInstance().getArtifactKey(sourceArtifact.getArtifactType(), sourceArtifact);
+        LOG.debug("findMatchingArtifactRelationship Key: " + artifactKey);
+        ArtifactRelationshipList artifactRelationshipList;
+        if (getArtifactRelationshipList().size() > 0) {
+            artifactRelationshipList = getArtifactRelationshipList().findSourcesMatching(artifactKey);
+        } else {
+            artifactRelationshipList = CDI.current().select(ArtifactRelationshipCache.class).get().findSourcesMatching(artifactKey);
+        }
 
-        LOG.info("Matching artifact relationships:" + artifactRelationshipList);
+        LOG.debug("Matching artifact relationships:" + artifactRelationshipList);
         return artifactRelationshipList;
     }
 
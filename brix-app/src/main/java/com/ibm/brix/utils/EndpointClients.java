@@ -0,0 +1,366 @@
+//=============================================================================
+//* Name:         EndpointClients.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Endpoint Clients
+//*
+//* Description:  Shared, non-blocking HTTP clients for the calls BrIX makes to
+//*               endpoint systems. Each endpoint (scheme, host and port) has
+//*               its own pool of keep-alive connections, sized per system
+//*               type, and uses HTTP/2 where the endpoint negotiates it. A
+//*               request does not hold a thread while it is in flight: the
+//*               returned future completes on the resume pool once the
+//*               response has been read, never on the I/O thread.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Take a token from the endpoint's rate limit
+//*                                  before each request.
+//*               20261018 agent     Configure the rate limit by the endpoint's
+//*                                  address only.
+//*               20261018 agent     Key the pools with the shared
+//*                                  MessageGroupKey.endpointKey.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.beans.MessageGroupKey;
+import com.ibm.brix.common.enums.SystemType;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.http.RequestOptions;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class EndpointClients {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+    private static final Logger LOG = LoggerFactory.getLogger(EndpointClients.class);
+
+    public static final String METRIC_PREFIX = "brix.endpoint.client";
+    private static final String CONFIG_PREFIX = "brix.endpoint.client.";
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    CamelContext camelContext;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    EndpointRateLimiter rateLimiter;
+
+    /** HTTP/1.1 connections per endpoint; brix.endpoint.client."<SystemType>".max-pool-size overrides it per system type. */
+    @ConfigProperty(name = "brix.endpoint.client.max-pool-size", defaultValue = "20")
+    int maxPoolSize;
+
+    /** HTTP/2 connections per endpoint; each carries many requests at once. */
+    @ConfigProperty(name = "brix.endpoint.client.http2-max-pool-size", defaultValue = "2")
+    int http2MaxPoolSize;
+
+    /** Requests waiting for a connection, per endpoint, before new ones fail. */
+    @ConfigProperty(name = "brix.endpoint.client.max-wait-queue-size", defaultValue = "1000")
+    int maxWaitQueueSize;
+
+    /** Offer HTTP/2 (ALPN over TLS); brix.endpoint.client."<SystemType>".http2 overrides it per system type. */
+    @ConfigProperty(name = "brix.endpoint.client.http2", defaultValue = "true")
+    boolean http2;
+
+    /** Also try HTTP/2 over plain http, with an upgrade request. */
+    @ConfigProperty(name = "brix.endpoint.client.h2c", defaultValue = "false")
+    boolean h2c;
+
+    @ConfigProperty(name = "brix.endpoint.client.keep-alive-timeout", defaultValue = "PT60S")
+    Duration keepAliveTimeout;
+
+    @ConfigProperty(name = "brix.endpoint.client.connect-timeout", defaultValue = "PT5S")
+    Duration connectTimeout;
+
+    @ConfigProperty(name = "brix.endpoint.client.request-timeout", defaultValue = "PT30S")
+    Duration requestTimeout;
+
+    /** Threads that continue processing once a response has arrived. */
+    @ConfigProperty(name = "brix.endpoint.client.resume-pool-size", defaultValue = "16")
+    int resumePoolSize;
+
+    private final Map<String, EndpointPool> pools = new ConcurrentHashMap<>();
+    private volatile ExecutorService resumeExecutor;
+
+    /**
+     * A response from an endpoint.
+     */
+    public static final class EndpointResponse {
+        private final int statusCode;
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        EndpointResponse(int statusCode, Map<String, String> headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        /** The response headers (the first value of each), by case insensitive name. */
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public String getHeader(String name) {
+            return headers.get(name);
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+
+    /*
+     * The connection pool of one endpoint and its meters.
+     */
+    private final class EndpointPool {
+        final String endpoint;
+        final HttpClient client;
+        final Tags tags;
+        final AtomicInteger inFlight = new AtomicInteger();
+
+        EndpointPool(SystemType systemType, String endpoint, URI uri) {
+            this.endpoint = endpoint;
+            boolean tls = "https".equalsIgnoreCase(uri.getScheme());
+            boolean useHttp2 = ConfigProvider.getConfig().getOptionalValue(CONFIG_PREFIX + systemType.name() + ".http2", Boolean.class).orElse(http2) && (tls || h2c);
+            int http1Size = ConfigProvider.getConfig().getOptionalValue(CONFIG_PREFIX + systemType.name() + ".max-pool-size", Integer.class).orElse(maxPoolSize);
+
+            HttpClientOptions options = new HttpClientOptions()
+                .setKeepAlive(true)
+                .setKeepAliveTimeout((int) keepAliveTimeout.toSeconds())
+                .setHttp2KeepAliveTimeout((int) keepAliveTimeout.toSeconds())
+                .setConnectTimeout((int) connectTimeout.toMillis())
+                .setSsl(tls)
+                .setTcpNoDelay(true);
+            if (useHttp2) {
+                options.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(tls)
+                    .setHttp2ClearTextUpgrade(!tls);
+            }
+            PoolOptions poolOptions = new PoolOptions()
+                .setHttp1MaxSize(http1Size)
+                .setHttp2MaxSize(http2MaxPoolSize)
+                .setMaxWaitQueueSize(maxWaitQueueSize);
+            this.client = vertx.createHttpClient(options, poolOptions);
+            this.tags = Tags.of("systemType", systemType.name(), "endpoint", endpoint);
+
+            Gauge.builder(METRIC_PREFIX + ".in.flight", inFlight, AtomicInteger::get)
+                .description("Requests sent to the endpoint and not yet answered")
+                .tags(tags)
+                .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".pool.max", () -> useHttp2 ? http2MaxPoolSize : http1Size)
+                .description("Connections the endpoint's pool may open")
+                .tags(tags.and("protocol", useHttp2 ? "h2" : "http/1.1"))
+                .register(meterRegistry);
+            LOG.info("Endpoint client created for " + endpoint + " (" + systemType.getName() + "): " + (useHttp2 ? "HTTP/2 preferred, " + http2MaxPoolSize : "HTTP/1.1, " + http1Size)
+                + " connections, keepAlive=" + keepAliveTimeout);
+        }
+
+        Timer timer(String outcome) {
+            return Timer.builder(METRIC_PREFIX + ".requests")
+                .description("Endpoint request latency, from sending the request to reading the whole response")
+                .tags(tags.and("outcome", outcome))
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Method:  send
+     * Sends a request to an endpoint on the endpoint's pooled client, once the endpoint's rate limit
+     * allows it. The future completes with the response, whatever its status code, or exceptionally
+     * if the rate limit rejected the request or no response was received within the request timeout.
+     *
+     * @param SystemType systemType (of the endpoint)
+     * @param String method (e.g. GET)
+     * @param String uri (absolute)
+     * @param Map<String,String> headers (may be null)
+     * @param byte[] body (may be null)
+     * @return CompletableFuture<EndpointResponse>
+     * @throws BrixException if the URI is not an absolute http or https URI
+     */
+    public CompletableFuture<EndpointResponse> send(SystemType systemType, String method, String uri, Map<String, String> headers, byte[] body) throws BrixException {
+        URI parsed;
+        try {
+            parsed = URI.create(uri);
+        }
+        catch (IllegalArgumentException e) {
+            throw new BrixException("Invalid endpoint URI '" + uri + "'", e);
+        }
+        if (parsed.getScheme() == null || parsed.getAuthority() == null || !parsed.getScheme().toLowerCase(Locale.ROOT).startsWith("http")) {
+            throw new BrixException("Endpoint URI '" + uri + "' is not an absolute http or https URI.");
+        }
+        String endpoint = MessageGroupKey.endpointKey(uri);
+        EndpointPool pool = pools.computeIfAbsent(endpoint, k -> new EndpointPool(systemType == null ? SystemType.UNKNOWN : systemType, k, parsed));
+
+        RequestOptions options = new RequestOptions()
+            .setMethod(HttpMethod.valueOf(method.toUpperCase(Locale.ROOT)))
+            .setAbsoluteURI(uri)
+            .setTimeout(requestTimeout.toMillis());
+        if (headers != null) {
+            headers.forEach((name, value) -> {
+                if (value != null) {
+                    options.addHeader(name, value);
+                }
+            });
+        }
+
+        CompletableFuture<EndpointResponse> future = new CompletableFuture<>();
+        rateLimiter.acquire(uri).whenComplete((permit, rejected) -> {
+            if (rejected != null) {
+                resume(future, null, rejected);
+            }
+            else {
+                request(pool, options, body, future);
+            }
+        });
+        return future;
+    }
+
+    private void request(EndpointPool pool, RequestOptions options, byte[] body, CompletableFuture<EndpointResponse> future) {
+        long start = System.nanoTime();
+        pool.inFlight.incrementAndGet();
+        pool.client.request(options)
+            .compose(request -> body == null ? request.send() : request.send(Buffer.buffer(body)))
+            .compose(response -> response.body().map(buffer -> new EndpointResponse(response.statusCode(), headers(response.headers()), buffer.getBytes())))
+            .onComplete(result -> {
+                pool.inFlight.decrementAndGet();
+                long elapsed = System.nanoTime() - start;
+                if (result.succeeded()) {
+                    pool.timer((result.result().getStatusCode() / 100) + "xx").record(elapsed, TimeUnit.NANOSECONDS);
+                    rateLimiter.onResponse(pool.endpoint, result.result().getStatusCode(), result.result().getHeaders());
+                    resume(future, result.result(), null);
+                }
+                else {
+                    pool.timer("error").record(elapsed, TimeUnit.NANOSECONDS);
+                    resume(future, null, result.cause());
+                }
+            });
+    }
+
+    /*
+     * Completes the future off the I/O thread, so whatever runs next cannot block it.
+     */
+    private void resume(CompletableFuture<EndpointResponse> future, EndpointResponse response, Throwable failure) {
+        Runnable completion = () -> {
+            if (failure == null) {
+                future.complete(response);
+            }
+            else {
+                future.completeExceptionally(failure);
+            }
+        };
+        try {
+            getResumeExecutor().execute(completion);
+        }
+        catch (RejectedExecutionException e) {
+            LOG.warn("Endpoint client resume pool is shut down; completing on the I/O thread.");
+            completion.run();
+        }
+    }
+
+    private static Map<String, String> headers(MultiMap multiMap) {
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, String> header : multiMap) {
+            headers.putIfAbsent(header.getKey(), header.getValue());
+        }
+        return Collections.unmodifiableMap(headers);
+    }
+
+    /**
+     * Method:  getPoolCount
+     * Returns the number of endpoints a client has been created for.
+     *
+     * @return int
+     */
+    public int getPoolCount() {
+        return pools.size();
+    }
+
+    private ExecutorService getResumeExecutor() {
+        ExecutorService pool = resumeExecutor;
+        if (pool == null) {
+            synchronized (this) {
+                pool = resumeExecutor;
+                if (pool == null) {
+                    ThreadPoolProfile profile = new ThreadPoolProfile("EndpointClientResume");
+                    profile.setPoolSize(resumePoolSize);
+                    profile.setMaxPoolSize(resumePoolSize);
+                    profile.setMaxQueueSize(-1);
+                    pool = camelContext.getExecutorServiceManager().newThreadPool(this, "EndpointClientResume", profile);
+                    resumeExecutor = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (EndpointPool pool : pools.values()) {
+            pool.client.close();
+        }
+        pools.clear();
+        if (resumeExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdown(resumeExecutor);
+        }
+    }
+}
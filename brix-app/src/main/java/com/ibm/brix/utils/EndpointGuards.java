@@ -0,0 +1,480 @@
+//=============================================================================
+//* Name:         EndpointGuards.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Endpoint Guards
+//*
+//* Description:  Isolates the endpoint systems from each other, so that one
+//*               slow or failing endpoint cannot stall the BRoutes of the
+//*               others:
+//*                 - bulkheads: separate bounded concurrency for the fetch
+//*                   and the action calls to each endpoint. Calls over the
+//*                   limit wait in a bounded queue without holding a thread.
+//*                 - a circuit breaker per endpoint. After a run of failed or
+//*                   slow calls the circuit opens and calls fail at once with
+//*                   a CircuitOpenException. After the open duration one
+//*                   trial call is let through; if it succeeds the circuit
+//*                   closes, otherwise it opens again.
+//*                 - parking of the exchanges refused while the circuit was
+//*                   open. They are stored in the retry queue, PARKED, and
+//*                   released when the circuit half opens (the first one,
+//*                   as the trial call) and once it closes (the rest); the
+//*                   retry scheduler then replays them from the start of
+//*                   their pipeline.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Park exchanges in the retry queue, not
+//*                                  in memory.
+//*               20261018 agent     Key the guards with the shared
+//*                                  MessageGroupKey.endpointKey.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.CircuitOpenException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.RetryScheduler;
+import com.ibm.brix.beans.TransactionBean;
+import com.ibm.brix.common.beans.MessageGroupKey;
+import com.ibm.brix.common.enums.Status;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class EndpointGuards {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+    private static final Logger LOG = LoggerFactory.getLogger(EndpointGuards.class);
+
+    public static final String METRIC_PREFIX = "brix.circuit";
+
+    /** The kind of call, each with its own bulkhead per endpoint. */
+    public enum CallKind { FETCH, ACTION }
+
+    public enum CircuitState { CLOSED, HALF_OPEN, OPEN }
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    RetryScheduler retryScheduler;
+
+    @Inject
+    Instance<TransactionBean> transactionBean;
+
+    @ConfigProperty(name = "brix.bulkhead.fetch.max-concurrent", defaultValue = "8")
+    int fetchMaxConcurrent;
+
+    @ConfigProperty(name = "brix.bulkhead.action.max-concurrent", defaultValue = "4")
+    int actionMaxConcurrent;
+
+    /** Calls waiting for a bulkhead, per endpoint and kind, before new ones are refused. */
+    @ConfigProperty(name = "brix.bulkhead.max-queue-size", defaultValue = "200")
+    int bulkheadQueueSize;
+
+    /** Consecutive failed or slow calls which open the circuit. */
+    @ConfigProperty(name = "brix.circuit.failure-threshold", defaultValue = "5")
+    int failureThreshold;
+
+    /** A call taking longer than this counts as a failure, even if it succeeds. */
+    @ConfigProperty(name = "brix.circuit.slow-call-threshold", defaultValue = "PT10S")
+    Duration slowCallThreshold;
+
+    /** How long the circuit stays open before a trial call is let through. */
+    @ConfigProperty(name = "brix.circuit.open-duration", defaultValue = "PT30S")
+    Duration openDuration;
+
+    private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    /*
+     * Bounded concurrency for one kind of call to one endpoint. A call over the limit waits in the
+     * queue, and is started by the call that frees its permit.
+     */
+    private final class Bulkhead {
+        final int maxConcurrent;
+        final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+        int running;
+
+        Bulkhead(String endpoint, CallKind kind, int maxConcurrent) {
+            this.maxConcurrent = Math.max(1, maxConcurrent);
+            Tags tags = Tags.of("endpoint", endpoint, "kind", kind.name().toLowerCase(Locale.ROOT));
+            Gauge.builder("brix.bulkhead.active", this, b -> b.active())
+                .description("Calls in progress to the endpoint")
+                .tags(tags)
+                .register(meterRegistry);
+            Gauge.builder("brix.bulkhead.queued", this, b -> b.queued())
+                .description("Calls waiting for the endpoint's bulkhead")
+                .tags(tags)
+                .register(meterRegistry);
+        }
+
+        synchronized int active() {
+            return running;
+        }
+
+        synchronized int queued() {
+            return waiting.size();
+        }
+
+        /* Starts the call now, or queues it; false if the queue is full. */
+        boolean enter(Runnable call) {
+            synchronized (this) {
+                if (running >= maxConcurrent) {
+                    if (waiting.size() >= bulkheadQueueSize) {
+                        return false;
+                    }
+                    waiting.add(call);
+                    return true;
+                }
+                running++;
+            }
+            call.run();
+            return true;
+        }
+
+        /* Hands the permit to the next waiting call, if any. */
+        void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    running--;
+                }
+            }
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+
+    /*
+     * The circuit breaker and bulkheads of one endpoint. The circuit fields are guarded by the
+     * guard's lock.
+     */
+    private final class Guard {
+        final String endpoint;
+        final Map<CallKind, Bulkhead> bulkheads = new EnumMap<>(CallKind.class);
+        final Counter refused;
+        final Counter parked;
+        final Counter opened;
+        CircuitState state = CircuitState.CLOSED;
+        int consecutiveFailures;
+        boolean trialInFlight;
+
+        Guard(String endpoint) {
+            this.endpoint = endpoint;
+            bulkheads.put(CallKind.FETCH, new Bulkhead(endpoint, CallKind.FETCH, fetchMaxConcurrent));
+            bulkheads.put(CallKind.ACTION, new Bulkhead(endpoint, CallKind.ACTION, actionMaxConcurrent));
+            refused = Counter.builder(METRIC_PREFIX + ".refused")
+                .description("Calls refused because the endpoint's circuit was open")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+            opened = Counter.builder(METRIC_PREFIX + ".opened")
+                .description("Times the endpoint's circuit opened")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".state", this, g -> g.state().ordinal())
+                .description("Circuit state of the endpoint: 0 closed, 1 half open, 2 open")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+            parked = Counter.builder(METRIC_PREFIX + ".parked")
+                .description("Exchanges stored in the retry queue until the endpoint's circuit closes")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        }
+
+        synchronized CircuitState state() {
+            return state;
+        }
+
+        /* True if a call may be made now; in the half open state only the one trial call may. */
+        synchronized boolean allow() {
+            switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (!trialInFlight) {
+                    trialInFlight = true;
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+            }
+        }
+
+        /* A call that was allowed was not made after all. */
+        synchronized void abandon() {
+            trialInFlight = false;
+        }
+
+        void onSuccess() {
+            boolean closed = false;
+            synchronized (this) {
+                consecutiveFailures = 0;
+                if (state == CircuitState.HALF_OPEN) {
+                    state = CircuitState.CLOSED;
+                    trialInFlight = false;
+                    closed = true;
+                }
+            }
+            if (closed) {
+                LOG.info("Circuit for " + endpoint + " closed.");
+                release(this, Integer.MAX_VALUE);
+            }
+        }
+
+        void onFailure() {
+            boolean open = false;
+            int failures;
+            synchronized (this) {
+                consecutiveFailures++;
+                if (state == CircuitState.HALF_OPEN || (state == CircuitState.CLOSED && consecutiveFailures >= failureThreshold)) {
+                    state = CircuitState.OPEN;
+                    trialInFlight = false;
+                    open = true;
+                }
+                failures = consecutiveFailures;
+            }
+            if (open) {
+                opened.increment();
+                LOG.warn("Circuit for " + endpoint + " opened after " + failures + " failed calls; calls fail at once for " + openDuration + ".");
+                scheduleHalfOpen(this);
+            }
+        }
+
+        void halfOpen() {
+            synchronized (this) {
+                if (state != CircuitState.OPEN) {
+                    return;
+                }
+                state = CircuitState.HALF_OPEN;
+                trialInFlight = false;
+            }
+            LOG.info("Circuit for " + endpoint + " half open; letting one trial call through.");
+            // The first parked exchange makes the trial call; the rest follow once the circuit closes.
+            release(this, 1);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "EndpointGuards");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Method:  call
+     * Makes a call to an endpoint through its circuit breaker and the bulkhead for the kind of call.
+     * The call is not made, and the future fails at once, with a CircuitOpenException if the circuit
+     * is open, or a BrixException if the bulkhead's queue is full. Otherwise the call starts when the
+     * bulkhead has a free permit; its outcome, and whether it was slow, are recorded on the circuit.
+     *
+     * @param String uri (of the endpoint)
+     * @param CallKind kind
+     * @param Supplier<CompletableFuture<T>> call (makes the call)
+     * @param Predicate<T> failed (whether a completed call counts as a failure; may be null)
+     * @return CompletableFuture<T>
+     */
+    public <T> CompletableFuture<T> call(String uri, CallKind kind, Supplier<CompletableFuture<T>> call, Predicate<T> failed) {
+        Guard guard = guard(uri);
+        if (!guard.allow()) {
+            guard.refused.increment();
+            return CompletableFuture.failedFuture(new CircuitOpenException(guard.endpoint, guard.state().name()));
+        }
+
+        Bulkhead bulkhead = guard.bulkheads.get(kind);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> {
+            long begin = System.nanoTime();
+            CompletableFuture<T> attempt;
+            try {
+                attempt = call.get();
+            }
+            catch (RuntimeException e) {
+                attempt = CompletableFuture.failedFuture(e);
+            }
+            attempt.whenComplete((value, failure) -> {
+                bulkhead.release();
+                boolean slow = System.nanoTime() - begin > slowCallThreshold.toNanos();
+                if (failure != null || slow || (failed != null && failed.test(value))) {
+                    guard.onFailure();
+                }
+                else {
+                    guard.onSuccess();
+                }
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                }
+                else {
+                    result.complete(value);
+                }
+            });
+        };
+        if (!bulkhead.enter(start)) {
+            guard.abandon();
+            return CompletableFuture.failedFuture(new BrixException("Too many " + kind.name().toLowerCase(Locale.ROOT) + " calls waiting for " + guard.endpoint + "."));
+        }
+        return result;
+    }
+
+    /**
+     * Method:  getState
+     * Returns the circuit state of the endpoint of the given URI.
+     *
+     * @param String uri
+     * @return CircuitState
+     */
+    public CircuitState getState(String uri) {
+        Guard guard = guards.get(MessageGroupKey.endpointKey(uri));
+        return (guard == null ? CircuitState.CLOSED : guard.state());
+    }
+
+    /**
+     * Method:  getStates
+     * Returns the circuit state of every endpoint called so far.
+     *
+     * @return Map<String,String> (by endpoint)
+     */
+    public Map<String, String> getStates() {
+        Map<String, String> states = new TreeMap<>();
+        for (Guard guard : guards.values()) {
+            states.put(guard.endpoint, guard.state().name());
+        }
+        return Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * Method:  park
+     * Stores an exchange whose call was refused by an open circuit in the retry queue, PARKED, and
+     * stops its routing. Its message, as its route received it, is replayed from the start of the
+     * pipeline once the circuit half opens or closes, and survives a restart.
+     * Exchange Expected Input:
+     *    - Exception (caught): CircuitOpenException
+     * Exchange Output:
+     *    - Header BRIX_PARKED: true
+     *    - Header BRIX_ENDPOINT_CIRCUIT: the endpoint and its circuit state
+     *
+     * @param Exchange exchange (Provided by Camel)
+     * @throws BrixException if the exchange could not be stored (e.g. brix.retry.enabled=false)
+     */
+    public void park(Exchange exchange) throws BrixException {
+        CircuitOpenException open = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, CircuitOpenException.class);
+        if (open == null) {
+            open = exchange.getException(CircuitOpenException.class);
+        }
+        if (open == null) {
+            throw new BrixException("No CircuitOpenException on the Exchange to park it for.");
+        }
+        Guard guard = guard(open.getEndpoint());
+        if (!retryScheduler.hold(exchange, open, guard.endpoint)) {
+            throw new BrixException("Exchange " + exchange.getExchangeId() + " could not be parked until the circuit for " + guard.endpoint + " closes.", open);
+        }
+        guard.parked.increment();
+        exchange.getIn().setHeader(Constants.BRIX_PARKED, true);
+        exchange.getIn().setHeader(Constants.BRIX_ENDPOINT_CIRCUIT, guard.endpoint + " " + guard.state());
+        exchange.setRouteStop(true);
+        updateTransactionStatus(exchange, "Parked until the circuit for " + guard.endpoint + " closes");
+        // If the circuit closed again since the call was refused, the exchange is due at once.
+        if (guard.state() == CircuitState.CLOSED) {
+            release(guard, Integer.MAX_VALUE);
+        }
+    }
+
+    /*
+     * Makes up to the given number of the endpoint's parked exchanges due, off the calling thread.
+     */
+    private void release(Guard guard, int count) {
+        try {
+            scheduler.execute(() -> retryScheduler.release(guard.endpoint, count));
+        }
+        catch (RejectedExecutionException e) {
+            LOG.debug("Shutting down; exchanges parked for " + guard.endpoint + " are due after the retry parked-timeout.");
+        }
+    }
+
+    private void updateTransactionStatus(Exchange exchange, String message) {
+        if (exchange.getIn().getHeader(Constants.BRIX_TRX_ID) == null || !transactionBean.isResolvable()) {
+            return;
+        }
+        Object status = exchange.getIn().getHeader(Constants.BRIX_TRX_STATUS);
+        try {
+            exchange.getIn().setHeader(Constants.BRIX_TRX_STATUS, Status.QUEUED.toString());
+            transactionBean.get().updateStatus(exchange, message);
+        }
+        catch (BrixException | RuntimeException e) {
+            LOG.warn("Transaction status of parked exchange " + exchange.getExchangeId() + " not updated: " + e.getMessage());
+            exchange.getIn().setHeader(Constants.BRIX_TRX_STATUS, status);
+        }
+    }
+
+    private void scheduleHalfOpen(Guard guard) {
+        try {
+            scheduler.schedule(guard::halfOpen, openDuration.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        catch (RejectedExecutionException e) {
+            LOG.debug("Shutting down; circuit for " + guard.endpoint + " stays open.");
+        }
+    }
+
+    private Guard guard(String uri) {
+        return guards.computeIfAbsent(MessageGroupKey.endpointKey(uri), Guard::new);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
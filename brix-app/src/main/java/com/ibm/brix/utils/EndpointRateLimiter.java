@@ -0,0 +1,419 @@
+//=============================================================================
+//* Name:         EndpointRateLimiter.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Endpoint Rate Limiter
+//*
+//* Description:  A token bucket request budget per endpoint. Requests over
+//*               the budget wait in a queue, without holding a thread, until
+//*               a token is free. The budget adapts to the endpoint's
+//*               answers: a 429 or 503 halves the rate and a Retry-After
+//*               pauses the endpoint for the time given; RateLimit-Remaining
+//*               and RateLimit-Reset (or their X-RateLimit- forms) cap it to
+//*               what the endpoint has left. Successful responses raise the
+//*               rate back towards the configured one.
+//*
+//*               The budget is kept per endpoint address (scheme, host and
+//*               port), and its rate and burst are configured by the same
+//*               address, e.g. for https://ewm.example.com/ccm/...:
+//*                 brix.ratelimit."https://ewm.example.com".rate
+//*                 brix.ratelimit."https://ewm.example.com".burst
+//*               Both the fetches (EndpointClients) and the action calls
+//*               (ExecuteActions) take their tokens from it.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Configure the budget by the address it is
+//*                                  kept by, not the first caller's name.
+//*               20261018 agent     Key the budgets with the shared
+//*                                  MessageGroupKey.endpointKey.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.beans.MessageGroupKey;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class EndpointRateLimiter {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+    private static final Logger LOG = LoggerFactory.getLogger(EndpointRateLimiter.class);
+
+    public static final String METRIC_PREFIX = "brix.ratelimit";
+    private static final String CONFIG_PREFIX = "brix.ratelimit.";
+
+    /** The response headers the budget adapts to. */
+    public static final List<String> RESPONSE_HEADERS = List.of("Retry-After", "RateLimit-Remaining", "RateLimit-Reset", "X-RateLimit-Remaining", "X-RateLimit-Reset");
+
+    // The rate is never cut below this fraction of the configured rate.
+    private static final double MIN_RATE_FRACTION = 0.05;
+    // Each successful response raises the rate by this fraction of the configured rate.
+    private static final double INCREASE_FRACTION = 0.05;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "brix.ratelimit.enabled", defaultValue = "true")
+    boolean enabled;
+
+    /** Requests per second per endpoint, unless configured for the endpoint. */
+    @ConfigProperty(name = "brix.ratelimit.rate", defaultValue = "50")
+    double defaultRate;
+
+    /** Requests an idle endpoint may receive at once, unless configured for the endpoint. */
+    @ConfigProperty(name = "brix.ratelimit.burst", defaultValue = "50")
+    int defaultBurst;
+
+    /** Requests waiting for a token, per endpoint, before new ones are rejected. */
+    @ConfigProperty(name = "brix.ratelimit.max-queue-size", defaultValue = "1000")
+    int maxQueueSize;
+
+    /** The longest a request waits for a token before it is rejected. */
+    @ConfigProperty(name = "brix.ratelimit.max-wait", defaultValue = "PT5M")
+    Duration maxWait;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    /*
+     * A request waiting for a token.
+     */
+    private static final class Waiter {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        final long enqueued = System.nanoTime();
+    }
+
+    /*
+     * The token bucket of one endpoint. All fields are guarded by the bucket's lock.
+     */
+    private final class Bucket {
+        final String endpoint;
+        final double configuredRate;
+        final int burst;
+        final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+        final Timer waitTimer;
+        final Counter throttled;
+        double rate;
+        double tokens;
+        long refilled = System.nanoTime();
+        long pausedUntil = refilled;
+        boolean drainScheduled;
+
+        Bucket(String endpoint, double configuredRate, int burst) {
+            this.endpoint = endpoint;
+            this.configuredRate = Math.max(0.01, configuredRate);
+            this.burst = Math.max(1, burst);
+            this.rate = this.configuredRate;
+            this.tokens = this.burst;
+            this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("Time requests waited for the endpoint's rate limit")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+            this.throttled = Counter.builder(METRIC_PREFIX + ".throttled")
+                .description("Responses from the endpoint asking BrIX to slow down")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".queued", this, b -> b.queued())
+                .description("Requests waiting for the endpoint's rate limit")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".rate", this, b -> b.currentRate())
+                .description("Requests per second currently allowed to the endpoint")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        }
+
+        synchronized int queued() {
+            return queue.size();
+        }
+
+        synchronized double currentRate() {
+            return rate;
+        }
+
+        void refill(long now) {
+            tokens = Math.min(burst, tokens + (now - refilled) / 1e9 * rate);
+            refilled = now;
+        }
+
+        /* Takes the tokens free now, for the waiters at the head of the queue. */
+        List<Waiter> drain(long now, List<Waiter> expired) {
+            refill(now);
+            List<Waiter> ready = new ArrayList<>();
+            for (Iterator<Waiter> it = queue.iterator(); it.hasNext();) {
+                Waiter waiter = it.next();
+                if (now - waiter.enqueued > maxWait.toNanos()) {
+                    it.remove();
+                    expired.add(waiter);
+                }
+            }
+            while (!queue.isEmpty() && now >= pausedUntil && tokens >= 1) {
+                tokens -= 1;
+                ready.add(queue.poll());
+            }
+            return ready;
+        }
+
+        /* Nanoseconds until the next token is free, or the pause ends. */
+        long nextDelay(long now) {
+            long untilToken = (tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / rate * 1e9));
+            return Math.max(1_000_000L, Math.max(pausedUntil - now, untilToken));
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "EndpointRateLimiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Method:  acquire
+     * Takes a token for a request to the endpoint. The future completes when the request may be
+     * sent: at once if the endpoint is within its budget, otherwise once its turn in the queue
+     * comes. It fails with a BrixException if the queue is full or the request waited too long.
+     *
+     * @param String uri (of the request, or the endpoint's address)
+     * @return CompletableFuture<Void>
+     */
+    public CompletableFuture<Void> acquire(String uri) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String endpoint = MessageGroupKey.endpointKey(uri);
+        Bucket bucket = buckets.computeIfAbsent(endpoint, this::newBucket);
+        long now = System.nanoTime();
+        synchronized (bucket) {
+            bucket.refill(now);
+            if (bucket.queue.isEmpty() && now >= bucket.pausedUntil && bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                bucket.waitTimer.record(0, TimeUnit.NANOSECONDS);
+                return CompletableFuture.completedFuture(null);
+            }
+            if (bucket.queue.size() >= maxQueueSize) {
+                return CompletableFuture.failedFuture(new BrixException("Rate limit queue for " + endpoint + " is full (" + maxQueueSize + " requests)."));
+            }
+            Waiter waiter = new Waiter();
+            bucket.queue.add(waiter);
+            scheduleDrain(bucket, bucket.nextDelay(now));
+            return waiter.future;
+        }
+    }
+
+    /**
+     * Method:  onResponse
+     * Adapts the endpoint's budget to a response: a 429 or 503 halves the rate and pauses the
+     * endpoint for its Retry-After; the RateLimit headers cap the tokens and the rate to what the
+     * endpoint reports is left; any other response raises the rate towards the configured one.
+     *
+     * @param String uri (of the request)
+     * @param int statusCode
+     * @param Map<String,String> headers (of the response, by case insensitive name)
+     */
+    public void onResponse(String uri, int statusCode, Map<String, String> headers) {
+        Bucket bucket = (enabled ? buckets.get(MessageGroupKey.endpointKey(uri)) : null);
+        if (bucket == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        Optional<Duration> retryAfter = retryAfter(headers.get("Retry-After"));
+        RateLimitHeaders remaining = RateLimitHeaders.of(headers);
+        synchronized (bucket) {
+            bucket.refill(now);
+            double minRate = bucket.configuredRate * MIN_RATE_FRACTION;
+            if (statusCode == 429 || statusCode == 503) {
+                bucket.throttled.increment();
+                bucket.rate = Math.max(minRate, bucket.rate / 2);
+                bucket.tokens = 0;
+                Duration pause = retryAfter.orElse(Duration.ofNanos((long) (1e9 / bucket.rate)));
+                bucket.pausedUntil = Math.max(bucket.pausedUntil, now + pause.toNanos());
+                LOG.warn("Endpoint " + bucket.endpoint + " returned " + statusCode + "; pausing for " + pause + ", then " + String.format("%.1f", bucket.rate) + " requests/s.");
+            }
+            else if (remaining.remaining >= 0) {
+                bucket.tokens = Math.min(bucket.tokens, remaining.remaining);
+                if (remaining.reset != null && remaining.reset.toMillis() > 0) {
+                    if (remaining.remaining == 0) {
+                        bucket.pausedUntil = Math.max(bucket.pausedUntil, now + remaining.reset.toNanos());
+                    }
+                    else {
+                        double budget = remaining.remaining / (remaining.reset.toMillis() / 1000.0);
+                        bucket.rate = Math.max(minRate, Math.min(bucket.configuredRate, budget));
+                    }
+                }
+            }
+            else if (statusCode < 400 && bucket.rate < bucket.configuredRate) {
+                bucket.rate = Math.min(bucket.configuredRate, bucket.rate + bucket.configuredRate * INCREASE_FRACTION);
+            }
+            if (!bucket.queue.isEmpty()) {
+                scheduleDrain(bucket, bucket.nextDelay(now));
+            }
+        }
+    }
+
+    /*
+     * The remaining requests and the time to the reset, from the RateLimit or X-RateLimit headers.
+     */
+    private static final class RateLimitHeaders {
+        final long remaining;
+        final Duration reset;
+
+        RateLimitHeaders(long remaining, Duration reset) {
+            this.remaining = remaining;
+            this.reset = reset;
+        }
+
+        static RateLimitHeaders of(Map<String, String> headers) {
+            String remaining = first(headers, "RateLimit-Remaining", "X-RateLimit-Remaining");
+            String reset = first(headers, "RateLimit-Reset", "X-RateLimit-Reset");
+            long left = -1;
+            Duration until = null;
+            try {
+                if (remaining != null) {
+                    left = Math.max(0, Long.parseLong(remaining.trim()));
+                }
+                if (reset != null) {
+                    long value = Long.parseLong(reset.trim());
+                    // X-RateLimit-Reset is commonly the epoch second of the reset; RateLimit-Reset is seconds from now.
+                    long seconds = (value > 1_000_000_000L ? value - System.currentTimeMillis() / 1000 : value);
+                    until = Duration.ofSeconds(Math.max(0, seconds));
+                }
+            }
+            catch (NumberFormatException e) {
+                LOG.debug("Ignoring unparsable rate limit headers: remaining=" + remaining + ", reset=" + reset);
+            }
+            return new RateLimitHeaders(left, until);
+        }
+
+        private static String first(Map<String, String> headers, String name, String alternative) {
+            String value = headers.get(name);
+            return (value != null ? value : headers.get(alternative));
+        }
+    }
+
+    /*
+     * Retry-After is either a number of seconds or an HTTP date.
+     */
+    static Optional<Duration> retryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        }
+        catch (NumberFormatException e) {
+            try {
+                Duration until = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return Optional.of(until.isNegative() ? Duration.ZERO : until);
+            }
+            catch (DateTimeParseException e2) {
+                LOG.debug("Ignoring unparsable Retry-After: " + value);
+                return Optional.empty();
+            }
+        }
+    }
+
+    private void scheduleDrain(Bucket bucket, long delayNanos) {
+        if (bucket.drainScheduled) {
+            return;
+        }
+        bucket.drainScheduled = true;
+        try {
+            scheduler.schedule(() -> drain(bucket), delayNanos, TimeUnit.NANOSECONDS);
+        }
+        catch (RejectedExecutionException e) {
+            bucket.drainScheduled = false;
+        }
+    }
+
+    private void drain(Bucket bucket) {
+        long now = System.nanoTime();
+        List<Waiter> ready;
+        List<Waiter> expired = new ArrayList<>();
+        synchronized (bucket) {
+            bucket.drainScheduled = false;
+            ready = bucket.drain(now, expired);
+            if (!bucket.queue.isEmpty()) {
+                scheduleDrain(bucket, bucket.nextDelay(now));
+            }
+        }
+        for (Waiter waiter : expired) {
+            bucket.waitTimer.record(now - waiter.enqueued, TimeUnit.NANOSECONDS);
+            waiter.future.completeExceptionally(new BrixException("No request to " + bucket.endpoint + " was allowed within " + maxWait + "."));
+        }
+        for (Waiter waiter : ready) {
+            bucket.waitTimer.record(now - waiter.enqueued, TimeUnit.NANOSECONDS);
+            waiter.future.complete(null);
+        }
+    }
+
+    private Bucket newBucket(String endpoint) {
+        double rate = setting(endpoint, "rate", Double.class).orElse(defaultRate);
+        int burst = setting(endpoint, "burst", Integer.class).orElse(defaultBurst);
+        LOG.info("Rate limit for " + endpoint + ": " + rate + " requests/s, burst " + burst);
+        return new Bucket(endpoint, rate, burst);
+    }
+
+    /*
+     * The endpoint's own setting, by the same key as its bucket.
+     */
+    static <T> Optional<T> setting(String endpoint, String property, Class<T> type) {
+        return ConfigProvider.getConfig().getOptionalValue(CONFIG_PREFIX + "\"" + endpoint + "\"." + property, type);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
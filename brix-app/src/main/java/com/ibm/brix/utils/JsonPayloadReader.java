@@ -0,0 +1,195 @@
+//=============================================================================
+//* Name:         JsonPayloadReader.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX JSON Payload Reader
+//*
+//* Description:  Streaming access to the JSON payload on a Camel exchange.
+//*               A Jackson JsonParser is opened directly over the raw body
+//*               (bytes, stream or string) without first converting it to a
+//*               String, and values are read into the same types json-simple's
+//*               JSONParser produces (String, Long, Double, Boolean, null,
+//*               JSONObject, JSONArray), so attribute values do not change.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import com.ibm.brix.BrixException;
+
+public final class JsonPayloadReader {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    // JsonFactory is thread safe and holds the shared symbol tables, so it is created once.
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Receives the fields of a JSON object as they are read.
+     */
+    @FunctionalInterface
+    public interface FieldHandler {
+        void field(String name, JsonParser parser) throws IOException, BrixException;
+    }
+
+    private JsonPayloadReader() {
+    }
+
+    /**
+     * Method:  createParser
+     * Opens a streaming parser over the raw body of the exchange. A cached stream body is reset
+     * first, so the body can still be read again after the payload has been parsed.
+     *
+     * @param Exchange exchange
+     * @return JsonParser, or null if the exchange has no body
+     * @throws IOException
+     */
+    public static JsonParser createParser(Exchange exchange) throws IOException {
+        Object body = exchange.getIn().getBody();
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof StreamCache) {
+            ((StreamCache)body).reset();
+        }
+        if (body instanceof byte[]) {
+            return JSON_FACTORY.createParser((byte[])body);
+        }
+        if (body instanceof String) {
+            return JSON_FACTORY.createParser((String)body);
+        }
+        if (body instanceof InputStream) {
+            return JSON_FACTORY.createParser((InputStream)body);
+        }
+        // Anything else goes through Camel's type converters; most bodies have a cheap stream form.
+        InputStream in = exchange.getIn().getBody(InputStream.class);
+        return (in == null ? null : JSON_FACTORY.createParser(in));
+    }
+
+    public static JsonParser createParser(byte[] payload) throws IOException {
+        return JSON_FACTORY.createParser(payload);
+    }
+
+    /**
+     * Method:  readFields
+     * Reads the JSON object starting at the parser's next token, calling the handler once per
+     * field with the parser positioned on the field's value. A handler that does not read the
+     * value leaves it to be skipped here.
+     *
+     * @param JsonParser parser
+     * @param FieldHandler handler
+     * @return boolean false if the payload is empty or JSON null, true if an object was read
+     * @throws IOException
+     * @throws BrixException if the payload is not a JSON object
+     */
+    public static boolean readFields(JsonParser parser, FieldHandler handler) throws IOException, BrixException {
+        JsonToken token = (parser.currentToken() == null ? parser.nextToken() : parser.currentToken());
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new BrixException("Payload is not a JSON object, found " + token);
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            handler.field(name, parser);
+            // Skip whatever part of a structured value the handler did not consume.
+            if (parser.currentToken() == valueToken && (valueToken == JsonToken.START_OBJECT || valueToken == JsonToken.START_ARRAY)) {
+                parser.skipChildren();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method:  readValue
+     * Reads the value at the parser's current token. Scalars become String, Long, Double,
+     * Boolean or null; objects and arrays become JSONObject and JSONArray, as with json-simple.
+     *
+     * @param JsonParser parser
+     * @return Object
+     * @throws IOException
+     */
+    @SuppressWarnings("unchecked")
+    public static Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+        case VALUE_STRING:
+            return parser.getText();
+        case VALUE_NUMBER_INT:
+            if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                return parser.getBigIntegerValue();
+            }
+            return Long.valueOf(parser.getLongValue());
+        case VALUE_NUMBER_FLOAT:
+            return Double.valueOf(parser.getDoubleValue());
+        case VALUE_TRUE:
+            return Boolean.TRUE;
+        case VALUE_FALSE:
+            return Boolean.FALSE;
+        case VALUE_NULL:
+            return null;
+        case START_OBJECT:
+            JSONObject object = new JSONObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                object.put(name, readValue(parser));
+            }
+            return object;
+        case START_ARRAY:
+            JSONArray array = new JSONArray();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                array.add(readValue(parser));
+            }
+            return array;
+        default:
+            throw new IOException("Unexpected JSON token " + parser.currentToken());
+        }
+    }
+
+    /**
+     * Method:  readObject
+     * Reads the whole payload into a json-simple JSONObject tree. Only for callers that need
+     * the tree itself; reading attributes should use readFields.
+     *
+     * @param JsonParser parser
+     * @return JSONObject, or null if the payload is empty or JSON null
+     * @throws IOException
+     * @throws BrixException if the payload is not a JSON object
+     */
+    @SuppressWarnings("unchecked")
+    public static JSONObject readObject(JsonParser parser) throws IOException, BrixException {
+        JSONObject object = new JSONObject();
+        boolean found = readFields(parser, (name, p) -> object.put(name, readValue(p)));
+        return (found ? object : null);
+    }
+}
@@ -0,0 +1,225 @@
+//=============================================================================
+//* Name:         PartitionedExecutor.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Partitioned Executor
+//*
+//* Description:  Runs the processing of incoming artifact events on a fixed
+//*               set of single threaded lanes, chosen by the partition key of
+//*               the artifact (endpoint and artifact key). Events for the same
+//*               artifact always share a lane, so they are never processed at
+//*               the same time and keep the order they arrived in, while
+//*               events for other artifacts run in parallel on the other
+//*               lanes. Together with the JMS message group set by
+//*               MessageGroupKey this lets the incoming queue consumers be
+//*               scaled up without two events for one artifact overwriting
+//*               each other.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Build the fallback key with the same
+//*                                  function as the message group.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.CommonConstants;
+import com.ibm.brix.common.beans.MessageGroupKey;
+import com.ibm.brix.common.model.Artifact;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class PartitionedExecutor {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionedExecutor.class);
+
+    @Inject
+    CamelContext camelContext;
+
+    /** Number of lanes; 0 uses two per available processor. */
+    @ConfigProperty(name = "brix.partition.lanes", defaultValue = "0")
+    int lanes;
+
+    @ConfigProperty(name = "brix.partition.uri", defaultValue = "direct:find-broutes")
+    String partitionedUri;
+
+    private ExecutorService[] laneExecutors;
+    private volatile ProducerTemplate producerTemplate;
+
+    @PostConstruct
+    void init() {
+        int count = (lanes > 0 ? lanes : 2 * Runtime.getRuntime().availableProcessors());
+        laneExecutors = new ExecutorService[count];
+        for (int i = 0; i < count; i++) {
+            laneExecutors[i] = Executors.newSingleThreadExecutor(laneThreadFactory(i));
+        }
+        LOG.info("Partitioned executor created: lanes=" + count + ", uri=" + partitionedUri);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (laneExecutors != null) {
+            for (ExecutorService lane : laneExecutors) {
+                lane.shutdown();
+            }
+        }
+        if (producerTemplate != null) {
+            try {
+                producerTemplate.stop();
+            }
+            catch (RuntimeException e) {
+                LOG.debug("Error stopping the partitioned producer template: " + e);
+            }
+        }
+    }
+
+    /**
+     * Method:  getLaneCount
+     */
+    public int getLaneCount() {
+        return laneExecutors.length;
+    }
+
+    /**
+     * Method:  laneFor
+     * Returns the lane of a partition key. The same key always gets the same lane.
+     *
+     * @param String partitionKey
+     * @return int
+     */
+    public int laneFor(String partitionKey) {
+        int h = partitionKey.hashCode();
+        // Spread the high bits, as HashMap does, so similar keys do not crowd into a few lanes.
+        h ^= (h >>> 16);
+        return Math.floorMod(h, laneExecutors.length);
+    }
+
+    /**
+     * Method:  submit
+     * Runs the task on the lane of the partition key, after any task already queued for that lane.
+     *
+     * @param String partitionKey
+     * @param Callable<T> task
+     * @return CompletableFuture<T>
+     */
+    public <T> CompletableFuture<T> submit(String partitionKey, Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        laneExecutors[laneFor(partitionKey)].execute(() -> {
+            try {
+                future.complete(task.call());
+            }
+            catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Method:  process
+     * Sends the exchange on to the partitioned route on the lane of its artifact and waits for it
+     * to complete, so the calling consumer keeps its transactional acknowledgement. Used by the
+     * incoming queue consumers in place of calling the partitioned route directly.
+     * Exchange Expected Input:
+     *    - Header JMSXGroupID -or- Header BRIX_SOURCE_ARTIFACT
+     *
+     * @param Exchange exchange
+     * @throws BrixException
+     */
+    public void process(Exchange exchange) throws BrixException {
+        String partitionKey = partitionKey(exchange);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Processing partition " + partitionKey + " on lane " + laneFor(partitionKey));
+        }
+        try {
+            submit(partitionKey, () -> getProducerTemplate().send(partitionedUri, exchange)).get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BrixException("Interrupted waiting for partition " + partitionKey + ". " + e, e);
+        }
+        catch (ExecutionException e) {
+            throw new BrixException("Error processing partition " + partitionKey + ". " + e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * Method:  partitionKey
+     * Returns the partition key of the exchange: its message group if one was set when it was
+     * queued, otherwise the endpoint and artifact key of the source artifact. Both come from
+     * MessageGroupKey.partitionKey, so an event gets the same lane either way.
+     *
+     * @param Exchange exchange
+     * @return String
+     * @throws BrixException if the exchange has neither
+     */
+    public static String partitionKey(Exchange exchange) throws BrixException {
+        String groupId = exchange.getIn().getHeader(CommonConstants.HEADER_JMSX_GROUP_ID, String.class);
+        if (groupId != null && !groupId.isEmpty()) {
+            return groupId;
+        }
+        Artifact artifact = exchange.getIn().getHeader(Constants.BRIX_SOURCE_ARTIFACT, Artifact.class);
+        if (artifact == null || artifact.getArtifactKeyString() == null) {
+            throw new BrixException("The exchange has no message group or source artifact key to partition on.");
+        }
+        String endpoint = (artifact.getEndpoint() == null ? null : BRouteIndex.normalizeAddress(artifact.getEndpoint()));
+        return MessageGroupKey.partitionKey(endpoint, artifact.getArtifactKeyString());
+    }
+
+    private ProducerTemplate getProducerTemplate() {
+        ProducerTemplate template = producerTemplate;
+        if (template == null) {
+            synchronized (this) {
+                template = producerTemplate;
+                if (template == null) {
+                    template = camelContext.createProducerTemplate();
+                    producerTemplate = template;
+                }
+            }
+        }
+        return template;
+    }
+
+    private static ThreadFactory laneThreadFactory(int lane) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "brix-partition-" + lane);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,113 @@
+//=============================================================================
+//* Name:         TestTables.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX test tables
+//*
+//* Description:  Creates the tables of the Flyway migrations in flyway/db that
+//*               have no entity, in the H2 test database, where Flyway does
+//*               not run. The columns match the migrations.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Add the dead_letter table.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+
+import jakarta.persistence.EntityManager;
+
+public class TestTables {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final String RETRY_QUEUE =
+        "CREATE TABLE IF NOT EXISTS public.retry_queue ("
+        + " id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+        + " trxid varchar(50),"
+        + " replayuri varchar(1000) NOT NULL,"
+        + " body varbinary,"
+        + " headers varchar,"
+        + " attempts integer DEFAULT 0 NOT NULL,"
+        + " nextattempt timestamp with time zone NOT NULL,"
+        + " lasterror varchar(3000),"
+        + " status varchar(20) DEFAULT 'PENDING' NOT NULL,"
+        + " createtime timestamp with time zone DEFAULT now() NOT NULL,"
+        + " updatetime timestamp with time zone DEFAULT now() NOT NULL,"
+        + " stage varchar(500))";
+
+    // bigserial: a column defaulting to its own sequence.
+    private static final String DEAD_LETTER_SEQUENCE =
+        "CREATE SEQUENCE IF NOT EXISTS public.dead_letter_id_seq";
+
+    private static final String DEAD_LETTER =
+        "CREATE TABLE IF NOT EXISTS public.dead_letter ("
+        + " id bigint DEFAULT NEXT VALUE FOR public.dead_letter_id_seq PRIMARY KEY,"
+        + " trxid varchar(50),"
+        + " source varchar(1000) NOT NULL,"
+        + " stage varchar(500),"
+        + " body varbinary,"
+        + " headers varchar,"
+        + " attempts integer DEFAULT 0 NOT NULL,"
+        + " lasterror varchar(3000),"
+        + " status varchar(20) DEFAULT 'NEW' NOT NULL,"
+        + " replaycount integer DEFAULT 0 NOT NULL,"
+        + " lastreplaytime timestamp with time zone,"
+        + " createtime timestamp with time zone DEFAULT now() NOT NULL)";
+
+    /**
+     * Method:  createRetryQueue
+     * Creates the retry_queue table if it does not exist, and empties it.
+     *
+     * @param EntityManager entityManager
+     */
+    public static void createRetryQueue(EntityManager entityManager) {
+        QuarkusTransaction.requiringNew().run(() -> {
+            entityManager.createNativeQuery(RETRY_QUEUE).executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM public.retry_queue").executeUpdate();
+        });
+    }
+
+    /**
+     * Method:  createDeadLetter
+     * Creates the dead_letter table and its id sequence if they do not exist, and empties it.
+     *
+     * @param EntityManager entityManager
+     */
+    public static void createDeadLetter(EntityManager entityManager) {
+        QuarkusTransaction.requiringNew().run(() -> {
+            entityManager.createNativeQuery(DEAD_LETTER_SEQUENCE).executeUpdate();
+            entityManager.createNativeQuery(DEAD_LETTER).executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM public.dead_letter").executeUpdate();
+        });
+    }
+
+    /**
+     * Method:  count
+     * The number of rows in a table.
+     *
+     * @param EntityManager entityManager
+     * @param String table
+     * @return long
+     */
+    public static long count(EntityManager entityManager, String table) {
+        return QuarkusTransaction.requiringNew().call(() ->
+            ((Number)entityManager.createNativeQuery("SELECT count(*) FROM " + table).getSingleResult()).longValue());
+    }
+}
@@ -0,0 +1,177 @@
+//=============================================================================
+//* Name:         BRouteFanOutTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BRoute Fan Out bean test
+//*
+//* Description:  This class checks that matched BRoutes are processed
+//*               concurrently, and that a failing or slow BRoute is reported
+//*               on its own without holding up the others.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Test the timeout of a single BRoute.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.model.BRouteList;
+
+public class BRouteFanOutTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final long SLOW_MILLIS = 300;
+
+    private CamelContext context;
+    private BRouteFanOut fanOut;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        context = new DefaultCamelContext();
+        // BRoute 1 fails, BRoute 2 never finishes in time, the others take SLOW_MILLIS.
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:test-broute")
+                    .choice()
+                        .when(exchangeProperty(Exchange.SPLIT_INDEX).isEqualTo(1))
+                            .throwException(new IllegalStateException("target unavailable"))
+                        .when(exchangeProperty(Exchange.SPLIT_INDEX).isEqualTo(2))
+                            .delay(5000).syncDelayed()
+                        .otherwise()
+                            .delay(SLOW_MILLIS).syncDelayed()
+                    .end();
+            }
+        });
+        context.start();
+
+        fanOut = new BRouteFanOut();
+        fanOut.camelContext = context;
+        fanOut.brouteUri = "direct:test-broute";
+        fanOut.poolSize = 4;
+        fanOut.maxQueueSize = 10;
+        fanOut.timeout = Duration.ofMillis(1000);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fanOut.shutdown();
+        context.stop();
+    }
+
+    @Test
+    public void testFailuresAreIsolated() throws Exception {
+        Exchange exchange = exchangeFor(4);
+        long start = System.nanoTime();
+        List<BRouteFanOut.BRouteOutcome> outcomes = fanOut.fanOut(exchange);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assertions.assertEquals(4, outcomes.size());
+        Assertions.assertEquals(BRouteFanOut.Status.SUCCESS, outcomes.get(0).getStatus());
+        Assertions.assertEquals(BRouteFanOut.Status.FAILED, outcomes.get(1).getStatus());
+        Assertions.assertTrue(outcomes.get(1).getException() instanceof IllegalStateException);
+        Assertions.assertEquals(BRouteFanOut.Status.TIMED_OUT, outcomes.get(2).getStatus());
+        Assertions.assertEquals(BRouteFanOut.Status.SUCCESS, outcomes.get(3).getStatus());
+        Assertions.assertSame(exchange.getIn().getBody(BRouteList.class).getTheBRouteList().get(3), outcomes.get(3).getExchange().getIn().getHeader(Constants.BRIX_BROUTE));
+
+        // The slow BRoute only costs its own timeout.
+        Assertions.assertTrue(elapsedMillis < 3000, "fan out took " + elapsedMillis + "ms");
+        Assertions.assertEquals(Boolean.FALSE, exchange.getIn().getHeader(Constants.BRIX_RESULT_SUCCESS));
+        Assertions.assertSame(outcomes, exchange.getIn().getHeader(Constants.BRIX_FANOUT_RESULTS));
+    }
+
+    @Test
+    public void testSingleBRoute() throws Exception {
+        Exchange exchange = exchangeFor(1);
+        List<BRouteFanOut.BRouteOutcome> outcomes = fanOut.fanOut(exchange);
+        Assertions.assertEquals(1, outcomes.size());
+        Assertions.assertTrue(outcomes.get(0).isSuccess());
+        Assertions.assertEquals(Boolean.TRUE, exchange.getIn().getHeader(Constants.BRIX_RESULT_SUCCESS));
+    }
+
+    @Test
+    public void testSingleBRouteTimesOutAndIsInterrupted() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:test-broute-hang").process(e -> {
+                    try {
+                        Thread.sleep(10000);
+                    }
+                    catch (InterruptedException ie) {
+                        interrupted.countDown();
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        });
+        fanOut.brouteUri = "direct:test-broute-hang";
+        List<BRouteFanOut.BRouteOutcome> outcomes = fanOut.fanOut(exchangeFor(1));
+
+        Assertions.assertEquals(BRouteFanOut.Status.TIMED_OUT, outcomes.get(0).getStatus());
+        Assertions.assertTrue(interrupted.await(2, TimeUnit.SECONDS), "timed out BRoute was not interrupted");
+    }
+
+    @Test
+    public void testBRoutesRunConcurrently() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:test-broute-fast").delay(SLOW_MILLIS).syncDelayed();
+            }
+        });
+        fanOut.brouteUri = "direct:test-broute-fast";
+        Exchange exchange = exchangeFor(4);
+        long start = System.nanoTime();
+        List<BRouteFanOut.BRouteOutcome> outcomes = fanOut.fanOut(exchange);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assertions.assertTrue(outcomes.stream().allMatch(BRouteFanOut.BRouteOutcome::isSuccess));
+        // One after another would take 4 * SLOW_MILLIS.
+        Assertions.assertTrue(elapsedMillis < 3 * SLOW_MILLIS, "fan out took " + elapsedMillis + "ms");
+        Assertions.assertEquals(Boolean.TRUE, exchange.getIn().getHeader(Constants.BRIX_RESULT_SUCCESS));
+    }
+
+    private Exchange exchangeFor(int count) {
+        BRouteList brouteList = new BRouteList();
+        for (int i = 0; i < count; i++) {
+            brouteList.getTheBRouteList().add(new BRoute());
+        }
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(brouteList);
+        return exchange;
+    }
+}
@@ -0,0 +1,124 @@
+//=============================================================================
+//* Name:         BRouteReloaderTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BRoute Reloader bean test
+//*
+//* Description:  This class provides tests for reloading the BRoute
+//*               configuration and for pinning an exchange to its snapshot.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.ExchangeBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.TestConstants;
+import com.ibm.brix.BrixException;
+import com.ibm.brix.model.BRouteList;
+import com.ibm.brix.common.simpleendpoint.model.SEArtifact;
+import com.ibm.brix.common.simpleendpoint.model.SEEndpoint;
+import com.ibm.brix.utils.BRouteSnapshot;
+import com.ibm.brix.utils.Config;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+@QuarkusTest
+public class BRouteReloaderTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+    private static final Logger LOG = Logger.getLogger(BRouteReloaderTest.class);
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    BRouteReloader brouteReloader;
+
+    @Test
+    public void testReloadPublishesNewVersion() throws Exception {
+        BRouteSnapshot before = Config.getBRouteSnapshot();
+        BRouteSnapshot after = brouteReloader.reloadFromFile();
+
+        Assertions.assertTrue(after.getVersion() > before.getVersion());
+        Assertions.assertSame(after, Config.getBRouteSnapshot());
+        Assertions.assertTrue(after.getBRouteList().size() > 0);
+
+        SEArtifact artifact = createTestSEArtifact(TestConstants.TEST_ENDPOINT_ADDRESS);
+        BRouteList brouteList = Config.findMatchingBRoutes(artifact);
+        Assertions.assertTrue(brouteList.size() > 0);
+    }
+
+    @Test
+    public void testPinnedExchangeKeepsItsSnapshot() throws Exception {
+        SEArtifact artifact = createTestSEArtifact(TestConstants.TEST_ENDPOINT_ADDRESS);
+        Exchange exchange = ExchangeBuilder.anExchange(context)
+            .withBody(artifact)
+            .withHeader(Constants.BRIX_SOURCE_ARTIFACT, artifact)
+            .build();
+
+        new FindBRoutes().findBRoutes(exchange);
+        BRouteSnapshot pinned = Config.getBRouteSnapshot(exchange);
+        Assertions.assertEquals(pinned.getVersion(), exchange.getIn().getHeader(Constants.BRIX_BROUTE_VERSION));
+
+        BRouteSnapshot reloaded = brouteReloader.reloadFromFile();
+        LOG.info("Reloaded " + reloaded + " while exchange is pinned to " + pinned);
+
+        Assertions.assertNotSame(reloaded, pinned);
+        Assertions.assertSame(pinned, Config.getBRouteSnapshot(exchange));
+    }
+
+    @Test
+    public void testFailedParseKeepsCurrentSnapshot() throws Exception {
+        BRouteSnapshot before = brouteReloader.reloadFromFile();
+        Path badFile = Files.createTempFile("brix-bad", ".broutes.cfg");
+        try {
+            Files.writeString(badFile, "{\"theBRouteList\":[{not json");
+            Assertions.assertThrows(BrixException.class, () -> brouteReloader.reloadFromFile(badFile));
+        }
+        finally {
+            Files.deleteIfExists(badFile);
+        }
+
+        // The previous snapshot, and its index, are still served.
+        Assertions.assertSame(before, Config.getBRouteSnapshot());
+        SEArtifact artifact = createTestSEArtifact(TestConstants.TEST_ENDPOINT_ADDRESS);
+        Assertions.assertEquals(before.getBRouteList().size(), Config.getBRouteSnapshot().getBRouteList().size());
+        Assertions.assertTrue(Config.findMatchingBRoutes(artifact).size() > 0);
+    }
+
+    private SEArtifact createTestSEArtifact(String address) throws Exception {
+        SEArtifact seArtifact = new SEArtifact();
+        SEEndpoint seEndpoint = new SEEndpoint(address);
+        seArtifact.setEndpoint(seEndpoint);
+        return seArtifact;
+    }
+}
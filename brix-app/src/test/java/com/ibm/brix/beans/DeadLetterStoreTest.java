@@ -0,0 +1,93 @@
+//=============================================================================
+//* Name:         DeadLetterStoreTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Dead Letter Store Test
+//*
+//* Description:  This class provides tests for the dead letter selection
+//*               from the REST query parameters.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Check which filters select.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.apache.camel.Message;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultMessage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.beans.DeadLetterStore.Filter;
+
+public class DeadLetterStoreTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static Message message() {
+        return new DefaultMessage(new DefaultCamelContext());
+    }
+
+    @Test
+    public void testDefaultStatus() throws Exception {
+        Filter filter = Filter.from(message(), DeadLetterStore.NEW);
+        Assertions.assertEquals(" WHERE status = ?1", filter.where.toString());
+        Assertions.assertEquals(List.of(DeadLetterStore.NEW), filter.parameters);
+        // The default status alone does not select.
+        Assertions.assertFalse(filter.selective);
+
+        Assertions.assertEquals("", Filter.from(message(), null).where.toString());
+    }
+
+    @Test
+    public void testFilters() throws Exception {
+        Message message = message();
+        message.setHeader(DeadLetterStore.PARAM_ID, "3, 5");
+        message.setHeader(DeadLetterStore.PARAM_STATUS, "replayed");
+        message.setHeader(DeadLetterStore.PARAM_SOURCE, "webhook");
+        message.setHeader(DeadLetterStore.PARAM_SINCE, "2026-10-18T10:00:00+02:00");
+
+        Filter filter = Filter.from(message, DeadLetterStore.NEW);
+        Assertions.assertEquals(" WHERE id IN (?1) AND status = ?2 AND source LIKE ?3 AND createtime >= ?4", filter.where.toString());
+        Assertions.assertEquals(List.of(3L, 5L), filter.parameters.get(0));
+        Assertions.assertEquals(DeadLetterStore.REPLAYED, filter.parameters.get(1));
+        Assertions.assertEquals("%webhook%", filter.parameters.get(2));
+        Assertions.assertEquals(OffsetDateTime.of(2026, 10, 18, 8, 0, 0, 0, ZoneOffset.UTC), filter.parameters.get(3));
+        Assertions.assertTrue(filter.selective);
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        Message message = message();
+        message.setHeader(DeadLetterStore.PARAM_ID, "3,x");
+        Assertions.assertThrows(BrixException.class, () -> Filter.from(message, null));
+
+        Message until = message();
+        until.setHeader(DeadLetterStore.PARAM_UNTIL, "yesterday");
+        Assertions.assertThrows(BrixException.class, () -> Filter.from(until, null));
+
+        Assertions.assertThrows(BrixException.class, () -> DeadLetterStore.parseInt(DeadLetterStore.PARAM_LIMIT, "-1", 100));
+        Assertions.assertEquals(100, DeadLetterStore.parseInt(DeadLetterStore.PARAM_LIMIT, null, 100));
+    }
+}
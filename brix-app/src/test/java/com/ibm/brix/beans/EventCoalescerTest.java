@@ -0,0 +1,107 @@
+//=============================================================================
+//* Name:         EventCoalescerTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  Event Coalescer bean test
+//*
+//* Description:  This class checks that a burst of events keeps the latest one
+//*               with the count of events absorbed, and that the coalescing
+//*               window never extends past the max wait.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Share the coalescer setup with the route test.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.time.Duration;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.Constants;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class EventCoalescerTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private final CamelContext context = new DefaultCamelContext();
+    private SimpleMeterRegistry meterRegistry;
+    private EventCoalescer coalescer;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = newCoalescer(meterRegistry, Duration.ofSeconds(3), Duration.ofSeconds(15), null);
+    }
+
+    /*
+     * Creates a coalescer outside of CDI; also used by CoalesceRoutesTest.
+     */
+    public static EventCoalescer newCoalescer(MeterRegistry meterRegistry, Duration quietPeriod, Duration maxWait, TransactionBean transactionBean) {
+        EventCoalescer coalescer = new EventCoalescer();
+        coalescer.meterRegistry = meterRegistry;
+        coalescer.quietPeriod = quietPeriod;
+        coalescer.maxWait = maxWait;
+        coalescer.transactionBean = transactionBean;
+        coalescer.init();
+        return coalescer;
+    }
+
+    @Test
+    public void testLatestEventWins() {
+        Exchange aggregated = null;
+        Exchange latest = null;
+        for (int i = 1; i <= 4; i++) {
+            latest = new DefaultExchange(context);
+            latest.getIn().setBody("save " + i);
+            aggregated = coalescer.aggregate(aggregated, latest);
+        }
+        coalescer.onCompletion(aggregated);
+
+        Assertions.assertSame(latest, aggregated);
+        Assertions.assertEquals("save 4", aggregated.getIn().getBody());
+        Assertions.assertEquals(4, aggregated.getIn().getHeader(Constants.BRIX_COALESCED_EVENTS));
+        Assertions.assertEquals(1, meterRegistry.get(EventCoalescer.METRIC_PREFIX + ".events").summary().count());
+        Assertions.assertEquals(4.0, meterRegistry.get(EventCoalescer.METRIC_PREFIX + ".events").summary().totalAmount());
+    }
+
+    @Test
+    public void testWindowIsBoundedByMaxWait() {
+        Exchange first = coalescer.aggregate(null, new DefaultExchange(context));
+        Assertions.assertEquals(3000, coalescer.completionTimeout(first), 100);
+
+        // A group whose first event arrived 14 seconds ago has about 1 second left, not a full quiet period.
+        first.setProperty("BRIXCoalesceFirstEventTime", System.currentTimeMillis() - 14_000);
+        Exchange next = coalescer.aggregate(first, new DefaultExchange(context));
+        long timeout = coalescer.completionTimeout(next);
+        Assertions.assertTrue(timeout > 0 && timeout <= 1000, "timeout " + timeout);
+
+        // Past the max wait the group completes at the next check.
+        next.setProperty("BRIXCoalesceFirstEventTime", System.currentTimeMillis() - 20_000);
+        Assertions.assertEquals(1, coalescer.completionTimeout(next));
+    }
+}
@@ -0,0 +1,316 @@
+//=============================================================================
+//* Name:         ExecuteActionsTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Execute Actions Test
+//*
+//* Description:  This class provides tests for combining the actions into
+//*               endpoint calls and reporting a result per action.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Test that a write's ETag validates the
+//*                                  target's snapshot on the next fetch.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.ExchangeBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.ExecuteActions.ActionResult;
+import com.ibm.brix.common.enums.ActionCommand;
+import com.ibm.brix.common.enums.AttributeType;
+import com.ibm.brix.common.enums.ResourceSide;
+import com.ibm.brix.common.enums.State;
+import com.ibm.brix.common.enums.Status;
+import com.ibm.brix.common.enums.SystemType;
+import com.ibm.brix.common.model.Artifact;
+import com.ibm.brix.common.model.ArtifactRelationship;
+import com.ibm.brix.common.simpleendpoint.model.SEArtifact;
+import com.ibm.brix.common.simpleendpoint.model.SEEndpoint;
+import com.ibm.brix.model.Action;
+import com.ibm.brix.model.ActionList;
+import com.ibm.brix.model.ArtifactRelationshipList;
+import com.ibm.brix.model.GenericArtifact;
+import com.ibm.brix.plans.AtomicActionPlan;
+import com.ibm.brix.plans.AtomicActionPlan.Step;
+import com.ibm.brix.plans.AtomicActionPlan.StepStatus;
+import com.ibm.brix.utils.Config;
+import com.ibm.brix.utils.EndpointRateLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+
+import jakarta.inject.Inject;
+
+@QuarkusTest
+public class ExecuteActionsTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final String TEST_ROUTE = "test-execute-action";
+    private static final String FAIL_ATTRIBUTE = "fail";
+    private static final String THROTTLE_ATTRIBUTE = "throttle";
+    // Calls setting this attribute return its value as the ETag.
+    private static final String ETAG_ATTRIBUTE = "etag";
+
+    private static final String BROUTE =
+        "{\"theBRouteList\":[{"
+        + "\"sourceEndpoint\":{\"type\":\"seendpoint\",\"name\":\"Source\",\"description\":\"test\",\"systemType\":\"SIMPLEEP\",\"address\":\"http://source.example.com:8000/\"},"
+        + "\"targetEndpoint\":{\"type\":\"seendpoint\",\"name\":\"Target\",\"description\":\"test\",\"systemType\":\"SIMPLEEP\",\"address\":\"http://target.example.com:9000/\"},"
+        + "\"rules\":[]}]}";
+
+    // The actions the stand-in endpoint component was called with.
+    private static final List<Action> calls = new CopyOnWriteArrayList<>();
+    // Calls setting any of these attributes fail.
+    private static final Set<String> failing = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    ExecuteActions executeActions;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    TargetSnapshotCheck targetSnapshotCheck;
+
+    private Exchange exchange;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        calls.clear();
+        failing.clear();
+        failing.add(FAIL_ATTRIBUTE);
+        if (context.getRoute(TEST_ROUTE) == null) {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:" + Constants.EXECUTE_ACTION_ROUTE_PREFIX + SystemType.SIMPLEEP.name().toLowerCase())
+                        .routeId(TEST_ROUTE)
+                        .process(exchange -> {
+                            calls.add(exchange.getIn().getHeader(Constants.BRIX_ACTION, Action.class));
+                            Artifact artifact = exchange.getIn().getBody(Artifact.class);
+                            boolean fail = !Collections.disjoint(artifact.getAttributes().keySet(), failing);
+                            exchange.getIn().setHeader(Constants.BRIX_RESULT_SUCCESS, !fail);
+                            if (artifact.getAttributes().containsKey(THROTTLE_ATTRIBUTE)) {
+                                exchange.getIn().setHeader(Exchange.HTTP_RESPONSE_CODE, 429);
+                                exchange.getIn().setHeader("Retry-After", "0");
+                            }
+                            if (artifact.getAttributes().containsKey(ETAG_ATTRIBUTE)) {
+                                exchange.getIn().setHeader(TargetSnapshotCheck.HTTP_ETAG, "\"" + artifact.getAttributeValue(ETAG_ATTRIBUTE) + "\"");
+                            }
+                        });
+                }
+            });
+        }
+    }
+
+    private static Action action(int sequence, ActionCommand command, String attribute) throws Exception {
+        Action action = new Action();
+        action.setActionName(command.getName() + " " + attribute);
+        action.setActionCommand(command);
+        action.setSequence(sequence);
+        action.setResourceSide(ResourceSide.TARGET);
+        action.setEndpointURI(new URI("http://target.example.com:9000/"));
+        action.setSystemType(SystemType.SIMPLEEP);
+        GenericArtifact artifact = new GenericArtifact();
+        if (attribute != null) {
+            artifact.addAttribute(attribute, "value " + sequence, null, AttributeType.STRING);
+        }
+        action.setActionArtifact(artifact);
+        return action;
+    }
+
+    private List<ActionResult> execute(Action... actions) throws Exception {
+        List<Action> list = new ArrayList<>(List.of(actions));
+        ActionList actionList = new ActionList();
+        actionList.appendAll(list);
+        exchange = ExchangeBuilder.anExchange(context).withBody(actionList).build();
+        List<ActionResult> results = executeActions.executeActions(exchange);
+        Assertions.assertEquals(results, exchange.getIn().getHeader(Constants.BRIX_ACTION_RESULTS));
+        Assertions.assertEquals(results.size(), actions.length);
+        return results;
+    }
+
+    @Test
+    public void testThrottledCallSlowsEndpoint() throws Exception {
+        failing.add(THROTTLE_ATTRIBUTE);
+        execute(action(1, ActionCommand.MODIFYATTRIBUTE, THROTTLE_ATTRIBUTE));
+
+        // The action call took a token from the endpoint's rate limit, and its 429 was fed back to it.
+        Assertions.assertEquals(1.0, meterRegistry.get(EndpointRateLimiter.METRIC_PREFIX + ".throttled").tag("endpoint", "http://target.example.com:9000").counter().count(), 0.001);
+        Assertions.assertTrue(meterRegistry.get(EndpointRateLimiter.METRIC_PREFIX + ".wait").tag("endpoint", "http://target.example.com:9000").timer().count() >= 1);
+    }
+
+    @Test
+    public void testUpdatesAreCombined() throws Exception {
+        List<ActionResult> results = execute(
+            action(1, ActionCommand.MODIFYATTRIBUTE, "title"),
+            action(2, ActionCommand.CHANGESTATE, "status"),
+            action(3, ActionCommand.MODIFYATTRIBUTE, "severity"));
+
+        Assertions.assertEquals(1, calls.size());
+        Action call = calls.get(0);
+        Assertions.assertEquals(ActionCommand.CHANGESTATE, call.getActionCommand());
+        Assertions.assertEquals(3, call.getActionArtifact().getAttributes().size());
+        for (ActionResult result : results) {
+            Assertions.assertEquals(StepStatus.SUCCESS, result.getStatus());
+            Assertions.assertEquals(results.get(0).getStep(), result.getStep());
+        }
+    }
+
+    @Test
+    public void testCreateTakesAttributesAndRunsFirst() throws Exception {
+        List<ActionResult> results = execute(
+            action(1, ActionCommand.CREATEARTIFACT, null),
+            action(2, ActionCommand.MODIFYATTRIBUTE, "title"),
+            action(3, ActionCommand.ADDCOMMENT, "comment"),
+            action(4, ActionCommand.CHANGESTATE, "status"));
+
+        // The create with its attribute, then the state change and the comment.
+        Assertions.assertEquals(3, calls.size());
+        Assertions.assertEquals(ActionCommand.CREATEARTIFACT, calls.get(0).getActionCommand());
+        Assertions.assertTrue(calls.get(0).getActionArtifact().getAttributes().containsKey("title"));
+        Assertions.assertEquals(results.get(0).getStep(), results.get(1).getStep());
+        Assertions.assertNotEquals(results.get(2).getStep(), results.get(3).getStep());
+        for (ActionResult result : results) {
+            Assertions.assertTrue(result.isSuccess());
+        }
+        Assertions.assertEquals(true, exchange.getIn().getHeader(Constants.BRIX_RESULT_SUCCESS));
+    }
+
+    @Test
+    public void testFailedCallSkipsLaterUpdates() throws Exception {
+        // The second state change sets the same attribute again, so it must be a later call.
+        List<ActionResult> results = execute(
+            action(1, ActionCommand.CHANGESTATE, FAIL_ATTRIBUTE),
+            action(2, ActionCommand.CHANGESTATE, FAIL_ATTRIBUTE),
+            action(3, ActionCommand.ADDCOMMENT, "comment"));
+
+        Assertions.assertEquals(StepStatus.FAILED, results.get(0).getStatus());
+        Assertions.assertEquals(StepStatus.SKIPPED, results.get(1).getStatus());
+        Assertions.assertEquals(StepStatus.SUCCESS, results.get(2).getStatus());
+        Assertions.assertEquals(2, calls.size());
+        Assertions.assertEquals(false, exchange.getIn().getHeader(Constants.BRIX_RESULT_SUCCESS));
+    }
+
+    @Test
+    public void testStepDependencies() throws Exception {
+        execute(
+            action(1, ActionCommand.CREATEARTIFACT, null),
+            action(2, ActionCommand.ADDCOMMENT, "comment"),
+            action(3, ActionCommand.ADDLINK, "link"),
+            action(4, ActionCommand.CHANGESTATE, "status"),
+            action(5, ActionCommand.MODIFYATTRIBUTE, "title"));
+
+        // Create; then the state change with its attribute, the comment and the link, each after the create only.
+        AtomicActionPlan plan = exchange.getIn().getHeader(Constants.BRIX_ATOMIC_ACTIONS, AtomicActionPlan.class);
+        Assertions.assertEquals(4, plan.getSteps().size());
+        Step create = plan.getStepFor(0);
+        Assertions.assertTrue(create.getDependsOn().isEmpty());
+        for (int position = 1; position <= 3; position++) {
+            Assertions.assertEquals(Set.of(create.getId()), plan.getStepFor(position).getDependsOn());
+        }
+        Assertions.assertSame(plan.getStepFor(3), plan.getStepFor(4));
+        Assertions.assertEquals(ActionCommand.CREATEARTIFACT, calls.get(0).getActionCommand());
+    }
+
+    @Test
+    public void testRetryResumesFromFailedStep() throws Exception {
+        failing.add("comment");
+        List<ActionResult> results = execute(
+            action(1, ActionCommand.CREATEARTIFACT, null),
+            action(2, ActionCommand.MODIFYATTRIBUTE, "title"),
+            action(3, ActionCommand.ADDCOMMENT, "comment"));
+        Assertions.assertEquals(StepStatus.SUCCESS, results.get(0).getStatus());
+        Assertions.assertEquals(StepStatus.FAILED, results.get(2).getStatus());
+        Assertions.assertEquals(2, calls.size());
+
+        // The retry runs the failed comment only; the create is not repeated.
+        failing.remove("comment");
+        calls.clear();
+        results = executeActions.executeActions(exchange);
+        Assertions.assertEquals(1, calls.size());
+        Assertions.assertEquals(ActionCommand.ADDCOMMENT, calls.get(0).getActionCommand());
+        for (ActionResult result : results) {
+            Assertions.assertTrue(result.isSuccess());
+        }
+        AtomicActionPlan plan = exchange.getIn().getHeader(Constants.BRIX_ATOMIC_ACTIONS, AtomicActionPlan.class);
+        Assertions.assertEquals(1, plan.getStepFor(0).getAttempts());
+        Assertions.assertEquals(2, plan.getStepFor(2).getAttempts());
+        Assertions.assertTrue(plan.isComplete());
+    }
+
+    @Test
+    public void testWriteValidatesTargetSnapshot() throws Exception {
+        SEArtifact target = new SEArtifact();
+        target.setEndpoint(new SEEndpoint("http://target.example.com:9000/"));
+        target.setId_integer("execute-actions-1");
+        ArtifactRelationshipList relationships = new ArtifactRelationshipList();
+        relationships.append(new ArtifactRelationship("test", "test", new SEArtifact(), target, State.INITIALIZED, Status.INITIALIZED));
+        GenericArtifact targetArtifact = new GenericArtifact();
+        targetArtifact.addAttribute("title", "Old title", null, AttributeType.STRING);
+        GenericArtifact delta = new GenericArtifact();
+        delta.addAttribute("title", "New title", null, AttributeType.STRING);
+
+        ActionList actionList = new ActionList();
+        actionList.appendAll(new ArrayList<>(List.of(action(1, ActionCommand.MODIFYATTRIBUTE, ETAG_ATTRIBUTE))));
+        exchange = ExchangeBuilder.anExchange(context).withBody(actionList)
+            .withHeader(Constants.BRIX_BROUTE, Config.parseBRouteList(BROUTE).getTheBRouteList().get(0))
+            .withHeader(Constants.BRIX_ARTIFACT_RELATIONSHIPS, relationships)
+            .withHeader(Constants.BRIX_BROUTE_VERSION, 3L)
+            .withHeader(Constants.BRIX_TARGET_GENERIC_ARTIFACT, targetArtifact)
+            .withHeader(Constants.BRIX_DELTA_GENERIC_ARTIFACT, delta)
+            .withHeader(TargetSnapshotCheck.HTTP_ETAG, "\"before\"")
+            .build();
+        executeActions.executeActions(exchange);
+
+        // The ETag of the target's write replaces the one the exchange had, and is kept with the snapshot.
+        Assertions.assertEquals("\"value 1\"", exchange.getIn().getHeader(TargetSnapshotCheck.HTTP_ETAG));
+        targetSnapshotCheck.record(exchange);
+
+        Exchange next = ExchangeBuilder.anExchange(context)
+            .withHeader(Constants.BRIX_BROUTE, exchange.getIn().getHeader(Constants.BRIX_BROUTE))
+            .withHeader(Constants.BRIX_ARTIFACT_RELATIONSHIPS, relationships)
+            .withHeader(Constants.BRIX_BROUTE_VERSION, 3L)
+            .build();
+        Assertions.assertFalse(targetSnapshotCheck.beforeFetch(next));
+        Assertions.assertEquals("\"value 1\"", next.getIn().getHeader(TargetSnapshotCheck.HTTP_IF_NONE_MATCH));
+        next.getIn().setHeader(Exchange.HTTP_RESPONSE_CODE, 304);
+        Assertions.assertTrue(targetSnapshotCheck.afterFetch(next));
+        GenericArtifact snapshot = next.getIn().getHeader(Constants.BRIX_TARGET_GENERIC_ARTIFACT, GenericArtifact.class);
+        Assertions.assertEquals("New title", snapshot.getAttributeValue("title"));
+    }
+}
@@ -0,0 +1,290 @@
+//=============================================================================
+//* Name:         RetrySchedulerReplayTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Retry Scheduler Replay Test
+//*
+//* Description:  This class runs a failed exchange through a durable retry:
+//*               it is stored in the retry_queue, replayed to its route with
+//*               its message group and the atomic actions that succeeded,
+//*               and deleted once the replay succeeded. A failure that is
+//*               not retryable is not stored. An exchange parked by an open
+//*               circuit is stored, and replayed only once it is released.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Test parked exchanges.
+//*               20261018 agent     Test the replay of a route fed by a queue.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.CircuitOpenException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.TestTables;
+import com.ibm.brix.common.CommonConstants;
+import com.ibm.brix.common.enums.ActionCommand;
+import com.ibm.brix.common.enums.ResourceSide;
+import com.ibm.brix.common.enums.SystemType;
+import com.ibm.brix.model.Action;
+import com.ibm.brix.plans.AtomicActionPlan;
+import com.ibm.brix.plans.AtomicActionPlan.Step;
+import com.ibm.brix.plans.AtomicActionPlan.StepStatus;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+@QuarkusTest
+@TestProfile(RetrySchedulerReplayTest.RetryProfile.class)
+public class RetrySchedulerReplayTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final String TEST_ROUTE = "test-retry";
+    private static final String PARK_ROUTE = "test-park";
+    private static final String QUEUE_ROUTE = "test-retry-queue";
+    private static final String ENDPOINT = "http://target.example.com:9000";
+    private static final String GROUP = "https://se.example.com|7";
+    private static final String ARTIFACT = "TARGET|http://target.example.com:9000|";
+
+    /**
+     * Retries on, due at once; the scheduled run is left to the test.
+     */
+    public static class RetryProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "brix.retry.enabled", "true",
+                "brix.retry.initial-delay", "PT0S",
+                "brix.retry.pause", "PT0S",
+                "brix.retry.cron", "0+0+3+1+1+?");
+        }
+    }
+
+    // The messages the test route received.
+    private static final List<Exchange> received = new CopyOnWriteArrayList<>();
+    // The failure the test route throws on its next message, after running its plan.
+    private static final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    RetryScheduler retryScheduler;
+
+    @Inject
+    EntityManager entityManager;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        received.clear();
+        failure.set(null);
+        TestTables.createRetryQueue(entityManager);
+        if (context.getRoute(TEST_ROUTE) == null) {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:" + TEST_ROUTE)
+                        .routeId(TEST_ROUTE)
+                        .onException(Exception.class)
+                            .handled(true)
+                            .process(exchange -> retryScheduler.schedule(exchange, exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class)))
+                        .end()
+                        .process(exchange -> {
+                            received.add(exchange.copy());
+                            Exception e = failure.getAndSet(null);
+                            if (e != null) {
+                                // The create succeeded and the comment after it failed.
+                                AtomicActionPlan plan = newPlan();
+                                finish(plan.getStep(1), StepStatus.SUCCESS, null);
+                                finish(plan.getStep(2), StepStatus.FAILED, e);
+                                exchange.getIn().setHeader(Constants.BRIX_ATOMIC_ACTIONS, plan);
+                                throw e;
+                            }
+                        });
+
+                    // As EndpointGuards.park does for a call refused by an open circuit.
+                    from("direct:" + PARK_ROUTE)
+                        .routeId(PARK_ROUTE)
+                        .onException(CircuitOpenException.class)
+                            .handled(true)
+                            .process(exchange -> retryScheduler.hold(exchange, exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class), ENDPOINT))
+                        .end()
+                        .process(exchange -> {
+                            received.add(exchange.copy());
+                            Exception e = failure.getAndSet(null);
+                            if (e != null) {
+                                throw e;
+                            }
+                        });
+
+                    // Fed by a queue, as the webhook and poll consumers are by jms:.
+                    from("seda:" + QUEUE_ROUTE)
+                        .routeId(QUEUE_ROUTE)
+                        .onException(Exception.class)
+                            .handled(true)
+                            .process(exchange -> retryScheduler.schedule(exchange, exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class)))
+                        .end()
+                        .process(exchange -> {
+                            received.add(exchange.copy());
+                            Exception e = failure.getAndSet(null);
+                            if (e != null) {
+                                throw e;
+                            }
+                        });
+                }
+            });
+        }
+    }
+
+    private static Action action(int sequence, ActionCommand command) throws Exception {
+        Action action = new Action();
+        action.setActionName(command.getName() + " " + sequence);
+        action.setActionCommand(command);
+        action.setSequence(sequence);
+        action.setResourceSide(ResourceSide.TARGET);
+        action.setEndpointURI(new URI("http://target.example.com:9000/"));
+        action.setSystemType(SystemType.SIMPLEEP);
+        return action;
+    }
+
+    private static AtomicActionPlan newPlan() throws Exception {
+        Action create = action(1, ActionCommand.CREATEARTIFACT);
+        Action comment = action(2, ActionCommand.ADDCOMMENT);
+        AtomicActionPlan plan = new AtomicActionPlan(List.of(create, comment));
+        Step createStep = plan.addStep(ARTIFACT, create);
+        createStep.addAction(0, Set.of());
+        Step commentStep = plan.addStep(ARTIFACT, comment);
+        commentStep.addAction(1, Set.of());
+        commentStep.addDependency(createStep);
+        return plan;
+    }
+
+    private static void finish(Step step, StepStatus status, Throwable exception) {
+        step.start();
+        step.finish(status, exception, 1);
+    }
+
+    @Test
+    public void testFailedExchangeIsRetried() throws Exception {
+        failure.set(new BrixException("POST failed", new IOException("Connection reset")));
+        ProducerTemplate producer = context.createProducerTemplate();
+        Exchange reply = producer.send("direct:" + TEST_ROUTE, exchange -> {
+            exchange.getIn().setBody("save 7");
+            exchange.getIn().setHeader(Constants.BRIX_TRX_ID, "trx-retry-1");
+            exchange.getIn().setHeader(CommonConstants.HEADER_JMSX_GROUP_ID, GROUP);
+        });
+        Assertions.assertTrue(reply.getIn().getHeader(Constants.BRIX_RETRY, String.class).startsWith("1 of "));
+        Assertions.assertEquals(1, TestTables.count(entityManager, "public.retry_queue"));
+
+        Assertions.assertEquals(1, retryScheduler.replayDue());
+
+        Assertions.assertEquals(2, received.size());
+        Exchange replayed = received.get(1);
+        Assertions.assertEquals("save 7", replayed.getIn().getBody(String.class));
+        Assertions.assertEquals("trx-retry-1", replayed.getIn().getHeader(Constants.BRIX_TRX_ID));
+        Assertions.assertEquals(GROUP, replayed.getIn().getHeader(CommonConstants.HEADER_JMSX_GROUP_ID));
+        Assertions.assertEquals(1, replayed.getIn().getHeader(Constants.BRIX_RETRY_ATTEMPT, Integer.class));
+
+        // The plan rebuilt for the replay resumes after the create.
+        AtomicActionPlan plan = newPlan();
+        Assertions.assertEquals(1, plan.restoreOutcomes(replayed.getIn().getHeader(Constants.BRIX_ATOMIC_ACTIONS_DONE, String.class)));
+        Assertions.assertEquals(StepStatus.SUCCESS, plan.getStep(1).getStatus());
+        Assertions.assertEquals(1, plan.prepareRetry());
+
+        Assertions.assertEquals(0, TestTables.count(entityManager, "public.retry_queue"));
+    }
+
+    @Test
+    public void testInvalidExchangeIsNotRetried() throws Exception {
+        failure.set(new BrixException("ActionList was not found on the Exchange."));
+        Exchange reply = context.createProducerTemplate().send("direct:" + TEST_ROUTE, exchange -> exchange.getIn().setBody("save 8"));
+
+        Assertions.assertEquals("not retryable", reply.getIn().getHeader(Constants.BRIX_RETRY));
+        Assertions.assertEquals(0, TestTables.count(entityManager, "public.retry_queue"));
+        Assertions.assertEquals(0, retryScheduler.replayDue());
+    }
+
+    @Test
+    public void testParkedExchangeIsReplayedOnceReleased() throws Exception {
+        failure.set(new CircuitOpenException(ENDPOINT, "OPEN"));
+        context.createProducerTemplate().send("direct:" + PARK_ROUTE, exchange -> {
+            exchange.getIn().setBody("save 9");
+            exchange.getIn().setHeader(Constants.BRIX_TRX_ID, "trx-park-1");
+            exchange.getIn().setHeader(CommonConstants.HEADER_JMSX_GROUP_ID, GROUP);
+        });
+        Assertions.assertEquals(1, TestTables.count(entityManager, "public.retry_queue"));
+
+        // Not due while the circuit is open, nor for another endpoint.
+        Assertions.assertEquals(0, retryScheduler.replayDue());
+        Assertions.assertEquals(0, retryScheduler.release("http://other.example.com", Integer.MAX_VALUE));
+        Assertions.assertEquals(1, retryScheduler.release(ENDPOINT, 1));
+        Assertions.assertEquals(1, retryScheduler.replayDue());
+
+        // Replayed from the start of its route without using up an attempt.
+        Assertions.assertEquals(2, received.size());
+        Exchange replayed = received.get(1);
+        Assertions.assertEquals("save 9", replayed.getIn().getBody(String.class));
+        Assertions.assertEquals("trx-park-1", replayed.getIn().getHeader(Constants.BRIX_TRX_ID));
+        Assertions.assertEquals(GROUP, replayed.getIn().getHeader(CommonConstants.HEADER_JMSX_GROUP_ID));
+        Assertions.assertEquals(0, replayed.getIn().getHeader(Constants.BRIX_RETRY_ATTEMPT, Integer.class));
+        Assertions.assertEquals(0, TestTables.count(entityManager, "public.retry_queue"));
+    }
+
+    @Test
+    public void testQueuedRouteIsReplayedInProcess() throws Exception {
+        failure.set(new BrixException("POST failed", new IOException("Connection reset")));
+        context.createProducerTemplate().request("seda:" + QUEUE_ROUTE, exchange -> {
+            exchange.getIn().setBody("save 10");
+            exchange.getIn().setHeader(Constants.BRIX_TRX_ID, "trx-queue-1");
+        });
+        Assertions.assertEquals(1, TestTables.count(entityManager, "public.retry_queue"));
+
+        // The replay runs the route rather than enqueueing the message: it has been processed, and
+        // failed again, by the time replayDue returns, and is stored again for the same route.
+        failure.set(new BrixException("POST failed", new IOException("Connection reset")));
+        Assertions.assertEquals(1, retryScheduler.replayDue());
+        Assertions.assertEquals(2, received.size());
+        Assertions.assertEquals("save 10", received.get(1).getIn().getBody(String.class));
+        Object[] row = QuarkusTransaction.requiringNew().call(() -> (Object[])entityManager
+            .createNativeQuery("SELECT replayuri, attempts FROM public.retry_queue").getSingleResult());
+        Assertions.assertEquals("seda://" + QUEUE_ROUTE, row[0]);
+        Assertions.assertEquals(2, ((Number)row[1]).intValue());
+    }
+}
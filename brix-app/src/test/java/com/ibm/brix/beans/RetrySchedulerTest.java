@@ -0,0 +1,106 @@
+//=============================================================================
+//* Name:         RetrySchedulerTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Retry Scheduler Test
+//*
+//* Description:  This class provides tests for the retry backoff, for the
+//*               headers stored with a retry and for which failures are
+//*               retried. RetrySchedulerReplayTest runs a retry end to end.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.CommonConstants;
+import com.ibm.brix.common.enums.SystemType;
+
+public class RetrySchedulerTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final Duration INITIAL = Duration.ofSeconds(30);
+    private static final Duration MAX = Duration.ofHours(1);
+
+    @Test
+    public void testBackoffGrowsExponentially() {
+        Assertions.assertEquals(Duration.ofSeconds(30), RetryScheduler.backoff(1, INITIAL, 2.0, MAX, 0.5, 0.0));
+        Assertions.assertEquals(Duration.ofSeconds(60), RetryScheduler.backoff(2, INITIAL, 2.0, MAX, 0.5, 0.0));
+        Assertions.assertEquals(Duration.ofSeconds(240), RetryScheduler.backoff(4, INITIAL, 2.0, MAX, 0.5, 0.0));
+    }
+
+    @Test
+    public void testBackoffIsCapped() {
+        Assertions.assertEquals(MAX, RetryScheduler.backoff(8, INITIAL, 2.0, MAX, 0.5, 0.0));
+        Assertions.assertEquals(MAX, RetryScheduler.backoff(100, INITIAL, 2.0, MAX, 0.5, 0.0));
+    }
+
+    @Test
+    public void testBackoffJitter() {
+        // The random part takes off at most jitter of the delay.
+        Assertions.assertEquals(Duration.ofSeconds(30), RetryScheduler.backoff(2, INITIAL, 2.0, MAX, 0.5, 1.0));
+        Assertions.assertEquals(Duration.ofSeconds(45), RetryScheduler.backoff(2, INITIAL, 2.0, MAX, 0.5, 0.5));
+        Assertions.assertEquals(Duration.ofSeconds(60), RetryScheduler.backoff(2, INITIAL, 2.0, MAX, 0.0, 1.0));
+    }
+
+    @Test
+    public void testStoredHeaders() {
+        Map<String, Object> headers = new LinkedHashMap<>();
+        headers.put(Constants.BRIX_TRX_ID, "trx-1");
+        headers.put(Constants.BRIX_SOURCE_SYSTEM_TYPE, SystemType.SIMPLEEP);
+        headers.put(Constants.BRIX_PAYLOAD_LOADED, true);
+        headers.put("Content-Length", 42);
+        headers.put("CamelHttpUri", "http://brix.example.com/");
+        headers.put("JMSMessageID", "ID:1");
+        headers.put(CommonConstants.HEADER_JMSX_GROUP_ID, "https://se.example.com|7");
+        headers.put(Constants.BRIX_RETRY_ATTEMPT, 2);
+        headers.put(Constants.BRIX_BROUTE, new Object());
+
+        Map<String, Object> stored = RetryScheduler.storedHeaders(headers);
+        Assertions.assertEquals(5, stored.size());
+        Assertions.assertEquals("trx-1", stored.get(Constants.BRIX_TRX_ID));
+        Assertions.assertEquals(SystemType.SIMPLEEP.name(), stored.get(Constants.BRIX_SOURCE_SYSTEM_TYPE));
+        Assertions.assertEquals(true, stored.get(Constants.BRIX_PAYLOAD_LOADED));
+        Assertions.assertEquals(42, stored.get("Content-Length"));
+        Assertions.assertEquals("https://se.example.com|7", stored.get(CommonConstants.HEADER_JMSX_GROUP_ID));
+    }
+
+    @Test
+    public void testOnlyTransientFailuresAreRetryable() {
+        Assertions.assertTrue(RetryScheduler.isRetryable(new BrixException("GET failed", new ConnectException("Connection refused")), null));
+        Assertions.assertTrue(RetryScheduler.isRetryable(new TimeoutException("Step did not complete"), null));
+        Assertions.assertTrue(RetryScheduler.isRetryable(new BrixException("GET returned HTTP 503"), 503));
+        Assertions.assertTrue(RetryScheduler.isRetryable(new BrixException("GET returned HTTP 429"), 429));
+
+        Assertions.assertFalse(RetryScheduler.isRetryable(new BrixException("GET returned HTTP 404"), 404));
+        Assertions.assertFalse(RetryScheduler.isRetryable(new BrixException("ActionList was not found on the Exchange."), null));
+        Assertions.assertFalse(RetryScheduler.isRetryable(new IllegalArgumentException("Unknown attribute"), null));
+    }
+}
@@ -0,0 +1,174 @@
+//=============================================================================
+//* Name:         TargetSnapshotCheckTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Target Snapshot Check Test
+//*
+//* Description:  This class provides tests for using the snapshot of the last
+//*               synced target in place of a target fetch.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.beans;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.ExchangeBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.enums.AttributeType;
+import com.ibm.brix.common.enums.State;
+import com.ibm.brix.common.enums.Status;
+import com.ibm.brix.common.model.ArtifactRelationship;
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.common.simpleendpoint.model.SEArtifact;
+import com.ibm.brix.common.simpleendpoint.model.SEEndpoint;
+import com.ibm.brix.model.ArtifactRelationshipList;
+import com.ibm.brix.model.GenericArtifact;
+import com.ibm.brix.utils.Config;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+import jakarta.inject.Inject;
+
+@QuarkusTest
+public class TargetSnapshotCheckTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final String BROUTE =
+        "{\"theBRouteList\":[{"
+        + "\"sourceEndpoint\":{\"type\":\"seendpoint\",\"name\":\"Source\",\"description\":\"test\",\"systemType\":\"SIMPLEEP\",\"address\":\"http://source.example.com:8000/\"},"
+        + "\"targetEndpoint\":{\"type\":\"seendpoint\",\"name\":\"Target\",\"description\":\"test\",\"systemType\":\"SIMPLEEP\",\"address\":\"http://target.example.com:9000/\"},"
+        + "\"rules\":[]}]}";
+
+    // Each test syncs its own target artifact, as the snapshot cache is shared.
+    private static final AtomicInteger targetIds = new AtomicInteger();
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    TargetSnapshotCheck check;
+
+    private BRoute broute;
+    private ArtifactRelationshipList relationships;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        broute = Config.parseBRouteList(BROUTE).getTheBRouteList().get(0);
+        SEArtifact target = new SEArtifact();
+        target.setEndpoint(new SEEndpoint("http://target.example.com:9000/"));
+        target.setId_integer(Integer.toString(targetIds.incrementAndGet()));
+        relationships = new ArtifactRelationshipList();
+        relationships.append(new ArtifactRelationship("test", "test", new SEArtifact(), target, State.INITIALIZED, Status.INITIALIZED));
+    }
+
+    private Exchange exchange() {
+        return ExchangeBuilder.anExchange(context)
+            .withHeader(Constants.BRIX_BROUTE, broute)
+            .withHeader(Constants.BRIX_ARTIFACT_RELATIONSHIPS, relationships)
+            .withHeader(Constants.BRIX_BROUTE_VERSION, 3L)
+            .build();
+    }
+
+    private void write(String etag) throws Exception {
+        GenericArtifact target = new GenericArtifact();
+        target.addAttribute("title", "Old title", null, AttributeType.STRING);
+        target.addAttribute("severity", "high", null, AttributeType.STRING);
+        GenericArtifact delta = new GenericArtifact();
+        delta.addAttribute("title", "New title", null, AttributeType.STRING);
+
+        Exchange exchange = exchange();
+        exchange.getIn().setHeader(Constants.BRIX_TARGET_GENERIC_ARTIFACT, target);
+        exchange.getIn().setHeader(Constants.BRIX_DELTA_GENERIC_ARTIFACT, delta);
+        exchange.getIn().setHeader(Constants.BRIX_RESULT_SUCCESS, true);
+        if (etag != null) {
+            exchange.getIn().setHeader(TargetSnapshotCheck.HTTP_ETAG, etag);
+        }
+        check.record(exchange);
+    }
+
+    @Test
+    public void testNotModifiedUsesSnapshot() throws Exception {
+        write("\"v2\"");
+
+        Exchange exchange = exchange();
+        Assertions.assertFalse(check.beforeFetch(exchange));
+        Assertions.assertEquals("\"v2\"", exchange.getIn().getHeader(TargetSnapshotCheck.HTTP_IF_NONE_MATCH));
+
+        exchange.getIn().setHeader(Exchange.HTTP_RESPONSE_CODE, 304);
+        Assertions.assertTrue(check.afterFetch(exchange));
+        Assertions.assertNull(exchange.getIn().getHeader(TargetSnapshotCheck.HTTP_IF_NONE_MATCH));
+        GenericArtifact snapshot = exchange.getIn().getHeader(Constants.BRIX_TARGET_GENERIC_ARTIFACT, GenericArtifact.class);
+        Assertions.assertEquals("New title", snapshot.getAttributeValue("title"));
+        Assertions.assertEquals("high", snapshot.getAttributeValue("severity"));
+        Assertions.assertEquals(true, exchange.getIn().getHeader(Constants.BRIX_TARGET_SNAPSHOT_HIT));
+    }
+
+    @Test
+    public void testModifiedTargetIsFetched() throws Exception {
+        write("\"v2\"");
+
+        Exchange exchange = exchange();
+        check.beforeFetch(exchange);
+        exchange.getIn().setHeader(Exchange.HTTP_RESPONSE_CODE, 200);
+        Assertions.assertFalse(check.afterFetch(exchange));
+        Assertions.assertEquals(false, exchange.getIn().getHeader(Constants.BRIX_TARGET_SNAPSHOT_HIT));
+    }
+
+    @Test
+    public void testSnapshotWithoutValidator() throws Exception {
+        write(null);
+
+        // Without an ETag or Last-Modified the target is fetched, unless unvalidated-max-age is set.
+        Exchange exchange = exchange();
+        Assertions.assertFalse(check.beforeFetch(exchange));
+        Assertions.assertNull(exchange.getIn().getHeader(TargetSnapshotCheck.HTTP_IF_NONE_MATCH));
+        Assertions.assertEquals(false, exchange.getIn().getHeader(Constants.BRIX_TARGET_SNAPSHOT_HIT));
+    }
+
+    @Test
+    public void testFailedWriteDropsSnapshot() throws Exception {
+        write("\"v2\"");
+
+        Exchange failed = exchange();
+        failed.getIn().setHeader(Constants.BRIX_RESULT_SUCCESS, false);
+        check.record(failed);
+
+        Exchange exchange = exchange();
+        Assertions.assertFalse(check.beforeFetch(exchange));
+        Assertions.assertNull(exchange.getIn().getHeader(TargetSnapshotCheck.HTTP_IF_NONE_MATCH));
+    }
+
+    @Test
+    public void testChangedBRouteVersionIsMiss() throws Exception {
+        write("\"v2\"");
+
+        Exchange exchange = exchange();
+        exchange.getIn().setHeader(Constants.BRIX_BROUTE_VERSION, 4L);
+        Assertions.assertFalse(check.beforeFetch(exchange));
+        Assertions.assertNull(exchange.getIn().getHeader(TargetSnapshotCheck.HTTP_IF_NONE_MATCH));
+    }
+}
@@ -0,0 +1,131 @@
+//=============================================================================
+//* Name:         BRouteLookupBenchmark.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX BRoute Lookup Benchmark
+//*
+//* Description:  JMH benchmark comparing the linear BRouteList scan with the
+//*               BRouteIndex lookup for 10, 1k and 50k configured BRoutes.
+//*               Run with:
+//*                 mvn test-compile exec:java -Dexec.classpathScope=test
+//*                     -Dexec.mainClass=com.ibm.brix.benchmarks.BRouteLookupBenchmark
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.ibm.brix.common.enums.ArtifactType;
+import com.ibm.brix.common.simpleendpoint.model.SEEndpoint;
+import com.ibm.brix.model.BRouteList;
+import com.ibm.brix.utils.BRouteIndex;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BRouteLookupBenchmark {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Param({"10", "1000", "50000"})
+    public int routeCount;
+
+    private BRouteList brouteList;
+    private BRouteIndex brouteIndex;
+    private SEEndpoint probeEndpoint;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        brouteList = mapper.readValue(generateBRoutes(routeCount), BRouteList.class);
+        brouteIndex = BRouteIndex.build(brouteList);
+        // Probe an endpoint in the middle of the list so the scan does representative work.
+        probeEndpoint = new SEEndpoint(address(routeCount / 2));
+    }
+
+    @Benchmark
+    public BRouteList linearScan() {
+        return brouteList.findSourcesMatching(probeEndpoint);
+    }
+
+    @Benchmark
+    public BRouteList indexedLookup() {
+        return brouteIndex.findSourcesMatching(probeEndpoint, ArtifactType.SEISSUE);
+    }
+
+    private static String address(int i) {
+        return "http://host" + (i % 97) + ".example.com:" + (8000 + (i % 1000)) + "/endpoint/" + i + "/";
+    }
+
+    /*
+     * Generates a broutes cfg in the same shape as brix.broutes.cfg, with one
+     * distinct source endpoint per BRoute.
+     */
+    private static String generateBRoutes(int count) {
+        StringBuilder sb = new StringBuilder(count * 400);
+        sb.append("{\"theBRouteList\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"sourceEndpoint\":{\"type\":\"seendpoint\",\"name\":\"Source ").append(i)
+              .append("\",\"description\":\"bench\",\"systemType\":\"SIMPLEEP\",\"address\":\"").append(address(i)).append("\"},")
+              .append("\"sourceArtifactMaps\":[{\"artifactType\":\"SEISSUE\",\"mapType\":\"SOURCE\",\"attributeMaps\":[]}],")
+              .append("\"targetEndpoint\":{\"type\":\"seendpoint\",\"name\":\"Target ").append(i)
+              .append("\",\"description\":\"bench\",\"systemType\":\"SIMPLEEP\",\"address\":\"http://target.example.com:9000/\"},")
+              .append("\"targetArtifactMaps\":[{\"artifactType\":\"SEISSUE\",\"mapType\":\"TARGET\",\"attributeMaps\":[]}],")
+              .append("\"rules\":[]}");
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+            .include(BRouteLookupBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
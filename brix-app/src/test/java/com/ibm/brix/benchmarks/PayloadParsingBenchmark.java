@@ -0,0 +1,158 @@
+//=============================================================================
+//* Name:         PayloadParsingBenchmark.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Payload Parsing Benchmark
+//*
+//* Description:  JMH benchmark comparing the previous webhook payload path
+//*               (body bytes to String, json-simple JSONParser tree, walk the
+//*               tree into an SEArtifact) with the streaming SEExchangeMgr
+//*               path over the raw body bytes, for small and large issue
+//*               payloads. Runs with the GC profiler, so gc.alloc.rate.norm
+//*               reports the bytes allocated per message.
+//*               Run with:
+//*                 mvn test-compile exec:java -Dexec.classpathScope=test
+//*                     -Dexec.mainClass=com.ibm.brix.benchmarks.PayloadParsingBenchmark
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.ibm.brix.common.enums.AttributeType;
+import com.ibm.brix.common.model.Artifact;
+import com.ibm.brix.common.model.AttributeProperties;
+import com.ibm.brix.common.simpleendpoint.model.SEArtifact;
+import com.ibm.brix.simpleEndpoint.SEExchangeMgr;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadParsingBenchmark {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    /** Number of fields in the payload; each description field is about 1KB of text. */
+    @Param({"10", "200"})
+    public int fieldCount;
+
+    private CamelContext context;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new DefaultCamelContext();
+        context.start();
+        payload = generatePayload(fieldCount).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Artifact jsonSimpleTree() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(payload);
+        String body = exchange.getIn().getBody(String.class);
+        JSONObject tree = (JSONObject)new JSONParser().parse(body);
+        SEArtifact seArtifact = new SEArtifact();
+        seArtifact.setArtifactKeyString(Long.toString((Long)tree.get("pk")));
+        JSONObject fields = (JSONObject)tree.get("fields");
+        for (Object key : fields.keySet()) {
+            seArtifact.addAttribute((String)key, new AttributeProperties(fields.get(key), AttributeType.UNKNOWN));
+        }
+        return seArtifact;
+    }
+
+    @Benchmark
+    public Artifact streaming() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(payload);
+        return new SEExchangeMgr(exchange).readArtifactFromWebhookExchange();
+    }
+
+    private static String generatePayload(int count) {
+        StringBuilder text = new StringBuilder(1024);
+        while (text.length() < 1000) {
+            text.append("Lorem ipsum dolor sit amet, \\\"consectetur\\\" adipiscing elit. ");
+        }
+        StringBuilder sb = new StringBuilder(count * 1100);
+        sb.append("{\"pk\":23,\"model\":\"issue\",\"fields\":{");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            switch (i % 4) {
+            case 0:
+                sb.append("\"description_").append(i).append("\":\"").append(text).append('"');
+                break;
+            case 1:
+                sb.append("\"count_").append(i).append("\":").append(i * 1000L);
+                break;
+            case 2:
+                sb.append("\"flag_").append(i).append("\":").append(i % 3 == 0);
+                break;
+            default:
+                sb.append("\"labels_").append(i).append("\":[\"a\",\"b\",{\"weight\":1.5}]");
+                break;
+            }
+        }
+        sb.append("}}");
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+            .include(PayloadParsingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
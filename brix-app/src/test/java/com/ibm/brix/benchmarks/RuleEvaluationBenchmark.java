@@ -0,0 +1,203 @@
+//=============================================================================
+//* Name:         RuleEvaluationBenchmark.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Rule Evaluation Benchmark
+//*
+//* Description:  JMH benchmark comparing rule assertion through a compiled
+//*               RulePlan with the previous per-exchange path (sorting the
+//*               configured lists and calling BrixPredicate.assertCondition,
+//*               which compiles MATCHREGEX patterns on every call), for rule
+//*               sets of 10 to 500 rules, and the compiled plan asserting
+//*               only the candidates selected by its attribute index.
+//*               Run with:
+//*                 mvn test-compile exec:java -Dexec.classpathScope=test
+//*                     -Dexec.mainClass=com.ibm.brix.benchmarks.RuleEvaluationBenchmark
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.benchmarks;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.enums.AttributeType;
+import com.ibm.brix.common.enums.ResourceSide;
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.common.model.Rule;
+import com.ibm.brix.common.model.RuleCondition;
+import com.ibm.brix.model.BRouteList;
+import com.ibm.brix.model.GenericArtifact;
+import com.ibm.brix.plans.CompiledRule;
+import com.ibm.brix.plans.CompiledRuleCondition;
+import com.ibm.brix.plans.RulePlan;
+import com.ibm.brix.utils.BrixPredicate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RuleEvaluationBenchmark {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Param({"10", "50", "100", "500"})
+    public int ruleCount;
+
+    private BRoute broute;
+    private RulePlan rulePlan;
+    private GenericArtifact sourceGenericArtifact;
+    private GenericArtifact targetGenericArtifact;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        BRouteList brouteList = mapper.readValue(generateBRoute(ruleCount), BRouteList.class);
+        broute = brouteList.getTheBRouteList().get(0);
+        rulePlan = RulePlan.compile(broute);
+
+        // Every tenth attribute changed, with a value that matches the rule's regex.
+        sourceGenericArtifact = new GenericArtifact();
+        targetGenericArtifact = new GenericArtifact();
+        for (int i = 0; i < ruleCount; i += 10) {
+            sourceGenericArtifact.addAttribute("attr_" + i, "v" + i, new HashMap<>(), AttributeType.STRING);
+        }
+    }
+
+    @Benchmark
+    public int perExchangePath() throws BrixException {
+        int asserted = 0;
+        List<Rule> rules = broute.getRules();
+        Collections.sort(rules, (r1, r2) -> Integer.compare(r1.getSequence(), r2.getSequence()));
+        for (Rule rule : rules) {
+            List<RuleCondition> ruleConditions = rule.getRuleConditions();
+            Collections.sort(ruleConditions, (rc1, rc2) -> Integer.compare(rc1.getSequence(), rc2.getSequence()));
+            boolean ruleAsserted = true;
+            for (RuleCondition ruleCondition : ruleConditions) {
+                String subject = ruleCondition.getPredicateSubject();
+                Object value = (ruleCondition.getResourceSide() == ResourceSide.SOURCE ? sourceGenericArtifact.getAttributeValue(subject) : targetGenericArtifact.getAttributeValue(subject));
+                if (!BrixPredicate.assertCondition(subject, value, ruleCondition.getRuleConditionOperator(), ruleCondition.getPredicatePattern())) {
+                    ruleAsserted = false;
+                    break;
+                }
+            }
+            if (ruleAsserted) {
+                asserted++;
+            }
+        }
+        return asserted;
+    }
+
+    @Benchmark
+    public int compiledPlan() throws BrixException {
+        int asserted = 0;
+        for (CompiledRule compiledRule : rulePlan.getRules()) {
+            boolean ruleAsserted = true;
+            for (CompiledRuleCondition ruleCondition : compiledRule.getRuleConditions()) {
+                if (!ruleCondition.assertCondition(sourceGenericArtifact, targetGenericArtifact, null)) {
+                    ruleAsserted = false;
+                    break;
+                }
+            }
+            if (ruleAsserted) {
+                asserted++;
+            }
+        }
+        return asserted;
+    }
+
+    @Benchmark
+    public int indexedPlan() throws BrixException {
+        int asserted = 0;
+        BitSet candidates = rulePlan.selectCandidates(sourceGenericArtifact, targetGenericArtifact);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            boolean ruleAsserted = true;
+            for (CompiledRuleCondition ruleCondition : rulePlan.getRules().get(i).getRuleConditions()) {
+                if (!ruleCondition.assertCondition(sourceGenericArtifact, targetGenericArtifact, null)) {
+                    ruleAsserted = false;
+                    break;
+                }
+            }
+            if (ruleAsserted) {
+                asserted++;
+            }
+        }
+        return asserted;
+    }
+
+    /*
+     * One BRoute whose rules each test one attribute: it must exist and match a regex.
+     * Rules are generated in reverse sequence so sorting has work to do.
+     */
+    private static String generateBRoute(int count) {
+        StringBuilder sb = new StringBuilder(count * 600);
+        sb.append("{\"theBRouteList\":[{")
+          .append("\"sourceEndpoint\":{\"type\":\"seendpoint\",\"name\":\"Source\",\"description\":\"bench\",\"systemType\":\"SIMPLEEP\",\"address\":\"http://source.example.com:8000/\"},")
+          .append("\"targetEndpoint\":{\"type\":\"seendpoint\",\"name\":\"Target\",\"description\":\"bench\",\"systemType\":\"SIMPLEEP\",\"address\":\"http://target.example.com:9000/\"},")
+          .append("\"rules\":[");
+        for (int i = count - 1; i >= 0; i--) {
+            sb.append("{\"name\":\"Rule ").append(i).append("\",\"description\":\"bench\",\"sequence\":").append(i + 1).append(",\"ruleConditions\":[")
+              .append("{\"ruleConditionName\":\"attr_").append(i).append(" matches\",\"sequence\":2,\"predicateSubject\":\"attr_").append(i)
+              .append("\",\"predicateType\":\"ATTRIBUTE\",\"predicatePattern\":\"^v[0-9]+$\",\"ruleConditionOperator\":\"MATCHREGEX\",\"resourceSide\":\"SOURCE\"},")
+              .append("{\"ruleConditionName\":\"attr_").append(i).append(" exists\",\"sequence\":1,\"predicateSubject\":\"attr_").append(i)
+              .append("\",\"predicateType\":\"ATTRIBUTE\",\"predicatePattern\":\"\",\"ruleConditionOperator\":\"EXISTS\",\"resourceSide\":\"SOURCE\"}")
+              .append("],\"ruleActionConfigs\":[]}");
+            if (i > 0) {
+                sb.append(',');
+            }
+        }
+        sb.append("]}]}");
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+            .include(RuleEvaluationBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
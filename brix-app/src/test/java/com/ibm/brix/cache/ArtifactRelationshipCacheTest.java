@@ -0,0 +1,124 @@
+//=============================================================================
+//* Name:         ArtifactRelationshipCacheTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX ArtifactRelationship Cache Test
+//*
+//* Description:  This class provides tests for the read-through
+//*               ArtifactRelationship cache.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Test that a created relationship is seen
+//*                                  after a cached empty lookup.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.common.enums.State;
+import com.ibm.brix.common.enums.Status;
+import com.ibm.brix.common.model.ArtifactKey;
+import com.ibm.brix.common.model.ArtifactRelationship;
+import com.ibm.brix.common.simpleendpoint.model.SEArtifact;
+import com.ibm.brix.common.simpleendpoint.model.SEArtifactKey;
+import com.ibm.brix.model.ArtifactRelationshipList;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+
+import jakarta.inject.Inject;
+
+@QuarkusTest
+public class ArtifactRelationshipCacheTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Inject
+    ArtifactRelationshipCache artifactRelationshipCache;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Test
+    public void testMissThenHit() throws Exception {
+        artifactRelationshipCache.invalidateAll();
+        ArtifactKey artifactKey = createTestArtifactKey("no-such-key");
+
+        double missesBefore = count("miss");
+        double hitsBefore = count("hit");
+
+        ArtifactRelationshipList first = artifactRelationshipCache.findSourcesMatching(artifactKey);
+        ArtifactRelationshipList second = artifactRelationshipCache.findSourcesMatching(artifactKey);
+
+        Assertions.assertEquals(0, first.size());
+        Assertions.assertEquals(0, second.size());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(missesBefore + 1, count("miss"));
+        Assertions.assertEquals(hitsBefore + 1, count("hit"));
+        Assertions.assertEquals(1, artifactRelationshipCache.size());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        ArtifactKey artifactKey = createTestArtifactKey("invalidate-key");
+        artifactRelationshipCache.findSourcesMatching(artifactKey);
+        artifactRelationshipCache.invalidate(artifactKey);
+
+        double missesBefore = count("miss");
+        artifactRelationshipCache.findSourcesMatching(artifactKey);
+        Assertions.assertEquals(missesBefore + 1, count("miss"));
+    }
+
+    @Test
+    public void testCreateInvalidatesColdKey() throws Exception {
+        ArtifactKey artifactKey = createTestArtifactKey("create-source-key");
+        Assertions.assertEquals(0, artifactRelationshipCache.findSourcesMatching(artifactKey).size());
+
+        SEArtifact source = persistTestArtifact("create-source-key");
+        SEArtifact target = persistTestArtifact("create-target-key");
+        artifactRelationshipCache.create(new ArtifactRelationship("test", "test", source, target, State.INITIALIZED, Status.INITIALIZED));
+
+        ArtifactRelationshipList found = artifactRelationshipCache.findSourcesMatching(artifactKey);
+        Assertions.assertEquals(1, found.size());
+        Assertions.assertEquals("create-target-key", found.getTheArtifactRelationshipList().get(0).getTargetArtifactKeyString());
+    }
+
+    private SEArtifact persistTestArtifact(String artifactKeyString) {
+        SEArtifact seArtifact = new SEArtifact();
+        seArtifact.setArtifactKeyString(artifactKeyString);
+        QuarkusTransaction.requiringNew().run(() -> seArtifact.persist());
+        return seArtifact;
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", ArtifactRelationshipCache.CACHE_NAME)
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+
+    private ArtifactKey createTestArtifactKey(String artifactKeyString) {
+        SEArtifact seArtifact = new SEArtifact();
+        seArtifact.setArtifactKeyString(artifactKeyString);
+        return new SEArtifactKey(seArtifact);
+    }
+}
@@ -0,0 +1,143 @@
+//=============================================================================
+//* Name:         TransactionJournalTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Transaction Journal Test
+//*
+//* Description:  This class provides tests for the batching write-behind
+//*               Transaction journal.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Flush before reading; test a status change
+//*                                  of a queued insert.
+//*               20261018 agent     Test the retry of a failed batch.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.cache;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.ExchangeBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.TransactionBean;
+import com.ibm.brix.common.enums.Status;
+import com.ibm.brix.common.model.Transaction;
+import com.ibm.brix.common.repositories.TransactionRepository;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+
+import jakarta.inject.Inject;
+
+@QuarkusTest
+public class TransactionJournalTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    TransactionBean transactionBean;
+
+    @Inject
+    TransactionJournal transactionJournal;
+
+    @Inject
+    TransactionRepository transactionRepository;
+
+    @Inject
+    TransactionRegistry transactionRegistry;
+
+    @Test
+    public void testCreatedTransactionIsCommitted() throws Exception {
+        Exchange exchange = ExchangeBuilder.anExchange(context).withBody("{}").build();
+        Transaction transaction = transactionBean.create(exchange);
+        transactionJournal.flush();
+
+        Transaction found = QuarkusTransaction.requiringNew().call(() -> transactionRepository.findByTransactionId(transaction.getTrxId()));
+        Assertions.assertNotNull(found);
+    }
+
+    @Test
+    public void testLatestStatusIsWritten() throws Exception {
+        Exchange exchange = ExchangeBuilder.anExchange(context).withBody("{}").build();
+        Transaction transaction = transactionBean.create(exchange);
+        exchange.getIn().setHeader(Constants.BRIX_TRX_ID, transaction.getTrxId());
+
+        exchange.getIn().setHeader(Constants.BRIX_TRX_STATUS, Status.INPROGRESS);
+        transactionBean.updateStatus(exchange, "working");
+        exchange.getIn().setHeader(Constants.BRIX_TRX_STATUS, Status.COMPLETED);
+        Transaction updated = transactionBean.updateStatus(exchange, null);
+        Assertions.assertSame(transaction, updated);
+
+        transactionJournal.flush();
+        Transaction found = QuarkusTransaction.requiringNew().call(() -> transactionRepository.findByTransactionId(transaction.getTrxId()));
+        Assertions.assertEquals(Status.COMPLETED, found.getStatus());
+        Assertions.assertEquals("", found.getStatusMessage());
+    }
+
+    @Test
+    public void testStatusChangeOfQueuedInsertIsNotLost() throws Exception {
+        Exchange exchange = ExchangeBuilder.anExchange(context).withBody("{}").build();
+        Transaction transaction = transactionBean.create(exchange);
+        transactionRegistry.remove(transaction.getTrxId());
+        exchange.getIn().setHeader(Constants.BRIX_TRX_ID, transaction.getTrxId());
+
+        // Not in the registry and possibly not committed yet: the change must still reach the row.
+        exchange.getIn().setHeader(Constants.BRIX_TRX_STATUS, Status.ERROR);
+        transactionBean.updateStatus(exchange, "failed");
+
+        transactionJournal.flush();
+        Transaction found = QuarkusTransaction.requiringNew().call(() -> transactionRepository.findByTransactionId(transaction.getTrxId()));
+        Assertions.assertEquals(Status.ERROR, found.getStatus());
+        Assertions.assertEquals("failed", found.getStatusMessage());
+    }
+
+    @Test
+    public void testFailedBatchIsRetriedEntryByEntry() throws Exception {
+        Transaction good = new Transaction(ExchangeBuilder.anExchange(context).withBody("{}").build());
+        Transaction bad = new Transaction(ExchangeBuilder.anExchange(context).withBody("{}").build());
+        bad.setTrxId("x".repeat(60));
+        TransactionJournal.Entry goodInsert = new TransactionJournal.Entry(good);
+        TransactionJournal.Entry goodUpdate = new TransactionJournal.Entry(good.getTrxId(), Status.ERROR, "failed");
+        TransactionJournal.Entry badInsert = new TransactionJournal.Entry(bad);
+        TransactionJournal.Entry missing = new TransactionJournal.Entry("trx-not-inserted", Status.COMPLETED, null);
+
+        // The bad trxId fails the batch after the good insert was given an id.
+        transactionJournal.writeBatches(List.of(goodInsert, goodUpdate, badInsert, missing));
+
+        goodInsert.committed.get(1, TimeUnit.SECONDS);
+        goodUpdate.committed.get(1, TimeUnit.SECONDS);
+        Assertions.assertThrows(ExecutionException.class, () -> badInsert.committed.get(1, TimeUnit.SECONDS));
+        ExecutionException dropped = Assertions.assertThrows(ExecutionException.class, () -> missing.committed.get(1, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(BrixException.class, dropped.getCause());
+
+        Transaction found = QuarkusTransaction.requiringNew().call(() -> transactionRepository.findByTransactionId(good.getTrxId()));
+        Assertions.assertEquals(Status.ERROR, found.getStatus());
+        Assertions.assertEquals("failed", found.getStatusMessage());
+    }
+}
@@ -0,0 +1,127 @@
+//=============================================================================
+//* Name:         TransactionRegistryTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Transaction Registry Test
+//*
+//* Description:  This class provides tests for the bounded in-memory
+//*               Transaction registry.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Test that active transactions are kept.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.ExchangeBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.beans.TransactionBean;
+import com.ibm.brix.common.enums.Status;
+import com.ibm.brix.common.model.Transaction;
+import com.ibm.brix.utils.Config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+
+import jakarta.inject.Inject;
+
+@QuarkusTest
+public class TransactionRegistryTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    TransactionBean transactionBean;
+
+    @Inject
+    TransactionRegistry transactionRegistry;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Test
+    public void testCreatedTransactionIsRegistered() throws Exception {
+        Exchange exchange = ExchangeBuilder.anExchange(context).withBody("{}").build();
+        Transaction transaction = transactionBean.create(exchange);
+
+        Assertions.assertSame(transaction, transactionRegistry.getIfPresent(transaction.getTrxId()));
+        Assertions.assertSame(transaction, Config.getTransaction(transaction.getTrxId()));
+        Assertions.assertTrue(meterRegistry.get(TransactionRegistry.METRIC_PREFIX + ".live").gauge().value() >= 1);
+    }
+
+    @Test
+    public void testEvictedTransactionFallsBackToRepository() throws Exception {
+        Exchange exchange = ExchangeBuilder.anExchange(context).withBody("{}").build();
+        Transaction transaction = transactionBean.create(exchange);
+        String trxId = transaction.getTrxId();
+
+        transactionRegistry.remove(trxId);
+        transactionRegistry.cleanUp();
+        Assertions.assertNull(transactionRegistry.getIfPresent(trxId));
+
+        Transaction found = transactionRegistry.get(trxId);
+        Assertions.assertNotNull(found);
+        Assertions.assertEquals(trxId, found.getTrxId());
+    }
+
+    @Test
+    public void testOnlyFinishedTransactionsAreEvicted() throws Exception {
+        TransactionRegistry registry = new TransactionRegistry();
+        registry.meterRegistry = new SimpleMeterRegistry();
+        registry.maxSize = 1;
+        registry.expireAfterAccess = Duration.ofMinutes(15);
+        registry.activeMaxAge = Duration.ofHours(24);
+        registry.init();
+
+        List<Transaction> inFlight = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Transaction transaction = new Transaction(ExchangeBuilder.anExchange(context).withBody("{}").build());
+            transaction.setStatus(Status.QUEUED);
+            registry.put(transaction);
+            inFlight.add(transaction);
+        }
+        registry.cleanUp();
+        for (Transaction transaction : inFlight) {
+            Assertions.assertSame(transaction, registry.getIfPresent(transaction.getTrxId()));
+        }
+
+        for (Transaction transaction : inFlight) {
+            transaction.setStatus(Status.COMPLETED);
+            registry.put(transaction);
+        }
+        registry.cleanUp();
+        Assertions.assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testUnknownTransaction() {
+        Assertions.assertNull(transactionRegistry.get("no-such-transaction"));
+    }
+}
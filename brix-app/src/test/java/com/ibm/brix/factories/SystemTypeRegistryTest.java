@@ -0,0 +1,78 @@
+//=============================================================================
+//* Name:         SystemTypeRegistryTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX System Type Registry Test
+//*
+//* Description:  This class checks that the registry creates the built-in
+//*               Simple Endpoint artifacts and that classes registered through
+//*               the factories are created through their constructor handles.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.factories;
+
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.enums.ArtifactType;
+import com.ibm.brix.common.enums.SystemType;
+import com.ibm.brix.common.model.Artifact;
+import com.ibm.brix.common.model.ArtifactKey;
+import com.ibm.brix.common.simpleendpoint.model.SEArtifact;
+import com.ibm.brix.common.simpleendpoint.model.SEArtifactKey;
+
+public class SystemTypeRegistryTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    @Test
+    public void testBuiltInSimpleEndpoint() throws Exception {
+        SystemTypeRegistry registry = SystemTypeRegistry.getInstance();
+        Assertions.assertSame(registry, SystemTypeRegistry.getInstance());
+
+        Artifact first = registry.getArtifact(SystemType.SIMPLEEP);
+        Artifact second = new ArtifactFactory().getArtifact(SystemType.SIMPLEEP);
+        Assertions.assertEquals(SEArtifact.class, first.getClass());
+        Assertions.assertNotSame(first, second);
+
+        ArtifactKey key = new ArtifactKeyFactory().getArtifactKey(ArtifactType.SEISSUE, first);
+        Assertions.assertEquals(SEArtifactKey.class, key.getClass());
+    }
+
+    @Test
+    public void testConstructorCreators() throws Exception {
+        Callable<SEArtifact> artifactCreator = SystemTypeRegistry.noArgConstructorCreator(SEArtifact.class);
+        Assertions.assertEquals(SEArtifact.class, artifactCreator.call().getClass());
+
+        SystemTypeRegistry.Creator<Artifact, SEArtifactKey> keyCreator = SystemTypeRegistry.constructorCreator(SEArtifactKey.class, Artifact.class);
+        Assertions.assertEquals(SEArtifactKey.class, keyCreator.create(new SEArtifact()).getClass());
+
+        // No (String) constructor: reported when registered, not on every exchange.
+        Assertions.assertThrows(BrixException.class, () -> SystemTypeRegistry.constructorCreator(SEArtifact.class, String.class));
+    }
+
+    @Test
+    public void testUnregisteredType() {
+        Assertions.assertThrows(BrixException.class, () -> SystemTypeRegistry.getInstance().getArtifact(SystemType.UNKNOWN));
+    }
+}
@@ -0,0 +1,111 @@
+//=============================================================================
+//* Name:         ArtifactMapPlanTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Artifact Map Plan Test
+//*
+//* Description:  This class checks the AttributeConverters of a compiled
+//*               ArtifactMapPlan in both directions: DATE patterns, ENUM value
+//*               maps split by resource side, and pass-through attributes.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.model.ArtifactMap;
+import com.ibm.brix.plans.AttributeConverter.Direction;
+
+public class ArtifactMapPlanTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final String ARTIFACT_MAP =
+        "{\"artifactType\":\"SEISSUE\",\"mapType\":\"SOURCE\",\"attributeMaps\":["
+        + "{\"attributeName\":\"summary\",\"attributeType\":\"STRING\",\"genericName\":\"title\"},"
+        + "{\"attributeName\":\"created\",\"attributeType\":\"DATE\",\"genericName\":\"create_date\",\"attributeTraits\":{\"PATTERN\":\"yyyy-MM-dd HH:mm:ss\"}},"
+        + "{\"attributeName\":\"badDate\",\"attributeType\":\"DATE\",\"genericName\":\"bad_date\",\"attributeTraits\":{\"PATTERN\":\"yyyy-MM-dd {\"}},"
+        + "{\"attributeName\":\"sev\",\"attributeType\":\"ENUM\",\"genericName\":\"severity\","
+        +   "\"toGenericValueMap\":["
+        +     "{\"resourceSide\":\"TARGET\",\"attributeValue\":\"1\",\"genericValue\":\"wrong-side\"},"
+        +     "{\"resourceSide\":\"SOURCE\",\"attributeValue\":\"1\",\"genericValue\":\"critical\"},"
+        +     "{\"resourceSide\":\"SOURCE\",\"attributeValue\":\"1\",\"genericValue\":\"shadowed\"}],"
+        +   "\"fromGenericValueMap\":["
+        +     "{\"resourceSide\":\"SOURCE\",\"attributeValue\":\"wrong-side\",\"genericValue\":\"critical\"},"
+        +     "{\"resourceSide\":\"TARGET\",\"attributeValue\":\"Sev1\",\"genericValue\":\"critical\"}]}"
+        + "]}";
+
+    private ArtifactMap artifactMap;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        artifactMap = mapper.readValue(ARTIFACT_MAP, ArtifactMap.class);
+    }
+
+    @Test
+    public void testNormalizePlan() throws Exception {
+        List<AttributeConverter> converters = ArtifactMapPlan.compile(artifactMap, Direction.NORMALIZE).getConverters();
+        Assertions.assertEquals(4, converters.size());
+
+        AttributeConverter summary = converters.get(0);
+        Assertions.assertEquals("summary", summary.getFromName());
+        Assertions.assertEquals("title", summary.getToName());
+        Assertions.assertEquals("Some title", summary.convert("Some title"));
+
+        AttributeConverter created = converters.get(1);
+        Assertions.assertEquals(Instant.parse("2026-10-18T08:30:00Z"), created.convert("2026-10-18 08:30:00"));
+        Assertions.assertThrows(BrixException.class, () -> created.convert("not a date"));
+
+        // An invalid pattern does not fail the plan, only the conversion of a value.
+        Assertions.assertThrows(BrixException.class, () -> converters.get(2).convert("2026-10-18"));
+
+        AttributeConverter severity = converters.get(3);
+        Assertions.assertEquals("critical", severity.convert("1"));
+        Assertions.assertEquals("2", severity.convert(2));
+        Assertions.assertNull(severity.convert(null));
+    }
+
+    @Test
+    public void testDenormalizePlan() throws Exception {
+        List<AttributeConverter> converters = ArtifactMapPlan.compile(artifactMap, Direction.DENORMALIZE).getConverters();
+
+        AttributeConverter summary = converters.get(0);
+        Assertions.assertEquals("title", summary.getFromName());
+        Assertions.assertEquals("summary", summary.getToName());
+
+        Assertions.assertEquals("2026-10-18 08:30:00", converters.get(1).convert(Instant.parse("2026-10-18T08:30:00Z")));
+
+        AttributeConverter severity = converters.get(3);
+        Assertions.assertEquals("Sev1", severity.convert("critical"));
+        Assertions.assertEquals("unknown", severity.convert("unknown"));
+    }
+}
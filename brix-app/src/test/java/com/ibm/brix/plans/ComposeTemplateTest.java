@@ -0,0 +1,96 @@
+//=============================================================================
+//* Name:         ComposeTemplateTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Compose Template Test
+//*
+//* Description:  This class checks parsing and rendering of COMPOSE trait
+//*               templates: attribute references, functions, escapes and
+//*               the errors reported for malformed templates.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.enums.AttributeType;
+import com.ibm.brix.model.GenericArtifact;
+
+public class ComposeTemplateTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private GenericArtifact artifact;
+
+    @BeforeEach
+    public void setUp() {
+        artifact = new GenericArtifact();
+        artifact.addAttribute("project", "brix", new HashMap<>(), AttributeType.STRING);
+        artifact.addAttribute("number", 42L, new HashMap<>(), AttributeType.LONG);
+        artifact.addAttribute("summary", "  Sync fails for large payloads  ", new HashMap<>(), AttributeType.STRING);
+        artifact.addAttribute("owner", null, new HashMap<>(), AttributeType.STRING);
+    }
+
+    @Test
+    public void testReferencesAndLiterals() throws Exception {
+        Assertions.assertEquals("brix-42", ComposeTemplate.parse("{project}-{number}").render(artifact));
+        Assertions.assertEquals("plain text", ComposeTemplate.parse("plain text").render(artifact));
+        Assertions.assertEquals("", ComposeTemplate.parse("").render(artifact));
+        Assertions.assertEquals("owner=", ComposeTemplate.parse("owner={owner}").render(artifact));
+        Assertions.assertEquals("missing=", ComposeTemplate.parse("missing={ no_such_attribute }").render(artifact));
+    }
+
+    @Test
+    public void testFunctions() throws Exception {
+        Assertions.assertEquals("BRIX-42", ComposeTemplate.parse("{project|upper}-{number}").render(artifact));
+        Assertions.assertEquals("Sync fails", ComposeTemplate.parse("{summary|trim|truncate:10}").render(artifact));
+        Assertions.assertEquals("unassigned", ComposeTemplate.parse("{owner|default:unassigned}").render(artifact));
+        Assertions.assertEquals("brix", ComposeTemplate.parse("{project|default:unassigned|lower}").render(artifact));
+    }
+
+    @Test
+    public void testEscapes() throws Exception {
+        Assertions.assertEquals("{brix}", ComposeTemplate.parse("{{{project}}}").render(artifact));
+        Assertions.assertEquals("a}b{c", ComposeTemplate.parse("a}}b{{c").render(artifact));
+    }
+
+    @Test
+    public void testRenderSeesCurrentValues() throws Exception {
+        ComposeTemplate template = ComposeTemplate.parse("{project}");
+        artifact.setAttributeValue("project", "other");
+        Assertions.assertEquals("other", template.render(artifact));
+    }
+
+    @Test
+    public void testMalformedTemplates() {
+        Assertions.assertThrows(BrixException.class, () -> ComposeTemplate.parse("{project"));
+        Assertions.assertThrows(BrixException.class, () -> ComposeTemplate.parse("project}"));
+        Assertions.assertThrows(BrixException.class, () -> ComposeTemplate.parse("{}"));
+        Assertions.assertThrows(BrixException.class, () -> ComposeTemplate.parse("{project|reverse}"));
+        Assertions.assertThrows(BrixException.class, () -> ComposeTemplate.parse("{project|truncate:x}"));
+        Assertions.assertThrows(BrixException.class, () -> ComposeTemplate.parse("{project|default}"));
+        Assertions.assertThrows(BrixException.class, () -> ComposeTemplate.parse(null));
+    }
+}
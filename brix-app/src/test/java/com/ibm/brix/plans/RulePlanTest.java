@@ -0,0 +1,176 @@
+//=============================================================================
+//* Name:         RulePlanTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Rule Plan Test
+//*
+//* Description:  This class checks that asserting only the candidate Rules
+//*               selected by the RulePlan's attribute index gives the same
+//*               Rules, in the same order, as asserting every Rule.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Test that CLASS conditions are rejected.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.enums.AttributeType;
+import com.ibm.brix.common.model.BRoute;
+import com.ibm.brix.model.BRouteList;
+import com.ibm.brix.model.GenericArtifact;
+
+public class RulePlanTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final int ATTRIBUTE_COUNT = 12;
+
+    private RulePlan rulePlan;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        BRoute broute = newMapper().readValue(generateBRoute(), BRouteList.class).getTheBRouteList().get(0);
+        rulePlan = RulePlan.compile(broute);
+    }
+
+    private static ObjectMapper newMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
+    }
+
+    @Test
+    public void testCandidatesAssertSameRulesAsFullPlan() throws Exception {
+        Random random = new Random(20261018L);
+        for (int run = 0; run < 500; run++) {
+            GenericArtifact source = randomArtifact(random);
+            GenericArtifact target = randomArtifact(random);
+            Assertions.assertEquals(assertAll(source, target), assertCandidates(source, target), "run " + run);
+        }
+    }
+
+    @Test
+    public void testUnguardedRulesAreAlwaysCandidates() {
+        BitSet candidates = rulePlan.selectCandidates(new GenericArtifact(), new GenericArtifact());
+        for (int i = 0; i < rulePlan.size(); i++) {
+            Assertions.assertEquals(rulePlan.getRules().get(i).getGuard() == null, candidates.get(i), "rule " + i);
+        }
+    }
+
+    @Test
+    public void testMissingArtifactKeepsGuardedRules() {
+        BitSet candidates = rulePlan.selectCandidates(null, new GenericArtifact());
+        Assertions.assertTrue(candidates.cardinality() > rulePlan.selectCandidates(new GenericArtifact(), new GenericArtifact()).cardinality());
+    }
+
+    @Test
+    public void testClassConditionIsRejected() throws Exception {
+        String json = generateBRoute().replaceFirst("\"predicateType\":\"ATTRIBUTE\"", "\"predicateType\":\"CLASS\"");
+        BRoute broute = newMapper().readValue(json, BRouteList.class).getTheBRouteList().get(0);
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> RulePlan.compile(broute));
+        Assertions.assertTrue(e.getMessage().contains("CLASS"));
+    }
+
+    private List<String> assertAll(GenericArtifact source, GenericArtifact target) throws BrixException {
+        BitSet all = new BitSet();
+        all.set(0, rulePlan.size());
+        return assertRules(all, source, target);
+    }
+
+    private List<String> assertCandidates(GenericArtifact source, GenericArtifact target) throws BrixException {
+        return assertRules(rulePlan.selectCandidates(source, target), source, target);
+    }
+
+    private List<String> assertRules(BitSet selected, GenericArtifact source, GenericArtifact target) throws BrixException {
+        List<String> asserted = new ArrayList<>();
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            CompiledRule compiledRule = rulePlan.getRules().get(i);
+            boolean ruleAsserted = true;
+            for (CompiledRuleCondition ruleCondition : compiledRule.getRuleConditions()) {
+                if (!ruleCondition.assertCondition(source, target, null)) {
+                    ruleAsserted = false;
+                    break;
+                }
+            }
+            if (ruleAsserted) {
+                asserted.add(compiledRule.getRule().getName());
+            }
+        }
+        return asserted;
+    }
+
+    private static GenericArtifact randomArtifact(Random random) {
+        GenericArtifact artifact = new GenericArtifact();
+        for (int a = 0; a < ATTRIBUTE_COUNT; a++) {
+            int pick = random.nextInt(4);
+            if (pick == 1) {
+                artifact.addAttribute("attr_" + a, "v" + a, new HashMap<>(), AttributeType.STRING);
+            } else if (pick == 2) {
+                artifact.addAttribute("attr_" + a, "other", new HashMap<>(), AttributeType.STRING);
+            } else if (pick == 3) {
+                artifact.addAttribute("attr_" + a, null, new HashMap<>(), AttributeType.STRING);
+            }
+        }
+        return artifact;
+    }
+
+    /*
+     * One BRoute mixing the Rule shapes the index has to handle: guarded on the source side, guarded on
+     * the target side, an EXISTS condition that is not first, and a Rule with no EXISTS condition at all.
+     */
+    private static String generateBRoute() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"theBRouteList\":[{")
+          .append("\"sourceEndpoint\":{\"type\":\"seendpoint\",\"name\":\"Source\",\"description\":\"test\",\"systemType\":\"SIMPLEEP\",\"address\":\"http://source.example.com:8000/\"},")
+          .append("\"targetEndpoint\":{\"type\":\"seendpoint\",\"name\":\"Target\",\"description\":\"test\",\"systemType\":\"SIMPLEEP\",\"address\":\"http://target.example.com:9000/\"},")
+          .append("\"rules\":[");
+        for (int i = 0; i < ATTRIBUTE_COUNT * 2; i++) {
+            int attr = i % ATTRIBUTE_COUNT;
+            String side = (i % 3 == 0) ? "TARGET" : "SOURCE";
+            int existsSequence = (i % 4 == 0) ? 3 : 1;
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"name\":\"Rule ").append(i).append("\",\"description\":\"test\",\"sequence\":").append(i + 1).append(",\"ruleConditions\":[")
+              .append("{\"ruleConditionName\":\"attr_").append(attr).append(" matches\",\"sequence\":2,\"predicateSubject\":\"attr_").append(attr)
+              .append("\",\"predicateType\":\"ATTRIBUTE\",\"predicatePattern\":\"^v[0-9]+$\",\"ruleConditionOperator\":\"MATCHREGEX\",\"resourceSide\":\"").append(side).append("\"}");
+            if (i % 5 != 0) {
+                sb.append(",{\"ruleConditionName\":\"attr_").append(attr).append(" exists\",\"sequence\":").append(existsSequence).append(",\"predicateSubject\":\"attr_").append(attr)
+                  .append("\",\"predicateType\":\"ATTRIBUTE\",\"predicatePattern\":\"\",\"ruleConditionOperator\":\"EXISTS\",\"resourceSide\":\"").append(side).append("\"}");
+            }
+            sb.append("],\"ruleActionConfigs\":[]}");
+        }
+        sb.append("]}]}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,115 @@
+//=============================================================================
+//* Name:         SourceFingerprintTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Source Fingerprint Test
+//*
+//* Description:  This class provides tests for the fingerprint of the mapped
+//*               source attributes.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Test that a changed mapping changes the
+//*                                  fingerprint.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.plans;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.ibm.brix.common.enums.AttributeType;
+import com.ibm.brix.common.model.ArtifactMap;
+import com.ibm.brix.model.GenericArtifact;
+import com.ibm.brix.plans.AttributeConverter.Direction;
+
+public class SourceFingerprintTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final String ARTIFACT_MAP =
+        "{\"artifactType\":\"SEISSUE\",\"mapType\":\"SOURCE\",\"attributeMaps\":["
+        + "{\"attributeName\":\"summary\",\"attributeType\":\"STRING\",\"genericName\":\"title\"},"
+        + "{\"attributeName\":\"sev\",\"attributeType\":\"STRING\",\"genericName\":\"severity\"}"
+        + "]}";
+
+    private List<ArtifactMapPlan> plans;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        plans = List.of(compile(ARTIFACT_MAP, Direction.NORMALIZE));
+    }
+
+    private static ArtifactMapPlan compile(String artifactMap, Direction direction) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return ArtifactMapPlan.compile(mapper.readValue(artifactMap, ArtifactMap.class), direction);
+    }
+
+    private static GenericArtifact artifact(String summary, String sev, String unmapped) {
+        GenericArtifact artifact = new GenericArtifact();
+        artifact.addAttribute("summary", summary, null, AttributeType.STRING);
+        artifact.addAttribute("sev", sev, null, AttributeType.STRING);
+        artifact.addAttribute("updated", unmapped, null, AttributeType.STRING);
+        return artifact;
+    }
+
+    @Test
+    public void testUnmappedAttributesAreIgnored() {
+        String fingerprint = SourceFingerprint.compute(plans, artifact("Some title", "1", "2026-10-18 08:30:00"));
+        Assertions.assertEquals(64, fingerprint.length());
+        Assertions.assertEquals(fingerprint, SourceFingerprint.compute(plans, artifact("Some title", "1", "2026-10-18 09:45:00")));
+    }
+
+    @Test
+    public void testMappedAttributeChangesFingerprint() {
+        String fingerprint = SourceFingerprint.compute(plans, artifact("Some title", "1", null));
+        Assertions.assertNotEquals(fingerprint, SourceFingerprint.compute(plans, artifact("Some title", "2", null)));
+        Assertions.assertNotEquals(fingerprint, SourceFingerprint.compute(plans, artifact("Some title", null, null)));
+        // Values are not run together: "ab"+"c" differs from "a"+"bc".
+        Assertions.assertNotEquals(SourceFingerprint.compute(plans, artifact("ab", "c", null)),
+            SourceFingerprint.compute(plans, artifact("a", "bc", null)));
+    }
+
+    @Test
+    public void testChangedMappingChangesFingerprint() throws Exception {
+        GenericArtifact artifact = artifact("Some title", "1", null);
+        String fingerprint = SourceFingerprint.compute(plans, artifact);
+        Assertions.assertEquals(fingerprint, SourceFingerprint.compute(List.of(compile(ARTIFACT_MAP, Direction.NORMALIZE)), artifact));
+
+        // The same source attributes, written to another generic attribute.
+        String renamed = ARTIFACT_MAP.replace("\"genericName\":\"severity\"", "\"genericName\":\"priority\"");
+        Assertions.assertNotEquals(fingerprint, SourceFingerprint.compute(List.of(compile(renamed, Direction.NORMALIZE)), artifact));
+
+        // A trait added to a converter.
+        String limited = ARTIFACT_MAP.replace("\"genericName\":\"title\"}", "\"genericName\":\"title\",\"attributeTraits\":{\"MAXLEN\":\"80\"}}");
+        Assertions.assertNotEquals(fingerprint, SourceFingerprint.compute(List.of(compile(limited, Direction.NORMALIZE)), artifact));
+
+        // A changed target mapping, which reads no source attribute.
+        String targetMap = ARTIFACT_MAP.replace("\"mapType\":\"SOURCE\"", "\"mapType\":\"TARGET\"");
+        String withTarget = SourceFingerprint.compute(List.of(plans.get(0), compile(targetMap, Direction.DENORMALIZE)), artifact);
+        Assertions.assertNotEquals(fingerprint, withTarget);
+        Assertions.assertNotEquals(withTarget, SourceFingerprint.compute(List.of(plans.get(0), compile(renamed.replace("\"mapType\":\"SOURCE\"", "\"mapType\":\"TARGET\""), Direction.DENORMALIZE)), artifact));
+    }
+}
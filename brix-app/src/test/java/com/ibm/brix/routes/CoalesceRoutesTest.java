@@ -0,0 +1,123 @@
+//=============================================================================
+//* Name:         CoalesceRoutesTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  Event Coalescing Routes test
+//*
+//* Description:  This class runs a burst of events through the coalescing
+//*               route and checks that only the latest is sent on, once the
+//*               quiet period has passed, and that the transactions of the
+//*               absorbed events are completed as superseded.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.EventCoalescer;
+import com.ibm.brix.beans.EventCoalescerTest;
+import com.ibm.brix.beans.TransactionBean;
+import com.ibm.brix.common.CommonConstants;
+import com.ibm.brix.common.enums.Status;
+import com.ibm.brix.common.model.Transaction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CoalesceRoutesTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private CamelContext context;
+    private final List<String> superseded = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        context = new DefaultCamelContext();
+        Properties properties = new Properties();
+        properties.setProperty("brix.coalesce.enabled", "true");
+        properties.setProperty("brix.coalesce.next", "mock:next");
+        context.getPropertiesComponent().setInitialProperties(properties);
+
+        EventCoalescer coalescer = EventCoalescerTest.newCoalescer(new SimpleMeterRegistry(), Duration.ofMillis(300), Duration.ofSeconds(10),
+            new TransactionBean() {
+                @Override
+                public Transaction updateStatus(Exchange exchange, String statusMessage) {
+                    Assertions.assertEquals(Status.COMPLETED, exchange.getIn().getHeader(Constants.BRIX_TRX_STATUS, Status.class));
+                    superseded.add(exchange.getIn().getHeader(Constants.BRIX_TRX_ID, String.class));
+                    return null;
+                }
+            });
+
+        CoalesceRoutes routes = new CoalesceRoutes();
+        routes.coalescer = coalescer;
+        context.addRoutes(routes);
+        context.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    public void testBurstIsCoalescedToLatest() throws Exception {
+        MockEndpoint next = context.getEndpoint("mock:next", MockEndpoint.class);
+        next.expectedMessageCount(1);
+        next.expectedBodiesReceived("save 3");
+        next.expectedHeaderReceived(Constants.BRIX_COALESCED_EVENTS, 3);
+
+        ProducerTemplate producer = context.createProducerTemplate();
+        for (int i = 1; i <= 3; i++) {
+            producer.sendBodyAndHeaders("direct:" + Constants.COALESCE_ROUTE, "save " + i,
+                Map.of(CommonConstants.HEADER_JMSX_GROUP_ID, "https://se.example.com|7", Constants.BRIX_TRX_ID, "trx-" + i));
+        }
+
+        next.assertIsSatisfied(5000);
+        Assertions.assertEquals(List.of("trx-1", "trx-2"), superseded);
+    }
+
+    @Test
+    public void testOtherArtifactsAreNotCoalesced() throws Exception {
+        MockEndpoint next = context.getEndpoint("mock:next", MockEndpoint.class);
+        next.expectedBodiesReceivedInAnyOrder("a", "b");
+
+        ProducerTemplate producer = context.createProducerTemplate();
+        producer.sendBodyAndHeader("direct:" + Constants.COALESCE_ROUTE, "a", CommonConstants.HEADER_JMSX_GROUP_ID, "https://se.example.com|1");
+        producer.sendBodyAndHeader("direct:" + Constants.COALESCE_ROUTE, "b", CommonConstants.HEADER_JMSX_GROUP_ID, "https://se.example.com|2");
+
+        next.assertIsSatisfied(5000);
+        Assertions.assertTrue(superseded.isEmpty());
+    }
+}
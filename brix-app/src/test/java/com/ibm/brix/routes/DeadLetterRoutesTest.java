@@ -0,0 +1,187 @@
+//=============================================================================
+//* Name:         DeadLetterRoutesTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Dead Letter Routes Test
+//*
+//* Description:  This class calls the /deadletters REST routes over HTTP on
+//*               the H2 test database: they need the API key, list and
+//*               filter the stored dead letters, and replay only those a
+//*               filter or all=true selects, at most max-batch at a time.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.routes;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibm.brix.Constants;
+import com.ibm.brix.TestTables;
+import com.ibm.brix.beans.DeadLetterStore;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+@QuarkusTest
+@TestProfile(DeadLetterRoutesTest.DeadLetterProfile.class)
+public class DeadLetterRoutesTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final String API_KEY = "test-key";
+    private static final String TEST_ROUTE = "test-deadletter";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Dead letters on, with an API key and a batch of two.
+     */
+    public static class DeadLetterProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "brix.deadletter.enabled", "true",
+                "brix.deadletter.replay.max-batch", "2",
+                "api.key", API_KEY);
+        }
+    }
+
+    // The bodies the replays sent to the test route.
+    private static final List<String> received = new CopyOnWriteArrayList<>();
+
+    @TestHTTPResource(Constants.REST_DEADLETTERS)
+    URL deadLetters;
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    DeadLetterStore deadLetterStore;
+
+    @Inject
+    EntityManager entityManager;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        received.clear();
+        TestTables.createDeadLetter(entityManager);
+        if (context.getRoute(TEST_ROUTE) == null) {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:" + TEST_ROUTE)
+                        .routeId(TEST_ROUTE)
+                        .process(exchange -> received.add(exchange.getIn().getBody(String.class)));
+                }
+            });
+        }
+        for (int i = 1; i <= 3; i++) {
+            Assertions.assertNotNull(deadLetterStore.store("trx-dl-" + i, "direct:" + TEST_ROUTE, "execute-actions", ("save " + i).getBytes(StandardCharsets.UTF_8),
+                "{\"" + Constants.BRIX_TRX_ID + "\":\"trx-dl-" + i + "\"}", 8, "java.io.IOException: Connection reset"));
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path, String apiKey) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(deadLetters.toString() + path))
+            .method(method, HttpRequest.BodyPublishers.noBody());
+        if (apiKey != null) {
+            request.header(Constants.API_KEY_HEADER, apiKey);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static List<Map<String, Object>> list(HttpResponse<String> response) throws Exception {
+        Assertions.assertEquals(200, response.statusCode(), response.body());
+        return MAPPER.readValue(response.body(), new TypeReference<List<Map<String, Object>>>() {});
+    }
+
+    private static Map<String, Object> counts(HttpResponse<String> response) throws Exception {
+        Assertions.assertEquals(200, response.statusCode(), response.body());
+        return MAPPER.readValue(response.body(), new TypeReference<Map<String, Object>>() {});
+    }
+
+    @Test
+    public void testApiKeyIsRequired() throws Exception {
+        Assertions.assertEquals(401, send("GET", "", null).statusCode());
+        Assertions.assertEquals(401, send("GET", "", "wrong").statusCode());
+        Assertions.assertEquals(401, send("POST", "/replay?all=true", null).statusCode());
+        Assertions.assertTrue(received.isEmpty());
+    }
+
+    @Test
+    public void testListAndFilter() throws Exception {
+        List<Map<String, Object>> all = list(send("GET", "", API_KEY));
+        Assertions.assertEquals(3, all.size());
+        Assertions.assertEquals("trx-dl-1", all.get(0).get("trxId"));
+        Assertions.assertEquals(DeadLetterStore.NEW, all.get(0).get("status"));
+        Assertions.assertEquals(6, all.get(0).get("bodySize"));
+
+        List<Map<String, Object>> one = list(send("GET", "?trxId=trx-dl-2&status=new", API_KEY));
+        Assertions.assertEquals(1, one.size());
+        Assertions.assertEquals("trx-dl-2", one.get(0).get("trxId"));
+
+        Assertions.assertEquals(2, list(send("GET", "?limit=2&offset=1", API_KEY)).size());
+        Assertions.assertEquals(400, send("GET", "?since=yesterday", API_KEY).statusCode());
+    }
+
+    @Test
+    public void testReplayNeedsFilterOrAll() throws Exception {
+        HttpResponse<String> refused = send("POST", "/replay", API_KEY);
+        Assertions.assertEquals(400, refused.statusCode());
+        Assertions.assertTrue(refused.body().contains(DeadLetterStore.PARAM_ALL + "=true"), refused.body());
+        Assertions.assertTrue(received.isEmpty());
+
+        Map<String, Object> filtered = counts(send("POST", "/replay?trxId=trx-dl-2", API_KEY));
+        Assertions.assertEquals(1, filtered.get("replayed"));
+        Assertions.assertEquals(List.of("save 2"), received);
+        Assertions.assertEquals(DeadLetterStore.REPLAYED, list(send("GET", "?trxId=trx-dl-2", API_KEY)).get(0).get("status"));
+
+        // All the NEW ones, a batch of at most two at a time.
+        Map<String, Object> batch = counts(send("POST", "/replay?all=true&limit=10", API_KEY));
+        Assertions.assertEquals(2, batch.get("selected"));
+        Assertions.assertEquals(2, batch.get("limit"));
+        Assertions.assertEquals(0, counts(send("POST", "/replay?all=true", API_KEY)).get("selected"));
+        Assertions.assertEquals(3, received.size());
+        Assertions.assertEquals(0L, QuarkusTransaction.requiringNew().call(() -> ((Number)entityManager.createNativeQuery(
+            "SELECT count(*) FROM public.dead_letter WHERE status <> '" + DeadLetterStore.REPLAYED + "'").getSingleResult()).longValue()));
+    }
+}
@@ -0,0 +1,85 @@
+//=============================================================================
+//* Name:         ApiKeyCheckTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX API Key Check Test
+//*
+//* Description:  This class provides tests for the API key check of the
+//*               administrative REST routes.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.util.Optional;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.ExchangeBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.Constants;
+
+public class ApiKeyCheckTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static Exchange exchange(String key) {
+        ExchangeBuilder builder = ExchangeBuilder.anExchange(new DefaultCamelContext());
+        if (key != null) {
+            builder.withHeader(Constants.API_KEY_HEADER, key);
+        }
+        return builder.build();
+    }
+
+    private static ApiKeyCheck check(String apiKey) {
+        ApiKeyCheck check = new ApiKeyCheck();
+        check.apiKey = Optional.ofNullable(apiKey);
+        return check;
+    }
+
+    @Test
+    public void testMatchingKeyPasses() {
+        Exchange exchange = exchange("secret");
+        check("secret").process(exchange);
+        Assertions.assertFalse(exchange.isRouteStop());
+        Assertions.assertNull(exchange.getIn().getHeader(Constants.API_KEY_HEADER));
+    }
+
+    @Test
+    public void testWrongOrMissingKeyIsRefused() {
+        for (String key : new String[] { "wrong", null }) {
+            Exchange exchange = exchange(key);
+            check("secret").process(exchange);
+            Assertions.assertTrue(exchange.isRouteStop());
+            Assertions.assertEquals(401, exchange.getIn().getHeader(Exchange.HTTP_RESPONSE_CODE));
+        }
+    }
+
+    @Test
+    public void testUnconfiguredKeyRefusesAll() {
+        for (String apiKey : new String[] { null, "", "<API.KEY>" }) {
+            Exchange exchange = exchange("<API.KEY>");
+            check(apiKey).process(exchange);
+            Assertions.assertTrue(exchange.isRouteStop());
+            Assertions.assertEquals(503, exchange.getIn().getHeader(Exchange.HTTP_RESPONSE_CODE));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+//=============================================================================
+//* Name:         BrixPredicateTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Predicate Utility Test
+//*
+//* Description:  This class checks that predicates compiled with
+//*               BrixPredicate.compile give the same results, and report the
+//*               same errors, as BrixPredicate.assertCondition.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.enums.RuleOperator;
+import com.ibm.brix.utils.BrixPredicate.CompiledPredicate;
+
+public class BrixPredicateTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final Object[] SUBJECT_VALUES = {
+        null, "", "abc", "ABC", "true", "FALSE", "42", "EWM-123", "Fix (EWM-77)", 42, 42L, Boolean.TRUE, Boolean.FALSE, 3.5d
+    };
+
+    private static final String[] PATTERNS = {
+        null, "", "abc", "42", "b", "(?:^|\\s)(?i)EWM-([0-9]+)(?:$|\\s)|\\((?i)EWM-([0-9]+)\\)"
+    };
+
+    @Test
+    public void testCompiledMatchesAssertCondition() throws Exception {
+        for (RuleOperator operator : RuleOperator.values()) {
+            for (String pattern : PATTERNS) {
+                CompiledPredicate predicate = BrixPredicate.compile(operator, pattern);
+                for (Object value : SUBJECT_VALUES) {
+                    boolean expectedError = false;
+                    boolean expected = false;
+                    try {
+                        expected = BrixPredicate.assertCondition("subject", value, operator, pattern);
+                    } catch (BrixException e) {
+                        expectedError = true;
+                    }
+
+                    String context = operator + " '" + pattern + "' on " + value;
+                    if (expectedError) {
+                        Assertions.assertThrows(BrixException.class, () -> predicate.test(value), context);
+                    } else {
+                        Assertions.assertEquals(expected, predicate.test(value), context);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidRegexReportedOnlyForStrings() throws Exception {
+        CompiledPredicate predicate = BrixPredicate.compile(RuleOperator.MATCHREGEX, "([unclosed");
+        Assertions.assertFalse(predicate.test(null));
+        Assertions.assertFalse(predicate.test(42));
+        Assertions.assertThrows(BrixException.class, () -> predicate.test("text"));
+    }
+}
@@ -0,0 +1,161 @@
+//=============================================================================
+//* Name:         EndpointClientsTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Endpoint Clients Test
+//*
+//* Description:  This class provides tests for the pooled endpoint clients and
+//*               the direct:endpoint-request route, against a local HTTP
+//*               server standing in for an endpoint system.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.enums.SystemType;
+import com.ibm.brix.utils.EndpointClients.EndpointResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+
+import jakarta.inject.Inject;
+
+@QuarkusTest
+public class EndpointClientsTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final String ETAG = "\"v1\"";
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    EndpointClients endpointClients;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private HttpServer server;
+    private String baseUri;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // Serves /item/<id> with an ETag, and 404 for anything else.
+        server = vertx.createHttpServer()
+            .connectionHandler(connection -> connections.incrementAndGet())
+            .requestHandler(request -> {
+                if (!request.path().startsWith("/item/")) {
+                    request.response().setStatusCode(404).end();
+                }
+                else if (ETAG.equals(request.getHeader("If-None-Match"))) {
+                    request.response().setStatusCode(304).putHeader("ETag", ETAG).end();
+                }
+                else {
+                    // Answer late, so that concurrent requests overlap.
+                    vertx.setTimer(5, id -> request.response().putHeader("ETag", ETAG).putHeader("Content-Type", "application/json")
+                        .end("{\"id\":\"" + request.path().substring(6) + "\"}"));
+                }
+            })
+            .listen(0)
+            .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        baseUri = "http://localhost:" + server.actualPort();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        server.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testRequestRoute() throws Exception {
+        Exchange reply = producerTemplate.request("direct:" + Constants.ENDPOINT_REQUEST_ROUTE, exchange -> {
+            exchange.getIn().setHeader(Constants.BRIX_ENDPOINT_EXTRACT_URI, baseUri + "/item/23");
+            exchange.getIn().setHeader(Constants.BRIX_ENDPOINT_SYSTEM_TYPE, SystemType.SIMPLEEP);
+        });
+        Assertions.assertNull(reply.getException());
+        Assertions.assertEquals(200, reply.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE));
+        Assertions.assertEquals(ETAG, reply.getMessage().getHeader("ETag"));
+        Assertions.assertEquals("{\"id\":\"23\"}", reply.getMessage().getBody(String.class));
+
+        // A conditional fetch of an unchanged artifact is not an error.
+        reply = producerTemplate.request("direct:" + Constants.ENDPOINT_REQUEST_ROUTE, exchange -> {
+            exchange.getIn().setHeader(Exchange.HTTP_URI, baseUri + "/item/23");
+            exchange.getIn().setHeader("If-None-Match", ETAG);
+        });
+        Assertions.assertNull(reply.getException());
+        Assertions.assertEquals(304, reply.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE));
+
+        Timer latency = meterRegistry.find(EndpointClients.METRIC_PREFIX + ".requests").tag("endpoint", baseUri).tag("outcome", "2xx").timer();
+        Assertions.assertNotNull(latency);
+        Assertions.assertTrue(latency.count() >= 1);
+    }
+
+    @Test
+    public void testErrorStatusFailsExchange() {
+        Exchange reply = producerTemplate.request("direct:" + Constants.ENDPOINT_REQUEST_ROUTE,
+            exchange -> exchange.getIn().setHeader(Exchange.HTTP_URI, baseUri + "/missing"));
+        Assertions.assertInstanceOf(BrixException.class, reply.getException());
+        Assertions.assertEquals(404, reply.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE));
+    }
+
+    @Test
+    public void testConnectionsAreReused() throws Exception {
+        List<CompletableFuture<EndpointResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            responses.add(endpointClients.send(SystemType.SIMPLEEP, "GET", baseUri + "/item/" + i, Map.of("Accept", "application/json"), null));
+        }
+        for (int i = 0; i < responses.size(); i++) {
+            EndpointResponse response = responses.get(i).get(30, TimeUnit.SECONDS);
+            Assertions.assertEquals(200, response.getStatusCode());
+            Assertions.assertEquals("{\"id\":\"" + i + "\"}", new String(response.getBody(), StandardCharsets.UTF_8));
+        }
+        // The requests share the endpoint's pool rather than a connection each.
+        Assertions.assertTrue(connections.get() <= 20, "connections=" + connections.get());
+    }
+
+    @Test
+    public void testInvalidUri() {
+        Assertions.assertThrows(BrixException.class, () -> endpointClients.send(SystemType.SIMPLEEP, "GET", "item/23", null, null));
+    }
+}
@@ -0,0 +1,240 @@
+//=============================================================================
+//* Name:         EndpointGuardsTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Endpoint Guards Test
+//*
+//* Description:  This class provides tests for the endpoint bulkheads, circuit
+//*               breakers and the parking of refused exchanges.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Parked exchanges are held and released
+//*                                  through the RetryScheduler.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.CircuitOpenException;
+import com.ibm.brix.Constants;
+import com.ibm.brix.beans.RetryScheduler;
+import com.ibm.brix.utils.EndpointGuards.CallKind;
+import com.ibm.brix.utils.EndpointGuards.CircuitState;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class EndpointGuardsTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final String URI = "https://target.example.com/api/items/23";
+
+    private static final String ENDPOINT = "https://target.example.com";
+
+    // The exchanges the RetryScheduler was asked to hold, and the counts released.
+    private final List<String> held = new CopyOnWriteArrayList<>();
+    private final List<Integer> released = new CopyOnWriteArrayList<>();
+    private volatile boolean holdFails;
+    private CamelContext context;
+    private SimpleMeterRegistry meterRegistry;
+    private EndpointGuards guards;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        context = new DefaultCamelContext();
+        context.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        guards = new EndpointGuards();
+        guards.meterRegistry = meterRegistry;
+        guards.retryScheduler = new RetryScheduler() {
+            @Override
+            public boolean hold(Exchange exchange, Throwable cause, String endpoint) {
+                if (holdFails) {
+                    return false;
+                }
+                held.add(exchange.getIn().getBody(String.class) + " " + endpoint);
+                return true;
+            }
+
+            @Override
+            public int release(String endpoint, int count) {
+                Assertions.assertEquals(ENDPOINT, endpoint);
+                released.add(count);
+                return count;
+            }
+        };
+        guards.fetchMaxConcurrent = 2;
+        guards.actionMaxConcurrent = 2;
+        guards.bulkheadQueueSize = 1;
+        guards.failureThreshold = 3;
+        guards.slowCallThreshold = Duration.ofSeconds(10);
+        guards.openDuration = Duration.ofMillis(300);
+        guards.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        guards.shutdown();
+        context.stop();
+    }
+
+    private CompletableFuture<String> succeed() {
+        return guards.call(URI, CallKind.FETCH, () -> CompletableFuture.completedFuture("ok"), null);
+    }
+
+    private CompletableFuture<String> fail() {
+        return guards.call(URI, CallKind.FETCH, () -> CompletableFuture.completedFuture("500"), "500"::equals);
+    }
+
+    private static void awaitState(EndpointGuards guards, CircuitState state) throws InterruptedException {
+        for (int i = 0; i < 100 && guards.getState(URI) != state; i++) {
+            Thread.sleep(20);
+        }
+        Assertions.assertEquals(state, guards.getState(URI));
+    }
+
+    @Test
+    public void testCircuitOpensAndFailsFast() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            fail().get(1, TimeUnit.SECONDS);
+        }
+        Assertions.assertEquals(CircuitState.OPEN, guards.getState(URI));
+
+        AtomicInteger made = new AtomicInteger();
+        CompletableFuture<String> refused = guards.call(URI, CallKind.ACTION, () -> {
+            made.incrementAndGet();
+            return CompletableFuture.completedFuture("ok");
+        }, null);
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> refused.get(1, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(CircuitOpenException.class, e.getCause());
+        Assertions.assertEquals(0, made.get());
+        Assertions.assertEquals(1.0, meterRegistry.get(EndpointGuards.METRIC_PREFIX + ".refused").counter().count());
+
+        // Other endpoints are not affected.
+        Assertions.assertEquals("ok", guards.call("https://source.example.com/api", CallKind.FETCH, () -> CompletableFuture.completedFuture("ok"), null).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testTrialCallClosesCircuit() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            fail().get(1, TimeUnit.SECONDS);
+        }
+        awaitState(guards, CircuitState.HALF_OPEN);
+
+        // A failed trial opens it again; a successful one closes it.
+        fail().get(1, TimeUnit.SECONDS);
+        Assertions.assertEquals(CircuitState.OPEN, guards.getState(URI));
+        awaitState(guards, CircuitState.HALF_OPEN);
+        Assertions.assertEquals("ok", succeed().get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals(CircuitState.CLOSED, guards.getState(URI));
+    }
+
+    @Test
+    public void testBulkheadBoundsConcurrentCalls() throws Exception {
+        List<CompletableFuture<String>> calls = new CopyOnWriteArrayList<>();
+        AtomicInteger started = new AtomicInteger();
+        List<CompletableFuture<String>> results = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(guards.call(URI, CallKind.FETCH, () -> {
+                started.incrementAndGet();
+                CompletableFuture<String> call = new CompletableFuture<>();
+                calls.add(call);
+                return call;
+            }, null));
+        }
+        // Two run, one waits, and the next is refused.
+        Assertions.assertEquals(2, started.get());
+        CompletableFuture<String> refused = guards.call(URI, CallKind.FETCH, () -> CompletableFuture.completedFuture("ok"), null);
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> refused.get(1, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(BrixException.class, e.getCause());
+
+        // Action calls have their own bulkhead.
+        Assertions.assertEquals("ok", guards.call(URI, CallKind.ACTION, () -> CompletableFuture.completedFuture("ok"), null).get(1, TimeUnit.SECONDS));
+
+        calls.get(0).complete("first");
+        Assertions.assertEquals(3, started.get());
+        calls.get(1).complete("second");
+        calls.get(2).complete("third");
+        Assertions.assertEquals("third", results.get(2).get(1, TimeUnit.SECONDS));
+    }
+
+    private Exchange refused(String body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+        exchange.setProperty(Exchange.EXCEPTION_CAUGHT, new CircuitOpenException(ENDPOINT, "OPEN"));
+        return exchange;
+    }
+
+    @Test
+    public void testParkedExchangesAreReleased() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            fail().get(1, TimeUnit.SECONDS);
+        }
+        for (String body : List.of("first", "second")) {
+            Exchange exchange = refused(body);
+            guards.park(exchange);
+            Assertions.assertEquals(true, exchange.getIn().getHeader(Constants.BRIX_PARKED));
+            Assertions.assertTrue(exchange.isRouteStop());
+        }
+        Assertions.assertEquals(List.of("first " + ENDPOINT, "second " + ENDPOINT), held);
+        Assertions.assertEquals(2.0, meterRegistry.get(EndpointGuards.METRIC_PREFIX + ".parked").counter().count());
+        Assertions.assertTrue(released.isEmpty());
+
+        // One is released for the trial call when the circuit half opens, the rest once a call closes it.
+        awaitState(guards, CircuitState.HALF_OPEN);
+        for (int i = 0; i < 50 && released.isEmpty(); i++) {
+            Thread.sleep(20);
+        }
+        Assertions.assertEquals(List.of(1), released);
+        succeed().get(1, TimeUnit.SECONDS);
+        for (int i = 0; i < 50 && released.size() < 2; i++) {
+            Thread.sleep(20);
+        }
+        Assertions.assertEquals(List.of(1, Integer.MAX_VALUE), released);
+    }
+
+    @Test
+    public void testExchangeNotStoredIsNotParked() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            fail().get(1, TimeUnit.SECONDS);
+        }
+        holdFails = true;
+        Exchange exchange = refused("first");
+        Assertions.assertThrows(BrixException.class, () -> guards.park(exchange));
+        Assertions.assertNull(exchange.getIn().getHeader(Constants.BRIX_PARKED));
+        Assertions.assertFalse(exchange.isRouteStop());
+    }
+}
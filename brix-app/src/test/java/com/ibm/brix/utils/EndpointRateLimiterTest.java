@@ -0,0 +1,161 @@
+//=============================================================================
+//* Name:         EndpointRateLimiterTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Endpoint Rate Limiter Test
+//*
+//* Description:  This class provides tests for the per-endpoint token bucket
+//*               and its adaptation to the endpoint's throttling responses.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Test the shared endpoint key.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.BrixException;
+import com.ibm.brix.common.beans.MessageGroupKey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class EndpointRateLimiterTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final String URI = "https://target.example.com/api/items/23";
+
+    private SimpleMeterRegistry meterRegistry;
+    private EndpointRateLimiter limiter;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new EndpointRateLimiter();
+        limiter.meterRegistry = meterRegistry;
+        limiter.enabled = true;
+        limiter.defaultRate = 20;
+        limiter.defaultBurst = 2;
+        limiter.maxQueueSize = 100;
+        limiter.maxWait = Duration.ofSeconds(30);
+        limiter.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        limiter.shutdown();
+    }
+
+    @Test
+    public void testRequestsOverBudgetQueue() throws Exception {
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> permits = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            permits.add(limiter.acquire(URI));
+        }
+        // The burst is free at once; the rest wait for tokens at 20 per second.
+        Assertions.assertTrue(permits.get(0).isDone());
+        Assertions.assertTrue(permits.get(1).isDone());
+        Assertions.assertFalse(permits.get(2).isDone());
+        CompletableFuture.allOf(permits.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 150);
+
+        Assertions.assertEquals(6, meterRegistry.get(EndpointRateLimiter.METRIC_PREFIX + ".wait").tag("endpoint", "https://target.example.com").timer().count());
+        Assertions.assertTrue(meterRegistry.get(EndpointRateLimiter.METRIC_PREFIX + ".wait").timer().max(TimeUnit.MILLISECONDS) > 0);
+    }
+
+    @Test
+    public void testRetryAfterPausesEndpoint() throws Exception {
+        limiter.acquire(URI).get(1, TimeUnit.SECONDS);
+        limiter.onResponse(URI, 429, Map.of("Retry-After", "1"));
+
+        long start = System.nanoTime();
+        CompletableFuture<Void> permit = limiter.acquire(URI);
+        Assertions.assertFalse(permit.isDone());
+        permit.get(5, TimeUnit.SECONDS);
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 900);
+        Assertions.assertEquals(10.0, meterRegistry.get(EndpointRateLimiter.METRIC_PREFIX + ".rate").gauge().value(), 0.001);
+        Assertions.assertEquals(1.0, meterRegistry.get(EndpointRateLimiter.METRIC_PREFIX + ".throttled").counter().count());
+
+        // Successful responses raise the rate back.
+        for (int i = 0; i < 20; i++) {
+            limiter.onResponse(URI, 200, Map.of());
+        }
+        Assertions.assertEquals(20.0, meterRegistry.get(EndpointRateLimiter.METRIC_PREFIX + ".rate").gauge().value(), 0.001);
+    }
+
+    @Test
+    public void testRateLimitHeadersPauseEndpoint() throws Exception {
+        limiter.acquire(URI).get(1, TimeUnit.SECONDS);
+        limiter.onResponse(URI, 200, Map.of("X-RateLimit-Remaining", "0", "X-RateLimit-Reset", "1"));
+
+        long start = System.nanoTime();
+        limiter.acquire(URI).get(5, TimeUnit.SECONDS);
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 900);
+    }
+
+    @Test
+    public void testFullQueueRejects() throws Exception {
+        limiter.defaultRate = 0.1;
+        limiter.defaultBurst = 1;
+        limiter.maxQueueSize = 1;
+        Assertions.assertTrue(limiter.acquire(URI).isDone());
+        Assertions.assertFalse(limiter.acquire(URI).isDone());
+
+        CompletableFuture<Void> rejected = limiter.acquire(URI);
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(BrixException.class, e.getCause());
+
+        // Other endpoints have their own budget.
+        Assertions.assertTrue(limiter.acquire("https://source.example.com/api").isDone());
+    }
+
+    @Test
+    public void testEndpointKey() {
+        Assertions.assertEquals("https://target.example.com:8443", MessageGroupKey.endpointKey("HTTPS://Target.example.com:8443/api/items?id=1"));
+        Assertions.assertEquals("https://target.example.com", MessageGroupKey.endpointKey("https://target.example.com"));
+        Assertions.assertEquals("local", MessageGroupKey.endpointKey("Local"));
+        // Without a scheme it is not an endpoint URI; without an address there is no endpoint.
+        Assertions.assertEquals("//target.example.com:9000", MessageGroupKey.endpointKey("//Target.example.com:9000"));
+        Assertions.assertEquals("", MessageGroupKey.endpointKey(null));
+    }
+
+    @Test
+    public void testRetryAfterDate() {
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(120));
+        Duration retryAfter = EndpointRateLimiter.retryAfter(date).orElseThrow();
+        Assertions.assertTrue(retryAfter.toSeconds() > 100 && retryAfter.toSeconds() <= 120);
+        Assertions.assertEquals(Duration.ofSeconds(30), EndpointRateLimiter.retryAfter("30").orElseThrow());
+        Assertions.assertTrue(EndpointRateLimiter.retryAfter("soon").isEmpty());
+    }
+}
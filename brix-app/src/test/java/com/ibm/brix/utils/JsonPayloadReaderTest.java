@@ -0,0 +1,87 @@
+//=============================================================================
+//* Name:         JsonPayloadReaderTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX JSON Payload Reader Test
+//*
+//* Description:  This class checks that the streaming payload reader gives the
+//*               same values, of the same types, as json-simple's JSONParser.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import com.ibm.brix.BrixException;
+
+public class JsonPayloadReaderTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final String PAYLOAD =
+        "{\"pk\":23, \"fields\":{\"id_integer\":\"23\", \"title\":\"caf\\u00e9 \\\"quoted\\\"\", \"count\":-7, \"ratio\":1.25,"
+        + " \"done\":false, \"owner\":null, \"labels\":[\"a\", 2, {\"x\":true}], \"nested\":{\"deep\":{\"n\":1}}}}";
+
+    @Test
+    public void testReadObjectMatchesJsonSimple() throws Exception {
+        JSONObject expected = (JSONObject)new JSONParser().parse(PAYLOAD);
+        try (JsonParser parser = JsonPayloadReader.createParser(PAYLOAD.getBytes(StandardCharsets.UTF_8))) {
+            JSONObject actual = JsonPayloadReader.readObject(parser);
+            Assertions.assertEquals(expected, actual);
+            JSONObject fields = (JSONObject)actual.get("fields");
+            Assertions.assertEquals(Long.class, actual.get("pk").getClass());
+            Assertions.assertEquals(Long.class, fields.get("count").getClass());
+            Assertions.assertEquals(Double.class, fields.get("ratio").getClass());
+            Assertions.assertTrue(fields.containsKey("owner"));
+        }
+    }
+
+    @Test
+    public void testReadFieldsSkipsUnreadValues() throws Exception {
+        List<String> names = new ArrayList<>();
+        try (JsonParser parser = JsonPayloadReader.createParser(PAYLOAD.getBytes(StandardCharsets.UTF_8))) {
+            // Only the top level names are seen; the "fields" object is skipped without being read.
+            Assertions.assertTrue(JsonPayloadReader.readFields(parser, (name, p) -> names.add(name)));
+        }
+        Assertions.assertEquals(List.of("pk", "fields"), names);
+    }
+
+    @Test
+    public void testEmptyAndInvalidPayloads() throws Exception {
+        try (JsonParser parser = JsonPayloadReader.createParser("null".getBytes(StandardCharsets.UTF_8))) {
+            Assertions.assertNull(JsonPayloadReader.readObject(parser));
+        }
+        try (JsonParser parser = JsonPayloadReader.createParser(new byte[0])) {
+            Assertions.assertNull(JsonPayloadReader.readObject(parser));
+        }
+        try (JsonParser parser = JsonPayloadReader.createParser("[1,2]".getBytes(StandardCharsets.UTF_8))) {
+            Assertions.assertThrows(BrixException.class, () -> JsonPayloadReader.readObject(parser));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+//=============================================================================
+//* Name:         PartitionedExecutorTest.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  BrIX Partitioned Executor Test
+//*
+//* Description:  This class checks that tasks for the same partition key run
+//*               one at a time in submission order, and that tasks for other
+//*               keys run in parallel.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Test that webhook, poll and artifact keys agree.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+package com.ibm.brix.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.brix.Constants;
+import com.ibm.brix.common.CommonConstants;
+import com.ibm.brix.common.beans.MessageGroupKey;
+import com.ibm.brix.common.simpleendpoint.model.SEArtifact;
+import com.ibm.brix.common.simpleendpoint.model.SEEndpoint;
+
+public class PartitionedExecutorTest {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private PartitionedExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = new PartitionedExecutor();
+        executor.lanes = 8;
+        executor.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testSameKeyIsSerializedInOrder() throws Exception {
+        String key = MessageGroupKey.partitionKey("https://se.example.com", "23");
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> order = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final int event = i;
+            futures.add(executor.submit(key, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(1);
+                order.add(event);
+                running.decrementAndGet();
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(1, maxRunning.get());
+        for (int i = 0; i < 50; i++) {
+            Assertions.assertEquals(i, order.get(i));
+        }
+    }
+
+    @Test
+    public void testDifferentKeysRunInParallel() throws Exception {
+        // Find two keys on different lanes and block both lanes until both tasks have started.
+        String first = MessageGroupKey.partitionKey("https://se.example.com", "1");
+        String second = null;
+        for (int i = 2; second == null; i++) {
+            String candidate = MessageGroupKey.partitionKey("https://se.example.com", Integer.toString(i));
+            if (executor.laneFor(candidate) != executor.laneFor(first)) {
+                second = candidate;
+            }
+        }
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CompletableFuture<Boolean> a = executor.submit(first, () -> {
+            bothStarted.countDown();
+            return bothStarted.await(10, TimeUnit.SECONDS);
+        });
+        CompletableFuture<Boolean> b = executor.submit(second, () -> {
+            bothStarted.countDown();
+            return bothStarted.await(10, TimeUnit.SECONDS);
+        });
+        Assertions.assertTrue(a.get(15, TimeUnit.SECONDS));
+        Assertions.assertTrue(b.get(15, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testWebhookPollAndArtifactKeysAgree() throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        MessageGroupKey messageGroupKey = new MessageGroupKey();
+
+        Exchange webhook = new DefaultExchange(context);
+        webhook.getIn().setHeader(CommonConstants.HEADER_SIMPLE_ENDPOINT_ORIGIN, "HTTPS://SE.example.com/");
+        webhook.getIn().setBody("{\"pk\":23,\"fields\":{\"title\":\"t\"}}");
+        messageGroupKey.setMessageGroup(webhook);
+
+        Exchange poll = new DefaultExchange(context);
+        poll.getIn().setHeader(CommonConstants.HEADER_SIMPLE_ENDPOINT_ORIGIN, "https://se.example.com");
+        poll.getIn().setBody("{\"title\":\"t\",\"id_integer\":\"23\"}");
+        messageGroupKey.setMessageGroup(poll);
+
+        SEArtifact artifact = new SEArtifact();
+        artifact.setArtifactKeyString("23");
+        artifact.setEndpoint(new SEEndpoint("https://se.example.com/"));
+        Exchange parsed = new DefaultExchange(context);
+        parsed.getIn().setHeader(Constants.BRIX_SOURCE_ARTIFACT, artifact);
+
+        String key = PartitionedExecutor.partitionKey(webhook);
+        Assertions.assertEquals(MessageGroupKey.partitionKey("https://se.example.com", "23"), key);
+        Assertions.assertEquals(key, PartitionedExecutor.partitionKey(poll));
+        Assertions.assertEquals(key, PartitionedExecutor.partitionKey(parsed));
+    }
+
+    @Test
+    public void testLaneIsStable() {
+        String key = MessageGroupKey.partitionKey("https://se.example.com", "42");
+        int lane = executor.laneFor(key);
+        Assertions.assertTrue(lane >= 0 && lane < executor.getLaneCount());
+        Assertions.assertEquals(lane, executor.laneFor(new String(key)));
+    }
+}
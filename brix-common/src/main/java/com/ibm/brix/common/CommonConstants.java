@@ -23,6 +23,7 @@
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20240710 tmueller  New source file created.
 //*               20250625 tollefso  Added Database and Misc constants.
+//*               20261018 agent     Added the message group header.
 //*
 //* Additional notes about the Change Activity:
 //*
@@ -42,6 +43,9 @@ public class CommonConstants {
     public static final String HEADER_COLLECTORTYPE = "BrixCollectorType";
     public static final String HEADER_SIMPLE_ENDPOINT_ORIGIN = "SimpleEndpointOrigin";
     public static final String HEADER_SYSTEMTYPE = "BrixSystemType";
+    // JMS message group: messages with the same group are delivered, in order, to one consumer
+    public static final String HEADER_JMSX_GROUP_ID = "JMSXGroupID";
+    public static final String PARTITION_KEY_SEPARATOR = "|";
 
     // Simple Endpoint REST APIs - used for testing
     public static final String SE_ISSUES_API = "api/issues/";
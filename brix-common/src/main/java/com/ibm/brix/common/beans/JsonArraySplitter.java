@@ -22,6 +22,9 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20240108 tollefso  New source file created.
+//*               20261018 agent     Add a streaming split that yields one
+//*                                  element at a time and reports malformed
+//*                                  elements individually.
 //*
 //* Additional notes about the Change Activity:
 //*
@@ -30,31 +33,202 @@
 package com.ibm.brix.common.beans;
 
 import org.apache.camel.Exchange;
-import org.json.JSONArray;
+import org.apache.camel.StreamCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 
 public class JsonArraySplitter {
     public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2024 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
 
+    private static final Logger LOG = LoggerFactory.getLogger(JsonArraySplitter.class);
+
+    // JsonFactory is thread safe and holds the shared symbol tables, so it is created once.
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
+
+    /**
+     * Method:  doTheSplit
+     * Splits the JSON array in the exchange body into a list holding each element as a JSON string.
+     * The whole list is held in memory; for large poll batches use splitIterator with a streaming split.
+     *
+     * @param Exchange exchange
+     * @return ArrayList<String>
+     */
     public ArrayList<String> doTheSplit(Exchange exchange) {
-        String json = (String)exchange.getMessage().getBody();
         ArrayList<String> arrayList = new ArrayList<String>();
-        if (json!=null) {
-            try {
-                JSONArray jsonArray = new JSONArray(json);
+        try (JsonArrayIterator elements = splitIterator(exchange)) {
+            while (elements.hasNext()) {
+                arrayList.add(elements.next());
+            }
+        }
+        return arrayList;
+    }
 
-                if (jsonArray != null) {
-                    for (int i=0; i<jsonArray.length(); i++) {
-                        arrayList.add(jsonArray.getJSONObject(i).toString());
-                    }
+    /**
+     * Method:  splitIterator
+     * Returns an iterator over the elements of the JSON array in the exchange body, each as a JSON
+     * string. The body is parsed as the iterator advances, so only one element is in memory at a time.
+     * Use it with a streaming split, which closes the iterator when the split completes:
+     *    .split().method(JsonArraySplitter.class, "splitIterator").streaming()
+     * An element that is not a JSON object is reported and skipped. A syntax error is reported with the
+     * element it was found in and ends the split, since the rest of the array cannot be located.
+     *
+     * @param Exchange exchange
+     * @return JsonArrayIterator
+     */
+    public JsonArrayIterator splitIterator(Exchange exchange) {
+        JsonParser parser = null;
+        try {
+            Object body = exchange.getMessage().getBody();
+            if (body instanceof StreamCache) {
+                ((StreamCache)body).reset();
+            }
+            if (body instanceof String) {
+                parser = JSON_FACTORY.createParser((String)body);
+            }
+            else if (body instanceof byte[]) {
+                parser = JSON_FACTORY.createParser((byte[])body);
+            }
+            else if (body != null) {
+                InputStream in = exchange.getMessage().getBody(InputStream.class);
+                if (in != null) {
+                    parser = JSON_FACTORY.createParser(in);
                 }
-            } catch(Exception e) {
-                System.out.println("JsonArraySplitter:Exception:" + e);
             }
         }
-        return arrayList;
+        catch (IOException e) {
+            LOG.error("JsonArraySplitter: unable to read the exchange body: " + e);
+        }
+        return new JsonArrayIterator(parser);
     }
 
-}
\ No newline at end of file
+
+    /**
+     * Iterator over the elements of one JSON array. Keeps count of the elements that were
+     * skipped as malformed.
+     */
+    public static class JsonArrayIterator implements Iterator<String>, Closeable {
+        private final JsonParser parser;
+        private final BufferRecycler bufferRecycler = new BufferRecycler();
+        private boolean started = false;
+        private boolean finished;
+        private String nextElement;
+        private int index = -1;
+        private int malformedCount = 0;
+
+        JsonArrayIterator(JsonParser parser) {
+            this.parser = parser;
+            this.finished = (parser == null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextElement == null && !finished) {
+                nextElement = advance();
+            }
+            return nextElement != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String element = nextElement;
+            nextElement = null;
+            return element;
+        }
+
+        /** Number of elements that were reported and skipped. */
+        public int getMalformedCount() {
+            return malformedCount;
+        }
+
+        @Override
+        public void close() {
+            finished = true;
+            if (parser != null) {
+                try {
+                    parser.close();
+                }
+                catch (IOException e) {
+                    LOG.debug("JsonArraySplitter: error closing parser: " + e);
+                }
+            }
+        }
+
+        /*
+         * Reads up to the next JSON object element and returns it as a string, or null at the end of
+         * the array.
+         */
+        private String advance() {
+            try {
+                if (!started) {
+                    started = true;
+                    JsonToken first = parser.nextToken();
+                    if (first == null) {
+                        close();
+                        return null;
+                    }
+                    if (first != JsonToken.START_ARRAY) {
+                        LOG.error("JsonArraySplitter: body is not a JSON array, found " + first);
+                        malformedCount++;
+                        close();
+                        return null;
+                    }
+                }
+                while (true) {
+                    JsonToken token = parser.nextToken();
+                    if (token == null || token == JsonToken.END_ARRAY) {
+                        close();
+                        return null;
+                    }
+                    index++;
+                    if (token == JsonToken.START_OBJECT) {
+                        return copyElement();
+                    }
+                    LOG.warn("JsonArraySplitter: element " + index + " is not a JSON object (" + token + "); skipped.");
+                    malformedCount++;
+                    parser.skipChildren();
+                }
+            }
+            catch (JsonProcessingException e) {
+                String where = (e.getLocation() == null ? "" : " at line " + e.getLocation().getLineNr() + ", column " + e.getLocation().getColumnNr());
+                LOG.error("JsonArraySplitter: element " + Math.max(index, 0) + " is malformed" + where + ": " + e.getOriginalMessage() + ". The remaining elements are skipped.");
+                malformedCount++;
+                close();
+                return null;
+            }
+            catch (IOException e) {
+                LOG.error("JsonArraySplitter: error reading element " + Math.max(index, 0) + ": " + e + ". The remaining elements are skipped.");
+                malformedCount++;
+                close();
+                return null;
+            }
+        }
+
+        private String copyElement() throws IOException {
+            SegmentedStringWriter writer = new SegmentedStringWriter(bufferRecycler);
+            try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+                generator.copyCurrentStructure(parser);
+            }
+            return writer.getAndClear();
+        }
+    }
+}
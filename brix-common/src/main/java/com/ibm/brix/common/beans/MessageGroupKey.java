@@ -0,0 +1,198 @@
+//=============================================================================
+//* Name:         MessageGroupKey.java
+//*
+//* Application:  System DevOps Bridge-Interceptor eXtreme (BrIX)
+//*
+//* Module Name:  MessageGroupKey
+//*
+//* Description:  It sets the JMS message group of an incoming artifact event
+//*               before it is put on the incoming queues. The group is the
+//*               partition key of the artifact, its endpoint and artifact key,
+//*               so Artemis delivers all events for one artifact, in order, to
+//*               one consumer while events for other artifacts are consumed in
+//*               parallel. The in-process partitions of BrIX derive their key
+//*               with the same partitionKey function.
+//*
+//* (C) Copyright IBM Corporation 2026
+//*
+//* The Source code for this program is not published or otherwise
+//* divested of its trade secrets, irrespective of what has been
+//* deposited with the U.S. Copyright Office.
+//*
+//* Note to U.S. Government Users Restricted Rights:  Use,
+//* duplication or disclosure restricted by GSA ADP Schedule
+//* Contract with IBM Corp.
+//*
+//* Change Log:
+//* Flag Reason   Date     User Id   Description
+//* ---- -------- -------- --------  ------------------------------------------
+//*               20261018 agent     New source file created.
+//*               20261018 agent     Normalize the endpoint in partitionKey and
+//*                                  read the artifact key of polled payloads.
+//*               20261018 agent     Add endpointKey, the one key of an
+//*                                  endpoint's circuit, bulkhead and limits.
+//*
+//* Additional notes about the Change Activity:
+//*
+//=============================================================================
+
+package com.ibm.brix.common.beans;
+
+import org.apache.camel.Exchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import com.ibm.brix.common.CommonConstants;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Locale;
+
+
+public class MessageGroupKey {
+    public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2026 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
+
+    private static final Logger LOG = LoggerFactory.getLogger(MessageGroupKey.class);
+
+    // Top level payload properties holding the artifact key of a Simple Endpoint artifact:
+    // "pk" in webhook payloads, "id_integer" in polled payloads.
+    public static final List<String> ARTIFACT_KEY_PROPERTIES = List.of("pk", "id_integer");
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+
+    /**
+     * Method:  partitionKey
+     * Returns the partition key of an artifact: its normalized endpoint address and artifact key.
+     * The message group on the queues and the in-process partitions are both built here, so a
+     * webhook event and a polled event for one artifact get the same key.
+     *
+     * @param String endpoint address, as sent in the SimpleEndpointOrigin header
+     * @param String artifactKeyString
+     * @return String
+     */
+    public static String partitionKey(String endpoint, String artifactKeyString) {
+        return normalizeEndpoint(endpoint) + CommonConstants.PARTITION_KEY_SEPARATOR + artifactKeyString;
+    }
+
+    /**
+     * Method:  normalizeEndpoint
+     * Normalizes an endpoint address so that trivially different spellings of the same
+     * address are equal: scheme and host are lower cased and trailing slashes on the
+     * path are dropped. An address which cannot be parsed is used as-is.
+     *
+     * @param String address
+     * @return String
+     */
+    public static String normalizeEndpoint(String address) {
+        if (address == null || address.isEmpty() || "null".equals(address)) {
+            return "";
+        }
+        try {
+            URI uri = new URI(address.trim());
+            StringBuilder sb = new StringBuilder(address.length());
+            if (uri.getScheme() != null) {
+                sb.append(uri.getScheme().toLowerCase(Locale.ROOT)).append("://");
+            }
+            if (uri.getRawAuthority() != null) {
+                sb.append(uri.getRawAuthority().toLowerCase(Locale.ROOT));
+            }
+            String path = uri.getRawPath();
+            if (path != null) {
+                int end = path.length();
+                while (end > 0 && path.charAt(end - 1) == '/') {
+                    end--;
+                }
+                sb.append(path, 0, end);
+            }
+            if (uri.getRawQuery() != null) {
+                sb.append('?').append(uri.getRawQuery());
+            }
+            return sb.toString();
+        }
+        catch (URISyntaxException e) {
+            return address.trim();
+        }
+    }
+
+    /**
+     * Method:  endpointKey
+     * Returns the key of the endpoint an address belongs to: its scheme, host and port, in lower
+     * case, or the whole address in lower case when it is not an absolute URI. The circuits,
+     * bulkheads, rate limits and connection pools of an endpoint are all kept by this key.
+     *
+     * @param String address
+     * @return String ("" for none)
+     */
+    public static String endpointKey(String address) {
+        if (address == null || address.isEmpty() || "null".equals(address)) {
+            return "";
+        }
+        String trimmed = address.trim();
+        try {
+            URI uri = new URI(trimmed);
+            if (uri.getScheme() != null && uri.getRawAuthority() != null) {
+                return (uri.getScheme() + "://" + uri.getRawAuthority()).toLowerCase(Locale.ROOT);
+            }
+        }
+        catch (URISyntaxException e) {
+            // Not a URI; use the whole address.
+        }
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Method:  setMessageGroup
+     * Sets the JMSXGroupID header from the endpoint origin header and the artifact key at the top
+     * level of the JSON body ("pk" or "id_integer"). Only the top level of the body is read. If the body has no artifact
+     * key the message is left ungrouped, so it is still delivered, but without ordering.
+     * Exchange Expected Input:
+     *    - Header SimpleEndpointOrigin
+     *    - Body: one JSON object, for example an element from JsonArraySplitter
+     * Exchange Output:
+     *    - Header JMSXGroupID
+     *
+     * @param Exchange exchange
+     */
+    public void setMessageGroup(Exchange exchange) {
+        String endpoint = exchange.getMessage().getHeader(CommonConstants.HEADER_SIMPLE_ENDPOINT_ORIGIN, String.class);
+        String artifactKeyString = readArtifactKey(exchange.getMessage().getBody(String.class));
+        if (artifactKeyString == null) {
+            LOG.debug("MessageGroupKey: no artifact key in the body; the message is not grouped.");
+            return;
+        }
+        exchange.getMessage().setHeader(CommonConstants.HEADER_JMSX_GROUP_ID, partitionKey(endpoint, artifactKeyString));
+    }
+
+    /*
+     * Returns the scalar value of the first top level artifact key property, or null.
+     */
+    static String readArtifactKey(String body) {
+        if (body == null || body.isEmpty()) {
+            return null;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (ARTIFACT_KEY_PROPERTIES.contains(name)) {
+                    return (value.isScalarValue() && value != JsonToken.VALUE_NULL) ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+        }
+        catch (IOException e) {
+            LOG.warn("MessageGroupKey: unable to read the artifact key: " + e);
+        }
+        return null;
+    }
+}
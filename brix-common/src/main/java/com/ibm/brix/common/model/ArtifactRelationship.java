@@ -26,6 +26,8 @@
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20250225 mitre  New source file created.
 //*               20250604 tollefso  Annotated for persistence.
+//*               20261018 agent     Add the fingerprint of the last synced
+//*                                  source attributes.
 //*
 //* Additional notes about the Change Activity:
 //*
@@ -79,6 +81,10 @@ public class ArtifactRelationship extends AbstractEntity implements Serializable
 
     private Instant lastTransactionTime;
 
+    /* Fingerprint of the mapped source attributes at the last successful sync, or null. */
+    @Column(length = 64)
+    private String sourceFingerprint;
+
     public ArtifactRelationship() {
         super();
         this.name = "";
@@ -110,6 +116,7 @@ public class ArtifactRelationship extends AbstractEntity implements Serializable
         this.state = artifactRelationship.getState();
         this.status = artifactRelationship.getStatus();
         this.lastTransactionTime = artifactRelationship.getLastTransactionTime();
+        this.sourceFingerprint = artifactRelationship.getSourceFingerprint();
         updateTime();
     }
 
@@ -214,6 +221,14 @@ public class ArtifactRelationship extends AbstractEntity implements Serializable
         this.lastTransactionTime = lastTransactionTime;
     }
 
+    public String getSourceFingerprint() {
+        return sourceFingerprint;
+    }
+
+    public void setSourceFingerprint(String sourceFingerprint) {
+        this.sourceFingerprint = sourceFingerprint;
+    }
+
     public String toString() {
         ZoneId zoneId = ZoneId.of(CommonConstants.TIMEZONE_DISPLAY) ; 
         String tempSourceArtifactKeyString = (this.getSourceArtifactKeyString() == null
@@ -21,6 +21,8 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20250603 tollefso  New source file created.
+//*               20261018 agent     Add keyed lookup by source artifact key.
+//*               20261018 agent     Add updateSourceFingerprint.
 //*
 //* Additional notes about the Change Activity:
 //*
@@ -31,6 +33,7 @@ package com.ibm.brix.common.repositories;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
 import java.util.List;
 import java.util.Map;
 
@@ -40,5 +43,21 @@ import com.ibm.brix.common.model.ArtifactRelationship;
 public class ArtifactRelationshipRepository implements PanacheRepository<ArtifactRelationship> {
     public static final String COPYRIGHT = "Licensed Materials - Property of IBM " + "(C) COPYRIGHT 2025 All Rights Reserved. US Government Users restricted Rights - Use, Duplication or Disclosure restricted by GSA ADP Schedule Contract with IBM Corp.";
 
+    /**
+     * Returns the relationships whose source artifact has the given artifact key string.
+     * Joins the caller's transaction or starts one, so it can be used as a cache
+     * loader from Camel threads.
+     */
+    @Transactional
+    public List<ArtifactRelationship> findBySourceArtifactKey(String artifactKeyString) {
+        return list("sourceArtifact.artifactKeyString", artifactKeyString);
+    }
 
+    /**
+     * Records the source fingerprint of the last successful sync on the given relationships.
+     */
+    @Transactional
+    public int updateSourceFingerprint(List<Long> ids, String sourceFingerprint) {
+        return update("sourceFingerprint = ?1 where id in ?2", sourceFingerprint, ids);
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@
 //* Flag Reason   Date     User Id   Description
 //* ---- -------- -------- --------  ------------------------------------------
 //*               20250311 tollefso  New source file created.
+//*               20261018 agent     Add streaming split and malformed element tests.
 //*
 //* Additional notes about the Change Activity:
 //*
@@ -40,7 +41,10 @@ import io.quarkus.test.junit.TestProfile;
 
 import com.ibm.brix.common.beans.JsonArraySplitter;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.json.JSONArray;
 import org.jboss.logging.Logger;
@@ -155,4 +159,73 @@ public class JsonArraySplitterTest extends CamelQuarkusTestSupport {
         Assertions.assertEquals(expectedResult, splitResult);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testStreamingSplitFromInputStream() throws Exception {
+        JsonArraySplitter jsonSplitter = new JsonArraySplitter();
+
+        String inputString = "[{\"hi\":\"there\"}, {\"nested\":{\"list\":[1,2,{\"a\":null}]}}]";
+        Exchange exchange = ExchangeBuilder.anExchange(context)
+            .withBody(new ByteArrayInputStream(inputString.getBytes(StandardCharsets.UTF_8)))
+            .build();
+
+        List<String> splitResult = new ArrayList<String>();
+        try (JsonArraySplitter.JsonArrayIterator elements = jsonSplitter.splitIterator(exchange)) {
+            while (elements.hasNext()) {
+                splitResult.add(elements.next());
+            }
+            Assertions.assertEquals(0, elements.getMalformedCount());
+        }
+        LOG.info(splitResult);
+
+        Assertions.assertEquals(List.of("{\"hi\":\"there\"}", "{\"nested\":{\"list\":[1,2,{\"a\":null}]}}"), splitResult);
+    }
+
+    @Test
+    public void testNonObjectElementsSkipped() throws Exception {
+        JsonArraySplitter jsonSplitter = new JsonArraySplitter();
+
+        String inputString = "[{\"hi\":\"there\"}, 42, [\"x\"], \"text\", {\"good\":\"bye\"}]";
+        Exchange exchange = ExchangeBuilder.anExchange(context)
+            .withBody(inputString)
+            .build();
+
+        try (JsonArraySplitter.JsonArrayIterator elements = jsonSplitter.splitIterator(exchange)) {
+            Assertions.assertEquals("{\"hi\":\"there\"}", elements.next());
+            Assertions.assertEquals("{\"good\":\"bye\"}", elements.next());
+            Assertions.assertFalse(elements.hasNext());
+            Assertions.assertEquals(3, elements.getMalformedCount());
+        }
+    }
+
+    @Test
+    public void testSyntaxErrorEndsSplit() throws Exception {
+        JsonArraySplitter jsonSplitter = new JsonArraySplitter();
+
+        String inputString = "[{\"hi\":\"there\"}, {\"good\" \"bye\"}, {\"welcome\":\"friend\"}]";
+        Exchange exchange = ExchangeBuilder.anExchange(context)
+            .withBody(inputString)
+            .build();
+
+        try (JsonArraySplitter.JsonArrayIterator elements = jsonSplitter.splitIterator(exchange)) {
+            Assertions.assertEquals("{\"hi\":\"there\"}", elements.next());
+            Assertions.assertFalse(elements.hasNext());
+            Assertions.assertEquals(1, elements.getMalformedCount());
+        }
+
+        ArrayList<String> expectedResult = new ArrayList<String>();
+        expectedResult.add("{\"hi\":\"there\"}");
+        Assertions.assertEquals(expectedResult, jsonSplitter.doTheSplit(exchange));
+    }
+
+    @Test
+    public void testNotAJsonArray() throws Exception {
+        JsonArraySplitter jsonSplitter = new JsonArraySplitter();
+
+        Exchange exchange = ExchangeBuilder.anExchange(context)
+            .withBody("{\"hi\":\"there\"}")
+            .build();
+
+        Assertions.assertEquals(new ArrayList<String>(), jsonSplitter.doTheSplit(exchange));
+    }
+
+}
@@ -0,0 +1,23 @@
+--
+-- BrIX: indexes for the Transaction lookups and the retention purge.
+--
+--   - trxid:              TransactionBean.updateStatus, TransactionRegistry
+--                         and the journal look transactions up by trxId
+--   - status, createtime: /api/transactions filtered by status, newest first
+--   - retrycount:         /api/transactions/retrycount/{count}; only rows
+--                         that have been retried are indexed
+--   - createtime:         the retention purge walks the oldest rows first
+--
+
+CREATE INDEX IF NOT EXISTS transaction_trxid_idx
+    ON public.transaction (trxid);
+
+CREATE INDEX IF NOT EXISTS transaction_status_createtime_idx
+    ON public.transaction (status, createtime);
+
+CREATE INDEX IF NOT EXISTS transaction_retrycount_idx
+    ON public.transaction (retrycount)
+    WHERE retrycount > 0;
+
+CREATE INDEX IF NOT EXISTS transaction_createtime_idx
+    ON public.transaction (createtime);
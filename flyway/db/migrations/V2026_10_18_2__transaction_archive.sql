@@ -0,0 +1,44 @@
+--
+-- BrIX: archive of finished transactions.
+--
+-- The retention purge moves COMPLETED and ERROR transactions older than
+-- brix.transaction.purge.retention out of public.transaction into this table
+-- (or deletes them when brix.transaction.purge.archive=false), so the live
+-- table holds only recent and unfinished transactions. The archive is range
+-- partitioned by month on createtime, so old months can be detached and
+-- dropped without a long delete.
+--
+
+CREATE TABLE IF NOT EXISTS public.transaction_archive (
+    LIKE public.transaction INCLUDING DEFAULTS
+) PARTITION BY RANGE (createtime);
+
+CREATE TABLE IF NOT EXISTS public.transaction_archive_default
+    PARTITION OF public.transaction_archive DEFAULT;
+
+CREATE INDEX IF NOT EXISTS transaction_archive_trxid_idx
+    ON public.transaction_archive (trxid);
+
+CREATE INDEX IF NOT EXISTS transaction_archive_createtime_idx
+    ON public.transaction_archive (createtime);
+
+--
+-- Creates the monthly (UTC) partition holding the given time, if it does not
+-- exist. Called by the purge before moving rows, for the months it is about to
+-- move.
+--
+CREATE OR REPLACE FUNCTION public.brix_transaction_archive_partition(t timestamptz)
+RETURNS void
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start timestamptz := date_trunc('month', t AT TIME ZONE 'UTC') AT TIME ZONE 'UTC';
+    partition_name text := 'transaction_archive_' || to_char(month_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass('public.' || partition_name) IS NULL THEN
+        EXECUTE format(
+            'CREATE TABLE public.%I PARTITION OF public.transaction_archive FOR VALUES FROM (%L) TO (%L)',
+            partition_name, month_start, month_start + interval '1 month');
+    END IF;
+END;
+$$;
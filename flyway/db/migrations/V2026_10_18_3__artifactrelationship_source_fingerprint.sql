@@ -0,0 +1,8 @@
+--
+-- BrIX: fingerprint of the mapped source attributes at the last successful
+-- sync of each relationship. Events whose fingerprint matches are skipped
+-- right after LoadPayload. Null until the relationship's next sync.
+--
+
+ALTER TABLE public.artifactrelationship
+    ADD COLUMN IF NOT EXISTS sourcefingerprint varchar(64);
@@ -0,0 +1,35 @@
+--
+-- BrIX: durable retry queue.
+--
+-- When an exchange fails, OnException stores its unit of work (the message as
+-- it entered the route: body and simple headers) with the route URI to replay
+-- it to, and the time of the next attempt after a jittered exponential
+-- backoff. The retry scheduler claims the due PENDING rows in batches, marks
+-- them RUNNING while they are replayed, and deletes them once the replay
+-- succeeded. Rows whose attempts are used up stay as DEAD.
+--
+
+CREATE TABLE IF NOT EXISTS public.retry_queue (
+    id          bigserial PRIMARY KEY,
+    trxid       varchar(50),
+    replayuri   varchar(1000) NOT NULL,
+    body        bytea,
+    headers     text,
+    attempts    integer NOT NULL DEFAULT 0,
+    nextattempt timestamptz NOT NULL,
+    lasterror   varchar(3000),
+    status      varchar(20) NOT NULL DEFAULT 'PENDING',
+    createtime  timestamptz NOT NULL DEFAULT now(),
+    updatetime  timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS retry_queue_pending_nextattempt_idx
+    ON public.retry_queue (nextattempt)
+    WHERE status = 'PENDING';
+
+CREATE INDEX IF NOT EXISTS retry_queue_running_updatetime_idx
+    ON public.retry_queue (updatetime)
+    WHERE status = 'RUNNING';
+
+CREATE INDEX IF NOT EXISTS retry_queue_trxid_idx
+    ON public.retry_queue (trxid);
@@ -0,0 +1,43 @@
+--
+-- BrIX: dead-letter store.
+--
+-- A failed exchange whose retries are used up (or that is not retried, with
+-- brix.retry.enabled=false) is moved here with its raw body, its headers, the
+-- route URI it came from (the webhook or poll queue) and the stage it failed
+-- in, instead of staying as a DEAD retry. The /deadletters REST endpoints list
+-- and filter the rows and replay them through the pipeline: status NEW, then
+-- REPLAYING while a bulk replay has them, then REPLAYED once re-sent (or NEW
+-- again if the replay failed).
+--
+
+ALTER TABLE public.retry_queue
+    ADD COLUMN IF NOT EXISTS stage varchar(500);
+
+CREATE TABLE IF NOT EXISTS public.dead_letter (
+    id             bigserial PRIMARY KEY,
+    trxid          varchar(50),
+    source         varchar(1000) NOT NULL,
+    stage          varchar(500),
+    body           bytea,
+    headers        text,
+    attempts       integer NOT NULL DEFAULT 0,
+    lasterror      varchar(3000),
+    status         varchar(20) NOT NULL DEFAULT 'NEW',
+    replaycount    integer NOT NULL DEFAULT 0,
+    lastreplaytime timestamptz,
+    createtime     timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS dead_letter_status_createtime_idx
+    ON public.dead_letter (status, createtime);
+
+CREATE INDEX IF NOT EXISTS dead_letter_trxid_idx
+    ON public.dead_letter (trxid);
+
+-- Retries left as DEAD before the store existed.
+WITH moved AS (
+    DELETE FROM public.retry_queue WHERE status = 'DEAD'
+    RETURNING trxid, replayuri, stage, body, headers, attempts, lasterror, createtime
+)
+INSERT INTO public.dead_letter (trxid, source, stage, body, headers, attempts, lasterror, createtime)
+    SELECT trxid, replayuri, stage, body, headers, attempts, lasterror, createtime FROM moved;
@@ -0,0 +1,45 @@
+--
+-- BrIX: BRoute configuration version.
+--
+-- Every statement that changes one of the BRoute configuration tables bumps
+-- the single row of broute_config_version. With
+-- brix.broutes.reload.db-watch=true, BrIX polls the version and reloads the
+-- BRoutes from the database when it has changed, so a change made directly in
+-- the tables is picked up without a REST call.
+--
+
+CREATE TABLE IF NOT EXISTS public.broute_config_version (
+    id         integer PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    version    bigint NOT NULL DEFAULT 0,
+    updatetime timestamptz NOT NULL DEFAULT now()
+);
+
+INSERT INTO public.broute_config_version (id, version) VALUES (1, 0)
+    ON CONFLICT (id) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION public.brix_broute_config_changed()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE public.broute_config_version SET version = version + 1, updatetime = now() WHERE id = 1;
+    RETURN NULL;
+END;
+$$;
+
+DO $$
+DECLARE
+    t text;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['broute', 'broute_artifactmap', 'artifactmap', 'artifactmap_genattrmap',
+            'genattrmap', 'genattrmap_attributetraits', 'genattrmap_genvaluemap', 'genvaluemap',
+            'rule', 'rule_rulecondition', 'rule_ruleactionconfig', 'rulecondition', 'ruleactionconfig',
+            'actioncommandconfig', 'actioncommandconfig_commandtraits', 'endpoint'] LOOP
+        IF to_regclass('public.' || t) IS NOT NULL THEN
+            EXECUTE format('DROP TRIGGER IF EXISTS %I ON public.%I', t || '_config_changed', t);
+            EXECUTE format('CREATE TRIGGER %I AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.%I'
+                || ' FOR EACH STATEMENT EXECUTE FUNCTION public.brix_broute_config_changed()', t || '_config_changed', t);
+        END IF;
+    END LOOP;
+END;
+$$;
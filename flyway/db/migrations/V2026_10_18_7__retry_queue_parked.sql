@@ -0,0 +1,17 @@
+--
+-- BrIX: exchanges parked by an open circuit.
+--
+-- An exchange whose endpoint call was refused by an open circuit is stored in
+-- retry_queue as PARKED, with stage 'circuit <endpoint>', instead of being
+-- held in memory. When the circuit half opens or closes the endpoint's parked
+-- rows are made PENDING and due, oldest first; rows parked for longer than
+-- brix.retry.parked-timeout are made due in any case.
+--
+
+CREATE INDEX IF NOT EXISTS retry_queue_parked_stage_idx
+    ON public.retry_queue (stage, id)
+    WHERE status = 'PARKED';
+
+CREATE INDEX IF NOT EXISTS retry_queue_parked_updatetime_idx
+    ON public.retry_queue (updatetime)
+    WHERE status = 'PARKED';